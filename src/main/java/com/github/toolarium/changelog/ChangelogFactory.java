@@ -5,18 +5,67 @@
  */
 package com.github.toolarium.changelog;
 
+import com.github.toolarium.changelog.bulk.ChangelogFileResult;
+import com.github.toolarium.changelog.bulk.ChangelogPipelineConfig;
+import com.github.toolarium.changelog.bulk.IChangelogBulkProcessor;
+import com.github.toolarium.changelog.bulk.IChangelogPipeline;
+import com.github.toolarium.changelog.bulk.IChangelogSourceReader;
+import com.github.toolarium.changelog.bulk.impl.ChangelogBulkProcessorImpl;
+import com.github.toolarium.changelog.bulk.impl.ChangelogPipelineImpl;
 import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.config.matcher.IPatternMatcher;
+import com.github.toolarium.changelog.config.matcher.impl.LinearPatternMatcher;
+import com.github.toolarium.changelog.config.matcher.impl.RegexPatternMatcher;
 import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.formatter.ChangelogFormatDifference;
+import com.github.toolarium.changelog.formatter.ChangelogFormatOptions;
+import com.github.toolarium.changelog.formatter.ChangelogPage;
+import com.github.toolarium.changelog.formatter.IChangelogExporter;
 import com.github.toolarium.changelog.formatter.IChangelogFormatter;
+import com.github.toolarium.changelog.formatter.IFragmentCache;
+import com.github.toolarium.changelog.formatter.impl.AsciiDocChangelogExporter;
 import com.github.toolarium.changelog.formatter.impl.ChangelogFormatterImpl;
+import com.github.toolarium.changelog.formatter.impl.FragmentCacheImpl;
+import com.github.toolarium.changelog.formatter.impl.HtmlChangelogExporter;
+import com.github.toolarium.changelog.formatter.impl.JsonChangelogExporter;
+import com.github.toolarium.changelog.io.ChangelogFetchConfig;
+import com.github.toolarium.changelog.io.IChangelogFetcher;
+import com.github.toolarium.changelog.io.impl.HttpChangelogFetcherImpl;
 import com.github.toolarium.changelog.parser.ChangelogParseResult;
+import com.github.toolarium.changelog.parser.ChangelogSyntaxTree;
 import com.github.toolarium.changelog.parser.IChangelogParser;
 import com.github.toolarium.changelog.parser.impl.ChangelogParserImpl;
+import com.github.toolarium.changelog.scanner.ChangelogScanConfig;
+import com.github.toolarium.changelog.scanner.ChangelogScanResult;
+import com.github.toolarium.changelog.scanner.IChangelogScanner;
+import com.github.toolarium.changelog.scanner.impl.ChangelogScannerImpl;
+import com.github.toolarium.changelog.server.ChangelogServerConfig;
+import com.github.toolarium.changelog.server.IChangelogServer;
+import com.github.toolarium.changelog.server.IChangelogServerClient;
+import com.github.toolarium.changelog.server.impl.ChangelogServerImpl;
+import com.github.toolarium.changelog.server.impl.UnixSocketChangelogServerClientImpl;
 import com.github.toolarium.changelog.validator.IChangelogValidator;
+import com.github.toolarium.changelog.validator.IValidationCache;
 import com.github.toolarium.changelog.validator.ValidationException;
+import com.github.toolarium.changelog.validator.ValidationResult;
 import com.github.toolarium.changelog.validator.impl.ChangelogValidatorImpl;
+import com.github.toolarium.changelog.validator.impl.ValidationCacheImpl;
 import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 
 /**
@@ -25,6 +74,12 @@ import java.nio.file.Path;
  * @author patrick
  */
 public final class ChangelogFactory {
+    private static final int MAX_CACHED_INSTANCES = 64;
+    private final Map<ChangelogConfig, IChangelogValidator> validatorCache;
+    private final Map<ChangelogConfig, IChangelogFormatter> formatterCache;
+    private volatile ChangelogConfig defaultChangelogConfig;
+
+    
     /**
      * Private class, the only instance of the singelton which will be created by accessing the holder class.
      *
@@ -39,7 +94,9 @@ public final class ChangelogFactory {
      * Constructor
      */
     private ChangelogFactory() {
-        // NOP
+        validatorCache = createLeastRecentlyUsedCache();
+        formatterCache = createLeastRecentlyUsedCache();
+        defaultChangelogConfig = null;
     }
 
     
@@ -81,6 +138,34 @@ public final class ChangelogFactory {
     }
 
 
+    /**
+     * Parse a change-log without blocking the caller, e.g. from an event loop.
+     *
+     * @param filename the filename
+     * @param executor the executor which parses the content or null to parse it in the thread which completes the read
+     * @return the future of the parser result
+     */
+    public CompletableFuture<ChangelogParseResult> parseAsync(Path filename, Executor executor) {
+        return createChangelogParser().parseAsync(filename, executor);
+    }
+
+
+    /**
+     * Parse a change-log into a lossless syntax tree, e.g. to modify it and write it with {@link #format(ChangelogConfig, ChangelogSyntaxTree)}.
+     *
+     * @param filename the filename
+     * @return the syntax tree
+     * @throws IOException In case of an I/O error to read the file
+     */
+    public ChangelogSyntaxTree parseSyntaxTree(Path filename) throws IOException {
+        if (filename == null) {
+            throw new IOException("Invalid filename input!");
+        }
+
+        return createChangelogParser().parseSyntaxTree(Files.readString(filename));
+    }
+
+
     /**
      * Validate a change-log.
      *
@@ -143,6 +228,54 @@ public final class ChangelogFactory {
     }
 
 
+    /**
+     * Validate a change-log without throwing a {@link ValidationException}. The result contains the change-log and the merged parse and validation errors.
+     *
+     * @param changelogConfiguration the change-log validation configuration
+     * @param filename the filename
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @return the validation result
+     * @throws IOException In case of an I/O error to read the file
+     */
+    public ValidationResult validateToResult(ChangelogConfig changelogConfiguration, Path filename, String projectName, String description, String version) throws IOException {
+        return createChangelogValidator(changelogConfiguration).validateToResult(filename, projectName, description, version);
+    }
+
+
+    /**
+     * Validate without blocking the caller, e.g. from an event loop. The result contains the change-log and the merged parse
+     * and validation errors.
+     *
+     * @param changelogConfiguration the change-log validation configuration
+     * @param filename the filename
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @param executor the executor which parses and validates the content or null to do it in the thread which completes the read
+     * @return the future of the validation result
+     */
+    public CompletableFuture<ValidationResult> validateToResultAsync(ChangelogConfig changelogConfiguration, Path filename, String projectName, String description, String version, Executor executor) {
+        return createChangelogValidator(changelogConfiguration).validateToResultAsync(filename, projectName, description, version, executor);
+    }
+
+
+    /**
+     * Validate a parsed change-log without throwing a {@link ValidationException}. The result contains the change-log and the merged parse and validation errors.
+     *
+     * @param changelogConfiguration the change-log validation configuration
+     * @param parseResult the parse result
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @return the validation result
+     */
+    public ValidationResult validateToResult(ChangelogConfig changelogConfiguration, ChangelogParseResult parseResult, String projectName, String description, String version) {
+        return createChangelogValidator(changelogConfiguration).validateToResult(parseResult, projectName, description, version);
+    }
+
+
     /**
      * Format a change-log
      *
@@ -156,6 +289,59 @@ public final class ChangelogFactory {
     }
 
 
+    /**
+     * Parse many change-log files concurrently. The results are delivered as soon as a file is parsed; an error of a file
+     * is reported as its result. Closing the stream cancels the not yet parsed files.
+     *
+     * @param files the files
+     * @return the stream of the results
+     */
+    public Stream<ChangelogFileResult<ChangelogParseResult>> parseAll(Collection<Path> files) {
+        return createChangelogBulkProcessor(null, ChangelogBulkProcessorImpl.DEFAULT_MAX_CONCURRENCY).parseAll(files);
+    }
+
+
+    /**
+     * Validate many change-log files concurrently. The results are delivered as soon as a file is validated; an error of
+     * a file is reported as its result. Closing the stream cancels the not yet validated files.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param files the files
+     * @return the stream of the results
+     */
+    public Stream<ChangelogFileResult<ValidationResult>> validateAll(ChangelogConfig changelogConfiguration, Collection<Path> files) {
+        return createChangelogBulkProcessor(changelogConfiguration, ChangelogBulkProcessorImpl.DEFAULT_MAX_CONCURRENCY).validateAll(files);
+    }
+
+
+    /**
+     * Scan a directory tree, e.g. a mono repository, for change-log files and validate them.
+     *
+     * @param changelogConfiguration the change-log validation configuration
+     * @param scanConfiguration the scan configuration or null for the default
+     * @param rootDirectory the root directory
+     * @return the results sorted by the file
+     * @throws IOException In case the directory tree could not be walked
+     */
+    public List<ChangelogScanResult> scan(ChangelogConfig changelogConfiguration, ChangelogScanConfig scanConfiguration, Path rootDirectory) throws IOException {
+        return createChangelogScanner(changelogConfiguration, scanConfiguration).scan(rootDirectory);
+    }
+
+
+    /**
+     * Format a change-log and write it to a file without blocking the caller.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param changelog the change-log
+     * @param filename the filename
+     * @param executor the executor which formats the change-log or null for the common pool
+     * @return the future which completes after the file is written
+     */
+    public CompletableFuture<Void> formatAsync(ChangelogConfig changelogConfiguration, Changelog changelog, Path filename, Executor executor) {
+        return createChangelogFormatter(changelogConfiguration).formatAsync(changelog, filename, executor);
+    }
+
+
     /**
      * Format a change-log.
      *
@@ -169,6 +355,150 @@ public final class ChangelogFactory {
     }
 
 
+    /**
+     * Format a part of a change-log, e.g. the newest entry for release notes.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param changelog the change-log
+     * @param options the options which define the part to format or null to format all
+     * @return the formatted change-log
+     */
+    public String format(ChangelogConfig changelogConfiguration, Changelog changelog, ChangelogFormatOptions options) {
+        return createChangelogFormatter(changelogConfiguration).format(changelog, options);
+    }
+
+
+    /**
+     * Write the change-log of a syntax tree: the original text of the unchanged header and entries is reused, only the
+     * modified and new entries are formatted.
+     *
+     * @param changelogConfiguration the change-log configuration to format the modified entries
+     * @param syntaxTree the syntax tree
+     * @return the change-log content
+     * @throws IOException In case of an I/O error
+     */
+    public String format(ChangelogConfig changelogConfiguration, ChangelogSyntaxTree syntaxTree) throws IOException {
+        StringBuilder result = new StringBuilder(syntaxTree.getSource().length() + 1024);
+        createChangelogFormatter(changelogConfiguration).format(syntaxTree, result);
+        return result.toString();
+    }
+
+
+    /**
+     * Check if a change-log file is in the canonical format. The formatted change-log is compared with the file content
+     * while it is rendered, the comparison stops at the first difference.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param filename the filename
+     * @return the first difference or null if the file is in the canonical format
+     * @throws IOException In case of an I/O error to read the file
+     */
+    public ChangelogFormatDifference checkFormat(ChangelogConfig changelogConfiguration, Path filename) throws IOException {
+        if (filename == null) {
+            throw new IOException("Invalid filename input!");
+        }
+
+        String content = Files.readString(filename);
+        return checkFormat(changelogConfiguration, parse(content).getChangelog(), content);
+    }
+
+
+    /**
+     * Check if a source is in the canonical format of the change-log.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param changelog the change-log
+     * @param source the source
+     * @return the first difference or null if the source is in the canonical format
+     */
+    public ChangelogFormatDifference checkFormat(ChangelogConfig changelogConfiguration, Changelog changelog, CharSequence source) {
+        return createChangelogFormatter(changelogConfiguration).checkFormat(changelog, source);
+    }
+
+
+    /**
+     * Insert a new entry in front of the entries of a change-log file, e.g. a new release. Only the header region is
+     * written, the rest of the file is copied without decoding it and the file is replaced atomically.
+     *
+     * @param changelogConfiguration the change-log configuration to format the new entry
+     * @param filename the change-log file
+     * @param entry the new entry
+     * @throws IOException In case of an I/O error
+     */
+    public void prepend(ChangelogConfig changelogConfiguration, Path filename, ChangelogEntry entry) throws IOException {
+        createChangelogFormatter(changelogConfiguration).prepend(filename, entry);
+    }
+
+
+    /**
+     * Format a change-log and write it entry by entry to the target.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param changelog the change-log
+     * @param result the target, e.g. a {@link java.io.Writer}; it is not closed
+     * @throws IOException In case of an I/O error to write
+     */
+    public void format(ChangelogConfig changelogConfiguration, Changelog changelog, Appendable result) throws IOException {
+        createChangelogFormatter(changelogConfiguration).format(changelog, result);
+    }
+
+
+    /**
+     * Format a change-log and write it UTF-8 encoded to the channel.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param changelog the change-log
+     * @param channel the channel; it is not closed
+     * @throws IOException In case of an I/O error to write
+     */
+    public void format(ChangelogConfig changelogConfiguration, Changelog changelog, WritableByteChannel channel) throws IOException {
+        createChangelogFormatter(changelogConfiguration).format(changelog, channel);
+    }
+
+
+    /**
+     * Format a page of entries and write it to the target. Only the entries of the page are formatted.
+     *
+     * @param changelogConfiguration the change-log configuration
+     * @param changelog the change-log
+     * @param pageIndex the page index, starting with 0
+     * @param pageSize the max number of entries of a page
+     * @param result the target, e.g. a {@link java.io.Writer}; it is not closed
+     * @return the page metadata
+     * @throws IOException In case of an I/O error to write
+     */
+    public ChangelogPage format(ChangelogConfig changelogConfiguration, Changelog changelog, int pageIndex, int pageSize, Appendable result) throws IOException {
+        return createChangelogFormatter(changelogConfiguration).format(changelog, pageIndex, pageSize, result);
+    }
+
+
+    /**
+     * Get the metadata of a page of entries without formatting it, e.g. the number of pages.
+     *
+     * @param changelog the change-log
+     * @param pageIndex the page index, starting with 0
+     * @param pageSize the max number of entries of a page
+     * @return the page metadata
+     */
+    public ChangelogPage getPage(Changelog changelog, int pageIndex, int pageSize) {
+        return createChangelogFormatter(null).getPage(changelog, pageIndex, pageSize);
+    }
+
+
+    /**
+     * Export a change-log to an other format and write it to the target.
+     *
+     * @param format the export format, e.g. <code>json</code>, <code>html</code> or <code>asciidoc</code>
+     * @param changelog the change-log
+     * @param result the target, e.g. a {@link java.io.Writer}; it is not closed
+     * @throws IOException In case of an I/O error to write
+     * @throws IllegalArgumentException In case of an unsupported format
+     */
+    public void export(String format, Changelog changelog, Appendable result) throws IOException {
+        createChangelogExporter(format).export(changelog, result);
+    }
+
+
     /**
      * Create the change-log parser.
      *
@@ -180,23 +510,289 @@ public final class ChangelogFactory {
 
     
     /**
-     * Create a change-log validator.
+     * Create a change-log validator. The validator is compiled from the configuration and cached per configuration,
+     * a later change of the configuration results in a new validator.
      *
      * @param changelogConfiguration the validator change-log configuration
      * @return the validator
      */
     public IChangelogValidator createChangelogValidator(ChangelogConfig changelogConfiguration) {
-        return new ChangelogValidatorImpl(changelogConfiguration);
+        return getCached(validatorCache, changelogConfiguration, ChangelogValidatorImpl::new);
+    }
+
+    
+    /**
+     * Create a change-log validator which caches the validation results of files.
+     *
+     * @param changelogConfiguration the validator change-log configuration
+     * @param validationCache the validation cache or null
+     * @return the validator
+     */
+    public IChangelogValidator createChangelogValidator(ChangelogConfig changelogConfiguration, IValidationCache validationCache) {
+        return new ChangelogValidatorImpl(changelogConfiguration, validationCache);
     }
 
     
     /**
-     * Create a change-log formatter.
+     * Create a validation cache.
+     *
+     * @param maxEntries the max number of results in memory
+     * @param cacheDirectory the directory to persist the results or null to cache in memory only
+     * @return the validation cache
+     */
+    public IValidationCache createValidationCache(int maxEntries, Path cacheDirectory) {
+        return new ValidationCacheImpl(maxEntries, cacheDirectory);
+    }
+
+    
+    /**
+     * Create a change-log formatter. The formatter is compiled from the configuration and cached per configuration,
+     * a later change of the configuration results in a new formatter.
      *
      * @param changelogConfiguration the formatter change-log configuration
      * @return the formatter
      */
     public IChangelogFormatter createChangelogFormatter(ChangelogConfig changelogConfiguration) {
-        return new ChangelogFormatterImpl(changelogConfiguration);
+        return getCached(formatterCache, changelogConfiguration, ChangelogFormatterImpl::new);
+    }
+
+    
+    /**
+     * Create a change-log formatter which copies unchanged entries from a cache of rendered entries.
+     *
+     * @param changelogConfiguration the formatter change-log configuration
+     * @param fragmentCache the fragment cache or null
+     * @return the formatter
+     */
+    public IChangelogFormatter createChangelogFormatter(ChangelogConfig changelogConfiguration, IFragmentCache fragmentCache) {
+        return new ChangelogFormatterImpl(changelogConfiguration, fragmentCache);
+    }
+
+    
+    /**
+     * Create a fragment cache.
+     *
+     * @param maxEntries the max number of cached fragments
+     * @param maxCharacters the max number of cached characters
+     * @return the fragment cache
+     */
+    public IFragmentCache createFragmentCache(int maxEntries, long maxCharacters) {
+        return new FragmentCacheImpl(maxEntries, maxCharacters);
+    }
+
+    
+    /**
+     * Create a change-log scanner.
+     *
+     * @param changelogConfiguration the change-log validation configuration
+     * @param scanConfiguration the scan configuration or null for the default
+     * @return the scanner
+     */
+    public IChangelogScanner createChangelogScanner(ChangelogConfig changelogConfiguration, ChangelogScanConfig scanConfiguration) {
+        return new ChangelogScannerImpl(changelogConfiguration, scanConfiguration);
+    }
+
+    
+    /**
+     * Create a change-log bulk processor which parses or validates many files concurrently, on virtual threads in case
+     * the runtime supports them.
+     *
+     * @param changelogConfiguration the change-log validation configuration
+     * @param maxConcurrency the maximum number of concurrently processed files
+     * @return the bulk processor
+     * @throws IllegalArgumentException In case of an invalid maximum number of concurrently processed files
+     */
+    public IChangelogBulkProcessor createChangelogBulkProcessor(ChangelogConfig changelogConfiguration, int maxConcurrency) {
+        return new ChangelogBulkProcessorImpl(changelogConfiguration, maxConcurrency);
+    }
+
+    
+    /**
+     * Create a change-log pipeline which validates large batches of sources with separate read, process and report stages.
+     *
+     * @param changelogConfiguration the change-log validation configuration
+     * @param pipelineConfiguration the pipeline configuration or null for the default
+     * @param sourceReader the reader of the sources, e.g. for remote urls, or null to read local files
+     * @return the pipeline
+     */
+    public IChangelogPipeline createChangelogPipeline(ChangelogConfig changelogConfiguration, ChangelogPipelineConfig pipelineConfiguration, IChangelogSourceReader sourceReader) {
+        return new ChangelogPipelineImpl(changelogConfiguration, pipelineConfiguration, sourceReader);
+    }
+
+    
+    /**
+     * Create a fetcher of remote change-log files with the default configuration.
+     *
+     * @param cacheDirectory the directory of the response cache or null to not cache the responses
+     * @return the fetcher
+     */
+    public IChangelogFetcher createChangelogFetcher(Path cacheDirectory) {
+        return createChangelogFetcher(cacheDirectory, null);
+    }
+
+    
+    /**
+     * Create a fetcher of remote change-log files. The fetcher reuses its connections and limits them per host, it should
+     * be shared.
+     *
+     * @param cacheDirectory the directory of the response cache or null to not cache the responses
+     * @param fetchConfiguration the fetch configuration or null for the default
+     * @return the fetcher
+     */
+    public IChangelogFetcher createChangelogFetcher(Path cacheDirectory, ChangelogFetchConfig fetchConfiguration) {
+        return new HttpChangelogFetcherImpl(cacheDirectory, fetchConfiguration);
+    }
+
+    
+    /**
+     * Create a validation server. The server is not started.
+     *
+     * @param changelogConfiguration the change-log configuration for the validation or null for the default
+     * @param serverConfiguration the server configuration or null for the default
+     * @return the server
+     */
+    public IChangelogServer createChangelogServer(ChangelogConfig changelogConfiguration, ChangelogServerConfig serverConfiguration) {
+        return new ChangelogServerImpl(changelogConfiguration, serverConfiguration);
+    }
+
+    
+    /**
+     * Create a client of a validation server which listens on a Unix domain socket.
+     *
+     * @param socketFile the socket file of the server
+     * @param changelogConfiguration the change-log configuration of the validation or null for the default, the server
+     *        refuses the validation in case it has another configuration
+     * @return the client
+     */
+    public IChangelogServerClient createChangelogServerClient(Path socketFile, ChangelogConfig changelogConfiguration) {
+        return new UnixSocketChangelogServerClientImpl(socketFile, changelogConfiguration);
+    }
+
+    
+    /**
+     * Create a client of a validation server which listens on a Unix domain socket.
+     *
+     * @param socketFile the socket file of the server
+     * @param changelogConfiguration the change-log configuration of the validation or null for the default, the server
+     *        refuses the validation in case it has another configuration
+     * @param timeout the timeout of the connect and of the whole exchange of a validation
+     * @return the client
+     */
+    public IChangelogServerClient createChangelogServerClient(Path socketFile, ChangelogConfig changelogConfiguration, Duration timeout) {
+        return new UnixSocketChangelogServerClientImpl(socketFile, changelogConfiguration, timeout);
+    }
+
+    
+    /**
+     * Create a change-log exporter. Besides the built-in formats <code>json</code>, <code>html</code> and
+     * <code>asciidoc</code> the exporters which are registered as service provider are supported.
+     *
+     * @param format the export format
+     * @return the exporter
+     * @throws IllegalArgumentException In case of an unsupported format
+     */
+    public IChangelogExporter createChangelogExporter(String format) {
+        if (format == null || format.isBlank()) {
+            throw new IllegalArgumentException("Invalid export format!");
+        }
+        
+        String name = format.trim().toLowerCase(Locale.ROOT);
+        switch (name) {
+            case JsonChangelogExporter.FORMAT:
+                return new JsonChangelogExporter();
+            case HtmlChangelogExporter.FORMAT:
+                return new HtmlChangelogExporter();
+            case AsciiDocChangelogExporter.FORMAT:
+                return new AsciiDocChangelogExporter();
+            default:
+                break;
+        }
+        
+        for (IChangelogExporter exporter : ServiceLoader.load(IChangelogExporter.class)) {
+            if (name.equalsIgnoreCase(exporter.getFormat())) {
+                return exporter;
+            }
+        }
+        
+        throw new IllegalArgumentException("Unsupported export format: " + format + "!");
+    }
+
+    
+    /**
+     * Create a pattern matcher.
+     *
+     * @param expression the regular expression
+     * @param linearTime true to create an automaton based matcher with a linear matching time; otherwise the backtracking {@link java.util.regex.Pattern} is used
+     * @return the pattern matcher
+     * @throws java.util.regex.PatternSyntaxException In case of an invalid expression or an expression which is not supported by the linear-time matcher
+     */
+    public IPatternMatcher createPatternMatcher(String expression, boolean linearTime) {
+        if (linearTime) {
+            return new LinearPatternMatcher(expression);
+        }
+        
+        return new RegexPatternMatcher(expression);
+    }
+
+
+    
+    /**
+     * Get a cached instance which is compiled from the configuration or create and cache it.
+     *
+     * @param <T> the type
+     * @param cache the cache
+     * @param changelogConfiguration the change-log configuration or null for the default configuration
+     * @param constructor the constructor of a new instance
+     * @return the instance
+     */
+    private <T> T getCached(Map<ChangelogConfig, T> cache, ChangelogConfig changelogConfiguration, Function<ChangelogConfig, T> constructor) {
+        ChangelogConfig key = changelogConfiguration;
+        if (key == null) {
+            if (defaultChangelogConfig == null) {
+                defaultChangelogConfig = new ChangelogConfig();
+            }
+            key = defaultChangelogConfig;
+        }
+        
+        T instance;
+        synchronized (cache) {
+            instance = cache.get(key);
+        }
+
+        if (instance == null) {
+            // the cache key has to be a copy, the configuration is mutable
+            key = new ChangelogConfig(key);
+            instance = constructor.apply(key);
+            synchronized (cache) {
+                T cachedInstance = cache.putIfAbsent(key, instance);
+                if (cachedInstance != null) {
+                    instance = cachedInstance;
+                }
+            }
+        }
+        
+        return instance;
+    }
+
+
+    /**
+     * Create a least recently used cache of the instances which are compiled from a configuration. The access order
+     * keeps the instances of the configurations in use, the eldest is removed when the cache is full.
+     *
+     * @param <T> the type
+     * @return the cache, the access has to be synchronized on it
+     */
+    private static <T> Map<ChangelogConfig, T> createLeastRecentlyUsedCache() {
+        return new LinkedHashMap<ChangelogConfig, T>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ChangelogConfig, T> eldest) {
+                return size() > MAX_CACHED_INSTANCES;
+            }
+        };
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * ChangelogFileResult.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import java.nio.file.Path;
+
+
+/**
+ * Defines the result of a single file of a bulk operation: either the result or the error of this file. An error of a
+ * file don't affect the other files of the same bulk operation.
+ *
+ * @param <T> the type of the result
+ * @author patrick
+ */
+public class ChangelogFileResult<T> {
+    private final Path file;
+    private final T result;
+    private final Exception error;
+
+
+    /**
+     * Constructor for ChangelogFileResult
+     *
+     * @param file the file
+     * @param result the result or null in case of an error
+     * @param error the error or null
+     */
+    public ChangelogFileResult(Path file, T result, Exception error) {
+        this.file = file;
+        this.result = result;
+        this.error = error;
+    }
+
+
+    /**
+     * Get the file
+     *
+     * @return the file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+
+    /**
+     * Get the result
+     *
+     * @return the result or null in case of an error
+     */
+    public T getResult() {
+        return result;
+    }
+
+
+    /**
+     * Get the error, e.g. an I/O exception in case the file could not be read
+     *
+     * @return the error or null
+     */
+    public Exception getError() {
+        return error;
+    }
+
+
+    /**
+     * Check if the file was processed without an error
+     *
+     * @return true if there is a result
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogFileResult [file=" + file + ", result=" + result + ", error=" + error + "]";
+    }
+}
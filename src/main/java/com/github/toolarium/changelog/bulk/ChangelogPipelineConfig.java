@@ -0,0 +1,172 @@
+/*
+ * ChangelogPipelineConfig.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Defines the configuration of a change-log pipeline: the number of threads of the read and the process stage, the
+ * capacity of the queues between the stages and if the results are reported in the order of the sources. The read stage
+ * is I/O bound and should have more threads than the process stage in case of slow disks or remote sources.
+ * 
+ * @author patrick
+ */
+public class ChangelogPipelineConfig implements Serializable {
+    /** The default number of threads of the read stage */
+    public static final int DEFAULT_READ_THREADS = 8;
+    /** The default capacity of a queue between two stages */
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final long serialVersionUID = 6151987417045378232L;
+    private int readThreads;
+    private int processThreads;
+    private int queueCapacity;
+    private boolean ordered;
+
+    
+    /**
+     * Constructor for ChangelogPipelineConfig
+     */
+    public ChangelogPipelineConfig() {
+        readThreads = DEFAULT_READ_THREADS;
+        processThreads = Runtime.getRuntime().availableProcessors();
+        queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        ordered = false;
+    }
+
+    
+    /**
+     * Get the number of threads which read the sources
+     * 
+     * @return the number of threads of the read stage
+     */
+    public int getReadThreads() {
+        return readThreads;
+    }
+
+    
+    /**
+     * Set the number of threads which read the sources
+     * 
+     * @param readThreads the number of threads of the read stage
+     * @throws IllegalArgumentException In case of an invalid number
+     */
+    public void setReadThreads(int readThreads) {
+        if (readThreads <= 0) {
+            throw new IllegalArgumentException("Invalid read threads: " + readThreads + "!");
+        }
+        
+        this.readThreads = readThreads;
+    }
+
+    
+    /**
+     * Get the number of threads which parse and validate the content
+     * 
+     * @return the number of threads of the process stage
+     */
+    public int getProcessThreads() {
+        return processThreads;
+    }
+
+    
+    /**
+     * Set the number of threads which parse and validate the content
+     * 
+     * @param processThreads the number of threads of the process stage
+     * @throws IllegalArgumentException In case of an invalid number
+     */
+    public void setProcessThreads(int processThreads) {
+        if (processThreads <= 0) {
+            throw new IllegalArgumentException("Invalid process threads: " + processThreads + "!");
+        }
+        
+        this.processThreads = processThreads;
+    }
+
+    
+    /**
+     * Get the capacity of a queue between two stages
+     * 
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    
+    /**
+     * Set the capacity of a queue between two stages. A stage waits in case the queue to the next stage is full.
+     * 
+     * @param queueCapacity the queue capacity
+     * @throws IllegalArgumentException In case of an invalid capacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid queue capacity: " + queueCapacity + "!");
+        }
+        
+        this.queueCapacity = queueCapacity;
+    }
+
+    
+    /**
+     * Check if the results are reported in the order of the sources
+     * 
+     * @return true if the results are reported in the order of the sources
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    
+    /**
+     * Define if the results are reported in the order of the sources or as soon as they are available
+     * 
+     * @param ordered true if the results are reported in the order of the sources
+     */
+    public void setOrdered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(readThreads, processThreads, queueCapacity, ordered);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ChangelogPipelineConfig other = (ChangelogPipelineConfig) obj;
+        return readThreads == other.readThreads && processThreads == other.processThreads && queueCapacity == other.queueCapacity && ordered == other.ordered;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogPipelineConfig [readThreads=" + readThreads + ", processThreads=" + processThreads + ", queueCapacity=" + queueCapacity + ", ordered=" + ordered + "]";
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * ChangelogPipelineStatistics.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import java.io.Serializable;
+
+
+/**
+ * Defines the statistics of a change-log pipeline run. The busy time of a stage is summed over its threads; a stage with
+ * a busy time close to the elapsed time multiplied by its threads is the bottleneck and should get more threads.
+ * 
+ * @author patrick
+ */
+public class ChangelogPipelineStatistics implements Serializable {
+    private static final long serialVersionUID = -4012934520196581305L;
+    private final int sourceCount;
+    private final long readNanos;
+    private final long processNanos;
+    private final long reportNanos;
+    private final long elapsedNanos;
+
+    
+    /**
+     * Constructor for ChangelogPipelineStatistics
+     * 
+     * @param sourceCount the number of reported sources
+     * @param readNanos the busy time of the read stage in nanoseconds
+     * @param processNanos the busy time of the process stage in nanoseconds
+     * @param reportNanos the busy time of the report stage in nanoseconds
+     * @param elapsedNanos the elapsed time in nanoseconds
+     */
+    public ChangelogPipelineStatistics(int sourceCount, long readNanos, long processNanos, long reportNanos, long elapsedNanos) {
+        this.sourceCount = sourceCount;
+        this.readNanos = readNanos;
+        this.processNanos = processNanos;
+        this.reportNanos = reportNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    
+    /**
+     * Get the number of reported sources
+     * 
+     * @return the number of reported sources
+     */
+    public int getSourceCount() {
+        return sourceCount;
+    }
+
+    
+    /**
+     * Get the busy time of the read stage
+     * 
+     * @return the busy time in nanoseconds
+     */
+    public long getReadNanos() {
+        return readNanos;
+    }
+
+    
+    /**
+     * Get the busy time of the process stage
+     * 
+     * @return the busy time in nanoseconds
+     */
+    public long getProcessNanos() {
+        return processNanos;
+    }
+
+    
+    /**
+     * Get the busy time of the report stage
+     * 
+     * @return the busy time in nanoseconds
+     */
+    public long getReportNanos() {
+        return reportNanos;
+    }
+
+    
+    /**
+     * Get the elapsed time of the run
+     * 
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogPipelineStatistics [sourceCount=" + sourceCount + ", readNanos=" + readNanos + ", processNanos=" + processNanos
+               + ", reportNanos=" + reportNanos + ", elapsedNanos=" + elapsedNanos + "]";
+    }
+}
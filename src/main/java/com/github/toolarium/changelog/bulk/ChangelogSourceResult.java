@@ -0,0 +1,97 @@
+/*
+ * ChangelogSourceResult.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import com.github.toolarium.changelog.validator.ValidationResult;
+
+
+/**
+ * Defines the result of a source of a change-log pipeline: the validation result or the error in case the source could
+ * not be read.
+ * 
+ * @author patrick
+ */
+public class ChangelogSourceResult {
+    private final int index;
+    private final String source;
+    private final ValidationResult validationResult;
+    private final Exception error;
+
+    
+    /**
+     * Constructor for ChangelogSourceResult
+     * 
+     * @param index the index of the source, starting with 0
+     * @param source the source
+     * @param validationResult the validation result or null in case of an error
+     * @param error the error or null
+     */
+    public ChangelogSourceResult(int index, String source, ValidationResult validationResult, Exception error) {
+        this.index = index;
+        this.source = source;
+        this.validationResult = validationResult;
+        this.error = error;
+    }
+
+    
+    /**
+     * Get the index of the source
+     * 
+     * @return the index, starting with 0
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    
+    /**
+     * Get the source
+     * 
+     * @return the source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    
+    /**
+     * Get the validation result
+     * 
+     * @return the validation result or null in case of an error
+     */
+    public ValidationResult getValidationResult() {
+        return validationResult;
+    }
+
+    
+    /**
+     * Get the error, e.g. an I/O exception in case the source could not be read
+     * 
+     * @return the error or null
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    
+    /**
+     * Check if the source is a valid change-log
+     * 
+     * @return true if the source could be read and is valid
+     */
+    public boolean isValid() {
+        return error == null && validationResult != null && validationResult.isValid();
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogSourceResult [index=" + index + ", source=" + source + ", valid=" + isValid() + ", error=" + error + "]";
+    }
+}
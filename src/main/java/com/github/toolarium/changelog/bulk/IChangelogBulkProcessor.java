@@ -0,0 +1,71 @@
+/*
+ * IChangelogBulkProcessor.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import com.github.toolarium.changelog.parser.ChangelogParseResult;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+
+/**
+ * Defines the bulk processor which parses or validates many change-log files concurrently. Each file runs on its own
+ * (virtual) thread, the number of concurrently processed files is limited. The results are reported as soon as a file
+ * is completed, the order is undefined.
+ *
+ * @author patrick
+ */
+public interface IChangelogBulkProcessor {
+
+    /**
+     * Get the maximum number of concurrently processed files
+     *
+     * @return the maximum number of concurrently processed files
+     */
+    int getMaxConcurrency();
+
+
+    /**
+     * Parse the files. The consumer is called for each file as soon as it is parsed, the calls are serialized.
+     *
+     * @param files the files
+     * @param consumer the consumer of the results
+     * @return the running bulk operation
+     */
+    IChangelogBulkTask parseAll(Collection<Path> files, Consumer<ChangelogFileResult<ChangelogParseResult>> consumer);
+
+
+    /**
+     * Parse the files. The stream delivers the results as soon as they are available; closing the stream cancels the
+     * not yet completed files. The stream should be closed in case it is not consumed completely.
+     *
+     * @param files the files
+     * @return the stream of the results
+     */
+    Stream<ChangelogFileResult<ChangelogParseResult>> parseAll(Collection<Path> files);
+
+
+    /**
+     * Validate the files. The consumer is called for each file as soon as it is validated, the calls are serialized.
+     *
+     * @param files the files
+     * @param consumer the consumer of the results
+     * @return the running bulk operation
+     */
+    IChangelogBulkTask validateAll(Collection<Path> files, Consumer<ChangelogFileResult<ValidationResult>> consumer);
+
+
+    /**
+     * Validate the files. The stream delivers the results as soon as they are available; closing the stream cancels the
+     * not yet completed files. The stream should be closed in case it is not consumed completely.
+     *
+     * @param files the files
+     * @return the stream of the results
+     */
+    Stream<ChangelogFileResult<ValidationResult>> validateAll(Collection<Path> files);
+}
@@ -0,0 +1,60 @@
+/*
+ * IChangelogBulkTask.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Defines a running bulk operation over a list of change-log files.
+ *
+ * @author patrick
+ */
+public interface IChangelogBulkTask {
+
+    /**
+     * Cancel the bulk operation: no further file is started and the running files are interrupted. The results of the
+     * cancelled files are not reported.
+     */
+    void cancel();
+
+
+    /**
+     * Check if the bulk operation was cancelled
+     *
+     * @return true if it was cancelled
+     */
+    boolean isCancelled();
+
+
+    /**
+     * Check if the bulk operation is done, either all files are processed or it was cancelled and the running files ended.
+     *
+     * @return true if it is done
+     */
+    boolean isDone();
+
+
+    /**
+     * Wait until the bulk operation is done.
+     *
+     * @throws InterruptedException In case the waiting thread was interrupted
+     * @throws RuntimeException The first exception of the result consumer
+     */
+    void await() throws InterruptedException;
+
+
+    /**
+     * Wait until the bulk operation is done or the timeout elapsed.
+     *
+     * @param timeout the timeout
+     * @param unit the unit of the timeout
+     * @return true if the bulk operation is done
+     * @throws InterruptedException In case the waiting thread was interrupted
+     * @throws RuntimeException The first exception of the result consumer
+     */
+    boolean await(long timeout, TimeUnit unit) throws InterruptedException;
+}
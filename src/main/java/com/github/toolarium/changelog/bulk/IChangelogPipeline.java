@@ -0,0 +1,30 @@
+/*
+ * IChangelogPipeline.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import java.util.function.Consumer;
+
+
+/**
+ * Defines the change-log pipeline which validates large batches of sources in three stages: read, process (parse and
+ * validate) and report. The stages run concurrently and are connected by bounded queues: a stage waits in case the next
+ * one can't keep up, therefore the memory is bounded and slow reads overlap with the processing.
+ * 
+ * @author patrick
+ */
+public interface IChangelogPipeline {
+
+    /**
+     * Run the pipeline. The report stage runs in the calling thread, the consumer is called for each source.
+     * 
+     * @param sources the sources, e.g. filenames or urls
+     * @param consumer the consumer of the results
+     * @return the statistics of the run
+     * @throws InterruptedException In case the calling thread was interrupted, the pipeline is cancelled
+     * @throws RuntimeException The exception of the consumer, the pipeline is cancelled
+     */
+    ChangelogPipelineStatistics run(Iterable<String> sources, Consumer<ChangelogSourceResult> consumer) throws InterruptedException;
+}
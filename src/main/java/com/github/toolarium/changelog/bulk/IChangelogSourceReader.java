@@ -0,0 +1,27 @@
+/*
+ * IChangelogSourceReader.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import java.io.IOException;
+
+
+/**
+ * Defines the reader of the read stage of a change-log pipeline, e.g. to read local files and remote urls.
+ * 
+ * @author patrick
+ */
+@FunctionalInterface
+public interface IChangelogSourceReader {
+    
+    /**
+     * Read the content of a source
+     * 
+     * @param source the source, e.g. a filename or an url
+     * @return the content
+     * @throws IOException In case the source could not be read
+     */
+    String read(String source) throws IOException;
+}
@@ -0,0 +1,185 @@
+/*
+ * ChangelogBulkProcessorImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk.impl;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.bulk.ChangelogFileResult;
+import com.github.toolarium.changelog.bulk.IChangelogBulkProcessor;
+import com.github.toolarium.changelog.bulk.IChangelogBulkTask;
+import com.github.toolarium.changelog.bulk.impl.ChangelogBulkTaskImpl.FileOperation;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.parser.ChangelogParseResult;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * Implements the bulk processor. The stream variants are backed by a bounded queue: in case the stream is consumed
+ * slower than the files are processed, the processing threads wait and don't hold more results than the concurrency limit.
+ *
+ * @author patrick
+ */
+public class ChangelogBulkProcessorImpl implements IChangelogBulkProcessor {
+    /** The default maximum number of concurrently processed files */
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+    private static final long POLL_TIMEOUT = 100;
+    private final ChangelogConfig changelogConfig;
+    private final int maxConcurrency;
+
+
+    /**
+     * Constructor for ChangelogBulkProcessorImpl
+     *
+     * @param changelogConfig the change-log configuration for the validation or null for the default
+     * @param maxConcurrency the maximum number of concurrently processed files
+     * @throws IllegalArgumentException In case of an invalid maximum number of concurrently processed files
+     */
+    public ChangelogBulkProcessorImpl(ChangelogConfig changelogConfig, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Invalid max concurrency: " + maxConcurrency + "!");
+        }
+
+        if (changelogConfig == null) {
+            this.changelogConfig = new ChangelogConfig();
+        } else {
+            this.changelogConfig = new ChangelogConfig(changelogConfig);
+        }
+
+        this.maxConcurrency = maxConcurrency;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkProcessor#getMaxConcurrency()
+     */
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkProcessor#parseAll(java.util.Collection, java.util.function.Consumer)
+     */
+    @Override
+    public IChangelogBulkTask parseAll(Collection<Path> files, Consumer<ChangelogFileResult<ChangelogParseResult>> consumer) {
+        return new ChangelogBulkTaskImpl<>(files, maxConcurrency, this::parse, consumer, true).start();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkProcessor#parseAll(java.util.Collection)
+     */
+    @Override
+    public Stream<ChangelogFileResult<ChangelogParseResult>> parseAll(Collection<Path> files) {
+        return stream(files, this::parse);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkProcessor#validateAll(java.util.Collection, java.util.function.Consumer)
+     */
+    @Override
+    public IChangelogBulkTask validateAll(Collection<Path> files, Consumer<ChangelogFileResult<ValidationResult>> consumer) {
+        return new ChangelogBulkTaskImpl<>(files, maxConcurrency, this::validate, consumer, true).start();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkProcessor#validateAll(java.util.Collection)
+     */
+    @Override
+    public Stream<ChangelogFileResult<ValidationResult>> validateAll(Collection<Path> files) {
+        return stream(files, this::validate);
+    }
+
+
+    /**
+     * Parse a file
+     *
+     * @param file the file
+     * @return the parse result
+     * @throws IOException In case the file could not be read
+     */
+    protected ChangelogParseResult parse(Path file) throws IOException {
+        return ChangelogFactory.getInstance().parse(file);
+    }
+
+
+    /**
+     * Validate a file
+     *
+     * @param file the file
+     * @return the validation result
+     * @throws IOException In case the file could not be read
+     */
+    protected ValidationResult validate(Path file) throws IOException {
+        return ChangelogFactory.getInstance().validateToResult(changelogConfig, file, null, null, null);
+    }
+
+
+    /**
+     * Run a bulk operation and deliver its results as stream
+     *
+     * @param <T> the type of the result
+     * @param files the files
+     * @param operation the operation of a file
+     * @return the stream of the results
+     */
+    private <T> Stream<ChangelogFileResult<T>> stream(Collection<Path> files, FileOperation<T> operation) {
+        final BlockingQueue<ChangelogFileResult<T>> queue = new LinkedBlockingQueue<>(maxConcurrency);
+        // the queue is thread-safe, the calls of the consumer don't have to be serialized
+        final ChangelogBulkTaskImpl<T> task = new ChangelogBulkTaskImpl<>(files, maxConcurrency, operation, result -> {
+            try {
+                queue.put(result);
+            } catch (InterruptedException e) {
+                // the stream was closed
+                Thread.currentThread().interrupt();
+            }
+        }, false);
+
+        final int size = files.size();
+        Spliterator<ChangelogFileResult<T>> spliterator = new Spliterators.AbstractSpliterator<ChangelogFileResult<T>>(size, Spliterator.NONNULL) {
+            /**
+             * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+             */
+            @Override
+            public boolean tryAdvance(Consumer<? super ChangelogFileResult<T>> action) {
+                try {
+                    while (true) {
+                        boolean done = task.isDone();
+                        ChangelogFileResult<T> result = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                        if (result != null) {
+                            action.accept(result);
+                            return true;
+                        }
+
+                        if (done) {
+                            return false;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    task.cancel();
+                    return false;
+                }
+            }
+        };
+
+        task.start();
+        return StreamSupport.stream(spliterator, false).onClose(task::cancel);
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * ChangelogBulkTaskImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk.impl;
+
+import com.github.toolarium.changelog.bulk.ChangelogFileResult;
+import com.github.toolarium.changelog.bulk.IChangelogBulkTask;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+
+/**
+ * Implements a running bulk operation. A dispatcher starts a thread per file as soon as a permit of the concurrency limit
+ * is available. Each file is processed isolated: an exception of a file is reported as its result and don't stop the
+ * other files. The calls of a consumer are serialized by a lock and not by a monitor: a consumer which blocks, e.g. on a
+ * full queue, would pin the carrier of each waiting virtual thread.
+ *
+ * @param <T> the type of the result
+ * @author patrick
+ */
+final class ChangelogBulkTaskImpl<T> implements IChangelogBulkTask {
+    private final List<Path> fileList;
+    private final FileOperation<T> operation;
+    private final Consumer<ChangelogFileResult<T>> consumer;
+    private final Lock consumerLock;
+    private final Semaphore permits;
+    private final ExecutorService executorService;
+    private final AtomicInteger pending;
+    private final CountDownLatch done;
+    private final AtomicReference<RuntimeException> consumerException;
+    private volatile boolean cancelled;
+
+
+    /**
+     * Constructor for ChangelogBulkTaskImpl
+     *
+     * @param files the files
+     * @param maxConcurrency the maximum number of concurrently processed files
+     * @param operation the operation of a file
+     * @param consumer the consumer of the results
+     * @param serializeConsumer true to serialize the calls of the consumer, false if the consumer is thread-safe
+     */
+    ChangelogBulkTaskImpl(Collection<Path> files, int maxConcurrency, FileOperation<T> operation, Consumer<ChangelogFileResult<T>> consumer, boolean serializeConsumer) {
+        if (files == null) {
+            throw new IllegalArgumentException("Invalid empty files!");
+        }
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("Invalid empty consumer!");
+        }
+
+        this.fileList = new ArrayList<>(files);
+        this.operation = operation;
+        this.consumer = consumer;
+        if (serializeConsumer) {
+            this.consumerLock = new ReentrantLock();
+        } else {
+            this.consumerLock = null;
+        }
+        this.permits = new Semaphore(maxConcurrency);
+        this.executorService = VirtualThreads.newThreadPerTaskExecutor("changelog-bulk");
+        this.pending = new AtomicInteger(1);
+        this.done = new CountDownLatch(1);
+        this.consumerException = new AtomicReference<>();
+        this.cancelled = false;
+    }
+
+
+    /**
+     * Start the bulk operation
+     *
+     * @return this instance
+     */
+    ChangelogBulkTaskImpl<T> start() {
+        try {
+            executorService.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            complete();
+        }
+        return this;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkTask#cancel()
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+        executorService.shutdownNow();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkTask#isCancelled()
+     */
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkTask#isDone()
+     */
+    @Override
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkTask#await()
+     */
+    @Override
+    public void await() throws InterruptedException {
+        done.await();
+        throwConsumerException();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogBulkTask#await(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!done.await(timeout, unit)) {
+            return false;
+        }
+
+        throwConsumerException();
+        return true;
+    }
+
+
+    /**
+     * Start a thread per file as soon as a permit is available
+     */
+    private void dispatch() {
+        try {
+            for (final Path file : fileList) {
+                if (cancelled) {
+                    break;
+                }
+
+                permits.acquire();
+                pending.incrementAndGet();
+                try {
+                    executorService.execute(() -> process(file));
+                } catch (RejectedExecutionException e) {
+                    pending.decrementAndGet();
+                    permits.release();
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            // cancelled
+        } finally {
+            release(false);
+        }
+    }
+
+
+    /**
+     * Process a file and report its result
+     *
+     * @param file the file
+     */
+    private void process(Path file) {
+        try {
+            if (cancelled) {
+                return;
+            }
+
+            ChangelogFileResult<T> result;
+            try {
+                result = new ChangelogFileResult<>(file, operation.apply(file), null);
+            } catch (IOException | RuntimeException e) {
+                result = new ChangelogFileResult<>(file, null, e);
+            }
+
+            // the result of a cancelled file is not reported, e.g. an interrupted read
+            if (!cancelled) {
+                accept(result);
+            }
+        } catch (RuntimeException e) {
+            consumerException.compareAndSet(null, e);
+            cancel();
+        } finally {
+            release(true);
+        }
+    }
+
+
+    /**
+     * Report a result to the consumer
+     *
+     * @param result the result
+     */
+    private void accept(ChangelogFileResult<T> result) {
+        if (consumerLock == null) {
+            consumer.accept(result);
+            return;
+        }
+
+        consumerLock.lock();
+        try {
+            consumer.accept(result);
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+
+    /**
+     * Release a started file or the dispatcher and complete the bulk operation after the last one
+     *
+     * @param file true if a file is released
+     */
+    private void release(boolean file) {
+        if (file) {
+            permits.release();
+        }
+
+        if (pending.decrementAndGet() == 0) {
+            complete();
+        }
+    }
+
+
+    /**
+     * Complete the bulk operation
+     */
+    private void complete() {
+        executorService.shutdown();
+        done.countDown();
+    }
+
+
+    /**
+     * Throw the first exception of the consumer
+     */
+    private void throwConsumerException() {
+        if (consumerException.get() != null) {
+            throw consumerException.get();
+        }
+    }
+
+
+    /**
+     * Defines the operation of a single file
+     *
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    interface FileOperation<R> {
+
+        /**
+         * Apply the operation on a file
+         *
+         * @param file the file
+         * @return the result
+         * @throws IOException In case the file could not be read
+         */
+        R apply(Path file) throws IOException;
+    }
+}
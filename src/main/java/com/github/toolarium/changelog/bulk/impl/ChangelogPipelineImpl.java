@@ -0,0 +1,347 @@
+/*
+ * ChangelogPipelineImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk.impl;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.bulk.ChangelogPipelineConfig;
+import com.github.toolarium.changelog.bulk.ChangelogPipelineStatistics;
+import com.github.toolarium.changelog.bulk.ChangelogSourceResult;
+import com.github.toolarium.changelog.bulk.IChangelogPipeline;
+import com.github.toolarium.changelog.bulk.IChangelogSourceReader;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.parser.IChangelogParser;
+import com.github.toolarium.changelog.validator.IChangelogValidator;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+
+/**
+ * Implements the change-log pipeline. A feeder puts the sources into the read queue, the read threads put the content
+ * into the process queue and the process threads put the results into the report queue which is drained by the calling
+ * thread. The end of a stage is signaled by an end marker per thread of the next stage. A window of permits bounds the
+ * number of sources in the pipeline, including the results which wait for an earlier source in the ordered mode. A stage
+ * thread which fails with an error aborts the pipeline by an end marker in the report queue, the error is thrown by
+ * the calling thread.
+ * 
+ * @author patrick
+ */
+public class ChangelogPipelineImpl implements IChangelogPipeline {
+    private static final PipelineItem END = new PipelineItem(-1, null);
+    private final ChangelogConfig changelogConfig;
+    private final ChangelogPipelineConfig pipelineConfig;
+    private final IChangelogSourceReader sourceReader;
+
+    
+    /**
+     * Constructor for ChangelogPipelineImpl
+     * 
+     * @param changelogConfig the change-log configuration for the validation or null for the default
+     * @param pipelineConfig the pipeline configuration or null for the default
+     * @param sourceReader the reader of the sources or null to read local files
+     */
+    public ChangelogPipelineImpl(ChangelogConfig changelogConfig, ChangelogPipelineConfig pipelineConfig, IChangelogSourceReader sourceReader) {
+        if (changelogConfig == null) {
+            this.changelogConfig = new ChangelogConfig();
+        } else {
+            this.changelogConfig = new ChangelogConfig(changelogConfig);
+        }
+        
+        if (pipelineConfig == null) {
+            this.pipelineConfig = new ChangelogPipelineConfig();
+        } else {
+            this.pipelineConfig = pipelineConfig;
+        }
+        
+        if (sourceReader == null) {
+            this.sourceReader = source -> Files.readString(Paths.get(source));
+        } else {
+            this.sourceReader = sourceReader;
+        }
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.bulk.IChangelogPipeline#run(java.lang.Iterable, java.util.function.Consumer)
+     */
+    @Override
+    public ChangelogPipelineStatistics run(final Iterable<String> sources, final Consumer<ChangelogSourceResult> consumer) throws InterruptedException {
+        if (sources == null) {
+            throw new IllegalArgumentException("Invalid empty sources!");
+        }
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("Invalid empty consumer!");
+        }
+        
+        final long start = System.nanoTime();
+        final int readThreads = pipelineConfig.getReadThreads();
+        final int processThreads = pipelineConfig.getProcessThreads();
+        final int queueCapacity = pipelineConfig.getQueueCapacity();
+        final BlockingQueue<PipelineItem> readQueue = new ArrayBlockingQueue<>(queueCapacity);
+        final BlockingQueue<PipelineItem> processQueue = new ArrayBlockingQueue<>(queueCapacity);
+        final BlockingQueue<PipelineItem> reportQueue = new ArrayBlockingQueue<>(queueCapacity);
+        final Semaphore window = new Semaphore(3 * queueCapacity + readThreads + processThreads);
+        final AtomicInteger activeReadThreads = new AtomicInteger(readThreads);
+        final AtomicInteger activeProcessThreads = new AtomicInteger(processThreads);
+        final AtomicReference<RuntimeException> sourceException = new AtomicReference<>();
+        final AtomicReference<Error> stageError = new AtomicReference<>();
+        final LongAdder readNanos = new LongAdder();
+        final LongAdder processNanos = new LongAdder();
+        long reportNanos = 0;
+        int sourceCount = 0;
+        
+        ExecutorService executorService = VirtualThreads.newThreadPerTaskExecutor("changelog-pipeline");
+        try {
+            executorService.execute(() -> feed(sources, readQueue, window, readThreads, sourceException, stageError));
+            for (int i = 0; i < readThreads; i++) {
+                executorService.execute(() -> read(readQueue, processQueue, reportQueue, activeReadThreads, processThreads, readNanos, stageError));
+            }
+
+            for (int i = 0; i < processThreads; i++) {
+                executorService.execute(() -> process(processQueue, reportQueue, activeProcessThreads, processNanos, stageError));
+            }
+
+            // report stage
+            final Map<Integer, PipelineItem> waitingItems = new HashMap<>();
+            int nextIndex = 0;
+            PipelineItem item;
+            while ((item = reportQueue.take()) != END) {
+                if (!pipelineConfig.isOrdered()) {
+                    reportNanos += report(item, consumer, window);
+                    sourceCount++;
+                } else {
+                    waitingItems.put(item.index, item);
+                    while ((item = waitingItems.remove(nextIndex)) != null) {
+                        reportNanos += report(item, consumer, window);
+                        sourceCount++;
+                        nextIndex++;
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        
+        if (stageError.get() != null) {
+            throw stageError.get();
+        }
+
+        if (sourceException.get() != null) {
+            throw sourceException.get();
+        }
+        
+        return new ChangelogPipelineStatistics(sourceCount, readNanos.sum(), processNanos.sum(), reportNanos, System.nanoTime() - start);
+    }
+
+    
+    /**
+     * Read the content of a source
+     * 
+     * @param source the source
+     * @return the content
+     * @throws IOException In case the source could not be read
+     */
+    protected String read(String source) throws IOException {
+        return sourceReader.read(source);
+    }
+
+    
+    /**
+     * Parse and validate the content of a source
+     * 
+     * @param parser the parser
+     * @param validator the validator
+     * @param content the content
+     * @return the validation result
+     */
+    protected ValidationResult process(IChangelogParser parser, IChangelogValidator validator, String content) {
+        return validator.validateToResult(parser.parseContent(content.strip()), null, null, null);
+    }
+
+    
+    /**
+     * The feeder: put the sources into the read queue
+     * 
+     * @param sources the sources
+     * @param readQueue the read queue
+     * @param window the window of the sources in the pipeline
+     * @param readThreads the number of read threads
+     * @param sourceException the exception of the sources
+     * @param stageError the first error of a stage thread
+     */
+    private void feed(Iterable<String> sources, BlockingQueue<PipelineItem> readQueue, Semaphore window, int readThreads, AtomicReference<RuntimeException> sourceException, AtomicReference<Error> stageError) {
+        try {
+            int index = 0;
+            for (String source : sources) {
+                window.acquire();
+                readQueue.put(new PipelineItem(index++, source));
+            }
+        } catch (InterruptedException e) {
+            // cancelled
+            return;
+        } catch (RuntimeException e) {
+            // e.g. a failed lazy iterator, the already fed sources are completed
+            sourceException.set(e);
+        } catch (Error e) {
+            stageError.compareAndSet(null, e);
+        }
+
+        end(readQueue, readThreads);
+    }
+
+    
+    /**
+     * A thread of the read stage
+     * 
+     * @param readQueue the read queue
+     * @param processQueue the process queue
+     * @param reportQueue the report queue
+     * @param activeReadThreads the number of active read threads
+     * @param processThreads the number of process threads
+     * @param readNanos the busy time of the read stage
+     * @param stageError the first error of a stage thread
+     */
+    private void read(BlockingQueue<PipelineItem> readQueue, BlockingQueue<PipelineItem> processQueue, BlockingQueue<PipelineItem> reportQueue, AtomicInteger activeReadThreads, int processThreads, LongAdder readNanos, AtomicReference<Error> stageError) {
+        try {
+            PipelineItem item;
+            while ((item = readQueue.take()) != END) {
+                long start = System.nanoTime();
+                try {
+                    item.content = read(item.source);
+                } catch (IOException | RuntimeException e) {
+                    item.error = e;
+                }
+                readNanos.add(System.nanoTime() - start);
+                processQueue.put(item);
+            }
+        } catch (InterruptedException e) {
+            // cancelled
+            return;
+        } catch (Error e) {
+            // the item is lost, the pipeline is aborted
+            stageError.compareAndSet(null, e);
+            end(reportQueue, 1);
+            return;
+        }
+
+        if (activeReadThreads.decrementAndGet() == 0) {
+            end(processQueue, processThreads);
+        }
+    }
+
+    
+    /**
+     * A thread of the process stage
+     * 
+     * @param processQueue the process queue
+     * @param reportQueue the report queue
+     * @param activeProcessThreads the number of active process threads
+     * @param processNanos the busy time of the process stage
+     * @param stageError the first error of a stage thread
+     */
+    private void process(BlockingQueue<PipelineItem> processQueue, BlockingQueue<PipelineItem> reportQueue, AtomicInteger activeProcessThreads, LongAdder processNanos, AtomicReference<Error> stageError) {
+        try {
+            IChangelogParser parser = ChangelogFactory.getInstance().createChangelogParser();
+            IChangelogValidator validator = ChangelogFactory.getInstance().createChangelogValidator(changelogConfig);
+            PipelineItem item;
+            while ((item = processQueue.take()) != END) {
+                if (item.error == null) {
+                    long start = System.nanoTime();
+                    try {
+                        item.validationResult = process(parser, validator, item.content);
+                    } catch (RuntimeException e) {
+                        item.error = e;
+                    }
+                    item.content = null;
+                    processNanos.add(System.nanoTime() - start);
+                }
+                reportQueue.put(item);
+            }
+        } catch (InterruptedException e) {
+            // cancelled
+            return;
+        } catch (Error e) {
+            // the item is lost, the pipeline is aborted
+            stageError.compareAndSet(null, e);
+            end(reportQueue, 1);
+            return;
+        }
+
+        if (activeProcessThreads.decrementAndGet() == 0) {
+            end(reportQueue, 1);
+        }
+    }
+
+
+    /**
+     * Signal the end of a stage to the threads of the next stage
+     *
+     * @param queue the queue of the next stage
+     * @param threads the number of threads of the next stage
+     */
+    private static void end(BlockingQueue<PipelineItem> queue, int threads) {
+        try {
+            for (int i = 0; i < threads; i++) {
+                queue.put(END);
+            }
+        } catch (InterruptedException e) {
+            // cancelled
+        }
+    }
+
+    
+    /**
+     * Report the result of a source
+     * 
+     * @param item the item
+     * @param consumer the consumer
+     * @param window the window of the sources in the pipeline
+     * @return the busy time in nanoseconds
+     */
+    private long report(PipelineItem item, Consumer<ChangelogSourceResult> consumer, Semaphore window) {
+        long start = System.nanoTime();
+        consumer.accept(new ChangelogSourceResult(item.index, item.source, item.validationResult, item.error));
+        window.release();
+        return System.nanoTime() - start;
+    }
+
+    
+    /**
+     * A source on its way through the pipeline. It is handed over between the stages by the queues, which publish the
+     * fields to the next stage.
+     */
+    private static final class PipelineItem {
+        private final int index;
+        private final String source;
+        private String content;
+        private ValidationResult validationResult;
+        private Exception error;
+
+        
+        /**
+         * Constructor for PipelineItem
+         * 
+         * @param index the index of the source
+         * @param source the source
+         */
+        PipelineItem(int index, String source) {
+            this.index = index;
+            this.source = source;
+        }
+    }
+}
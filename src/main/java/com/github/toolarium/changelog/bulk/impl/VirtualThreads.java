@@ -0,0 +1,79 @@
+/*
+ * VirtualThreads.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk.impl;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Creates the executors which run one task per thread. On a runtime with virtual threads (Java 21 or newer) a virtual
+ * thread per task executor is used, otherwise a cached pool of daemon platform threads. The virtual thread API is
+ * resolved by reflection, that the library still runs on Java 11.
+ *
+ * @author patrick
+ */
+public final class VirtualThreads {
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = resolveVirtualThreadPerTaskExecutor();
+
+
+    /**
+     * Constructor for VirtualThreads
+     */
+    private VirtualThreads() {
+        // NOP
+    }
+
+
+    /**
+     * Check if virtual threads are supported by the runtime
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+
+    /**
+     * Create an executor which starts a new thread for each task.
+     *
+     * @param name the name prefix of the platform threads in case virtual threads are not supported
+     * @return the executor
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String name) {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // fallback to platform threads
+            }
+        }
+
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * Resolve the factory method of the virtual thread per task executor
+     *
+     * @return the method or null in case virtual threads are not supported
+     */
+    private static Method resolveVirtualThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -5,10 +5,14 @@
  */
 package com.github.toolarium.changelog.config;
 
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.config.matcher.IPatternMatcher;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
 /**
@@ -36,8 +40,9 @@ public class ChangelogConfig implements Serializable {
     private boolean supportReleaseInfo;
     private boolean supportLinkInDescription;
     private boolean supportIdListOnEndOfTheComment;
-    private Pattern linkCommentCheckPattern;
-    private Pattern idCommentCheckPattern;
+    private boolean linearTimePatternMatching;
+    private IPatternMatcher linkCommentCheckPattern;
+    private IPatternMatcher idCommentCheckPattern;
 
     
     /**
@@ -55,6 +60,7 @@ public class ChangelogConfig implements Serializable {
         supportReleaseInfo = true;
         supportLinkInDescription = true;
         supportIdListOnEndOfTheComment = true;
+        linearTimePatternMatching = false;
         setLinkCommentCheckExpression(LINK_IN_CONTENT);
         setIdCommentCheckExpression(IDENTIFIER_IN_CONTENT);
     }
@@ -99,6 +105,31 @@ public class ChangelogConfig implements Serializable {
     }
 
 
+    /**
+     * Copy constructor for ChangelogConfig
+     * 
+     * @param changelogConfig the configuration to copy
+     */
+    public ChangelogConfig(ChangelogConfig changelogConfig) {
+        this.sectionCharacter = changelogConfig.sectionCharacter;
+        this.headerSeparator = changelogConfig.headerSeparator;
+        this.itemSeparator = changelogConfig.itemSeparator;
+        this.supportUnreleased = changelogConfig.supportUnreleased;
+        this.supportEmptySection = changelogConfig.supportEmptySection;
+        this.supportSpaceAroundVersion = changelogConfig.supportSpaceAroundVersion;
+        this.supportBracketsAroundVersion = changelogConfig.supportBracketsAroundVersion;
+        this.supportReleaseLink = changelogConfig.supportReleaseLink;
+        this.supportReleaseInfo = changelogConfig.supportReleaseInfo;
+        this.supportLinkInDescription = changelogConfig.supportLinkInDescription;
+        this.supportIdListOnEndOfTheComment = changelogConfig.supportIdListOnEndOfTheComment;
+        this.linearTimePatternMatching = changelogConfig.linearTimePatternMatching;
+        
+        // the pattern matchers are immutable
+        this.linkCommentCheckPattern = changelogConfig.linkCommentCheckPattern;
+        this.idCommentCheckPattern = changelogConfig.idCommentCheckPattern;
+    }
+
+
     /**
      * Get the section character
      * 
@@ -299,6 +330,34 @@ public class ChangelogConfig implements Serializable {
     }
     
     
+    /**
+     * Check if the link and id expressions are matched in linear time by an automaton instead of the backtracking {@link java.util.regex.Pattern}.
+     * 
+     * @return true if the linear-time matching is enabled
+     */
+    public boolean isLinearTimePatternMatching() {
+        return linearTimePatternMatching;
+    }
+
+
+    /**
+     * Set if the link and id expressions are matched in linear time by an automaton. The linear-time matching guarantees a bounded
+     * matching time also for bad expressions but doesn't support back references, look-arounds, atomic groups and inline flags.
+     * The already defined expressions are compiled again.
+     * 
+     * @param linearTimePatternMatching true to enable the linear-time matching
+     * @throws java.util.regex.PatternSyntaxException In case a defined expression is not supported by the linear-time matching
+     */
+    public void setLinearTimePatternMatching(boolean linearTimePatternMatching) {
+        IPatternMatcher linkPattern = createPatternMatcher(getLinkCommentCheckExpression(), linearTimePatternMatching);
+        IPatternMatcher idPattern = createPatternMatcher(getIdCommentCheckExpression(), linearTimePatternMatching);
+
+        this.linearTimePatternMatching = linearTimePatternMatching;
+        this.linkCommentCheckPattern = linkPattern;
+        this.idCommentCheckPattern = idPattern;
+    }
+    
+    
     /**
      * Check if links in comment are supported
      * 
@@ -319,7 +378,7 @@ public class ChangelogConfig implements Serializable {
             return null;
         }
         
-        return linkCommentCheckPattern.toString();
+        return linkCommentCheckPattern.getExpression();
     }
     
     
@@ -327,13 +386,10 @@ public class ChangelogConfig implements Serializable {
      * Set the link comment check expression
      * 
      * @param linkCommentCheckExpression the link comment check expression
+     * @throws java.util.regex.PatternSyntaxException In case of an invalid expression
      */
     public void setLinkCommentCheckExpression(String linkCommentCheckExpression) {
-        if (linkCommentCheckExpression == null) {
-            this.linkCommentCheckPattern = null;
-        } else {
-            this.linkCommentCheckPattern = Pattern.compile(linkCommentCheckExpression);
-        }
+        this.linkCommentCheckPattern = createPatternMatcher(linkCommentCheckExpression, linearTimePatternMatching);
     }
     
     /**
@@ -349,10 +405,7 @@ public class ChangelogConfig implements Serializable {
         
         String link = null;
         if (linkCommentCheckPattern != null) {
-            Matcher matcher = linkCommentCheckPattern.matcher(text);
-            if (matcher.find()) {
-                link = matcher.group();
-            }
+            link = linkCommentCheckPattern.find(text);
         }
 
         return link;
@@ -399,7 +452,7 @@ public class ChangelogConfig implements Serializable {
             return null;
         }
 
-        return idCommentCheckPattern.toString();
+        return idCommentCheckPattern.getExpression();
     }
     
     
@@ -407,13 +460,10 @@ public class ChangelogConfig implements Serializable {
      * Set the id comment check expression
      * 
      * @param idCommentCheckExpression the id comment check expression
+     * @throws java.util.regex.PatternSyntaxException In case of an invalid expression
      */
     public void setIdCommentCheckExpression(String idCommentCheckExpression) {
-        if (idCommentCheckExpression == null) {
-            this.idCommentCheckPattern = null;
-        } else {
-            this.idCommentCheckPattern = Pattern.compile(idCommentCheckExpression);
-        }
+        this.idCommentCheckPattern = createPatternMatcher(idCommentCheckExpression, linearTimePatternMatching);
     }
     
     
@@ -430,16 +480,76 @@ public class ChangelogConfig implements Serializable {
         
         String id = null;
         if (idCommentCheckPattern != null) {
-            Matcher matcher = idCommentCheckPattern.matcher(text);
-            if (matcher.find()) {
-                id = matcher.group();
-            }
+            id = idCommentCheckPattern.find(text);
         }
 
         return id;
     }
 
 
+    /**
+     * Create the pattern matcher of an expression
+     * 
+     * @param expression the expression or null
+     * @param linearTime true to create a linear-time matcher
+     * @return the pattern matcher or null
+     */
+    private IPatternMatcher createPatternMatcher(String expression, boolean linearTime) {
+        if (expression == null) {
+            return null;
+        }
+        
+        return ChangelogFactory.getInstance().createPatternMatcher(expression, linearTime);
+    }
+
+
+    /**
+     * Get a stable fingerprint of the configuration. In difference to the {@link #hashCode()} it is independent of the
+     * JVM and can be used as part of a persistent cache key. The fingerprint changes if any setting changes.
+     * 
+     * @return the fingerprint as URL safe base64 encoded SHA-256 digest
+     */
+    public String getFingerprint() {
+        StringBuilder canonical = new StringBuilder(256);
+        canonical.append(serialVersionUID).append('|')
+                 .append(sectionCharacter).append('|')
+                 .append(headerSeparator).append('|')
+                 .append(itemSeparator).append('|')
+                 .append(supportUnreleased).append('|')
+                 .append(supportEmptySection).append('|')
+                 .append(supportSpaceAroundVersion).append('|')
+                 .append(supportBracketsAroundVersion).append('|')
+                 .append(supportReleaseLink).append('|')
+                 .append(supportReleaseInfo).append('|')
+                 .append(supportLinkInDescription).append('|')
+                 .append(supportIdListOnEndOfTheComment).append('|')
+                 .append(linearTimePatternMatching).append('|');
+        appendExpression(canonical, getLinkCommentCheckExpression());
+        appendExpression(canonical, getIdCommentCheckExpression());
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform has to support SHA-256
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * Append an expression with its length, that the canonical form is unambiguous.
+     * 
+     * @param canonical the canonical form
+     * @param expression the expression or null
+     */
+    private void appendExpression(StringBuilder canonical, String expression) {
+        if (expression == null) {
+            canonical.append("-1|");
+        } else {
+            canonical.append(expression.length()).append(':').append(expression).append('|');
+        }
+    }
 
 
     /**
@@ -447,8 +557,8 @@ public class ChangelogConfig implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(headerSeparator, idCommentCheckPattern, itemSeparator, linkCommentCheckPattern, sectionCharacter, supportSpaceAroundVersion, supportBracketsAroundVersion, supportLinkInDescription, supportIdListOnEndOfTheComment, 
-                            supportReleaseInfo, supportReleaseLink, supportUnreleased, supportEmptySection);
+        return Objects.hash(headerSeparator, getIdCommentCheckExpression(), itemSeparator, getLinkCommentCheckExpression(), sectionCharacter, supportSpaceAroundVersion, supportBracketsAroundVersion, supportLinkInDescription, supportIdListOnEndOfTheComment, 
+                            supportReleaseInfo, supportReleaseLink, supportUnreleased, supportEmptySection, linearTimePatternMatching);
     }
 
 
@@ -470,11 +580,12 @@ public class ChangelogConfig implements Serializable {
         }
         
         ChangelogConfig other = (ChangelogConfig) obj;
-        return headerSeparator == other.headerSeparator && Objects.equals(idCommentCheckPattern, other.idCommentCheckPattern) && itemSeparator == other.itemSeparator && Objects.equals(linkCommentCheckPattern, other.linkCommentCheckPattern)
+        return headerSeparator == other.headerSeparator && Objects.equals(getIdCommentCheckExpression(), other.getIdCommentCheckExpression()) && itemSeparator == other.itemSeparator 
+                && Objects.equals(getLinkCommentCheckExpression(), other.getLinkCommentCheckExpression())
                 && sectionCharacter == other.sectionCharacter && supportSpaceAroundVersion == other.supportSpaceAroundVersion
                 && supportBracketsAroundVersion == other.supportBracketsAroundVersion && supportLinkInDescription == other.supportLinkInDescription 
                 && supportIdListOnEndOfTheComment == other.supportIdListOnEndOfTheComment && supportReleaseInfo == other.supportReleaseInfo && supportReleaseLink == other.supportReleaseLink 
-                && supportUnreleased == other.supportUnreleased && supportEmptySection == other.supportEmptySection;
+                && supportUnreleased == other.supportUnreleased && supportEmptySection == other.supportEmptySection && linearTimePatternMatching == other.linearTimePatternMatching;
     }
 
 
@@ -494,6 +605,7 @@ public class ChangelogConfig implements Serializable {
                + ", supportReleaseInfo=" + supportReleaseInfo
                + ", supportLinkInDescription=" + supportLinkInDescription
                + ", supportIdListOnEndOfTheComment=" + supportIdListOnEndOfTheComment               
+               + ", linearTimePatternMatching=" + linearTimePatternMatching
                + ", linkCommentCheckExpression=" + linkCommentCheckPattern
                + ", idCommentCheckExpression=" + idCommentCheckPattern
                + "]";
@@ -0,0 +1,33 @@
+/*
+ * IPatternMatcher.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.config.matcher;
+
+import java.io.Serializable;
+
+
+/**
+ * Defines a compiled pattern matcher which is used by the change-log configuration to find links and ids in a text.
+ * 
+ * @author patrick
+ */
+public interface IPatternMatcher extends Serializable {
+    
+    /**
+     * Get the expression of the matcher.
+     * 
+     * @return the expression
+     */
+    String getExpression();
+
+    
+    /**
+     * Find the first match of the pattern in the given text.
+     * 
+     * @param text the text to verify
+     * @return the first matching text or null
+     */
+    String find(String text);
+}
@@ -0,0 +1,1155 @@
+/*
+ * LinearPatternCompiler.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.config.matcher.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+
+/**
+ * Compiles a regular expression into a program for the {@link LinearPatternMatcher}. Only the subset of the
+ * {@link java.util.regex.Pattern} syntax which can be simulated without backtracking is supported: literals, escapes,
+ * character classes, the dot, groups, alternation, the anchors <code>^</code> and <code>$</code> and the greedy,
+ * reluctant and possessive quantifiers. Possessive quantifiers are only supported on a single character or character class.
+ * Back references, look-arounds, atomic groups, inline flags and word boundaries are rejected. A quantified sub-expression
+ * which can match the empty string, e.g. <code>(a?)*</code> or <code>(?:$){0,2}</code>, is rejected too unless it is
+ * optional only (<code>?</code>): {@link java.util.regex.Pattern} ends a loop after an empty iteration by rules which an
+ * automaton can't simulate, the matches would differ.
+ *
+ * @author patrick
+ */
+final class LinearPatternCompiler {
+    /** Instruction: consume a character of a character class */
+    static final int CHAR = 0;
+
+    /** Instruction: the pattern matches */
+    static final int MATCH = 1;
+
+    /** Instruction: jump to x */
+    static final int JMP = 2;
+
+    /** Instruction: continue on x (preferred) and on y */
+    static final int SPLIT = 3;
+
+    /** Instruction: assert the begin of the input */
+    static final int ASSERT_BEGIN = 4;
+
+    /** Instruction: assert the end of the input (before an optional final line terminator) */
+    static final int ASSERT_END = 5;
+
+    /** Instruction: assert the next character is not part of the character class */
+    static final int NOT_NEXT = 6;
+
+    /** The maximum number of instructions of a compiled program */
+    static final int MAX_PROGRAM_SIZE = 20000;
+
+    private static final int UNBOUNDED = -1;
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+    private final String expression;
+    private int pos;
+    private int[] op;
+    private int[] x;
+    private int[] y;
+    private List<CharClass> charClassList;
+    private int size;
+
+
+    /**
+     * Constructor for LinearPatternCompiler
+     *
+     * @param expression the expression to compile
+     */
+    private LinearPatternCompiler(String expression) {
+        this.expression = expression;
+        this.pos = 0;
+        this.op = new int[16];
+        this.x = new int[16];
+        this.y = new int[16];
+        this.charClassList = new ArrayList<>();
+        this.size = 0;
+    }
+
+
+    /**
+     * Compile an expression.
+     *
+     * @param expression the expression
+     * @return the compiled program
+     * @throws PatternSyntaxException In case the expression is invalid or not supported
+     */
+    static Program compile(String expression) {
+        if (expression == null) {
+            throw new PatternSyntaxException("Invalid empty expression", expression, 0);
+        }
+
+        LinearPatternCompiler compiler = new LinearPatternCompiler(expression);
+        Node node = compiler.parseAlternation();
+        if (compiler.pos < expression.length()) {
+            throw compiler.error("Unmatched closing ')'");
+        }
+
+        node.emit(compiler);
+        compiler.emit(MATCH, 0, 0);
+        return new Program(Arrays.copyOf(compiler.op, compiler.size), Arrays.copyOf(compiler.x, compiler.size), Arrays.copyOf(compiler.y, compiler.size),
+                           compiler.charClassList.toArray(new CharClass[compiler.charClassList.size()]));
+    }
+
+
+    /**
+     * Parse an alternation.
+     *
+     * @return the node
+     */
+    private Node parseAlternation() {
+        List<Node> alternatives = new ArrayList<>();
+        alternatives.add(parseConcatenation());
+        while (more() && peek() == '|') {
+            pos++;
+            alternatives.add(parseConcatenation());
+        }
+
+        if (alternatives.size() == 1) {
+            return alternatives.get(0);
+        }
+
+        return new AlternationNode(alternatives);
+    }
+
+
+    /**
+     * Parse a concatenation.
+     *
+     * @return the node
+     */
+    private Node parseConcatenation() {
+        List<Node> nodes = new ArrayList<>();
+        while (more() && peek() != '|' && peek() != ')') {
+            nodes.add(parseRepetition());
+        }
+
+        if (nodes.size() == 1) {
+            return nodes.get(0);
+        }
+
+        return new ConcatenationNode(nodes);
+    }
+
+
+    /**
+     * Parse an atom with an optional quantifier.
+     *
+     * @return the node
+     */
+    private Node parseRepetition() {
+        Node atom = parseAtom();
+        if (!more()) {
+            return atom;
+        }
+
+        int min;
+        int max;
+        int quantifierPosition = pos;
+        char ch = peek();
+        if (ch == '*') {
+            min = 0;
+            max = UNBOUNDED;
+            pos++;
+        } else if (ch == '+') {
+            min = 1;
+            max = UNBOUNDED;
+            pos++;
+        } else if (ch == '?') {
+            min = 0;
+            max = 1;
+            pos++;
+        } else if (ch == '{') {
+            pos++;
+            min = parseNumber();
+            max = min;
+            if (more() && peek() == ',') {
+                pos++;
+                if (more() && peek() == '}') {
+                    max = UNBOUNDED;
+                } else {
+                    max = parseNumber();
+                }
+            }
+
+            if (!more() || peek() != '}') {
+                throw error("Unclosed counted closure");
+            }
+            pos++;
+
+            if (max != UNBOUNDED && max < min) {
+                throw error("Illegal repetition range");
+            }
+        } else {
+            return atom;
+        }
+
+        boolean greedy = true;
+        boolean possessive = false;
+        if (more() && peek() == '?') {
+            greedy = false;
+            pos++;
+        } else if (more() && peek() == '+') {
+            possessive = true;
+            pos++;
+        }
+
+        if (possessive && !(atom instanceof CharNode)) {
+            throw error("Possessive quantifiers are only supported on a single character or character class");
+        }
+
+        if ((max == UNBOUNDED || max > 1) && atom.isNullable()) {
+            throw new PatternSyntaxException("Quantified sub-expressions which can match the empty string are not supported by the linear-time matcher",
+                                             expression, quantifierPosition);
+        }
+
+        return new RepetitionNode(atom, min, max, greedy, possessive);
+    }
+
+
+    /**
+     * Parse an atom.
+     *
+     * @return the node
+     */
+    private Node parseAtom() {
+        char ch = next();
+        switch (ch) {
+            case '(':
+                return parseGroup();
+            case '[':
+                return new CharNode(parseCharClass());
+            case '.':
+                return new CharNode(new CharClassBuilder().add('\n').add('\r').add('\u0085').add('\u2028', '\u2029').build(true));
+            case '^':
+                return new AssertionNode(ASSERT_BEGIN);
+            case '$':
+                return new AssertionNode(ASSERT_END);
+            case '\\':
+                CharClassBuilder builder = new CharClassBuilder();
+                parseEscape(builder, false);
+                return new CharNode(builder.build(false));
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                pos--;
+                throw error("Dangling meta character '" + ch + "'");
+            default:
+                return new CharNode(new CharClassBuilder().add(ch).build(false));
+        }
+    }
+
+
+    /**
+     * Parse a group. The opening bracket is already consumed.
+     *
+     * @return the node
+     */
+    private Node parseGroup() {
+        if (more() && peek() == '?') {
+            pos++;
+            char kind = next();
+            if (kind == ':') {
+                // non capturing group
+            } else if (kind == '<' && more() && Character.isLetter(peek())) {
+                // named group: skip the name
+                while (more() && Character.isLetterOrDigit(peek())) {
+                    pos++;
+                }
+
+                if (!more() || next() != '>') {
+                    throw error("Named capturing group is missing trailing '>'");
+                }
+            } else if (kind == '=' || kind == '!' || kind == '<') {
+                throw error("Look-around groups are not supported by the linear-time matcher");
+            } else if (kind == '>') {
+                throw error("Atomic groups are not supported by the linear-time matcher");
+            } else {
+                throw error("Inline flags are not supported by the linear-time matcher");
+            }
+        }
+
+        Node node = parseAlternation();
+        if (!more() || next() != ')') {
+            throw error("Unclosed group");
+        }
+
+        return node;
+    }
+
+
+    /**
+     * Parse a character class. The opening bracket is already consumed.
+     *
+     * @return the character class
+     */
+    private CharClass parseCharClass() {
+        CharClassBuilder builder = new CharClassBuilder();
+        boolean negate = false;
+        if (more() && peek() == '^') {
+            negate = true;
+            pos++;
+        }
+
+        boolean first = true;
+        while (true) {
+            if (!more()) {
+                throw error("Unclosed character class");
+            }
+
+            char ch = next();
+            if (ch == ']' && !first) {
+                break;
+            }
+
+            first = false;
+            if (ch == '[') {
+                throw error("Nested character classes are not supported by the linear-time matcher");
+            } else if (ch == '&' && more() && peek() == '&') {
+                throw error("Character class intersections are not supported by the linear-time matcher");
+            }
+
+            int lower;
+            if (ch == '\\') {
+                lower = parseEscape(builder, true);
+                if (lower < 0) {
+                    // predefined class
+                    continue;
+                }
+            } else {
+                lower = ch;
+            }
+
+            if (more() && peek() == '-' && pos + 1 < expression.length() && expression.charAt(pos + 1) != ']') {
+                pos++;
+                char upperCh = next();
+                int upper;
+                if (upperCh == '\\') {
+                    upper = parseEscape(builder, true);
+                    if (upper < 0) {
+                        throw error("Illegal character range");
+                    }
+                } else if (upperCh == '[') {
+                    throw error("Nested character classes are not supported by the linear-time matcher");
+                } else {
+                    upper = upperCh;
+                }
+
+                if (upper < lower) {
+                    throw error("Illegal character range");
+                }
+                builder.add((char) lower, (char) upper);
+            } else {
+                builder.add((char) lower);
+            }
+        }
+
+        return builder.build(negate);
+    }
+
+
+    /**
+     * Parse an escape sequence. The backslash is already consumed.
+     *
+     * @param builder the character class builder which receives predefined classes and single characters outside of a class
+     * @param inClass true if the escape is part of a character class
+     * @return the escaped character or -1 if a predefined class was added to the builder
+     */
+    private int parseEscape(CharClassBuilder builder, boolean inClass) {
+        if (!more()) {
+            throw error("Unexpected internal error");
+        }
+
+        char ch = next();
+        int result;
+        switch (ch) {
+            case 'd':
+                builder.add('0', '9');
+                return -1;
+            case 'D':
+                builder.addComplement(new CharClassBuilder().add('0', '9'));
+                return -1;
+            case 'w':
+                builder.add(wordCharacters());
+                return -1;
+            case 'W':
+                builder.addComplement(wordCharacters());
+                return -1;
+            case 's':
+                builder.add(spaceCharacters());
+                return -1;
+            case 'S':
+                builder.addComplement(spaceCharacters());
+                return -1;
+            case 't':
+                result = '\t';
+                break;
+            case 'n':
+                result = '\n';
+                break;
+            case 'r':
+                result = '\r';
+                break;
+            case 'f':
+                result = '\f';
+                break;
+            case 'a':
+                result = '\u0007';
+                break;
+            case 'e':
+                result = '\u001B';
+                break;
+            case 'x':
+                result = parseHex(2);
+                break;
+            case 'u':
+                result = parseHex(4);
+                break;
+            default:
+                if (ch >= '0' && ch <= '9') {
+                    throw error("Back references are not supported by the linear-time matcher");
+                } else if (Character.isLetter(ch)) {
+                    throw error("Escape sequence \\" + ch + " is not supported by the linear-time matcher");
+                }
+
+                result = ch;
+                break;
+        }
+
+        if (!inClass) {
+            builder.add((char) result);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Parse a hex number.
+     *
+     * @param digits the number of digits
+     * @return the parsed value
+     */
+    private int parseHex(int digits) {
+        if (pos + digits > expression.length()) {
+            throw error("Illegal hexadecimal escape sequence");
+        }
+
+        try {
+            int value = Integer.parseInt(expression.substring(pos, pos + digits), 16);
+            pos += digits;
+            return value;
+        } catch (NumberFormatException e) {
+            throw error("Illegal hexadecimal escape sequence");
+        }
+    }
+
+
+    /**
+     * Parse a decimal number of a counted closure.
+     *
+     * @return the number
+     */
+    private int parseNumber() {
+        int start = pos;
+        while (more() && Character.isDigit(peek())) {
+            pos++;
+        }
+
+        if (start == pos) {
+            throw error("Illegal repetition");
+        }
+
+        try {
+            return Integer.parseInt(expression.substring(start, pos));
+        } catch (NumberFormatException e) {
+            throw error("Illegal repetition");
+        }
+    }
+
+
+    /**
+     * Emit an instruction.
+     *
+     * @param instruction the instruction
+     * @param argumentX the first argument
+     * @param argumentY the second argument
+     * @return the address of the instruction
+     */
+    private int emit(int instruction, int argumentX, int argumentY) {
+        if (size >= MAX_PROGRAM_SIZE) {
+            throw new PatternSyntaxException("Expression is too large for the linear-time matcher", expression, -1);
+        }
+
+        if (size == op.length) {
+            op = Arrays.copyOf(op, size * 2);
+            x = Arrays.copyOf(x, size * 2);
+            y = Arrays.copyOf(y, size * 2);
+        }
+
+        op[size] = instruction;
+        x[size] = argumentX;
+        y[size] = argumentY;
+        return size++;
+    }
+
+
+    /**
+     * Emit a character instruction.
+     *
+     * @param charClass the character class
+     * @param instruction the instruction
+     * @return the address of the instruction
+     */
+    private int emitCharClass(int instruction, CharClass charClass) {
+        int idx = charClassList.indexOf(charClass);
+        if (idx < 0) {
+            idx = charClassList.size();
+            charClassList.add(charClass);
+        }
+
+        return emit(instruction, idx, 0);
+    }
+
+
+    /**
+     * Create a syntax error.
+     *
+     * @param message the message
+     * @return the exception
+     */
+    private PatternSyntaxException error(String message) {
+        return new PatternSyntaxException(message, expression, pos - 1);
+    }
+
+
+    /**
+     * Check if there is more input.
+     *
+     * @return true if there is more input
+     */
+    private boolean more() {
+        return pos < expression.length();
+    }
+
+
+    /**
+     * Peek the current character.
+     *
+     * @return the current character
+     */
+    private char peek() {
+        return expression.charAt(pos);
+    }
+
+
+    /**
+     * Read the next character.
+     *
+     * @return the next character
+     */
+    private char next() {
+        if (!more()) {
+            throw error("Unexpected end of expression");
+        }
+
+        return expression.charAt(pos++);
+    }
+
+
+    /**
+     * Get the word characters.
+     *
+     * @return the word characters
+     */
+    private static CharClassBuilder wordCharacters() {
+        return new CharClassBuilder().add('a', 'z').add('A', 'Z').add('0', '9').add('_');
+    }
+
+
+    /**
+     * Get the space characters.
+     *
+     * @return the space characters
+     */
+    private static CharClassBuilder spaceCharacters() {
+        return new CharClassBuilder().add(' ').add('\t', '\r');
+    }
+
+
+    /**
+     * The compiled program.
+     */
+    static final class Program implements Serializable {
+        private static final long serialVersionUID = 4467318029512346790L;
+        final int[] op;
+        final int[] x;
+        final int[] y;
+        final CharClass[] charClasses;
+
+
+        /**
+         * Constructor for Program
+         *
+         * @param op the instructions
+         * @param x the first arguments
+         * @param y the second arguments
+         * @param charClasses the character classes
+         */
+        Program(int[] op, int[] x, int[] y, CharClass[] charClasses) {
+            this.op = op;
+            this.x = x;
+            this.y = y;
+            this.charClasses = charClasses;
+        }
+    }
+
+
+    /**
+     * An immutable character class based on sorted, non overlapping ranges with an ASCII bitmap.
+     */
+    static final class CharClass implements Serializable {
+        private static final long serialVersionUID = -2651780543295641232L;
+        private final long lowBits;
+        private final long highBits;
+        private final char[] ranges;
+
+
+        /**
+         * Constructor for CharClass
+         *
+         * @param ranges the sorted and merged ranges as pairs of lower and upper bound
+         */
+        CharClass(char[] ranges) {
+            this.ranges = ranges;
+
+            long low = 0;
+            long high = 0;
+            for (int c = 0; c < 128; c++) {
+                if (matchRanges((char) c)) {
+                    if (c < 64) {
+                        low |= 1L << c;
+                    } else {
+                        high |= 1L << (c - 64);
+                    }
+                }
+            }
+            this.lowBits = low;
+            this.highBits = high;
+        }
+
+
+        /**
+         * Check if the character is part of the class.
+         *
+         * @param c the character
+         * @return true if it matches
+         */
+        boolean matches(char c) {
+            if (c < 64) {
+                return (lowBits & (1L << c)) != 0;
+            } else if (c < 128) {
+                return (highBits & (1L << (c - 64))) != 0;
+            }
+
+            return matchRanges(c);
+        }
+
+
+        /**
+         * Check if the character is part of a range.
+         *
+         * @param c the character
+         * @return true if it matches
+         */
+        private boolean matchRanges(char c) {
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (c < ranges[i]) {
+                    return false;
+                }
+
+                if (c <= ranges[i + 1]) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(ranges);
+        }
+
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+
+            return Arrays.equals(ranges, ((CharClass) obj).ranges);
+        }
+    }
+
+
+    /**
+     * Builds a character class.
+     */
+    static final class CharClassBuilder {
+        private List<char[]> rangeList = new ArrayList<>();
+
+
+        /**
+         * Add a character.
+         *
+         * @param c the character
+         * @return the builder
+         */
+        CharClassBuilder add(char c) {
+            return add(c, c);
+        }
+
+
+        /**
+         * Add a range.
+         *
+         * @param lower the lower bound
+         * @param upper the upper bound
+         * @return the builder
+         */
+        CharClassBuilder add(char lower, char upper) {
+            rangeList.add(new char[] {lower, upper});
+            return this;
+        }
+
+
+        /**
+         * Add all ranges of another builder.
+         *
+         * @param builder the builder
+         * @return the builder
+         */
+        CharClassBuilder add(CharClassBuilder builder) {
+            rangeList.addAll(builder.rangeList);
+            return this;
+        }
+
+
+        /**
+         * Add the complement of another builder.
+         *
+         * @param builder the builder
+         * @return the builder
+         */
+        CharClassBuilder addComplement(CharClassBuilder builder) {
+            char[] complement = complement(builder.normalize());
+            for (int i = 0; i < complement.length; i += 2) {
+                add(complement[i], complement[i + 1]);
+            }
+            return this;
+        }
+
+
+        /**
+         * Build the character class.
+         *
+         * @param negate true to negate the class
+         * @return the character class
+         */
+        CharClass build(boolean negate) {
+            char[] ranges = normalize();
+            if (negate) {
+                ranges = complement(ranges);
+            }
+
+            return new CharClass(ranges);
+        }
+
+
+        /**
+         * Sort and merge the ranges.
+         *
+         * @return the normalized ranges
+         */
+        private char[] normalize() {
+            List<char[]> sorted = new ArrayList<>(rangeList);
+            sorted.sort((a, b) -> Character.compare(a[0], b[0]));
+
+            char[] result = new char[sorted.size() * 2];
+            int count = 0;
+            for (char[] range : sorted) {
+                if (count > 0 && range[0] <= result[count - 1] + 1) {
+                    if (range[1] > result[count - 1]) {
+                        result[count - 1] = range[1];
+                    }
+                } else {
+                    result[count++] = range[0];
+                    result[count++] = range[1];
+                }
+            }
+
+            return Arrays.copyOf(result, count);
+        }
+
+
+        /**
+         * Create the complement of normalized ranges.
+         *
+         * @param ranges the normalized ranges
+         * @return the complement
+         */
+        private static char[] complement(char[] ranges) {
+            char[] result = new char[ranges.length + 2];
+            int count = 0;
+            int next = 0;
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (ranges[i] > next) {
+                    result[count++] = (char) next;
+                    result[count++] = (char) (ranges[i] - 1);
+                }
+                next = ranges[i + 1] + 1;
+            }
+
+            if (next <= MAX_CHAR) {
+                result[count++] = (char) next;
+                result[count++] = MAX_CHAR;
+            }
+
+            return Arrays.copyOf(result, count);
+        }
+    }
+
+
+    /**
+     * Defines a node of the parsed expression.
+     */
+    private abstract static class Node {
+
+        /**
+         * Emit the instructions of the node.
+         *
+         * @param compiler the compiler
+         */
+        abstract void emit(LinearPatternCompiler compiler);
+
+
+        /**
+         * Check if the node can match the empty string.
+         *
+         * @return true if the node can match the empty string
+         */
+        abstract boolean isNullable();
+    }
+
+
+    /**
+     * A single character or character class.
+     */
+    private static final class CharNode extends Node {
+        private final CharClass charClass;
+
+
+        /**
+         * Constructor for CharNode
+         *
+         * @param charClass the character class
+         */
+        CharNode(CharClass charClass) {
+            this.charClass = charClass;
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#emit(com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler)
+         */
+        @Override
+        void emit(LinearPatternCompiler compiler) {
+            compiler.emitCharClass(CHAR, charClass);
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#isNullable()
+         */
+        @Override
+        boolean isNullable() {
+            return false;
+        }
+    }
+
+
+    /**
+     * A zero width assertion.
+     */
+    private static final class AssertionNode extends Node {
+        private final int instruction;
+
+
+        /**
+         * Constructor for AssertionNode
+         *
+         * @param instruction the instruction
+         */
+        AssertionNode(int instruction) {
+            this.instruction = instruction;
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#emit(com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler)
+         */
+        @Override
+        void emit(LinearPatternCompiler compiler) {
+            compiler.emit(instruction, 0, 0);
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#isNullable()
+         */
+        @Override
+        boolean isNullable() {
+            return true;
+        }
+    }
+
+
+    /**
+     * A concatenation of nodes.
+     */
+    private static final class ConcatenationNode extends Node {
+        private final List<Node> nodes;
+
+
+        /**
+         * Constructor for ConcatenationNode
+         *
+         * @param nodes the nodes
+         */
+        ConcatenationNode(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#emit(com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler)
+         */
+        @Override
+        void emit(LinearPatternCompiler compiler) {
+            for (Node node : nodes) {
+                node.emit(compiler);
+            }
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#isNullable()
+         */
+        @Override
+        boolean isNullable() {
+            for (Node node : nodes) {
+                if (!node.isNullable()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+
+    /**
+     * An alternation of nodes; the first alternative has the highest priority.
+     */
+    private static final class AlternationNode extends Node {
+        private final List<Node> alternatives;
+
+
+        /**
+         * Constructor for AlternationNode
+         *
+         * @param alternatives the alternatives
+         */
+        AlternationNode(List<Node> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#emit(com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler)
+         */
+        @Override
+        void emit(LinearPatternCompiler compiler) {
+            List<Integer> jumps = new ArrayList<>();
+            for (int i = 0; i < alternatives.size() - 1; i++) {
+                int split = compiler.emit(SPLIT, compiler.size + 1, 0);
+                alternatives.get(i).emit(compiler);
+                jumps.add(compiler.emit(JMP, 0, 0));
+                compiler.y[split] = compiler.size;
+            }
+
+            alternatives.get(alternatives.size() - 1).emit(compiler);
+            for (int jump : jumps) {
+                compiler.x[jump] = compiler.size;
+            }
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#isNullable()
+         */
+        @Override
+        boolean isNullable() {
+            for (Node alternative : alternatives) {
+                if (alternative.isNullable()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+
+    /**
+     * A repetition of a node.
+     */
+    private static final class RepetitionNode extends Node {
+        private final Node node;
+        private final int min;
+        private final int max;
+        private final boolean greedy;
+        private final boolean possessive;
+
+
+        /**
+         * Constructor for RepetitionNode
+         *
+         * @param node the node to repeat
+         * @param min the minimum number of repetitions
+         * @param max the maximum number of repetitions or {@link LinearPatternCompiler#UNBOUNDED}
+         * @param greedy true if the repetition is greedy
+         * @param possessive true if the repetition is possessive
+         */
+        RepetitionNode(Node node, int min, int max, boolean greedy, boolean possessive) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+            this.possessive = possessive;
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#emit(com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler)
+         */
+        @Override
+        void emit(LinearPatternCompiler compiler) {
+            for (int i = 0; i < min; i++) {
+                node.emit(compiler);
+            }
+
+            if (possessive) {
+                emitPossessive(compiler);
+            } else if (max == UNBOUNDED) {
+                int split = compiler.emit(SPLIT, 0, 0);
+                node.emit(compiler);
+                compiler.emit(JMP, split, 0);
+                setBranches(compiler, split, split + 1, compiler.size);
+            } else if (max > min) {
+                List<Integer> splits = new ArrayList<>();
+                for (int i = min; i < max; i++) {
+                    splits.add(compiler.emit(SPLIT, 0, 0));
+                    node.emit(compiler);
+                }
+
+                for (int split : splits) {
+                    setBranches(compiler, split, split + 1, compiler.size);
+                }
+            }
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Node#isNullable()
+         */
+        @Override
+        boolean isNullable() {
+            return min == 0 || node.isNullable();
+        }
+
+
+        /**
+         * Emit a possessive repetition of a single character class: the next character decides deterministically
+         * if the loop continues or ends, therefore no alternative has to be backtracked.
+         *
+         * @param compiler the compiler
+         */
+        private void emitPossessive(LinearPatternCompiler compiler) {
+            CharClass charClass = ((CharNode) node).charClass;
+            if (max == UNBOUNDED) {
+                int split = compiler.emit(SPLIT, 0, 0);
+                compiler.emitCharClass(CHAR, charClass);
+                compiler.emit(JMP, split, 0);
+                int notNext = compiler.emitCharClass(NOT_NEXT, charClass);
+                compiler.x[split] = split + 1;
+                compiler.y[split] = notNext;
+            } else if (max > min) {
+                List<Integer> splits = new ArrayList<>();
+                for (int i = min; i < max; i++) {
+                    splits.add(compiler.emit(SPLIT, 0, 0));
+                    compiler.emitCharClass(CHAR, charClass);
+                }
+
+                int jump = compiler.emit(JMP, 0, 0);
+                int notNext = compiler.emitCharClass(NOT_NEXT, charClass);
+                compiler.x[jump] = compiler.size;
+                for (int split : splits) {
+                    compiler.x[split] = split + 1;
+                    compiler.y[split] = notNext;
+                }
+            }
+        }
+
+
+        /**
+         * Set the branches of a split depending on the greediness.
+         *
+         * @param compiler the compiler
+         * @param split the split instruction
+         * @param repeat the address to repeat
+         * @param exit the address to exit
+         */
+        private void setBranches(LinearPatternCompiler compiler, int split, int repeat, int exit) {
+            if (greedy) {
+                compiler.x[split] = repeat;
+                compiler.y[split] = exit;
+            } else {
+                compiler.x[split] = exit;
+                compiler.y[split] = repeat;
+            }
+        }
+    }
+}
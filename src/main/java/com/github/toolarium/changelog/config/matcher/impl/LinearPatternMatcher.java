@@ -0,0 +1,213 @@
+/*
+ * LinearPatternMatcher.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.config.matcher.impl;
+
+import com.github.toolarium.changelog.config.matcher.IPatternMatcher;
+import com.github.toolarium.changelog.config.matcher.impl.LinearPatternCompiler.Program;
+
+
+/**
+ * Implements a pattern matcher based on an automaton (Pike VM). All alternatives are simulated in parallel, therefore
+ * the matching time is linear to the length of the text and can't explode on a bad expression. The threads are kept in
+ * priority order, which results in the same match as {@link java.util.regex.Matcher#find()} returns for the supported
+ * expressions. Expressions which can't be simulated without backtracking, including quantified sub-expressions which can
+ * match the empty string, are rejected by the constructor, see {@link LinearPatternCompiler}.
+ *
+ * @author patrick
+ */
+public class LinearPatternMatcher implements IPatternMatcher {
+    private static final long serialVersionUID = 3841409876521436610L;
+    private String expression;
+    private Program program;
+
+
+    /**
+     * Constructor for LinearPatternMatcher
+     *
+     * @param expression the regular expression
+     * @throws java.util.regex.PatternSyntaxException In case of an invalid or not supported expression
+     */
+    public LinearPatternMatcher(String expression) {
+        this.program = LinearPatternCompiler.compile(expression);
+        this.expression = expression;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.config.matcher.IPatternMatcher#getExpression()
+     */
+    @Override
+    public String getExpression() {
+        return expression;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.config.matcher.IPatternMatcher#find(java.lang.String)
+     */
+    @Override
+    public String find(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        final int length = text.length();
+        final int programSize = program.op.length;
+        ThreadList currentList = new ThreadList(programSize);
+        ThreadList nextList = new ThreadList(programSize);
+        int[] marks = new int[programSize];
+        int[] stack = new int[2 * programSize + 2];
+        int matchStart = -1;
+        int matchEnd = -1;
+
+        for (int i = 0; i <= length; i++) {
+            if (matchStart < 0) {
+                // a new thread for each start position, with the lowest priority
+                addThread(currentList, marks, stack, 0, i, i, text);
+            }
+
+            if (currentList.size == 0) {
+                if (matchStart >= 0) {
+                    break;
+                }
+                continue;
+            }
+
+            nextList.size = 0;
+            for (int t = 0; t < currentList.size; t++) {
+                int pc = currentList.pc[t];
+                if (program.op[pc] == LinearPatternCompiler.MATCH) {
+                    // all remaining threads have a lower priority
+                    matchStart = currentList.start[t];
+                    matchEnd = i;
+                    break;
+                }
+
+                if (i < length && program.charClasses[program.x[pc]].matches(text.charAt(i))) {
+                    addThread(nextList, marks, stack, pc + 1, currentList.start[t], i + 1, text);
+                }
+            }
+
+            ThreadList swap = currentList;
+            currentList = nextList;
+            nextList = swap;
+        }
+
+        if (matchStart < 0) {
+            return null;
+        }
+
+        return text.substring(matchStart, matchEnd);
+    }
+
+
+    /**
+     * Add a thread and follow all instructions which don't consume a character in priority order.
+     *
+     * @param list the thread list
+     * @param marks the marks to detect already added instructions of the position
+     * @param stack the stack
+     * @param startPc the instruction
+     * @param start the start of the match
+     * @param position the current position in the text
+     * @param text the text
+     */
+    private void addThread(ThreadList list, int[] marks, int[] stack, int startPc, int start, int position, String text) {
+        final int mark = position + 1;
+        int top = 0;
+        stack[top++] = startPc;
+        while (top > 0) {
+            int pc = stack[--top];
+            if (marks[pc] == mark) {
+                continue;
+            }
+            marks[pc] = mark;
+
+            switch (program.op[pc]) {
+                case LinearPatternCompiler.JMP:
+                    stack[top++] = program.x[pc];
+                    break;
+                case LinearPatternCompiler.SPLIT:
+                    stack[top++] = program.y[pc];
+                    stack[top++] = program.x[pc];
+                    break;
+                case LinearPatternCompiler.ASSERT_BEGIN:
+                    if (position == 0) {
+                        stack[top++] = pc + 1;
+                    }
+                    break;
+                case LinearPatternCompiler.ASSERT_END:
+                    if (isEnd(text, position)) {
+                        stack[top++] = pc + 1;
+                    }
+                    break;
+                case LinearPatternCompiler.NOT_NEXT:
+                    if (position >= text.length() || !program.charClasses[program.x[pc]].matches(text.charAt(position))) {
+                        stack[top++] = pc + 1;
+                    }
+                    break;
+                default:
+                    list.pc[list.size] = pc;
+                    list.start[list.size] = start;
+                    list.size++;
+                    break;
+            }
+        }
+    }
+
+
+    /**
+     * Check if the position is at the end of the input or in front of the final line terminator.
+     *
+     * @param text the text
+     * @param position the position
+     * @return true if it is the end
+     */
+    private boolean isEnd(String text, int position) {
+        int length = text.length();
+        if (position == length) {
+            return true;
+        }
+
+        if (position == length - 1) {
+            char c = text.charAt(position);
+            return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+        }
+
+        return position == length - 2 && text.charAt(position) == '\r' && text.charAt(position + 1) == '\n';
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+
+    /**
+     * The thread list of a position.
+     */
+    private static final class ThreadList {
+        private final int[] pc;
+        private final int[] start;
+        private int size;
+
+
+        /**
+         * Constructor for ThreadList
+         *
+         * @param capacity the capacity
+         */
+        ThreadList(int capacity) {
+            pc = new int[capacity];
+            start = new int[capacity];
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * RegexPatternMatcher.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.config.matcher.impl;
+
+import com.github.toolarium.changelog.config.matcher.IPatternMatcher;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * Implements the pattern matcher based on the backtracking {@link java.util.regex.Pattern}.
+ * 
+ * @author patrick
+ */
+public class RegexPatternMatcher implements IPatternMatcher {
+    private static final long serialVersionUID = -6023467340172436021L;
+    private Pattern pattern;
+
+    
+    /**
+     * Constructor for RegexPatternMatcher
+     * 
+     * @param expression the regular expression
+     * @throws java.util.regex.PatternSyntaxException In case of an invalid expression
+     */
+    public RegexPatternMatcher(String expression) {
+        this.pattern = Pattern.compile(expression);
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.config.matcher.IPatternMatcher#getExpression()
+     */
+    @Override
+    public String getExpression() {
+        return pattern.pattern();
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.config.matcher.IPatternMatcher#find(java.lang.String)
+     */
+    @Override
+    public String find(String text) {
+        if (text == null) {
+            return null;
+        }
+        
+        Matcher matcher = pattern.matcher(text);
+        if (matcher.find()) {
+            return matcher.group();
+        }
+
+        return null;
+    }
+
+    
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return pattern.pattern();
+    }
+}
@@ -9,6 +9,7 @@ import com.github.toolarium.changelog.ChangelogFactory;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -26,8 +27,9 @@ public class Changelog implements Serializable {
     private String projectName = "";
     private String description = "";
     private List<ChangelogEntry> entries;
+    private transient volatile SortedEntries sortedEntries;
+
 
-    
     /**
      * Create a new change-log
      *
@@ -37,7 +39,7 @@ public class Changelog implements Serializable {
     public Changelog(String projectName, String description) {
         this(projectName, description, new ArrayList<>());
     }
-    
+
     /**
      * Create a new change-log
      *
@@ -49,6 +51,7 @@ public class Changelog implements Serializable {
         this.projectName = projectName;
         this.description = description;
         this.entries = entries;
+        this.sortedEntries = null;
     }
 
     
@@ -85,6 +88,54 @@ public class Changelog implements Serializable {
     }
 
 
+    /**
+     * Check if the entries are in the order of the change-log, the newest entry first, e.g. a parsed change-log in the
+     * right order is sorted. It is checked by one linear pass.
+     *
+     * @return true if the entries are sorted
+     */
+    public boolean isSorted() {
+        if (entries == null) {
+            return true;
+        }
+
+        for (int i = 1; i < entries.size(); i++) {
+            if (entries.get(i - 1).compareTo(entries.get(i)) > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * The change-log entries in the order of the change-log, the newest entry first; the same order as
+     * {@link java.util.Collections#sort(List)} results in. In case the entries are not sorted the order is kept and
+     * checked by one linear pass on the next call, therefore a changed version of an entry or a changed list of entries
+     * is sorted again.
+     *
+     * @return the sorted entries
+     */
+    public List<ChangelogEntry> getSortedEntries() {
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+
+        if (isSorted()) {
+            return Collections.unmodifiableList(entries);
+        }
+
+        SortedEntries result = sortedEntries;
+        if (result == null || !result.isValid(entries)) {
+            result = new SortedEntries(entries);
+            sortedEntries = result;
+        }
+
+        return result.sortedList;
+    }
+
+
     /**
      * Search a version entry.
      *
@@ -138,7 +189,7 @@ public class Changelog implements Serializable {
             ChangelogReleaseVersion releaseVersion = ChangelogFactory.getInstance().createChangelogParser().parseVersion(version);
             changelogEntry = new ChangelogEntry(releaseVersion, null);
             entries.add(0, changelogEntry);
-        } 
+        }
 
         if (inputReleaseDate != null) {
             LocalDate releaseDate = LocalDate.parse(inputReleaseDate);
@@ -160,6 +211,7 @@ public class Changelog implements Serializable {
         if (entries == null) {
             entries = new ArrayList<>();
         }
+
         entries.add(entry);
     }
 
@@ -234,4 +286,67 @@ public class Changelog implements Serializable {
     public String toString() {
         return "Changelog [projectName=" + projectName + ", description=" + description + ", entries=" + entries + "]";
     }
+
+
+    /**
+     * The sorted entries with the order of the entries they are sorted from. The order is still valid as long as the
+     * entries are the same and the sorted entries are in the order of a stable sort.
+     */
+    private static final class SortedEntries {
+        private final ChangelogEntry[] entries;
+        private final int[] order;
+        private final List<ChangelogEntry> sortedList;
+
+
+        /**
+         * Constructor for SortedEntries
+         *
+         * @param entries the entries to sort
+         */
+        SortedEntries(List<ChangelogEntry> entries) {
+            this.entries = entries.toArray(new ChangelogEntry[entries.size()]);
+            Integer[] indexes = new Integer[this.entries.length];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = i;
+            }
+
+            // stable sort, the same order as Collections.sort
+            Arrays.sort(indexes, (a, b) -> this.entries[a].compareTo(this.entries[b]));
+            this.order = new int[indexes.length];
+            ChangelogEntry[] sortedEntries = new ChangelogEntry[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                order[i] = indexes[i];
+                sortedEntries[i] = this.entries[indexes[i]];
+            }
+            this.sortedList = Collections.unmodifiableList(Arrays.asList(sortedEntries));
+        }
+
+
+        /**
+         * Check if the order is still valid for the entries
+         *
+         * @param currentEntries the current entries
+         * @return true if the entries are the same and still in this order
+         */
+        boolean isValid(List<ChangelogEntry> currentEntries) {
+            if (currentEntries.size() != entries.length) {
+                return false;
+            }
+
+            for (int i = 0; i < entries.length; i++) {
+                if (currentEntries.get(i) != entries[i]) {
+                    return false;
+                }
+            }
+
+            for (int i = 1; i < order.length; i++) {
+                int compare = entries[order[i - 1]].compareTo(entries[order[i]]);
+                if (compare > 0 || (compare == 0 && order[i - 1] > order[i])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
 }
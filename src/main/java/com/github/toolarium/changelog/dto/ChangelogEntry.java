@@ -87,6 +87,35 @@ public class ChangelogEntry implements Comparable<ChangelogEntry>, Serializable
         setReleaseDate(releaseDate);
     }
 
+
+    /**
+     * Constructor for ChangelogEntry, creates a deep copy of the given entry.
+     *
+     * @param changelogEntry the entry to copy
+     */
+    public ChangelogEntry(ChangelogEntry changelogEntry) {
+        this.releaseVersion = changelogEntry.releaseVersion;
+        this.releaseLink = changelogEntry.releaseLink;
+        this.hasBracketsAroundVersion = changelogEntry.hasBracketsAroundVersion;
+        this.releaseDate = changelogEntry.releaseDate;
+        this.releaseDescription = changelogEntry.releaseDescription;
+        this.releaseInfo = changelogEntry.releaseInfo;
+        this.isReleased = changelogEntry.isReleased;
+        this.wasYanked = changelogEntry.wasYanked;
+
+        if (changelogEntry.sectionList != null) {
+            this.sectionList = new ArrayList<ChangelogSection>(changelogEntry.sectionList.size());
+            for (ChangelogSection section : changelogEntry.sectionList) {
+                List<String> changeCommentList = null;
+                if (section.getChangeCommentList() != null) {
+                    changeCommentList = new ArrayList<String>(section.getChangeCommentList());
+                }
+
+                this.sectionList.add(new ChangelogSection(section.getChangeType(), changeCommentList));
+            }
+        }
+    }
+
     
     /**
      * Get the release version
@@ -0,0 +1,163 @@
+/*
+ * ChangelogError.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.dto;
+
+import com.github.toolarium.changelog.dto.ChangelogErrorCode.Severity;
+import com.github.toolarium.changelog.dto.ChangelogErrorList.ErrorType;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * Defines a structured change-log error. The message is only rendered when it is read. Two errors are equal if they have
+ * the same code, error type, release version and arguments; the source offset is an additional information only.
+ *
+ * @author patrick
+ */
+public class ChangelogError implements Serializable {
+    /** The offset in case the source position is unknown */
+    public static final int UNKNOWN_OFFSET = -1;
+    private static final long serialVersionUID = 7713206734096342875L;
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private final ChangelogErrorCode errorCode;
+    private final ErrorType errorType;
+    private final ChangelogReleaseVersion releaseVersion;
+    private final int offset;
+    private final Object[] arguments;
+
+
+    /**
+     * Constructor for ChangelogError
+     *
+     * @param errorCode the error code
+     * @param errorType the error type of a general error or null
+     * @param releaseVersion the release version of a release error or null
+     * @param offset the offset in the parsed content or {@link #UNKNOWN_OFFSET}
+     * @param arguments the arguments of the message
+     */
+    public ChangelogError(ChangelogErrorCode errorCode, ErrorType errorType, ChangelogReleaseVersion releaseVersion, int offset, Object... arguments) {
+        this.errorCode = errorCode;
+        this.errorType = errorType;
+        this.releaseVersion = releaseVersion;
+        this.offset = offset;
+        if (arguments == null) {
+            this.arguments = NO_ARGUMENTS;
+        } else {
+            this.arguments = arguments;
+        }
+    }
+
+
+    /**
+     * Get the error code
+     *
+     * @return the error code
+     */
+    public ChangelogErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+
+    /**
+     * Get the severity
+     *
+     * @return the severity
+     */
+    public Severity getSeverity() {
+        return errorCode.getSeverity();
+    }
+
+
+    /**
+     * Get the error type
+     *
+     * @return the error type of a general error or null
+     */
+    public ErrorType getErrorType() {
+        return errorType;
+    }
+
+
+    /**
+     * Get the release version
+     *
+     * @return the release version of a release error or null
+     */
+    public ChangelogReleaseVersion getReleaseVersion() {
+        return releaseVersion;
+    }
+
+
+    /**
+     * Get the offset in the parsed content
+     *
+     * @return the offset or {@link #UNKNOWN_OFFSET}
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+
+    /**
+     * Get the arguments of the message
+     *
+     * @return the arguments
+     */
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+
+
+    /**
+     * Render the message
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return errorCode.format(arguments);
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(errorCode, errorType, releaseVersion) * 31 + Arrays.hashCode(arguments);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null) {
+            return false;
+        }
+
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+
+        ChangelogError other = (ChangelogError) obj;
+        return errorCode == other.errorCode && errorType == other.errorType && Objects.equals(releaseVersion, other.releaseVersion) && Arrays.equals(arguments, other.arguments);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogError [errorCode=" + errorCode + ", errorType=" + errorType + ", releaseVersion=" + releaseVersion + ", offset=" + offset + ", message=" + getMessage() + "]";
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * ChangelogErrorCode.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.dto;
+
+
+/**
+ * Defines the change-log error codes. Each code has a message template with the placeholders <code>{0}</code>, <code>{1}</code>...
+ * which are replaced by the error arguments when the message is rendered.
+ *
+ * @author patrick
+ */
+public enum ChangelogErrorCode {
+    /** A free text error, the first argument is the message */
+    GENERIC("{0}"),
+
+    /** Parser: the change-log name is empty */
+    INVALID_EMPTY_CHANGELOG_NAME("Invalid empty changelog name!"),
+
+    /** Parser: the release date has an unexpected format */
+    INVALID_RELEASE_DATE_FORMAT("Invalid relase date format, e.g. [{0}]!", Severity.WARNING),
+
+    /** Parser: the release date is invalid */
+    INVALID_RELEASE_DATE("Invalid relase date [{0}]!"),
+
+    /** Parser: mixed separator characters in the version header */
+    MIXED_HEADER_SEPARATOR("Found mixed separator character in version section {0} and {1}."),
+
+    /** Parser: the release link is invalid */
+    INVALID_RELEASE_LINK("Invalid relase link [{0}]: {1}!"),
+
+    /** Parser: the release version is invalid */
+    INVALID_RELEASE_VERSION("Invalid relase version [{0}]!"),
+
+    /** Parser: unknown change type */
+    INVALID_CHANGE_TYPE("Invalid changelog change type: [{0}]!"),
+
+    /** Parser: the change type don't match exactly */
+    CHANGE_TYPE_MISMATCH("Don't match exactly: [{0}]!"),
+
+    /** Parser: the comment list is indented */
+    SPACE_BEFORE_COMMENT_LIST("Space before comment list in section type {0}!"),
+
+    /** The comment list of a section is empty */
+    EMPTY_COMMENT_LIST("Empty comment list in section type {0}!"),
+
+    /** Validator: the change-log is missing */
+    INVALID_CHANGELOG("Invalid changelog!"),
+
+    /** Validator: the reference version is invalid */
+    INVALID_REFERENCE_VERSION("Invalid reference version [{0}]!"),
+
+    /** Validator: the project name don't correspond to the reference */
+    PROJECT_NAME_MISMATCH("The name don't correspond to [{0}], current [{1}]!"),
+
+    /** Validator: the description don't correspond to the reference */
+    DESCRIPTION_MISMATCH("The don't correspond to [{0}]!"),
+
+    /** Validator: the description contains a link */
+    LINK_IN_DESCRIPTION("Description has a link comment which is not allowed: [{0}]!"),
+
+    /** Validator: the description contains an id */
+    ID_IN_DESCRIPTION("Description has an id in comment which is not allowed: [{0}]!"),
+
+    /** Validator: the description don't end with a punctuation mark */
+    DESCRIPTION_PUNCTUATION("Description text don't end with a punction mark!"),
+
+    /** Validator: there are no entries */
+    MISSING_ENTRIES("Missing changelog entries!"),
+
+    /** Validator: the unreleased section is not supported */
+    UNRELEASED_NOT_SUPPORTED("The unreleased section is not supported!"),
+
+    /** Validator: a newer version than the reference version was found */
+    NEWER_VERSION_FOUND("Newer version in than [{0}] in changelog found!"),
+
+    /** Validator: the reference version is not the first entry */
+    VERSION_NOT_FIRST("The version [{0}] should be referenced as first entry."),
+
+    /** Validator: the entries are not sorted */
+    INVALID_SORT_ORDER("Invalid sort order!"),
+
+    /** Validator: the reference version was not found */
+    VERSION_NOT_FOUND("Could not find version {0}!"),
+
+    /** Validator: the reference version was found more than once */
+    DUPLICATE_VERSION("Found {0} times the same version {1}!"),
+
+    /** Validator: an entry is empty */
+    INVALID_EMPTY_ENTRY("Invalid empty entry!"),
+
+    /** Validator: the release link is not supported */
+    RELEASE_LINK_NOT_SUPPORTED("Release link is not supported [{0}]!"),
+
+    /** Validator: the release information is not supported */
+    RELEASE_INFO_NOT_SUPPORTED("Additional release information is not supported [{0}]!"),
+
+    /** Validator: the entry has no section */
+    EMPTY_SECTION("Invalid empty section!"),
+
+    /** Validator: a section type is used more than once */
+    DUPLICATE_SECTION("Duplicate section type {0}!"),
+
+    /** Validator: a comment contains a link */
+    LINK_IN_COMMENT("{0} has a link comment which is not allowed: [{1}]!"),
+
+    /** Validator: a comment don't end with a punctuation mark */
+    COMMENT_PUNCTUATION("{0} text don't end with a punction mark!"),
+
+    /** Validator: a comment is empty */
+    EMPTY_COMMENT("Empty comment in section type {0}!"),
+
+    /** Validator: a comment contains an id */
+    ID_IN_COMMENT("{0} has an id in comment which is not allowed: [{1}]!"),
+
+    /** Validator: a comment is not a sentence */
+    INVALID_SENTENCE("Invalid sentence in section type {0}: [{1}]!");
+
+    private final String messageTemplate;
+    private final Severity severity;
+
+
+    /**
+     * Constructor for ChangelogErrorCode
+     *
+     * @param messageTemplate the message template
+     */
+    ChangelogErrorCode(String messageTemplate) {
+        this(messageTemplate, Severity.ERROR);
+    }
+
+
+    /**
+     * Constructor for ChangelogErrorCode
+     *
+     * @param messageTemplate the message template
+     * @param severity the severity
+     */
+    ChangelogErrorCode(String messageTemplate, Severity severity) {
+        this.messageTemplate = messageTemplate;
+        this.severity = severity;
+    }
+
+
+    /**
+     * Get the message template
+     *
+     * @return the message template
+     */
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+
+    /**
+     * Get the severity
+     *
+     * @return the severity
+     */
+    public Severity getSeverity() {
+        return severity;
+    }
+
+
+    /**
+     * Render the message with the given arguments.
+     *
+     * @param arguments the arguments
+     * @return the rendered message
+     */
+    public String format(Object... arguments) {
+        StringBuilder result = new StringBuilder(messageTemplate.length() + 32);
+        int length = messageTemplate.length();
+        for (int i = 0; i < length; i++) {
+            char c = messageTemplate.charAt(i);
+            if (c == '{' && i + 2 < length && messageTemplate.charAt(i + 2) == '}' && Character.isDigit(messageTemplate.charAt(i + 1))) {
+                int idx = messageTemplate.charAt(i + 1) - '0';
+                if (arguments != null && idx < arguments.length) {
+                    result.append(arguments[idx]);
+                }
+                i += 2;
+            } else {
+                result.append(c);
+            }
+        }
+
+        return result.toString();
+    }
+
+
+    /**
+     * The severity of an error
+     *
+     * @author patrick
+     */
+    public enum Severity {
+        WARNING,
+        ERROR;
+    }
+}
@@ -8,20 +8,24 @@ package com.github.toolarium.changelog.dto;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
- * The change-log error list. It represents general errors but also version related errors.
+ * The change-log error list. It represents general errors but also version related errors. The errors are kept as structured 
+ * {@link ChangelogError}s, the messages are only rendered when they are read.
  * 
  * @author patrick
  */
 public class ChangelogErrorList implements Serializable {
     private static final long serialVersionUID = -5548185055661633916L;
-    private Map<ErrorType, List<String>> generalErrors;
-    private Map<ChangelogReleaseVersion, List<String>> releaseErrors;
+    private Map<ErrorType, List<ChangelogError>> generalErrors;
+    private Map<ChangelogReleaseVersion, List<ChangelogError>> releaseErrors;
+    private Set<ChangelogError> releaseErrorSet;
 
     
     /**
@@ -30,6 +34,7 @@ public class ChangelogErrorList implements Serializable {
     public ChangelogErrorList() {
         generalErrors = new LinkedHashMap<>();
         releaseErrors = new LinkedHashMap<>();
+        releaseErrorSet = new HashSet<>();
     }
 
     
@@ -41,17 +46,17 @@ public class ChangelogErrorList implements Serializable {
     public void add(ChangelogErrorList changelogErrorList) {
         
         if (changelogErrorList.hasGeneralErrors()) {
-            for (Map.Entry<ErrorType, List<String>> e : changelogErrorList.generalErrors.entrySet()) {
-                for (String error : e.getValue()) {
-                    addGeneralError(e.getKey(), error);
+            for (Map.Entry<ErrorType, List<ChangelogError>> e : changelogErrorList.generalErrors.entrySet()) {
+                for (ChangelogError error : e.getValue()) {
+                    addError(error);
                 }
             }
         }
         
         if (changelogErrorList.hasReleaseErrors()) {
-            for (Map.Entry<ChangelogReleaseVersion, List<String>> e : changelogErrorList.releaseErrors.entrySet()) {
-                for (String error : e.getValue()) {
-                    addReleaseError(e.getKey(), error);
+            for (Map.Entry<ChangelogReleaseVersion, List<ChangelogError>> e : changelogErrorList.releaseErrors.entrySet()) {
+                for (ChangelogError error : e.getValue()) {
+                    addError(error);
                 }
             }
         }
@@ -69,14 +74,33 @@ public class ChangelogErrorList implements Serializable {
         if (error == null || error.isBlank()) {
             return;
         }
-            
-        List<String> errorList = generalErrors.get(errorType);
-        if (errorList == null) {
-            errorList = new ArrayList<>();
-            generalErrors.put(errorType, errorList);
-        }
-        
-        errorList.add(error);
+
+        addGeneralError(errorType, ChangelogError.UNKNOWN_OFFSET, ChangelogErrorCode.GENERIC, error);
+    }
+
+    
+    /**
+     * Adds a general error. The message is rendered from the error code and the arguments when it is read.
+     *
+     * @param errorType the error type
+     * @param errorCode the error code
+     * @param arguments the arguments of the message
+     */
+    public void addGeneralError(ErrorType errorType, ChangelogErrorCode errorCode, Object... arguments) {
+        addGeneralError(errorType, ChangelogError.UNKNOWN_OFFSET, errorCode, arguments);
+    }
+
+    
+    /**
+     * Adds a general error. The message is rendered from the error code and the arguments when it is read.
+     *
+     * @param errorType the error type
+     * @param offset the offset in the parsed content or {@link ChangelogError#UNKNOWN_OFFSET}
+     * @param errorCode the error code
+     * @param arguments the arguments of the message
+     */
+    public void addGeneralError(ErrorType errorType, int offset, ChangelogErrorCode errorCode, Object... arguments) {
+        addError(new ChangelogError(errorCode, errorType, null, offset, arguments));
     }
 
     
@@ -90,19 +114,58 @@ public class ChangelogErrorList implements Serializable {
         if (error == null || error.isBlank()) {
             return;
         }
-         
+        
+        addReleaseError(releaseVersion, ChangelogError.UNKNOWN_OFFSET, ChangelogErrorCode.GENERIC, error);
+    }
+
+    
+    /**
+     * Adds an error which belongs to a version. The message is rendered from the error code and the arguments when it is read.
+     *
+     * @param releaseVersion the release version
+     * @param errorCode the error code
+     * @param arguments the arguments of the message
+     */
+    public void addReleaseError(ChangelogReleaseVersion releaseVersion, ChangelogErrorCode errorCode, Object... arguments) {
+        addReleaseError(releaseVersion, ChangelogError.UNKNOWN_OFFSET, errorCode, arguments);
+    }
+
+    
+    /**
+     * Adds an error which belongs to a version. The message is rendered from the error code and the arguments when it is read.
+     *
+     * @param releaseVersion the release version
+     * @param offset the offset in the parsed content or {@link ChangelogError#UNKNOWN_OFFSET}
+     * @param errorCode the error code
+     * @param arguments the arguments of the message
+     */
+    public void addReleaseError(ChangelogReleaseVersion releaseVersion, int offset, ChangelogErrorCode errorCode, Object... arguments) {
         if (releaseVersion != null) {
-            List<String> errorList = releaseErrors.get(releaseVersion);
-            if (errorList == null) {
-                errorList = new ArrayList<>();
-                releaseErrors.put(releaseVersion, errorList);
-            }
-            
-            if (!errorList.contains(error)) {
-                errorList.add(error);
+            addError(new ChangelogError(errorCode, null, releaseVersion, offset, arguments));
+        } else {
+            addGeneralError(ErrorType.HEADER, offset, errorCode, arguments);
+        }
+    }
+
+    
+    /**
+     * Adds an error. Errors which belong to a version are only added once.
+     *
+     * @param error the error
+     */
+    public void addError(ChangelogError error) {
+        if (error == null) {
+            return;
+        }
+        
+        if (error.getReleaseVersion() != null) {
+            if (releaseErrorSet.add(error)) {
+                releaseErrors.computeIfAbsent(error.getReleaseVersion(), k -> new ArrayList<>()).add(error);
             }
+        } else if (error.getErrorType() == null) {
+            addGeneralError(ErrorType.HEADER, error.getOffset(), error.getErrorCode(), error.getArguments());
         } else {
-            addGeneralError(ErrorType.HEADER, error);
+            generalErrors.computeIfAbsent(error.getErrorType(), k -> new ArrayList<>()).add(error);
         }
     }
 
@@ -125,11 +188,8 @@ public class ChangelogErrorList implements Serializable {
     public long countGeneralErrors() {
         long result = 0;
         if (hasGeneralErrors()) {
-            for (ErrorType errorType : ErrorType.values()) {
-                List<String> errorList = getGeneralErrors().get(errorType);
-                if (errorList != null && !errorList.isEmpty()) {
-                    result += errorList.size();
-                }
+            for (List<ChangelogError> errorList : generalErrors.values()) {
+                result += errorList.size();
             }
         }
         
@@ -138,7 +198,7 @@ public class ChangelogErrorList implements Serializable {
 
     
     /**
-     * Get the general errors
+     * Get the general errors with the rendered messages
      *
      * @return the general errors
      */
@@ -146,6 +206,21 @@ public class ChangelogErrorList implements Serializable {
         if (generalErrors == null) {
             return null;
         }
+        
+        return render(generalErrors);
+    }
+
+    
+    /**
+     * Get the structured general errors
+     *
+     * @return the general errors
+     */
+    public Map<ErrorType, List<ChangelogError>> getGeneralChangelogErrors() {
+        if (generalErrors == null) {
+            return null;
+        }
+        
         return Collections.unmodifiableMap(generalErrors);
     }
 
@@ -168,10 +243,8 @@ public class ChangelogErrorList implements Serializable {
     public long countReleaseErrors() {
         long result = 0;
         if (hasReleaseErrors()) {
-            for (Map.Entry<ChangelogReleaseVersion, List<String>> e : getReleaseErrors().entrySet()) {
-                if (e.getValue() != null && !e.getValue().isEmpty()) {
-                    result += e.getValue().size();
-                }
+            for (List<ChangelogError> errorList : releaseErrors.values()) {
+                result += errorList.size();
             }
         }
         
@@ -180,7 +253,7 @@ public class ChangelogErrorList implements Serializable {
 
     
     /**
-     * Get the release errors
+     * Get the release errors with the rendered messages
      *
      * @return the release errors
      */
@@ -188,10 +261,75 @@ public class ChangelogErrorList implements Serializable {
         if (releaseErrors == null) {
             return null;
         }
+        
+        return render(releaseErrors);
+    }
+
+    
+    /**
+     * Get the structured release errors
+     *
+     * @return the release errors
+     */
+    public Map<ChangelogReleaseVersion, List<ChangelogError>> getReleaseChangelogErrors() {
+        if (releaseErrors == null) {
+            return null;
+        }
+        
         return Collections.unmodifiableMap(releaseErrors);
     }
 
     
+    /**
+     * Get all structured errors: first the general errors, then the release errors.
+     *
+     * @return the errors
+     */
+    public List<ChangelogError> getErrors() {
+        List<ChangelogError> result = new ArrayList<>();
+        for (ErrorType errorType : ErrorType.values()) {
+            List<ChangelogError> errorList = generalErrors.get(errorType);
+            if (errorList != null) {
+                result.addAll(errorList);
+            }
+        }
+        
+        for (List<ChangelogError> errorList : releaseErrors.values()) {
+            result.addAll(errorList);
+        }
+        
+        return result;
+    }
+
+    
+    /**
+     * Count the errors of an error code without rendering any message.
+     *
+     * @param errorCode the error code
+     * @return the number of errors with the given code
+     */
+    public long countErrors(ChangelogErrorCode errorCode) {
+        long result = 0;
+        for (List<ChangelogError> errorList : generalErrors.values()) {
+            for (ChangelogError error : errorList) {
+                if (error.getErrorCode() == errorCode) {
+                    result++;
+                }
+            }
+        }
+        
+        for (List<ChangelogError> errorList : releaseErrors.values()) {
+            for (ChangelogError error : errorList) {
+                if (error.getErrorCode() == errorCode) {
+                    result++;
+                }
+            }
+        }
+        
+        return result;
+    }
+
+    
     /**
      * Check if there a are no errors
      *
@@ -217,7 +355,7 @@ public class ChangelogErrorList implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(generalErrors, releaseErrors);
+        return Objects.hash(getGeneralErrors(), getReleaseErrors());
     }
 
 
@@ -239,7 +377,7 @@ public class ChangelogErrorList implements Serializable {
         }
         
         ChangelogErrorList other = (ChangelogErrorList) obj;
-        return Objects.equals(generalErrors, other.generalErrors) && Objects.equals(releaseErrors, other.releaseErrors);
+        return Objects.equals(getGeneralErrors(), other.getGeneralErrors()) && Objects.equals(getReleaseErrors(), other.getReleaseErrors());
     }
 
 
@@ -280,16 +418,16 @@ public class ChangelogErrorList implements Serializable {
         
         if (hasGeneralErrors()) {
             for (ErrorType errorType : ErrorType.values()) {
-                List<String> errorList = getGeneralErrors().get(errorType);
+                List<ChangelogError> errorList = generalErrors.get(errorType);
                 if (errorList != null && !errorList.isEmpty()) {
-                    getGeneralErrors().get(errorType).stream().forEach((comment) -> result.append(indentation + errorType + ": " + comment + "\n"));
+                    errorList.stream().forEach((error) -> result.append(indentation).append(errorType).append(": ").append(error.getMessage()).append('\n'));
                 }
             }
         }
     
         if (hasReleaseErrors()) {
-            for (Map.Entry<ChangelogReleaseVersion, List<String>> e : getReleaseErrors().entrySet()) {
-                e.getValue().stream().forEach((comment) -> result.append(indentation + e.getKey() + ": " + comment + "\n"));
+            for (Map.Entry<ChangelogReleaseVersion, List<ChangelogError>> e : releaseErrors.entrySet()) {
+                e.getValue().stream().forEach((error) -> result.append(indentation).append(e.getKey()).append(": ").append(error.getMessage()).append('\n'));
             }
         }
     
@@ -297,6 +435,28 @@ public class ChangelogErrorList implements Serializable {
     }
 
     
+    /**
+     * Render the messages of the errors.
+     *
+     * @param <K> the key type
+     * @param errors the errors
+     * @return the rendered messages
+     */
+    private static <K> Map<K, List<String>> render(Map<K, List<ChangelogError>> errors) {
+        Map<K, List<String>> result = new LinkedHashMap<>();
+        for (Map.Entry<K, List<ChangelogError>> e : errors.entrySet()) {
+            List<String> messageList = new ArrayList<>(e.getValue().size());
+            for (ChangelogError error : e.getValue()) {
+                messageList.add(error.getMessage());
+            }
+            
+            result.put(e.getKey(), Collections.unmodifiableList(messageList));
+        }
+        
+        return Collections.unmodifiableMap(result);
+    }
+
+    
     /**
      * The error types
      * 
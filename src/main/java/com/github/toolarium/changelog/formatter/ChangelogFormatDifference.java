@@ -0,0 +1,134 @@
+/*
+ * ChangelogFormatDifference.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter;
+
+import java.io.Serializable;
+
+
+/**
+ * Defines the first difference between a change-log source and its canonical format.
+ *
+ * @author patrick
+ */
+public class ChangelogFormatDifference implements Serializable {
+    /** The character in case the end of the text was reached */
+    public static final int END_OF_TEXT = -1;
+    private static final long serialVersionUID = 5106622733871094326L;
+    private final int offset;
+    private final int line;
+    private final int column;
+    private final int expected;
+    private final int found;
+
+
+    /**
+     * Constructor for ChangelogFormatDifference
+     *
+     * @param offset the offset in the source
+     * @param line the line, starting with 1
+     * @param column the column, starting with 1
+     * @param expected the expected character of the canonical format or {@link #END_OF_TEXT}
+     * @param found the character of the source or {@link #END_OF_TEXT}
+     */
+    public ChangelogFormatDifference(int offset, int line, int column, int expected, int found) {
+        this.offset = offset;
+        this.line = line;
+        this.column = column;
+        this.expected = expected;
+        this.found = found;
+    }
+
+
+    /**
+     * Get the offset in the source
+     *
+     * @return the offset
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+
+    /**
+     * Get the line
+     *
+     * @return the line, starting with 1
+     */
+    public int getLine() {
+        return line;
+    }
+
+
+    /**
+     * Get the column
+     *
+     * @return the column, starting with 1
+     */
+    public int getColumn() {
+        return column;
+    }
+
+
+    /**
+     * Get the expected character of the canonical format
+     *
+     * @return the expected character or {@link #END_OF_TEXT}
+     */
+    public int getExpected() {
+        return expected;
+    }
+
+
+    /**
+     * Get the character of the source
+     *
+     * @return the character or {@link #END_OF_TEXT}
+     */
+    public int getFound() {
+        return found;
+    }
+
+
+    /**
+     * Get the message of the difference
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return "Line " + line + ", column " + column + ": expected " + describe(expected) + " but found " + describe(found) + ".";
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogFormatDifference [offset=" + offset + ", line=" + line + ", column=" + column + ", expected=" + describe(expected) + ", found=" + describe(found) + "]";
+    }
+
+
+    /**
+     * Describe a character
+     *
+     * @param c the character
+     * @return the description
+     */
+    private static String describe(int c) {
+        switch (c) {
+            case END_OF_TEXT:
+                return "end of text";
+            case '\n':
+                return "[\\n]";
+            case '\r':
+                return "[\\r]";
+            case '\t':
+                return "[\\t]";
+            default:
+                return "[" + (char) c + "]";
+        }
+    }
+}
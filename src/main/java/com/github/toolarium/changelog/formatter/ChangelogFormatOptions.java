@@ -0,0 +1,219 @@
+/*
+ * ChangelogFormatOptions.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter;
+
+import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Defines the options to format only a part of a change-log, e.g. for release notes: the newest entries, a version range
+ * or only the unreleased entry. The options can be combined, the filters are applied before the number of entries is limited.
+ * 
+ * @author patrick
+ */
+public class ChangelogFormatOptions implements Serializable {
+    /** All entries */
+    public static final int ALL_ENTRIES = -1;
+    private static final long serialVersionUID = -2716531906254419327L;
+    private boolean includeHeader;
+    private int maxEntries;
+    private ChangelogReleaseVersion fromVersion;
+    private ChangelogReleaseVersion toVersion;
+    private boolean unreleasedOnly;
+    private boolean parallel;
+
+    
+    /**
+     * Constructor for ChangelogFormatOptions
+     */
+    public ChangelogFormatOptions() {
+        includeHeader = true;
+        maxEntries = ALL_ENTRIES;
+        fromVersion = null;
+        toVersion = null;
+        unreleasedOnly = false;
+        parallel = false;
+    }
+
+    
+    /**
+     * Check if the header with project name and description is formatted
+     * 
+     * @return true if the header is formatted
+     */
+    public boolean isIncludeHeader() {
+        return includeHeader;
+    }
+
+    
+    /**
+     * Set if the header with project name and description is formatted
+     * 
+     * @param includeHeader true to format the header
+     */
+    public void setIncludeHeader(boolean includeHeader) {
+        this.includeHeader = includeHeader;
+    }
+
+    
+    /**
+     * Get the max number of entries
+     * 
+     * @return the max number of newest entries or {@link #ALL_ENTRIES}
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    
+    /**
+     * Set the max number of entries, only the newest entries are formatted.
+     * 
+     * @param maxEntries the max number of newest entries or {@link #ALL_ENTRIES}
+     * @throws IllegalArgumentException In case of a negative number
+     */
+    public void setMaxEntries(int maxEntries) {
+        if (maxEntries < 0 && maxEntries != ALL_ENTRIES) {
+            throw new IllegalArgumentException("Invalid max entries: " + maxEntries + "!");
+        }
+        
+        this.maxEntries = maxEntries;
+    }
+
+    
+    /**
+     * Get the lowest version of the range
+     * 
+     * @return the lowest version (inclusive) or null
+     */
+    public ChangelogReleaseVersion getFromVersion() {
+        return fromVersion;
+    }
+
+    
+    /**
+     * Get the highest version of the range
+     * 
+     * @return the highest version (inclusive) or null
+     */
+    public ChangelogReleaseVersion getToVersion() {
+        return toVersion;
+    }
+
+    
+    /**
+     * Set the version range. If a range is defined only released entries are formatted.
+     * 
+     * @param fromVersion the lowest version (inclusive) or null
+     * @param toVersion the highest version (inclusive) or null
+     */
+    public void setVersionRange(ChangelogReleaseVersion fromVersion, ChangelogReleaseVersion toVersion) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+    }
+
+    
+    /**
+     * Check if a version range is defined
+     * 
+     * @return true if a version range is defined
+     */
+    public boolean hasVersionRange() {
+        return fromVersion != null || toVersion != null;
+    }
+
+    
+    /**
+     * Check if only the unreleased entry is formatted
+     * 
+     * @return true if only the unreleased entry is formatted
+     */
+    public boolean isUnreleasedOnly() {
+        return unreleasedOnly;
+    }
+
+    
+    /**
+     * Set if only the unreleased entry is formatted, a version range is ignored in this case.
+     * 
+     * @param unreleasedOnly true to format only the unreleased entry
+     */
+    public void setUnreleasedOnly(boolean unreleasedOnly) {
+        this.unreleasedOnly = unreleasedOnly;
+    }
+
+    
+    /**
+     * Check if the entries are rendered in parallel
+     * 
+     * @return true if the entries are rendered in parallel
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    
+    /**
+     * Set if the entries are rendered in parallel on the common fork-join pool. The entries are rendered into buffers
+     * and written in the order of the change-log, the result is the same as the sequential rendering.
+     * 
+     * @param parallel true to render the entries in parallel
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    
+    /**
+     * Check if only a part of the entries is selected
+     * 
+     * @return true if only a part of the entries is selected
+     */
+    public boolean isPartial() {
+        return maxEntries != ALL_ENTRIES || hasVersionRange() || unreleasedOnly;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(includeHeader, maxEntries, fromVersion, toVersion, unreleasedOnly, parallel);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ChangelogFormatOptions other = (ChangelogFormatOptions) obj;
+        return includeHeader == other.includeHeader && maxEntries == other.maxEntries && Objects.equals(fromVersion, other.fromVersion)
+               && Objects.equals(toVersion, other.toVersion) && unreleasedOnly == other.unreleasedOnly
+               && parallel == other.parallel;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogFormatOptions [includeHeader=" + includeHeader + ", maxEntries=" + maxEntries + ", fromVersion=" + fromVersion + ", toVersion=" + toVersion + ", unreleasedOnly=" + unreleasedOnly + ", parallel=" + parallel + "]";
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * ChangelogPage.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter;
+
+import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Defines the metadata of a page of change-log entries. The entries are paged in the order of the change-log, the
+ * newest entry first.
+ * 
+ * @author patrick
+ */
+public class ChangelogPage implements Serializable {
+    private static final long serialVersionUID = -4467120539157832291L;
+    private final int pageIndex;
+    private final int pageSize;
+    private final int totalEntries;
+    private final int pageEntries;
+    private final ChangelogReleaseVersion newestVersion;
+    private final ChangelogReleaseVersion oldestVersion;
+
+    
+    /**
+     * Constructor for ChangelogPage
+     * 
+     * @param pageIndex the page index, starting with 0
+     * @param pageSize the max number of entries of a page
+     * @param totalEntries the total number of entries of the change-log
+     * @param pageEntries the number of entries of this page
+     * @param newestVersion the newest released version of the page or null
+     * @param oldestVersion the oldest released version of the page or null
+     */
+    public ChangelogPage(int pageIndex, int pageSize, int totalEntries, int pageEntries, ChangelogReleaseVersion newestVersion, ChangelogReleaseVersion oldestVersion) {
+        this.pageIndex = pageIndex;
+        this.pageSize = pageSize;
+        this.totalEntries = totalEntries;
+        this.pageEntries = pageEntries;
+        this.newestVersion = newestVersion;
+        this.oldestVersion = oldestVersion;
+    }
+
+    
+    /**
+     * Get the page index
+     * 
+     * @return the page index, starting with 0
+     */
+    public int getPageIndex() {
+        return pageIndex;
+    }
+
+    
+    /**
+     * Get the page size
+     * 
+     * @return the max number of entries of a page
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    
+    /**
+     * Get the total number of entries
+     * 
+     * @return the total number of entries of the change-log
+     */
+    public int getTotalEntries() {
+        return totalEntries;
+    }
+
+    
+    /**
+     * Get the number of entries of this page
+     * 
+     * @return the number of entries of this page
+     */
+    public int getPageEntries() {
+        return pageEntries;
+    }
+
+    
+    /**
+     * Get the total number of pages
+     * 
+     * @return the total number of pages
+     */
+    public int getTotalPages() {
+        return (int) (((long) totalEntries + pageSize - 1) / pageSize);
+    }
+
+    
+    /**
+     * Check if there is a previous page
+     * 
+     * @return true if there is a previous page
+     */
+    public boolean hasPreviousPage() {
+        return pageIndex > 0;
+    }
+
+    
+    /**
+     * Check if there is a next page
+     * 
+     * @return true if there is a next page
+     */
+    public boolean hasNextPage() {
+        return pageIndex + 1 < getTotalPages();
+    }
+
+    
+    /**
+     * Get the newest released version of this page
+     * 
+     * @return the newest version or null
+     */
+    public ChangelogReleaseVersion getNewestVersion() {
+        return newestVersion;
+    }
+
+    
+    /**
+     * Get the oldest released version of this page
+     * 
+     * @return the oldest version or null
+     */
+    public ChangelogReleaseVersion getOldestVersion() {
+        return oldestVersion;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(pageIndex, pageSize, totalEntries, pageEntries, newestVersion, oldestVersion);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ChangelogPage other = (ChangelogPage) obj;
+        return pageIndex == other.pageIndex && pageSize == other.pageSize && totalEntries == other.totalEntries && pageEntries == other.pageEntries
+               && Objects.equals(newestVersion, other.newestVersion) && Objects.equals(oldestVersion, other.oldestVersion);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogPage [pageIndex=" + pageIndex + ", pageSize=" + pageSize + ", totalEntries=" + totalEntries + ", pageEntries=" + pageEntries
+               + ", newestVersion=" + newestVersion + ", oldestVersion=" + oldestVersion + "]";
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * IChangelogExporter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter;
+
+import com.github.toolarium.changelog.dto.Changelog;
+import java.io.IOException;
+
+
+/**
+ * Defines a change-log exporter to an other format than markdown. An exporter walks the change-log once and writes
+ * directly to the target. Additional exporters can be registered as service provider of this interface
+ * (<code>META-INF/services/com.github.toolarium.changelog.formatter.IChangelogExporter</code>).
+ * 
+ * @author patrick
+ */
+public interface IChangelogExporter {
+    
+    /**
+     * Get the name of the export format, e.g. <code>json</code>
+     * 
+     * @return the name of the export format
+     */
+    String getFormat();
+
+    
+    /**
+     * Export the change-log and write it to the given target. The target is not closed.
+     * 
+     * @param changelog the change-log
+     * @param result the target, e.g. a {@link java.io.Writer}
+     * @throws IOException In case of an I/O error
+     */
+    void export(Changelog changelog, Appendable result) throws IOException;
+}
@@ -6,6 +6,13 @@
 package com.github.toolarium.changelog.formatter;
 
 import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.parser.ChangelogSyntaxTree;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Defines the change-log formatter.
@@ -21,4 +28,132 @@ public interface IChangelogFormatter {
      * @return the formated change-log 
      */
     String format(Changelog changelog);
+
+    
+    /**
+     * Format the change-log and write it entry by entry to the given target, the whole formatted change-log is never
+     * kept in memory. The target is not closed.
+     * 
+     * @param changelog the change-log
+     * @param result the target, e.g. a {@link java.io.Writer}
+     * @throws IOException In case of an I/O error
+     */
+    void format(Changelog changelog, Appendable result) throws IOException;
+
+    
+    /**
+     * Format the change-log and write it UTF-8 encoded to the channel. The channel is not closed.
+     * 
+     * @param changelog the change-log
+     * @param channel the channel
+     * @throws IOException In case of an I/O error
+     */
+    void format(Changelog changelog, WritableByteChannel channel) throws IOException;
+
+
+    /**
+     * Format a part of the change-log.
+     * 
+     * @param changelog the change-log
+     * @param options the options which define the part to format or null to format all
+     * @return the formated change-log 
+     */
+    String format(Changelog changelog, ChangelogFormatOptions options);
+
+    
+    /**
+     * Format a part of the change-log without blocking the caller.
+     * 
+     * @param changelog the change-log
+     * @param options the options which define the part to format or null to format all
+     * @param executor the executor which formats the change-log or null for the common pool
+     * @return the future of the formated change-log
+     */
+    CompletableFuture<String> formatAsync(Changelog changelog, ChangelogFormatOptions options, Executor executor);
+
+    
+    /**
+     * Format the change-log and write it UTF-8 encoded to a file without blocking the caller. The file is written asynchronous,
+     * no thread is held during the I/O. An existing file is replaced.
+     * 
+     * @param changelog the change-log
+     * @param filename the filename
+     * @param executor the executor which formats the change-log or null for the common pool
+     * @return the future which completes after the file is written; it completes exceptionally with an {@link IOException} in case of an I/O error
+     */
+    CompletableFuture<Void> formatAsync(Changelog changelog, Path filename, Executor executor);
+
+    
+    /**
+     * Format a part of the change-log and write it entry by entry to the given target. The target is not closed.
+     * 
+     * @param changelog the change-log
+     * @param options the options which define the part to format or null to format all
+     * @param result the target, e.g. a {@link java.io.Writer}
+     * @throws IOException In case of an I/O error
+     */
+    void format(Changelog changelog, ChangelogFormatOptions options, Appendable result) throws IOException;
+
+
+    /**
+     * Get the metadata of a page of entries without formatting it.
+     * 
+     * @param changelog the change-log
+     * @param pageIndex the page index, starting with 0
+     * @param pageSize the max number of entries of a page
+     * @return the page metadata
+     * @throws IllegalArgumentException In case of an invalid page index or page size
+     */
+    ChangelogPage getPage(Changelog changelog, int pageIndex, int pageSize);
+
+    
+    /**
+     * Format a page of entries and write it to the given target. Only the entries of the page are formatted, the header
+     * is not part of a page. The target is not closed.
+     * 
+     * @param changelog the change-log
+     * @param pageIndex the page index, starting with 0
+     * @param pageSize the max number of entries of a page
+     * @param result the target, e.g. a {@link java.io.Writer}
+     * @return the page metadata
+     * @throws IOException In case of an I/O error
+     * @throws IllegalArgumentException In case of an invalid page index or page size
+     */
+    ChangelogPage format(Changelog changelog, int pageIndex, int pageSize, Appendable result) throws IOException;
+
+
+    /**
+     * Check if a source is in the canonical format of the change-log. The formatted change-log is compared with the source
+     * while it is rendered, it is never kept in memory and the rendering stops at the first difference.
+     * 
+     * @param changelog the change-log, e.g. the parsed source
+     * @param source the source
+     * @return the first difference or null if the source is in the canonical format
+     */
+    ChangelogFormatDifference checkFormat(Changelog changelog, CharSequence source);
+
+
+    /**
+     * Write the change-log of a syntax tree. The original text of the unchanged header and entries is reused, only
+     * modified and new entries are formatted. The entries of the source keep their order, a new entry is inserted at its
+     * sorted position. In case the tree has no source spans the change-log is formatted completely.
+     * 
+     * @param syntaxTree the syntax tree
+     * @param result the target, e.g. a {@link java.io.Writer}
+     * @throws IOException In case of an I/O error
+     */
+    void format(ChangelogSyntaxTree syntaxTree, Appendable result) throws IOException;
+
+
+    /**
+     * Insert a new entry in front of the entries of a change-log file. The header region with the new entry is written to
+     * a temporary file, the untouched rest of the file is copied byte by byte and the temporary file is atomically renamed
+     * to the file. The untouched rest is not decoded or parsed. A released entry is inserted after a leading
+     * <code>Unreleased</code> entry.
+     * 
+     * @param filename the change-log file
+     * @param entry the new entry
+     * @throws IOException In case of an I/O error
+     */
+    void prepend(Path filename, ChangelogEntry entry) throws IOException;
 }
@@ -0,0 +1,64 @@
+/*
+ * IFragmentCache.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter;
+
+
+/**
+ * Defines the cache of rendered change-log entries. The key is a digest of the entry content and the configuration
+ * fingerprint, therefore a cached fragment is valid as long as the key is the same and the cache can be shared
+ * between formatters of different configurations.
+ * 
+ * @author patrick
+ */
+public interface IFragmentCache {
+    
+    /**
+     * Get a cached fragment
+     * 
+     * @param key the key
+     * @return the rendered fragment or null if it is not cached
+     */
+    String get(String key);
+
+    
+    /**
+     * Put a rendered fragment into the cache
+     * 
+     * @param key the key
+     * @param fragment the rendered fragment
+     */
+    void put(String key, String fragment);
+    
+    
+    /**
+     * Get the number of cached fragments
+     * 
+     * @return the number of cached fragments
+     */
+    int size();
+    
+    
+    /**
+     * Get the number of cache hits
+     * 
+     * @return the number of cache hits
+     */
+    long getHitCount();
+
+    
+    /**
+     * Get the number of cache misses
+     * 
+     * @return the number of cache misses
+     */
+    long getMissCount();
+
+    
+    /**
+     * Clear the cache and the statistics
+     */
+    void clear();
+}
@@ -0,0 +1,185 @@
+/*
+ * AbstractChangelogExporter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter.impl;
+
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogSection;
+import com.github.toolarium.changelog.formatter.IChangelogExporter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Base implementation of a change-log exporter: it walks the change-log once in the order of the change-log and
+ * calls the methods of the format for each element.
+ * 
+ * @author patrick
+ */
+public abstract class AbstractChangelogExporter implements IChangelogExporter {
+    private final String format;
+
+    
+    /**
+     * Constructor for AbstractChangelogExporter
+     * 
+     * @param format the name of the export format
+     */
+    protected AbstractChangelogExporter(String format) {
+        this.format = format;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogExporter#getFormat()
+     */
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogExporter#export(com.github.toolarium.changelog.dto.Changelog, java.lang.Appendable)
+     */
+    @Override
+    public void export(Changelog changelog, Appendable result) throws IOException {
+        startChangelog(result, changelog);
+
+        List<ChangelogEntry> entries = new ArrayList<>();
+        if (changelog.getEntries() != null) {
+            entries.addAll(changelog.getEntries());
+            Collections.sort(entries);
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            ChangelogEntry entry = entries.get(i);
+            startEntry(result, entry, i);
+            
+            List<ChangelogSection> sectionList = entry.getSectionList();
+            if (sectionList != null) {
+                for (int j = 0; j < sectionList.size(); j++) {
+                    ChangelogSection section = sectionList.get(j);
+                    startSection(result, section, j);
+                    
+                    List<String> commentList = section.getChangeCommentList();
+                    if (commentList != null) {
+                        for (int k = 0; k < commentList.size(); k++) {
+                            comment(result, commentList.get(k), k);
+                        }
+                    }
+                    
+                    endSection(result, section);
+                }
+            }
+            
+            endEntry(result, entry);
+        }
+        
+        endChangelog(result, changelog);
+    }
+
+    
+    /**
+     * Start the change-log, e.g. write the project name and description
+     * 
+     * @param result the result
+     * @param changelog the change-log
+     * @throws IOException In case of an I/O error
+     */
+    protected abstract void startChangelog(Appendable result, Changelog changelog) throws IOException;
+
+    
+    /**
+     * Start an entry, e.g. write the version heading
+     * 
+     * @param result the result
+     * @param entry the entry
+     * @param index the index of the entry
+     * @throws IOException In case of an I/O error
+     */
+    protected abstract void startEntry(Appendable result, ChangelogEntry entry, int index) throws IOException;
+
+    
+    /**
+     * Start a section
+     * 
+     * @param result the result
+     * @param section the section
+     * @param index the index of the section in the entry
+     * @throws IOException In case of an I/O error
+     */
+    protected abstract void startSection(Appendable result, ChangelogSection section, int index) throws IOException;
+
+    
+    /**
+     * Write a comment of a section
+     * 
+     * @param result the result
+     * @param comment the comment
+     * @param index the index of the comment in the section
+     * @throws IOException In case of an I/O error
+     */
+    protected abstract void comment(Appendable result, String comment, int index) throws IOException;
+
+    
+    /**
+     * End a section
+     * 
+     * @param result the result
+     * @param section the section
+     * @throws IOException In case of an I/O error
+     */
+    protected abstract void endSection(Appendable result, ChangelogSection section) throws IOException;
+
+    
+    /**
+     * End an entry
+     * 
+     * @param result the result
+     * @param entry the entry
+     * @throws IOException In case of an I/O error
+     */
+    protected abstract void endEntry(Appendable result, ChangelogEntry entry) throws IOException;
+
+    
+    /**
+     * End the change-log
+     * 
+     * @param result the result
+     * @param changelog the change-log
+     * @throws IOException In case of an I/O error
+     */
+    protected abstract void endChangelog(Appendable result, Changelog changelog) throws IOException;
+
+    
+    /**
+     * Get the version text of an entry
+     * 
+     * @param entry the entry
+     * @return the version or <code>Unreleased</code>
+     */
+    protected String getVersionText(ChangelogEntry entry) {
+        if (entry.getReleaseVersion() == null || !entry.isReleased()) {
+            return Changelog.UNRELEASED_ENTRY_NAME;
+        }
+        
+        return entry.getReleaseVersion().toString();
+    }
+
+    
+    /**
+     * Check if a text is not empty
+     * 
+     * @param text the text
+     * @return true if the text is not null and not blank
+     */
+    protected boolean hasText(String text) {
+        return text != null && !text.isBlank();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * AsciiDocChangelogExporter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter.impl;
+
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogSection;
+import java.io.IOException;
+
+
+/**
+ * Implements the AsciiDoc exporter. The project name is the document title, the entries are level 1 sections and the
+ * change types level 2 sections with an unordered list.
+ * 
+ * @author patrick
+ */
+public class AsciiDocChangelogExporter extends AbstractChangelogExporter {
+    /** The name of the format */
+    public static final String FORMAT = "asciidoc";
+    private static final String YANKED = " [YANKED]";
+
+    
+    /**
+     * Constructor for AsciiDocChangelogExporter
+     */
+    public AsciiDocChangelogExporter() {
+        super(FORMAT);
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startChangelog(java.lang.Appendable, com.github.toolarium.changelog.dto.Changelog)
+     */
+    @Override
+    protected void startChangelog(Appendable result, Changelog changelog) throws IOException {
+        result.append("= ").append(String.valueOf(changelog.getProjectName())).append('\n');
+        paragraph(result, changelog.getDescription());
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startEntry(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogEntry, int)
+     */
+    @Override
+    protected void startEntry(Appendable result, ChangelogEntry entry, int index) throws IOException {
+        result.append("\n== ");
+        if (entry.getReleaseLink() != null) {
+            result.append("link:").append(entry.getReleaseLink().toExternalForm()).append('[').append(getVersionText(entry)).append(']');
+        } else {
+            result.append(getVersionText(entry));
+        }
+        
+        if (entry.getReleaseDate() != null) {
+            result.append(" - ").append(entry.getReleaseDate().toString());
+            if (entry.wasYanked()) {
+                result.append(YANKED);
+            }
+
+            if (hasText(entry.getInfo())) {
+                result.append(" - ").append(entry.getInfo());
+            }
+        }
+        result.append('\n');
+        paragraph(result, entry.getDescription());
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startSection(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogSection, int)
+     */
+    @Override
+    protected void startSection(Appendable result, ChangelogSection section, int index) throws IOException {
+        if (section.getChangeType() != null) {
+            result.append("\n=== ").append(section.getChangeType().getTypeName()).append('\n');
+        }
+        result.append('\n');
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#comment(java.lang.Appendable, java.lang.String, int)
+     */
+    @Override
+    protected void comment(Appendable result, String comment, int index) throws IOException {
+        result.append("* ").append(String.valueOf(comment)).append('\n');
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endSection(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogSection)
+     */
+    @Override
+    protected void endSection(Appendable result, ChangelogSection section) throws IOException {
+        // NOP
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endEntry(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogEntry)
+     */
+    @Override
+    protected void endEntry(Appendable result, ChangelogEntry entry) throws IOException {
+        // NOP
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endChangelog(java.lang.Appendable, com.github.toolarium.changelog.dto.Changelog)
+     */
+    @Override
+    protected void endChangelog(Appendable result, Changelog changelog) throws IOException {
+        // NOP
+    }
+
+    
+    /**
+     * Write a paragraph in case the text is not empty
+     * 
+     * @param result the result
+     * @param value the text or null
+     * @throws IOException In case of an I/O error
+     */
+    protected void paragraph(Appendable result, String value) throws IOException {
+        if (hasText(value)) {
+            result.append('\n').append(value.strip()).append('\n');
+        }
+    }
+}
@@ -8,21 +8,60 @@ package com.github.toolarium.changelog.formatter.impl;
 import com.github.toolarium.changelog.config.ChangelogConfig;
 import com.github.toolarium.changelog.dto.Changelog;
 import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
 import com.github.toolarium.changelog.dto.ChangelogSection;
+import com.github.toolarium.changelog.formatter.ChangelogFormatDifference;
+import com.github.toolarium.changelog.formatter.ChangelogFormatOptions;
+import com.github.toolarium.changelog.formatter.ChangelogPage;
 import com.github.toolarium.changelog.formatter.IChangelogFormatter;
+import com.github.toolarium.changelog.formatter.IFragmentCache;
+import com.github.toolarium.changelog.io.AsyncFiles;
+import com.github.toolarium.changelog.parser.ChangelogSyntaxTree;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 
 /**
- * Implements a change-log formatter
+ * Implements a change-log formatter. The configuration is compiled once into a render plan, therefore the formatter is
+ * immutable and can be shared between threads.
  * 
  * @author patrick
  */
 public class ChangelogFormatterImpl implements IChangelogFormatter {
-    private static final String SPACE = " ";
-    private ChangelogConfig changelogConfig;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADING_LENGTH = 256;
+    private static final int PARALLEL_THRESHOLD = 64;
+    private static final int PARALLEL_BATCH_SIZE = 4096;
+    private static final int RENDER_TASK_SIZE = 16;
+    private static final byte SECTION_CHARACTER = '#';
+    private final ChangelogConfig changelogConfig;
+    private final ChangelogRenderPlan renderPlan;
+    private final IFragmentCache fragmentCache;
+    private final String configFingerprint;
 
     
     /**
@@ -39,10 +78,29 @@ public class ChangelogFormatterImpl implements IChangelogFormatter {
      * @param changelogConfig the change-log configuration for formatting
      */
     public ChangelogFormatterImpl(ChangelogConfig changelogConfig) {
-        this.changelogConfig = changelogConfig;
-        
+        this(changelogConfig, null);
+    }
+    
+    
+    /**
+     * Constructor for ChangelogParser
+     * 
+     * @param changelogConfig the change-log configuration for formatting
+     * @param fragmentCache the cache of rendered entries or null
+     */
+    public ChangelogFormatterImpl(ChangelogConfig changelogConfig, IFragmentCache fragmentCache) {
         if (changelogConfig == null) {
             this.changelogConfig = new ChangelogConfig();
+        } else {
+            this.changelogConfig = new ChangelogConfig(changelogConfig);
+        }
+        
+        this.renderPlan = new ChangelogRenderPlan(this.changelogConfig);
+        this.fragmentCache = fragmentCache;
+        if (fragmentCache != null) {
+            this.configFingerprint = this.changelogConfig.getFingerprint();
+        } else {
+            this.configFingerprint = null;
         }
     }
 
@@ -51,127 +109,888 @@ public class ChangelogFormatterImpl implements IChangelogFormatter {
      * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#format(com.github.toolarium.changelog.dto.Changelog)
      */
     @Override
-    public String format(Changelog changelog) {        
-        String firstSection = "" + changelogConfig.getSectionCharacter();
-        String secondSection = "" + firstSection + changelogConfig.getSectionCharacter();
-        final String thirdSection = "" + secondSection + changelogConfig.getSectionCharacter();
-        
+    public String format(Changelog changelog) {
+        return format(changelog, (ChangelogFormatOptions) null);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#format(com.github.toolarium.changelog.dto.Changelog, com.github.toolarium.changelog.formatter.ChangelogFormatOptions)
+     */
+    @Override
+    public String format(Changelog changelog, ChangelogFormatOptions options) {
         StringBuilder result = new StringBuilder();
-        append(result, firstSection + SPACE + changelog.getProjectName());
-        newline(result);
+        try {
+            format(changelog, options, result);
+        } catch (IOException e) {
+            // a StringBuilder don't throw an I/O exception
+            throw new UncheckedIOException(e);
+        }
+        
+        return result.toString();
+    }
 
-        if (changelog.getDescription() != null && !changelog.getDescription().isEmpty()) {
-            append(result, changelog.getDescription());
-            newline(result);
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#formatAsync(com.github.toolarium.changelog.dto.Changelog, com.github.toolarium.changelog.formatter.ChangelogFormatOptions, java.util.concurrent.Executor)
+     */
+    @Override
+    public CompletableFuture<String> formatAsync(Changelog changelog, ChangelogFormatOptions options, Executor executor) {
+        if (executor == null) {
+            return CompletableFuture.supplyAsync(() -> format(changelog, options));
+        }
+        
+        return CompletableFuture.supplyAsync(() -> format(changelog, options), executor);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#formatAsync(com.github.toolarium.changelog.dto.Changelog, java.nio.file.Path, java.util.concurrent.Executor)
+     */
+    @Override
+    public CompletableFuture<Void> formatAsync(Changelog changelog, Path filename, Executor executor) {
+        return formatAsync(changelog, (ChangelogFormatOptions) null, executor).thenCompose(content -> AsyncFiles.writeString(filename, content));
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#format(com.github.toolarium.changelog.dto.Changelog, java.lang.Appendable)
+     */
+    @Override
+    public void format(Changelog changelog, Appendable result) throws IOException {
+        format(changelog, null, result);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#format(com.github.toolarium.changelog.dto.Changelog, com.github.toolarium.changelog.formatter.ChangelogFormatOptions, java.lang.Appendable)
+     */
+    @Override
+    public void format(Changelog changelog, ChangelogFormatOptions options, Appendable result) throws IOException {
+        boolean includeHeader = options == null || options.isIncludeHeader();
+        if (includeHeader) {
+            formatHeader(result, changelog);
+        }
+
+        List<ChangelogEntry> entries = selectEntries(changelog.getEntries(), options);
+        if (options != null && options.isParallel() && entries.size() >= PARALLEL_THRESHOLD) {
+            formatEntriesParallel(result, entries, includeHeader);
+            return;
+        }
+        
+        boolean first = true;
+        for (ChangelogEntry entry : entries) {
+            if (first && !includeHeader) {
+                renderEntry(result, entry);
+            } else {
+                formatEntry(result, entry);
+            }
+            first = false;
         }
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#getPage(com.github.toolarium.changelog.dto.Changelog, int, int)
+     */
+    @Override
+    public ChangelogPage getPage(Changelog changelog, int pageIndex, int pageSize) {
+        return createPage(changelog, selectPage(changelog.getSortedEntries(), pageIndex, pageSize), pageIndex, pageSize);
+    }
 
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#format(com.github.toolarium.changelog.dto.Changelog, int, int, java.lang.Appendable)
+     */
+    @Override
+    public ChangelogPage format(Changelog changelog, int pageIndex, int pageSize, Appendable result) throws IOException {
+        List<ChangelogEntry> pageEntries = selectPage(changelog.getSortedEntries(), pageIndex, pageSize);
+        boolean first = true;
+        for (ChangelogEntry entry : pageEntries) {
+            if (first) {
+                renderEntry(result, entry);
+            } else {
+                formatEntry(result, entry);
+            }
+            first = false;
+        }
+        
+        return createPage(changelog, pageEntries, pageIndex, pageSize);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#checkFormat(com.github.toolarium.changelog.dto.Changelog, java.lang.CharSequence)
+     */
+    @Override
+    public ChangelogFormatDifference checkFormat(Changelog changelog, CharSequence source) {
+        FormatComparator comparator = new FormatComparator(source);
+        if (changelog == null) {
+            return comparator.checkEnd();
+        }
+        
+        try {
+            format(changelog, comparator);
+        } catch (FormatMismatchException e) {
+            return comparator.getDifference();
+        } catch (IOException e) {
+            // the comparator don't throw another I/O exception
+            throw new UncheckedIOException(e);
+        }
+        
+        return comparator.checkEnd();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#format(com.github.toolarium.changelog.parser.ChangelogSyntaxTree, java.lang.Appendable)
+     */
+    @Override
+    public void format(ChangelogSyntaxTree syntaxTree, Appendable result) throws IOException {
+        Changelog changelog = syntaxTree.getChangelog();
+        if (changelog == null) {
+            return;
+        }
+        
+        if (!syntaxTree.hasSourceSpans()) {
+            format(changelog, result);
+            return;
+        }
+
+        final String lineSeparator = syntaxTree.getLineSeparator();
+        StringBuilder tail = new StringBuilder();
+        if (syntaxTree.isHeaderModified()) {
+            StringBuilder header = new StringBuilder();
+            formatHeader(header, changelog);
+            splice(result, tail, lineSeparator, convertLineSeparator(header, lineSeparator));
+        } else {
+            splice(result, tail, lineSeparator, syntaxTree.getText(syntaxTree.getHeaderSpan()));
+        }
+        
         List<ChangelogEntry> entries = changelog.getEntries();
-        if (entries != null) {
-            entries = new ArrayList<>(entries);
-            Collections.sort(entries);
-            for (ChangelogEntry entry : entries) {
-                newline(result);
+        if (entries == null) {
+            return;
+        }
+
+        for (ChangelogEntry entry : orderEntries(syntaxTree, entries)) {
+            ChangelogSyntaxTree.EntryNode node = syntaxTree.getEntryNode(entry);
+            String text;
+            if (node != null && !node.isModified()) {
+                text = syntaxTree.getText(node.getSpan());
+            } else {
+                StringBuilder entryText = new StringBuilder();
+                renderEntry(entryText, entry);
+                text = convertLineSeparator(entryText, lineSeparator);
+            }
 
-                String version = null;
-                if (entry.getReleaseVersion() != null && entry.isReleased()) {
-                    version = entry.getReleaseVersion().toString();
+            // entries are separated by an empty line
+            if (tail.length() > 0 && !endsWith(tail, lineSeparator + lineSeparator)) {
+                String separator = lineSeparator + lineSeparator;
+                if (endsWith(tail, lineSeparator)) {
+                    separator = lineSeparator;
                 }
+                splice(result, tail, lineSeparator, separator);
+            }
+            
+            splice(result, tail, lineSeparator, text);
+        }
+    }
+
 
-                if (changelogConfig.isSupportUnreleased() && (version == null || version.isEmpty())) {
-                    version = Changelog.UNRELEASED_ENTRY_NAME;
+    /**
+     * Order the entries of a syntax tree: the entries of the source keep their order, a new entry without a node is
+     * inserted at its sorted position, before the first entry of the source which sorts after it.
+     *
+     * @param syntaxTree the syntax tree
+     * @param entries the entries of the change-log
+     * @return the ordered entries
+     */
+    private List<ChangelogEntry> orderEntries(ChangelogSyntaxTree syntaxTree, List<ChangelogEntry> entries) {
+        List<ChangelogEntry> sourceEntries = new ArrayList<>(entries.size());
+        List<ChangelogEntry> newEntries = new ArrayList<>();
+        for (ChangelogEntry entry : entries) {
+            if (syntaxTree.getEntryNode(entry) == null) {
+                newEntries.add(entry);
+            } else {
+                sourceEntries.add(entry);
+            }
+        }
+
+        if (newEntries.isEmpty()) {
+            return entries;
+        }
+
+        Collections.sort(newEntries);
+        List<ChangelogEntry> result = new ArrayList<>(entries.size());
+        int newIndex = 0;
+        for (ChangelogEntry entry : sourceEntries) {
+            while (newIndex < newEntries.size() && newEntries.get(newIndex).compareTo(entry) < 0) {
+                result.add(newEntries.get(newIndex++));
+            }
+            result.add(entry);
+        }
+
+        result.addAll(newEntries.subList(newIndex, newEntries.size()));
+        return result;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#format(com.github.toolarium.changelog.dto.Changelog, java.nio.channels.WritableByteChannel)
+     */
+    @Override
+    public void format(Changelog changelog, WritableByteChannel channel) throws IOException {
+        // the channel is not closed, only the buffered content is flushed
+        Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE), BUFFER_SIZE);
+        format(changelog, writer);
+        writer.flush();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IChangelogFormatter#prepend(java.nio.file.Path, com.github.toolarium.changelog.dto.ChangelogEntry)
+     */
+    @Override
+    public void prepend(Path filename, ChangelogEntry entry) throws IOException {
+        if (filename == null) {
+            throw new IOException("Invalid filename input!");
+        }
+        
+        if (entry == null) {
+            throw new IOException("Invalid entry input!");
+        }
+
+        Path file = filename.toAbsolutePath();
+        Path tempFile = Files.createTempFile(file.getParent(), "." + file.getFileName(), ".tmp");
+        boolean moved = false;
+        try {
+            try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+                 FileChannel target = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final long size = source.size();
+                final String lineSeparator = readLineSeparator(source);
+                long position = findEntryHeading(source, 0);
+                if (position >= 0 && entry.isReleased() && isUnreleasedHeading(source, position)) {
+                    position = findEntryHeading(source, position + 1);
                 }
                 
-                if (version != null) {
-                    if (changelogConfig.isSupportSpaceAroundVersion()) {
-                        version = " " + version + " ";
-                    }
-                    
-                    if (changelogConfig.isSupportReleaseLink() && entry.getReleaseLink() != null) {
-                        append(result, secondSection + SPACE + "[" + version + "]");
-                        append(result, "(" + entry.getReleaseLink().toExternalForm() + ")");
-                    } else {
-                        append(result, secondSection + SPACE + prepareBracketExpression(changelogConfig, version));
+                if (position < 0) {
+                    position = size;
+                }
+
+                StringBuilder text = new StringBuilder();
+                String end = readEnd(source, position, 2 * lineSeparator.length());
+                if (!end.isEmpty() && !end.endsWith(lineSeparator + lineSeparator)) {
+                    if (!end.endsWith(lineSeparator)) {
+                        newline(text);
                     }
-                    
-                    if (entry.getReleaseDate() != null) {
-                        append(result, SPACE + changelogConfig.getHeaderSeparator());
-                        append(result, SPACE + entry.getReleaseDate());
+                    newline(text);
+                }
+                
+                renderEntry(text, entry);
+                if (position < size) {
+                    newline(text);
+                }
+                
+                transfer(source, 0, position, target);
+                ByteBuffer buffer = StandardCharsets.UTF_8.encode(convertLineSeparator(text, lineSeparator));
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                transfer(source, position, size - position, target);
+                target.force(true);
+            }
 
-                        if (entry.wasYanked()) {
-                            append(result, SPACE + changelogConfig.getHeaderSeparator() + SPACE + prepareBracketExpression(changelogConfig, "YANKED"));
-                        }
+            PosixFileAttributeView attributeView = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+            if (attributeView != null) {
+                Files.setPosixFilePermissions(tempFile, attributeView.readAttributes().permissions());
+            }
+            
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+
+    /**
+     * Render the entries in parallel on the common fork-join pool into buffers and write them in the given order. The
+     * entries are processed in batches, therefore only the buffers of one batch are kept in memory.
+     * 
+     * @param result the result
+     * @param entries the sorted entries
+     * @param includeHeader true if the header was written, otherwise the first entry has no leading empty line
+     * @throws IOException In case of an I/O error
+     */
+    protected void formatEntriesParallel(Appendable result, List<ChangelogEntry> entries, boolean includeHeader) throws IOException {
+        for (int start = 0; start < entries.size(); start += PARALLEL_BATCH_SIZE) {
+            int end = Math.min(entries.size(), start + PARALLEL_BATCH_SIZE);
+            String[] fragments = new String[end - start];
+            ForkJoinPool.commonPool().invoke(new RenderTask(entries, fragments, start, start, end, start == 0 && !includeHeader));
+            for (String fragment : fragments) {
+                result.append(fragment);
+            }
+        }
+    }
 
-                        if (entry.getInfo() != null && !entry.getInfo().isBlank()) {
-                            append(result, SPACE + changelogConfig.getHeaderSeparator());
-                            append(result, SPACE + entry.getInfo());
-                        }
-                    }
 
+    /**
+     * Format the header of the change-log
+     * 
+     * @param result the result
+     * @param changelog the change-log
+     * @throws IOException In case of an I/O error
+     */
+    protected void formatHeader(Appendable result, Changelog changelog) throws IOException {
+        result.append(renderPlan.getProjectPrefix());
+        result.append(String.valueOf(changelog.getProjectName()));
+        newline(result);
+
+        if (changelog.getDescription() != null && !changelog.getDescription().isEmpty()) {
+            append(result, changelog.getDescription());
+            newline(result);
+        }
+    }
+
+
+    /**
+     * Format a change-log entry including the leading empty line
+     * 
+     * @param result the result
+     * @param entry the change-log entry
+     * @throws IOException In case of an I/O error
+     */
+    protected void formatEntry(Appendable result, ChangelogEntry entry) throws IOException {
+        newline(result);
+        renderEntry(result, entry);
+    }
+
+
+    /**
+     * Render a change-log entry. In case of a fragment cache an unchanged entry is copied from the cache.
+     * 
+     * @param result the result
+     * @param entry the change-log entry
+     * @throws IOException In case of an I/O error
+     */
+    protected void renderEntry(Appendable result, ChangelogEntry entry) throws IOException {
+        if (fragmentCache == null) {
+            renderEntryFragment(result, entry);
+            return;
+        }
+        
+        String key = createFragmentKey(entry);
+        String fragment = fragmentCache.get(key);
+        if (fragment == null) {
+            StringBuilder entryFragment = new StringBuilder();
+            renderEntryFragment(entryFragment, entry);
+            fragment = entryFragment.toString();
+            fragmentCache.put(key, fragment);
+        }
+        
+        result.append(fragment);
+    }
+
+    
+    /**
+     * Render the fragment of a change-log entry
+     * 
+     * @param result the result
+     * @param entry the change-log entry
+     * @throws IOException In case of an I/O error
+     */
+    protected void renderEntryFragment(Appendable result, ChangelogEntry entry) throws IOException {
+        ChangelogReleaseVersion releaseVersion = null;
+        if (entry.getReleaseVersion() != null && entry.isReleased()) {
+            releaseVersion = entry.getReleaseVersion();
+        } else if (!renderPlan.isSupportUnreleased()) {
+            return;
+        }
+        
+        if (renderPlan.isSupportReleaseLink() && entry.getReleaseLink() != null) {
+            result.append(renderPlan.getLinkVersionOpen());
+            result.append(renderPlan.getLinkVersionText(releaseVersion));
+            result.append(renderPlan.getLinkVersionClose());
+            result.append(entry.getReleaseLink().toExternalForm());
+            result.append(')');
+        } else {
+            result.append(renderPlan.getVersionHeading(releaseVersion));
+        }
+        
+        if (entry.getReleaseDate() != null) {
+            result.append(renderPlan.getHeaderSeparator());
+            result.append(entry.getReleaseDate().toString());
+
+            if (entry.wasYanked()) {
+                result.append(renderPlan.getYanked());
+            }
+
+            if (entry.getInfo() != null && !entry.getInfo().isBlank()) {
+                result.append(renderPlan.getHeaderSeparator());
+                result.append(entry.getInfo());
+            }
+        }
+
+        newline(result);
+
+        List<ChangelogSection> sectionList = entry.getSectionList();
+        boolean hasSections = sectionList != null && !sectionList.isEmpty();
+        if (entry.getDescription() != null && !entry.getDescription().isEmpty()) {
+            append(result, entry.getDescription());
+            newline(result);
+
+            if (hasSections) {
+                newline(result);
+            }
+        }
+
+        if (hasSections) {
+            int count = 0;
+            for (ChangelogSection section : sectionList) {
+                if (count > 0) {
                     newline(result);
+                }
+
+                result.append(renderPlan.getSectionHeading(section.getChangeType()));
+                newline(result);
 
-                    List<ChangelogSection> sectionList = entry.getSectionList();
-                    boolean hasSections = sectionList != null && !sectionList.isEmpty();
-                    if (entry.getDescription() != null && !entry.getDescription().isEmpty()) {
-                        append(result, entry.getDescription());
+                List<String> commentList = section.getChangeCommentList();
+                if (commentList != null) {
+                    for (String comment : commentList) {
+                        result.append(renderPlan.getItemPrefix());
+                        result.append(String.valueOf(comment));
                         newline(result);
+                    }
+                }
 
-                        if (hasSections) {
-                            newline(result);
+                count++;
+            }
+        }
+    }
+
+    
+    /**
+     * Create the fragment cache key of an entry: a digest of all entry values which are rendered and the configuration
+     * fingerprint.
+     * 
+     * @param entry the change-log entry
+     * @return the key
+     */
+    protected String createFragmentKey(ChangelogEntry entry) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            updateFragmentKey(messageDigest, configFingerprint);
+            updateFragmentKey(messageDigest, entry.getReleaseVersion());
+            updateFragmentKey(messageDigest, entry.isReleased());
+            updateFragmentKey(messageDigest, entry.getReleaseLink());
+            updateFragmentKey(messageDigest, entry.getReleaseDate());
+            updateFragmentKey(messageDigest, entry.wasYanked());
+            updateFragmentKey(messageDigest, entry.getInfo());
+            updateFragmentKey(messageDigest, entry.getDescription());
+            
+            List<ChangelogSection> sectionList = entry.getSectionList();
+            if (sectionList != null) {
+                for (ChangelogSection section : sectionList) {
+                    updateFragmentKey(messageDigest, section.getChangeType());
+                    List<String> commentList = section.getChangeCommentList();
+                    if (commentList != null) {
+                        updateFragmentKey(messageDigest, commentList.size());
+                        for (String comment : commentList) {
+                            updateFragmentKey(messageDigest, comment);
                         }
                     }
+                }
+            }
+            
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform has to support SHA-256
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
 
-                    if (hasSections) {
-                        int count = 0;
-                        for (ChangelogSection section : sectionList) {
-                            if (count > 0) {
-                                newline(result);
-                            }
-
-                            append(result, thirdSection + SPACE + section.getChangeType().getTypeName());
-                            newline(result);
-
-                            List<String> commentList = section.getChangeCommentList();
-                            if (commentList != null) {
-                                for (String comment : commentList) {
-                                    append(result, "" + changelogConfig.getItemSeparator() + SPACE + comment);
-                                    newline(result);
-                                }
-                            }
-
-                            count++;
-                        }
+    
+    /**
+     * Add a value to the fragment key digest. The value is prefixed by its length, that the key is unambiguous.
+     * 
+     * @param messageDigest the message digest
+     * @param value the value or null
+     */
+    private void updateFragmentKey(MessageDigest messageDigest, Object value) {
+        if (value == null) {
+            messageDigest.update("|-1".getBytes(StandardCharsets.UTF_8));
+        } else {
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            messageDigest.update(("|" + bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+            messageDigest.update(bytes);
+        }
+    }
+
+    
+    /**
+     * Select the entries to format in the order of the change-log. In case only a limited number of entries is selected,
+     * the newest entries are selected by a bounded heap instead of sorting all entries.
+     * 
+     * @param entries the entries
+     * @param options the options or null to select all
+     * @return the selected and sorted entries
+     */
+    protected List<ChangelogEntry> selectEntries(List<ChangelogEntry> entries, ChangelogFormatOptions options) {
+        if (entries == null || entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        List<ChangelogEntry> candidates = entries;
+        if (options != null && (options.isUnreleasedOnly() || options.hasVersionRange())) {
+            candidates = new ArrayList<>();
+            for (ChangelogEntry entry : entries) {
+                if (isSelected(entry, options)) {
+                    candidates.add(entry);
+                }
+            }
+        }
+
+        int maxEntries = ChangelogFormatOptions.ALL_ENTRIES;
+        if (options != null) {
+            maxEntries = options.getMaxEntries();
+        }
+        
+        if (maxEntries == ChangelogFormatOptions.ALL_ENTRIES || maxEntries >= candidates.size()) {
+            List<ChangelogEntry> sortedEntries = new ArrayList<>(candidates);
+            Collections.sort(sortedEntries);
+            return sortedEntries;
+        }
+        
+        return selectNewestEntries(candidates, maxEntries);
+    }
+
+    
+    /**
+     * Select the entries of a page. The entries are already in the order of the change-log, see
+     * {@link Changelog#getSortedEntries()}, the page is a view of them and don't depend on the number of entries.
+     *
+     * @param entries the sorted entries
+     * @param pageIndex the page index, starting with 0
+     * @param pageSize the max number of entries of a page
+     * @return the entries of the page
+     * @throws IllegalArgumentException In case of an invalid page index or page size
+     */
+    protected List<ChangelogEntry> selectPage(List<ChangelogEntry> entries, int pageIndex, int pageSize) {
+        if (pageIndex < 0) {
+            throw new IllegalArgumentException("Invalid page index: " + pageIndex + "!");
+        }
+        
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Invalid page size: " + pageSize + "!");
+        }
+        
+        long start = (long) pageIndex * pageSize;
+        if (entries == null || start >= entries.size()) {
+            return Collections.emptyList();
+        }
+        
+        int end = (int) Math.min(entries.size(), start + pageSize);
+        return entries.subList((int) start, end);
+    }
+
+    
+    /**
+     * Create the metadata of a page
+     * 
+     * @param changelog the change-log
+     * @param pageEntries the entries of the page
+     * @param pageIndex the page index
+     * @param pageSize the page size
+     * @return the page metadata
+     */
+    protected ChangelogPage createPage(Changelog changelog, List<ChangelogEntry> pageEntries, int pageIndex, int pageSize) {
+        int totalEntries = 0;
+        if (changelog.getEntries() != null) {
+            totalEntries = changelog.getEntries().size();
+        }
+        
+        ChangelogReleaseVersion newestVersion = null;
+        ChangelogReleaseVersion oldestVersion = null;
+        for (ChangelogEntry entry : pageEntries) {
+            if (entry.getReleaseVersion() != null && entry.isReleased()) {
+                if (newestVersion == null) {
+                    newestVersion = entry.getReleaseVersion();
+                }
+                oldestVersion = entry.getReleaseVersion();
+            }
+        }
+        
+        return new ChangelogPage(pageIndex, pageSize, totalEntries, pageEntries.size(), newestVersion, oldestVersion);
+    }
+
+    
+    /**
+     * Select the newest entries with a bounded heap. Equal entries keep the order of the list, the result is the same as
+     * the beginning of the sorted list.
+     * 
+     * @param entries the entries
+     * @param maxEntries the max number of entries
+     * @return the newest entries, sorted
+     */
+    protected List<ChangelogEntry> selectNewestEntries(final List<ChangelogEntry> entries, int maxEntries) {
+        if (maxEntries <= 0) {
+            return Collections.emptyList();
+        }
+        
+        Comparator<Integer> order = (a, b) -> {
+            int result = entries.get(a).compareTo(entries.get(b));
+            if (result != 0) {
+                return result;
+            }
+            return Integer.compare(a, b);
+        };
+
+        // the head of the heap is the oldest of the selected entries
+        PriorityQueue<Integer> heap = new PriorityQueue<>(maxEntries + 1, order.reversed());
+        for (int i = 0; i < entries.size(); i++) {
+            heap.add(i);
+            if (heap.size() > maxEntries) {
+                heap.poll();
+            }
+        }
+        
+        List<Integer> selection = new ArrayList<>(heap);
+        selection.sort(order);
+        List<ChangelogEntry> result = new ArrayList<>(selection.size());
+        for (Integer index : selection) {
+            result.add(entries.get(index));
+        }
+        
+        return result;
+    }
+
+    
+    /**
+     * Check if an entry is selected by the unreleased and version range filter
+     * 
+     * @param entry the entry
+     * @param options the options
+     * @return true if the entry is selected
+     */
+    protected boolean isSelected(ChangelogEntry entry, ChangelogFormatOptions options) {
+        if (entry == null) {
+            return false;
+        }
+        
+        boolean unreleased = entry.getReleaseVersion() == null || !entry.isReleased();
+        if (options.isUnreleasedOnly()) {
+            return unreleased;
+        }
+        
+        if (unreleased) {
+            return false;
+        }
+        
+        ChangelogReleaseVersion releaseVersion = entry.getReleaseVersion();
+        if (options.getFromVersion() != null && releaseVersion.compareTo(options.getFromVersion()) < 0) {
+            return false;
+        }
+        
+        return options.getToVersion() == null || releaseVersion.compareTo(options.getToVersion()) <= 0;
+    }
+
+    
+    /**
+     * Write a piece of text and keep the end of the written text
+     * 
+     * @param result the result
+     * @param tail the end of the written text
+     * @param lineSeparator the line separator
+     * @param text the text
+     * @throws IOException In case of an I/O error
+     */
+    private void splice(Appendable result, StringBuilder tail, String lineSeparator, String text) throws IOException {
+        if (text.isEmpty()) {
+            return;
+        }
+        
+        result.append(text);
+        tail.append(text, Math.max(0, text.length() - 2 * lineSeparator.length()), text.length());
+        if (tail.length() > 2 * lineSeparator.length()) {
+            tail.delete(0, tail.length() - 2 * lineSeparator.length());
+        }
+    }
+
+    
+    /**
+     * Check if a text ends with a suffix
+     * 
+     * @param text the text
+     * @param suffix the suffix
+     * @return true if the text ends with the suffix
+     */
+    private boolean endsWith(StringBuilder text, String suffix) {
+        int start = text.length() - suffix.length();
+        return start >= 0 && text.indexOf(suffix, start) == start;
+    }
+
+    
+    /**
+     * Convert the newlines of a formatted text to the line separator of the source
+     * 
+     * @param text the formatted text
+     * @param lineSeparator the line separator
+     * @return the converted text
+     */
+    private String convertLineSeparator(StringBuilder text, String lineSeparator) {
+        if ("\n".equals(lineSeparator)) {
+            return text.toString();
+        }
+        
+        return text.toString().replace("\n", lineSeparator);
+    }
+
+    
+    /**
+     * Find the next entry heading, a line which starts with exactly two section characters. The file is read in blocks
+     * and only until the heading is found.
+     * 
+     * @param channel the channel
+     * @param start the position to start, the beginning of a line or the position of a heading to skip
+     * @return the position of the heading or -1
+     * @throws IOException In case of an I/O error
+     */
+    private long findEntryHeading(FileChannel channel, long start) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = start;
+        long lineStart = start;
+        int sectionCharacters = 0; // -1 in case the line don't start with section characters
+        if (start > 0) {
+            sectionCharacters = -1;
+        }
+        
+        while (channel.read(buffer, position) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (sectionCharacters >= 0) {
+                    if (b == SECTION_CHARACTER && sectionCharacters < 3) {
+                        sectionCharacters++;
+                    } else if (sectionCharacters == 2) {
+                        return lineStart;
+                    } else {
+                        sectionCharacters = -1;
                     }
                 }
+                
+                position++;
+                if (b == '\n') {
+                    lineStart = position;
+                    sectionCharacters = 0;
+                }
             }
+            buffer.clear();
         }
+        
+        if (sectionCharacters == 2) {
+            return lineStart;
+        }
+        
+        return -1;
+    }
 
-        return result.toString();
+    
+    /**
+     * Check if a heading is the heading of the unreleased entry
+     * 
+     * @param channel the channel
+     * @param position the position of the heading
+     * @return true if it is the unreleased heading
+     * @throws IOException In case of an I/O error
+     */
+    private boolean isUnreleasedHeading(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_HEADING_LENGTH);
+        channel.read(buffer, position);
+        buffer.flip();
+        String heading = StandardCharsets.UTF_8.decode(buffer).toString();
+        int lineEnd = heading.indexOf('\n');
+        if (lineEnd >= 0) {
+            heading = heading.substring(0, lineEnd);
+        }
+        
+        return heading.toLowerCase().contains(Changelog.UNRELEASED_ENTRY_NAME.toLowerCase());
     }
 
     
     /**
-     * Prepare bracket expression
+     * Read the line separator from the first line of the file
      * 
-     * @param config the configuration
-     * @param input the input
-     * @return the result
+     * @param channel the channel
+     * @return the line separator
+     * @throws IOException In case of an I/O error
      */
-    protected String prepareBracketExpression(ChangelogConfig config, String input) {
-        if (config.isSupportBracketsAroundVersion()) {
-            return "[" + input + "]";
+    private String readLineSeparator(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        int length = channel.read(buffer, 0);
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(i) == '\n') {
+                if (i > 0 && buffer.get(i - 1) == '\r') {
+                    return "\r\n";
+                }
+                break;
+            }
         }
         
-        return input;
+        return "\n";
     }
+
     
+    /**
+     * Read the end of the text in front of a position
+     * 
+     * @param channel the channel
+     * @param position the position
+     * @param length the max length to read
+     * @return the text
+     * @throws IOException In case of an I/O error
+     */
+    private String readEnd(FileChannel channel, long position, int length) throws IOException {
+        long start = Math.max(0, position - length);
+        ByteBuffer buffer = ByteBuffer.allocate((int) (position - start));
+        while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+            // read until the buffer is full
+        }
+        buffer.flip();
+        return StandardCharsets.ISO_8859_1.decode(buffer).toString();
+    }
+
+    
+    /**
+     * Transfer a region of the source channel to the target without decoding it
+     * 
+     * @param source the source channel
+     * @param position the position in the source
+     * @param count the number of bytes
+     * @param target the target channel
+     * @throws IOException In case of an I/O error
+     */
+    private void transfer(FileChannel source, long position, long count, FileChannel target) throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long result = source.transferTo(position + transferred, count - transferred, target);
+            if (result <= 0) {
+                throw new IOException("Could not transfer the content of the change-log!");
+            }
+            transferred += result;
+        }
+    }
+
     
     /**
      * Append a string
      * 
      * @param result the result
      * @param value the value to add
+     * @throws IOException In case of an I/O error
      */
-    protected void append(StringBuilder result, String value) {
+    protected void append(Appendable result, String value) throws IOException {
         if (value != null && !value.isEmpty()) {
             result.append(value);
         }
@@ -182,8 +1001,197 @@ public class ChangelogFormatterImpl implements IChangelogFormatter {
      * Adds a newline
      * 
      * @param result the result
+     * @throws IOException In case of an I/O error
      */
-    protected void newline(StringBuilder result) {
-        result.append("\n");
+    protected void newline(Appendable result) throws IOException {
+        result.append('\n');
+    }
+
+
+    
+    /**
+     * Get the change-log configuration. It is a copy of the configuration of the constructor and should not be modified.
+     *
+     * @return the change-log configuration
+     */
+    protected ChangelogConfig getChangelogConfig() {
+        return changelogConfig;
+    }
+
+
+    /**
+     * Compares the appended text with the source and stops at the first difference.
+     */
+    private static final class FormatComparator implements Appendable {
+        private final CharSequence source;
+        private int offset;
+        private int line;
+        private int column;
+        private ChangelogFormatDifference difference;
+        
+        
+        /**
+         * Constructor for FormatComparator
+         * 
+         * @param source the source
+         */
+        FormatComparator(CharSequence source) {
+            this.source = source;
+            this.offset = 0;
+            this.line = 1;
+            this.column = 1;
+            this.difference = null;
+        }
+
+
+        /**
+         * @see java.lang.Appendable#append(java.lang.CharSequence)
+         */
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+
+        /**
+         * @see java.lang.Appendable#append(java.lang.CharSequence, int, int)
+         */
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+
+        /**
+         * @see java.lang.Appendable#append(char)
+         */
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (offset >= source.length() || source.charAt(offset) != c) {
+                int found = ChangelogFormatDifference.END_OF_TEXT;
+                if (offset < source.length()) {
+                    found = source.charAt(offset);
+                }
+                
+                difference = new ChangelogFormatDifference(offset, line, column, c, found);
+                throw new FormatMismatchException();
+            }
+            
+            offset++;
+            if (c == '\n') {
+                line++;
+                column = 1;
+            } else {
+                column++;
+            }
+            return this;
+        }
+
+        
+        /**
+         * Check if the whole source was compared
+         * 
+         * @return the difference or null
+         */
+        ChangelogFormatDifference checkEnd() {
+            if (offset < source.length()) {
+                difference = new ChangelogFormatDifference(offset, line, column, ChangelogFormatDifference.END_OF_TEXT, source.charAt(offset));
+            }
+            return difference;
+        }
+
+        
+        /**
+         * Get the difference
+         * 
+         * @return the difference or null
+         */
+        ChangelogFormatDifference getDifference() {
+            return difference;
+        }
+    }
+
+    
+    /**
+     * Stops the rendering at the first difference, it has no stack trace.
+     */
+    private static final class FormatMismatchException extends IOException {
+        private static final long serialVersionUID = -6391263873427641285L;
+
+        
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+
+    /**
+     * Renders a range of entries into buffers, a larger range is split.
+     */
+    private final class RenderTask extends RecursiveAction {
+        private static final long serialVersionUID = -5581224187430553096L;
+        private final transient List<ChangelogEntry> entries;
+        private final String[] fragments;
+        private final int fragmentOffset;
+        private final int start;
+        private final int end;
+        private final boolean firstWithoutNewline;
+
+        
+        /**
+         * Constructor for RenderTask
+         * 
+         * @param entries the entries
+         * @param fragments the rendered fragments of the batch
+         * @param fragmentOffset the index of the entry of the first fragment
+         * @param start the first entry to render (inclusive)
+         * @param end the last entry to render (exclusive)
+         * @param firstWithoutNewline true if the entry of the first fragment has no leading empty line
+         */
+        RenderTask(List<ChangelogEntry> entries, String[] fragments, int fragmentOffset, int start, int end, boolean firstWithoutNewline) {
+            this.entries = entries;
+            this.fragments = fragments;
+            this.fragmentOffset = fragmentOffset;
+            this.start = start;
+            this.end = end;
+            this.firstWithoutNewline = firstWithoutNewline;
+        }
+
+        
+        /**
+         * @see java.util.concurrent.RecursiveAction#compute()
+         */
+        @Override
+        protected void compute() {
+            if (end - start > RENDER_TASK_SIZE) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new RenderTask(entries, fragments, fragmentOffset, start, middle, firstWithoutNewline),
+                          new RenderTask(entries, fragments, fragmentOffset, middle, end, firstWithoutNewline));
+                return;
+            }
+            
+            for (int i = start; i < end; i++) {
+                StringBuilder fragment = new StringBuilder();
+                try {
+                    if (i == fragmentOffset && firstWithoutNewline) {
+                        renderEntry(fragment, entries.get(i));
+                    } else {
+                        formatEntry(fragment, entries.get(i));
+                    }
+                } catch (IOException e) {
+                    // a StringBuilder don't throw an I/O exception
+                    throw new UncheckedIOException(e);
+                }
+                
+                fragments[i - fragmentOffset] = fragment.toString();
+            }
+        }
     }
 }
@@ -0,0 +1,213 @@
+/*
+ * ChangelogRenderPlan.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter.impl;
+
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogChangeType;
+import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * The render plan of a {@link ChangelogConfig}: all prefixes, separators and bracket templates are built once, that an
+ * entry can be rendered mostly by appending prepared strings. The plan is immutable except the version cache and can
+ * be shared between threads.
+ * 
+ * @author patrick
+ */
+final class ChangelogRenderPlan {
+    private static final String SPACE = " ";
+    private static final int MAX_CACHED_VERSIONS = 4096;
+    private final String projectPrefix;
+    private final String entryPrefix;
+    private final String versionOpen;
+    private final String versionClose;
+    private final String linkVersionOpen;
+    private final String linkVersionClose;
+    private final String headerSeparator;
+    private final String yanked;
+    private final String itemPrefix;
+    private final String unreleasedHeading;
+    private final boolean supportUnreleased;
+    private final boolean supportReleaseLink;
+    private final Map<ChangelogChangeType, String> sectionHeadings;
+    private final Map<ChangelogReleaseVersion, String> versionCache;
+
+
+    /**
+     * Constructor for ChangelogRenderPlan
+     * 
+     * @param changelogConfig the change-log configuration
+     */
+    ChangelogRenderPlan(ChangelogConfig changelogConfig) {
+        String sectionCharacter = String.valueOf(changelogConfig.getSectionCharacter());
+        String space = "";
+        if (changelogConfig.isSupportSpaceAroundVersion()) {
+            space = SPACE;
+        }
+        
+        String bracketOpen = "";
+        String bracketClose = "";
+        if (changelogConfig.isSupportBracketsAroundVersion()) {
+            bracketOpen = "[";
+            bracketClose = "]";
+        }
+        
+        projectPrefix = sectionCharacter + SPACE;
+        entryPrefix = sectionCharacter + sectionCharacter + SPACE;
+        versionOpen = entryPrefix + bracketOpen + space;
+        versionClose = space + bracketClose;
+        linkVersionOpen = entryPrefix + "[" + space;
+        linkVersionClose = space + "](";
+        headerSeparator = SPACE + changelogConfig.getHeaderSeparator() + SPACE;
+        yanked = headerSeparator + bracketOpen + "YANKED" + bracketClose;
+        itemPrefix = changelogConfig.getItemSeparator() + SPACE;
+        supportUnreleased = changelogConfig.isSupportUnreleased();
+        supportReleaseLink = changelogConfig.isSupportReleaseLink();
+        unreleasedHeading = versionOpen + Changelog.UNRELEASED_ENTRY_NAME + versionClose;
+        
+        String sectionPrefix = sectionCharacter + sectionCharacter + sectionCharacter + SPACE;
+        sectionHeadings = new EnumMap<>(ChangelogChangeType.class);
+        for (ChangelogChangeType changeType : ChangelogChangeType.values()) {
+            sectionHeadings.put(changeType, sectionPrefix + changeType.getTypeName());
+        }
+        
+        versionCache = new ConcurrentHashMap<>();
+    }
+
+    
+    /**
+     * Get the project heading prefix
+     * 
+     * @return the project heading prefix
+     */
+    String getProjectPrefix() {
+        return projectPrefix;
+    }
+
+    
+    /**
+     * Check if unreleased is supported
+     * 
+     * @return true if unreleased is supported
+     */
+    boolean isSupportUnreleased() {
+        return supportUnreleased;
+    }
+
+    
+    /**
+     * Check if release link is supported
+     * 
+     * @return true if release link is supported
+     */
+    boolean isSupportReleaseLink() {
+        return supportReleaseLink;
+    }
+
+    
+    /**
+     * Get the heading of a version without release link
+     * 
+     * @param releaseVersion the release version or null for the unreleased entry
+     * @return the heading, e.g. <code>## [ 1.0.0 ]</code>
+     */
+    String getVersionHeading(ChangelogReleaseVersion releaseVersion) {
+        if (releaseVersion == null) {
+            return unreleasedHeading;
+        }
+
+        String heading = versionCache.get(releaseVersion);
+        if (heading == null) {
+            heading = versionOpen + releaseVersion.toString() + versionClose;
+            if (versionCache.size() >= MAX_CACHED_VERSIONS) {
+                versionCache.clear();
+            }
+            versionCache.put(releaseVersion, heading);
+        }
+        
+        return heading;
+    }
+
+    
+    /**
+     * Get the text of a version inside the link brackets
+     * 
+     * @param releaseVersion the release version or null for the unreleased entry
+     * @return the version text
+     */
+    String getLinkVersionText(ChangelogReleaseVersion releaseVersion) {
+        if (releaseVersion == null) {
+            return Changelog.UNRELEASED_ENTRY_NAME;
+        }
+        
+        return releaseVersion.toString();
+    }
+
+    
+    /**
+     * Get the open part of a version heading with release link
+     * 
+     * @return the open part, e.g. <code>## [ </code>
+     */
+    String getLinkVersionOpen() {
+        return linkVersionOpen;
+    }
+
+    
+    /**
+     * Get the close part of a version heading with release link, followed by the link
+     * 
+     * @return the close part, e.g. <code> ](</code>
+     */
+    String getLinkVersionClose() {
+        return linkVersionClose;
+    }
+
+    
+    /**
+     * Get the header separator including the spaces
+     * 
+     * @return the header separator, e.g. <code> - </code>
+     */
+    String getHeaderSeparator() {
+        return headerSeparator;
+    }
+
+    
+    /**
+     * Get the yanked marker including the leading header separator
+     * 
+     * @return the yanked marker, e.g. <code> - [YANKED]</code>
+     */
+    String getYanked() {
+        return yanked;
+    }
+
+    
+    /**
+     * Get the item prefix
+     * 
+     * @return the item prefix, e.g. <code>- </code>
+     */
+    String getItemPrefix() {
+        return itemPrefix;
+    }
+
+    
+    /**
+     * Get the section heading
+     * 
+     * @param changeType the change type
+     * @return the section heading, e.g. <code>### Added</code>
+     */
+    String getSectionHeading(ChangelogChangeType changeType) {
+        return sectionHeadings.get(changeType);
+    }
+}
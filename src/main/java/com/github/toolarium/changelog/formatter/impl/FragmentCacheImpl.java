@@ -0,0 +1,167 @@
+/*
+ * FragmentCacheImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter.impl;
+
+import com.github.toolarium.changelog.formatter.IFragmentCache;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Implements the fragment cache as a least recently used in-memory cache. The size is bounded by the number of fragments
+ * and by the total number of cached characters.
+ *  
+ * @author patrick
+ */
+public class FragmentCacheImpl implements IFragmentCache {
+    /** The default number of fragments */
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+    /** The default number of cached characters */
+    public static final long DEFAULT_MAX_CHARACTERS = 16L * 1024 * 1024;
+    private final Map<String, String> cache;
+    private final long maxCharacters;
+    private long characters;
+    private long hitCount;
+    private long missCount;
+
+    
+    /**
+     * Constructor for FragmentCacheImpl
+     */
+    public FragmentCacheImpl() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_CHARACTERS);
+    }
+
+    
+    /**
+     * Constructor for FragmentCacheImpl
+     * 
+     * @param maxEntries the max number of fragments
+     * @param maxCharacters the max number of cached characters
+     * @throws IllegalArgumentException In case of an invalid max entries or max characters
+     */
+    public FragmentCacheImpl(final int maxEntries, final long maxCharacters) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid max entries: " + maxEntries + "!");
+        }
+        
+        if (maxCharacters <= 0) {
+            throw new IllegalArgumentException("Invalid max characters: " + maxCharacters + "!");
+        }
+
+        this.cache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                if (size() > maxEntries) {
+                    characters -= eldest.getValue().length();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.maxCharacters = maxCharacters;
+        this.characters = 0;
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IFragmentCache#get(java.lang.String)
+     */
+    @Override
+    public synchronized String get(String key) {
+        String fragment = null;
+        if (key != null) {
+            fragment = cache.get(key);
+        }
+        
+        if (fragment != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        
+        return fragment;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IFragmentCache#put(java.lang.String, java.lang.String)
+     */
+    @Override
+    public synchronized void put(String key, String fragment) {
+        if (key == null || fragment == null || fragment.length() > maxCharacters) {
+            return;
+        }
+        
+        String previousFragment = cache.put(key, fragment);
+        if (previousFragment != null) {
+            characters -= previousFragment.length();
+        }
+        characters += fragment.length();
+
+        // the access order starts with the least recently used fragment
+        while (characters > maxCharacters && !cache.isEmpty()) {
+            Map.Entry<String, String> eldest = cache.entrySet().iterator().next();
+            characters -= eldest.getValue().length();
+            cache.remove(eldest.getKey());
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IFragmentCache#size()
+     */
+    @Override
+    public synchronized int size() {
+        return cache.size();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IFragmentCache#getHitCount()
+     */
+    @Override
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IFragmentCache#getMissCount()
+     */
+    @Override
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.formatter.IFragmentCache#clear()
+     */
+    @Override
+    public synchronized void clear() {
+        cache.clear();
+        characters = 0;
+        hitCount = 0;
+        missCount = 0;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public synchronized String toString() {
+        return "FragmentCacheImpl [size=" + cache.size() + ", characters=" + characters + ", hitCount=" + hitCount + ", missCount=" + missCount + "]";
+    }
+}
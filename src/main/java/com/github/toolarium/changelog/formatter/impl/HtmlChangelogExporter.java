@@ -0,0 +1,186 @@
+/*
+ * HtmlChangelogExporter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter.impl;
+
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogSection;
+import java.io.IOException;
+
+
+/**
+ * Implements the HTML exporter. The change-log is written as HTML fragment which can be embedded into a page, the
+ * project name is a <code>h1</code>, the entries are <code>h2</code> and the sections <code>h3</code> with a list.
+ * 
+ * @author patrick
+ */
+public class HtmlChangelogExporter extends AbstractChangelogExporter {
+    /** The name of the format */
+    public static final String FORMAT = "html";
+    private static final String YANKED = " [YANKED]";
+
+    
+    /**
+     * Constructor for HtmlChangelogExporter
+     */
+    public HtmlChangelogExporter() {
+        super(FORMAT);
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startChangelog(java.lang.Appendable, com.github.toolarium.changelog.dto.Changelog)
+     */
+    @Override
+    protected void startChangelog(Appendable result, Changelog changelog) throws IOException {
+        result.append("<h1>");
+        text(result, changelog.getProjectName());
+        result.append("</h1>\n");
+        paragraph(result, changelog.getDescription());
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startEntry(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogEntry, int)
+     */
+    @Override
+    protected void startEntry(Appendable result, ChangelogEntry entry, int index) throws IOException {
+        result.append("<h2>");
+        if (entry.getReleaseLink() != null) {
+            result.append("<a href=\"");
+            text(result, entry.getReleaseLink().toExternalForm());
+            result.append("\">");
+            text(result, getVersionText(entry));
+            result.append("</a>");
+        } else {
+            text(result, getVersionText(entry));
+        }
+        
+        if (entry.getReleaseDate() != null) {
+            result.append(" - ").append(entry.getReleaseDate().toString());
+            if (entry.wasYanked()) {
+                result.append(YANKED);
+            }
+
+            if (hasText(entry.getInfo())) {
+                result.append(" - ");
+                text(result, entry.getInfo());
+            }
+        }
+        result.append("</h2>\n");
+        paragraph(result, entry.getDescription());
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startSection(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogSection, int)
+     */
+    @Override
+    protected void startSection(Appendable result, ChangelogSection section, int index) throws IOException {
+        if (section.getChangeType() != null) {
+            result.append("<h3>").append(section.getChangeType().getTypeName()).append("</h3>\n");
+        }
+        result.append("<ul>\n");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#comment(java.lang.Appendable, java.lang.String, int)
+     */
+    @Override
+    protected void comment(Appendable result, String comment, int index) throws IOException {
+        result.append("<li>");
+        text(result, comment);
+        result.append("</li>\n");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endSection(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogSection)
+     */
+    @Override
+    protected void endSection(Appendable result, ChangelogSection section) throws IOException {
+        result.append("</ul>\n");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endEntry(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogEntry)
+     */
+    @Override
+    protected void endEntry(Appendable result, ChangelogEntry entry) throws IOException {
+        // NOP
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endChangelog(java.lang.Appendable, com.github.toolarium.changelog.dto.Changelog)
+     */
+    @Override
+    protected void endChangelog(Appendable result, Changelog changelog) throws IOException {
+        // NOP
+    }
+
+    
+    /**
+     * Write a paragraph in case the text is not empty
+     * 
+     * @param result the result
+     * @param value the text or null
+     * @throws IOException In case of an I/O error
+     */
+    protected void paragraph(Appendable result, String value) throws IOException {
+        if (hasText(value)) {
+            result.append("<p>");
+            text(result, value.strip());
+            result.append("</p>\n");
+        }
+    }
+
+    
+    /**
+     * Write an escaped text. The unescaped parts of the value are written without a copy.
+     * 
+     * @param result the result
+     * @param value the value or null
+     * @throws IOException In case of an I/O error
+     */
+    protected void text(Appendable result, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            String replacement;
+            switch (value.charAt(i)) {
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '"':
+                    replacement = "&quot;";
+                    break;
+                case '\'':
+                    replacement = "&#39;";
+                    break;
+                default:
+                    continue;
+            }
+            
+            result.append(value, start, i).append(replacement);
+            start = i + 1;
+        }
+        
+        result.append(value, start, length);
+    }
+}
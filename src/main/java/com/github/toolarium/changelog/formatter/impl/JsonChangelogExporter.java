@@ -0,0 +1,212 @@
+/*
+ * JsonChangelogExporter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.formatter.impl;
+
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogSection;
+import java.io.IOException;
+
+
+/**
+ * Implements the JSON exporter. The change-log is written as one compact JSON object:
+ * <pre>
+ * {"projectName":"...","description":"...","entries":[{"releaseVersion":"1.0.0","released":true,"releaseDate":"2021-04-08",
+ *  "releaseLink":null,"yanked":false,"info":null,"description":null,"sections":[{"changeType":"Added","comments":["..."]}]}]}
+ * </pre>
+ * The version of the unreleased entry is <code>null</code>.
+ * 
+ * @author patrick
+ */
+public class JsonChangelogExporter extends AbstractChangelogExporter {
+    /** The name of the format */
+    public static final String FORMAT = "json";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    
+    /**
+     * Constructor for JsonChangelogExporter
+     */
+    public JsonChangelogExporter() {
+        super(FORMAT);
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startChangelog(java.lang.Appendable, com.github.toolarium.changelog.dto.Changelog)
+     */
+    @Override
+    protected void startChangelog(Appendable result, Changelog changelog) throws IOException {
+        result.append("{\"projectName\":");
+        string(result, changelog.getProjectName());
+        result.append(",\"description\":");
+        string(result, changelog.getDescription());
+        result.append(",\"entries\":[");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startEntry(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogEntry, int)
+     */
+    @Override
+    protected void startEntry(Appendable result, ChangelogEntry entry, int index) throws IOException {
+        if (index > 0) {
+            result.append(',');
+        }
+        
+        boolean released = entry.getReleaseVersion() != null && entry.isReleased();
+        result.append("{\"releaseVersion\":");
+        if (released) {
+            string(result, entry.getReleaseVersion().toString());
+        } else {
+            result.append("null");
+        }
+        
+        result.append(",\"released\":").append(String.valueOf(released));
+        result.append(",\"releaseDate\":");
+        if (entry.getReleaseDate() != null) {
+            string(result, entry.getReleaseDate().toString());
+        } else {
+            result.append("null");
+        }
+        
+        result.append(",\"releaseLink\":");
+        if (entry.getReleaseLink() != null) {
+            string(result, entry.getReleaseLink().toExternalForm());
+        } else {
+            result.append("null");
+        }
+        
+        result.append(",\"yanked\":").append(String.valueOf(entry.wasYanked()));
+        result.append(",\"info\":");
+        string(result, entry.getInfo());
+        result.append(",\"description\":");
+        string(result, entry.getDescription());
+        result.append(",\"sections\":[");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#startSection(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogSection, int)
+     */
+    @Override
+    protected void startSection(Appendable result, ChangelogSection section, int index) throws IOException {
+        if (index > 0) {
+            result.append(',');
+        }
+        
+        result.append("{\"changeType\":");
+        if (section.getChangeType() != null) {
+            string(result, section.getChangeType().getTypeName());
+        } else {
+            result.append("null");
+        }
+        result.append(",\"comments\":[");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#comment(java.lang.Appendable, java.lang.String, int)
+     */
+    @Override
+    protected void comment(Appendable result, String comment, int index) throws IOException {
+        if (index > 0) {
+            result.append(',');
+        }
+        
+        string(result, comment);
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endSection(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogSection)
+     */
+    @Override
+    protected void endSection(Appendable result, ChangelogSection section) throws IOException {
+        result.append("]}");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endEntry(java.lang.Appendable, com.github.toolarium.changelog.dto.ChangelogEntry)
+     */
+    @Override
+    protected void endEntry(Appendable result, ChangelogEntry entry) throws IOException {
+        result.append("]}");
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.formatter.impl.AbstractChangelogExporter#endChangelog(java.lang.Appendable, com.github.toolarium.changelog.dto.Changelog)
+     */
+    @Override
+    protected void endChangelog(Appendable result, Changelog changelog) throws IOException {
+        result.append("]}");
+    }
+
+    
+    /**
+     * Write a JSON string.
+     * 
+     * @param result the result
+     * @param value the value or null
+     * @throws IOException In case of an I/O error
+     */
+    protected void string(Appendable result, String value) throws IOException {
+        appendString(result, value);
+    }
+
+    
+    /**
+     * Write a JSON string. The unescaped parts of the value are written without a copy.
+     * 
+     * @param result the result
+     * @param value the value or null
+     * @throws IOException In case of an I/O error
+     */
+    public static void appendString(Appendable result, String value) throws IOException {
+        if (value == null) {
+            result.append("null");
+            return;
+        }
+        
+        result.append('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') {
+                continue;
+            }
+            
+            result.append(value, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    result.append("\\u").append(HEX[(c >> 12) & 0xF]).append(HEX[(c >> 8) & 0xF]).append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+                    break;
+            }
+        }
+        
+        result.append(value, start, length);
+        result.append('"');
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * AsyncFiles.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+
+/**
+ * Reads and writes files with an {@link AsynchronousFileChannel}: no thread is blocked while the data is transferred, the
+ * returned future is completed by the I/O completion handler. The text is UTF-8 encoded like {@link java.nio.file.Files#readString(Path)}.
+ *
+ * @author patrick
+ */
+public final class AsyncFiles {
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int MIN_BUFFER_SIZE = 8192;
+    private static final int PROBE_BUFFER_SIZE = 512;
+
+
+    /**
+     * Constructor for AsyncFiles
+     */
+    private AsyncFiles() {
+        // NOP
+    }
+
+
+    /**
+     * Read all bytes of a file.
+     *
+     * @param file the file
+     * @return the future of the content; it completes exceptionally with an {@link IOException} in case the file could not be read
+     */
+    public static CompletableFuture<byte[]> readAllBytes(Path file) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        if (file == null) {
+            result.completeExceptionally(new IOException("Invalid filename input!"));
+            return result;
+        }
+
+        AsynchronousFileChannel channel = null;
+        try {
+            channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ);
+            long size = channel.size();
+            if (size > MAX_ARRAY_SIZE) {
+                throw new IOException("Too large file: " + file + "!");
+            }
+
+            // the buffer has the size of the file, a file without a known size (e.g. of a special file system) is read in chunks
+            int bufferSize = MIN_BUFFER_SIZE;
+            if (size > 0) {
+                bufferSize = (int) size;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+            channel.read(buffer, 0, buffer, new ReadHandler(channel, buffer, result));
+        } catch (IOException | RuntimeException e) {
+            close(channel);
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Read the UTF-8 encoded content of a file.
+     *
+     * @param file the file
+     * @return the future of the content; it completes exceptionally with an {@link IOException} in case the file could not be
+     * read or is not UTF-8 encoded
+     */
+    public static CompletableFuture<String> readString(Path file) {
+        return readAllBytes(file).thenApply(AsyncFiles::decode);
+    }
+
+
+    /**
+     * Write a text UTF-8 encoded to a file. An existing file is replaced.
+     *
+     * @param file the file
+     * @param content the content
+     * @return the future which completes after the content is written; it completes exceptionally with an {@link IOException}
+     * in case the file could not be written
+     */
+    public static CompletableFuture<Void> writeString(Path file, CharSequence content) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (file == null) {
+            result.completeExceptionally(new IOException("Invalid filename input!"));
+            return result;
+        }
+
+        AsynchronousFileChannel channel = null;
+        try {
+            ByteBuffer buffer = StandardCharsets.UTF_8.newEncoder().encode(CharBuffer.wrap(content));
+            channel = AsynchronousFileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            channel.write(buffer, 0, buffer, new WriteHandler(channel, result));
+        } catch (IOException | RuntimeException e) {
+            close(channel);
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Decode the UTF-8 content, malformed input is rejected
+     *
+     * @param content the content
+     * @return the text
+     * @throws CompletionException In case of malformed input
+     */
+    private static String decode(byte[] content) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString();
+        } catch (CharacterCodingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+
+    /**
+     * Close a channel quietly
+     *
+     * @param channel the channel or null
+     */
+    private static void close(AsynchronousFileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // NOP
+            }
+        }
+    }
+
+
+    /**
+     * Reads the file until its end. A full buffer is not enlarged to find the end of the file, the end is probed with a
+     * small separate read; only in case the file grew after its size was read the buffer grows.
+     */
+    private static final class ReadHandler implements CompletionHandler<Integer, ByteBuffer> {
+        private final AsynchronousFileChannel channel;
+        private final CompletableFuture<byte[]> result;
+        private final ByteBuffer probe;
+        private ByteBuffer buffer;
+
+
+        /**
+         * Constructor for ReadHandler
+         *
+         * @param channel the channel
+         * @param buffer the buffer
+         * @param result the result
+         */
+        ReadHandler(AsynchronousFileChannel channel, ByteBuffer buffer, CompletableFuture<byte[]> result) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.result = result;
+            this.probe = ByteBuffer.allocate(PROBE_BUFFER_SIZE);
+        }
+
+
+        /**
+         * @see java.nio.channels.CompletionHandler#completed(java.lang.Object, java.lang.Object)
+         */
+        @Override
+        public void completed(Integer readBytes, ByteBuffer readBuffer) {
+            if (readBytes < 0) {
+                close(channel);
+                if (!buffer.hasRemaining()) {
+                    result.complete(buffer.array());
+                } else {
+                    result.complete(Arrays.copyOf(buffer.array(), buffer.position()));
+                }
+                return;
+            }
+
+            try {
+                if (readBuffer == probe) {
+                    // the file grew after its size was read
+                    if (buffer.capacity() >= MAX_ARRAY_SIZE - probe.position()) {
+                        throw new IOException("Too large file!");
+                    }
+
+                    ByteBuffer largerBuffer = ByteBuffer.allocate((int) Math.min(2L * buffer.capacity() + probe.position(), MAX_ARRAY_SIZE));
+                    buffer.flip();
+                    largerBuffer.put(buffer);
+                    probe.flip();
+                    largerBuffer.put(probe);
+                    probe.clear();
+                    buffer = largerBuffer;
+                }
+
+                if (buffer.hasRemaining()) {
+                    channel.read(buffer, buffer.position(), buffer, this);
+                } else {
+                    channel.read(probe, buffer.position(), probe, this);
+                }
+            } catch (IOException | RuntimeException e) {
+                failed(e, readBuffer);
+            }
+        }
+
+
+        /**
+         * @see java.nio.channels.CompletionHandler#failed(java.lang.Throwable, java.lang.Object)
+         */
+        @Override
+        public void failed(Throwable exception, ByteBuffer buffer) {
+            close(channel);
+            result.completeExceptionally(exception);
+        }
+    }
+
+
+    /**
+     * Writes the buffer until it has no remaining bytes.
+     */
+    private static final class WriteHandler implements CompletionHandler<Integer, ByteBuffer> {
+        private final AsynchronousFileChannel channel;
+        private final CompletableFuture<Void> result;
+        private long position;
+
+
+        /**
+         * Constructor for WriteHandler
+         *
+         * @param channel the channel
+         * @param result the result
+         */
+        WriteHandler(AsynchronousFileChannel channel, CompletableFuture<Void> result) {
+            this.channel = channel;
+            this.result = result;
+            this.position = 0;
+        }
+
+
+        /**
+         * @see java.nio.channels.CompletionHandler#completed(java.lang.Object, java.lang.Object)
+         */
+        @Override
+        public void completed(Integer writtenBytes, ByteBuffer buffer) {
+            position += writtenBytes;
+            if (!buffer.hasRemaining()) {
+                close(channel);
+                result.complete(null);
+                return;
+            }
+
+            try {
+                channel.write(buffer, position, buffer, this);
+            } catch (RuntimeException e) {
+                failed(e, buffer);
+            }
+        }
+
+
+        /**
+         * @see java.nio.channels.CompletionHandler#failed(java.lang.Throwable, java.lang.Object)
+         */
+        @Override
+        public void failed(Throwable exception, ByteBuffer buffer) {
+            close(channel);
+            result.completeExceptionally(exception);
+        }
+    }
+}
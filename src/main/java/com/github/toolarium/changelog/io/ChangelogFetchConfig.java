@@ -0,0 +1,242 @@
+/*
+ * ChangelogFetchConfig.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.io;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+
+
+/**
+ * Defines the configuration of the fetcher of remote change-log files: the timeout, the max number of concurrent
+ * connections per host and the retries of transient failures. A retry waits an exponential growing backoff with a random
+ * jitter, that many clients don't retry at the same time.
+ * 
+ * @author patrick
+ */
+public class ChangelogFetchConfig implements Serializable {
+    /** The default timeout */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    /** The default max number of concurrent connections per host */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+    /** The default max number of retries */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    /** The default backoff of the first retry */
+    public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(200);
+    /** The default max backoff of a retry */
+    public static final Duration DEFAULT_MAX_RETRY_BACKOFF = Duration.ofSeconds(10);
+    /** The default size of the first range of a partial fetch in bytes */
+    public static final int DEFAULT_RANGE_SIZE = 16 * 1024;
+    private static final long serialVersionUID = 2240712397364315541L;
+    private Duration timeout;
+    private int maxConnectionsPerHost;
+    private int maxRetries;
+    private Duration retryBackoff;
+    private Duration maxRetryBackoff;
+    private int rangeSize;
+
+    
+    /**
+     * Constructor for ChangelogFetchConfig
+     */
+    public ChangelogFetchConfig() {
+        timeout = DEFAULT_TIMEOUT;
+        maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+        maxRetries = DEFAULT_MAX_RETRIES;
+        retryBackoff = DEFAULT_RETRY_BACKOFF;
+        maxRetryBackoff = DEFAULT_MAX_RETRY_BACKOFF;
+        rangeSize = DEFAULT_RANGE_SIZE;
+    }
+
+    
+    /**
+     * Get the connect and request timeout
+     * 
+     * @return the timeout
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    
+    /**
+     * Set the connect and request timeout
+     * 
+     * @param timeout the timeout
+     * @throws IllegalArgumentException In case of an invalid timeout
+     */
+    public void setTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Invalid timeout: " + timeout + "!");
+        }
+        
+        this.timeout = timeout;
+    }
+
+    
+    /**
+     * Get the max number of concurrent connections per host
+     * 
+     * @return the max number of concurrent connections per host
+     */
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    
+    /**
+     * Set the max number of concurrent connections per host
+     * 
+     * @param maxConnectionsPerHost the max number of concurrent connections per host
+     * @throws IllegalArgumentException In case of an invalid number
+     */
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException("Invalid max connections per host: " + maxConnectionsPerHost + "!");
+        }
+        
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    
+    /**
+     * Get the max number of retries of a transient failure, e.g. a connection failure or a <code>503</code> response
+     * 
+     * @return the max number of retries
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    
+    /**
+     * Set the max number of retries of a transient failure
+     * 
+     * @param maxRetries the max number of retries, 0 to not retry
+     * @throws IllegalArgumentException In case of an invalid number
+     */
+    public void setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Invalid max retries: " + maxRetries + "!");
+        }
+        
+        this.maxRetries = maxRetries;
+    }
+
+    
+    /**
+     * Get the backoff of the first retry, it is doubled with each further retry
+     * 
+     * @return the backoff
+     */
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    
+    /**
+     * Set the backoff of the first retry
+     * 
+     * @param retryBackoff the backoff
+     * @throws IllegalArgumentException In case of an invalid backoff
+     */
+    public void setRetryBackoff(Duration retryBackoff) {
+        if (retryBackoff == null || retryBackoff.isNegative()) {
+            throw new IllegalArgumentException("Invalid retry backoff: " + retryBackoff + "!");
+        }
+        
+        this.retryBackoff = retryBackoff;
+    }
+
+    
+    /**
+     * Get the max backoff of a retry, it limits as well a <code>Retry-After</code> of the server
+     * 
+     * @return the max backoff
+     */
+    public Duration getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    
+    /**
+     * Set the max backoff of a retry
+     * 
+     * @param maxRetryBackoff the max backoff
+     * @throws IllegalArgumentException In case of an invalid backoff
+     */
+    public void setMaxRetryBackoff(Duration maxRetryBackoff) {
+        if (maxRetryBackoff == null || maxRetryBackoff.isNegative()) {
+            throw new IllegalArgumentException("Invalid max retry backoff: " + maxRetryBackoff + "!");
+        }
+        
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+
+    /**
+     * Get the size of the first range of a partial fetch, a further range is twice as large as the previous one
+     * 
+     * @return the range size in bytes
+     */
+    public int getRangeSize() {
+        return rangeSize;
+    }
+
+    
+    /**
+     * Set the size of the first range of a partial fetch
+     * 
+     * @param rangeSize the range size in bytes
+     * @throws IllegalArgumentException In case of an invalid size
+     */
+    public void setRangeSize(int rangeSize) {
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("Invalid range size: " + rangeSize + "!");
+        }
+        
+        this.rangeSize = rangeSize;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(timeout, maxConnectionsPerHost, maxRetries, retryBackoff, maxRetryBackoff, rangeSize);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ChangelogFetchConfig other = (ChangelogFetchConfig) obj;
+        return Objects.equals(timeout, other.timeout) && maxConnectionsPerHost == other.maxConnectionsPerHost && maxRetries == other.maxRetries
+               && Objects.equals(retryBackoff, other.retryBackoff) && Objects.equals(maxRetryBackoff, other.maxRetryBackoff) && rangeSize == other.rangeSize;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogFetchConfig [timeout=" + timeout + ", maxConnectionsPerHost=" + maxConnectionsPerHost + ", maxRetries=" + maxRetries
+               + ", retryBackoff=" + retryBackoff + ", maxRetryBackoff=" + maxRetryBackoff + ", rangeSize=" + rangeSize + "]";
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * ChangelogFetchResult.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.io;
+
+import java.io.Serializable;
+
+
+/**
+ * Defines the result of a fetched remote change-log: the content and the validators of the response which are used to
+ * revalidate the cached content.
+ * 
+ * @author patrick
+ */
+public class ChangelogFetchResult implements Serializable {
+    private static final long serialVersionUID = -6731049725140583215L;
+    private final String url;
+    private final String content;
+    private final int statusCode;
+    private final boolean fromCache;
+    private final String entityTag;
+    private final String lastModified;
+    private final boolean truncated;
+
+    
+    /**
+     * Constructor for ChangelogFetchResult
+     * 
+     * @param url the url
+     * @param content the content
+     * @param statusCode the HTTP status code of the response
+     * @param fromCache true if the content is from the cache, e.g. after a <code>304 Not Modified</code> response
+     * @param entityTag the <code>ETag</code> of the content or null
+     * @param lastModified the <code>Last-Modified</code> date of the content or null
+     */
+    public ChangelogFetchResult(String url, String content, int statusCode, boolean fromCache, String entityTag, String lastModified) {
+        this(url, content, statusCode, fromCache, entityTag, lastModified, false);
+    }
+
+    
+    /**
+     * Constructor for ChangelogFetchResult
+     * 
+     * @param url the url
+     * @param content the content
+     * @param statusCode the HTTP status code of the last response
+     * @param fromCache true if the content is from the cache, e.g. after a <code>304 Not Modified</code> response
+     * @param entityTag the <code>ETag</code> of the content or null
+     * @param lastModified the <code>Last-Modified</code> date of the content or null
+     * @param truncated true if the content is only the top of the change-log
+     */
+    public ChangelogFetchResult(String url, String content, int statusCode, boolean fromCache, String entityTag, String lastModified, boolean truncated) {
+        this.url = url;
+        this.content = content;
+        this.statusCode = statusCode;
+        this.fromCache = fromCache;
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+        this.truncated = truncated;
+    }
+
+    
+    /**
+     * Get the url
+     * 
+     * @return the url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    
+    /**
+     * Get the content
+     * 
+     * @return the content
+     */
+    public String getContent() {
+        return content;
+    }
+
+    
+    /**
+     * Get the HTTP status code of the response
+     * 
+     * @return the status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    
+    /**
+     * Check if the content is from the cache
+     * 
+     * @return true if the content is from the cache
+     */
+    public boolean isFromCache() {
+        return fromCache;
+    }
+
+    
+    /**
+     * Get the <code>ETag</code> of the content
+     * 
+     * @return the entity tag or null
+     */
+    public String getEntityTag() {
+        return entityTag;
+    }
+
+    
+    /**
+     * Get the <code>Last-Modified</code> date of the content
+     * 
+     * @return the last modified date or null
+     */
+    public String getLastModified() {
+        return lastModified;
+    }
+
+
+    /**
+     * Check if the content is only the top of the change-log, e.g. of a partial fetch
+     * 
+     * @return true if the content is truncated
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogFetchResult [url=" + url + ", statusCode=" + statusCode + ", fromCache=" + fromCache + ", entityTag=" + entityTag + ", lastModified=" + lastModified + ", truncated=" + truncated + "]";
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * IChangelogFetcher.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.io;
+
+import java.io.IOException;
+
+
+/**
+ * Defines the fetcher of remote change-log files.
+ * 
+ * @author patrick
+ */
+public interface IChangelogFetcher {
+    
+    /**
+     * Fetch a remote change-log. A cached content is revalidated and only downloaded again in case it was modified.
+     * 
+     * @param url the url
+     * @return the fetch result
+     * @throws IOException In case the change-log could not be fetched
+     */
+    ChangelogFetchResult fetch(String url) throws IOException;
+
+    
+    /**
+     * Fetch the top of a remote change-log with at least the given number of entries, e.g. to check the newest release.
+     * The change-log is requested in growing ranges until the entries are complete. In case the server don't support
+     * ranges the whole change-log is downloaded. The content ends before the next entry, it can be parsed as change-log.
+     * 
+     * @param url the url
+     * @param entryCount the number of entries
+     * @return the fetch result, it is truncated in case the change-log has more entries
+     * @throws IOException In case the change-log could not be fetched
+     * @throws IllegalArgumentException In case of an invalid number of entries
+     */
+    ChangelogFetchResult fetchHead(String url, int entryCount) throws IOException;
+}
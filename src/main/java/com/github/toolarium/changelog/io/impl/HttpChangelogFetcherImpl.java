@@ -0,0 +1,694 @@
+/*
+ * HttpChangelogFetcherImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.io.impl;
+
+import com.github.toolarium.changelog.io.ChangelogFetchConfig;
+import com.github.toolarium.changelog.io.ChangelogFetchResult;
+import com.github.toolarium.changelog.io.IChangelogFetcher;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import javax.net.ssl.SSLException;
+
+
+/**
+ * Implements the fetcher of remote change-log files with the {@link HttpClient}: HTTP/2 in case the server supports it,
+ * gzip compressed responses and reused connections. The responses are cached on disk and revalidated with
+ * <code>If-None-Match</code> and <code>If-Modified-Since</code>, an unmodified change-log is answered with a
+ * <code>304 Not Modified</code> without a body. The number of concurrent connections per host is limited and transient
+ * failures are retried with an exponential backoff. The fetcher is thread safe and should be shared, e.g. by the virtual
+ * threads which fetch many change-logs concurrently.
+ * 
+ * @author patrick
+ */
+public class HttpChangelogFetcherImpl implements IChangelogFetcher {
+    private static final String FILE_EXTENSION = ".response";
+    private static final String GZIP = "gzip";
+    private static final String IDENTITY = "identity";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+|\\*)");
+    private static final ObjectInputFilter INPUT_FILTER = ObjectInputFilter.Config.createFilter("com.github.toolarium.changelog.io.ChangelogFetchResult;java.lang.*;!*");
+    private final HttpClient httpClient;
+    private final Path cacheDirectory;
+    private final ChangelogFetchConfig fetchConfig;
+    private final Map<String, Semaphore> hostConnections;
+
+    
+    /**
+     * Constructor for HttpChangelogFetcherImpl
+     * 
+     * @param cacheDirectory the directory of the response cache or null to not cache the responses
+     * @param fetchConfig the fetch configuration or null for the default
+     */
+    public HttpChangelogFetcherImpl(Path cacheDirectory, ChangelogFetchConfig fetchConfig) {
+        this.cacheDirectory = cacheDirectory;
+        if (fetchConfig == null) {
+            this.fetchConfig = new ChangelogFetchConfig();
+        } else {
+            this.fetchConfig = fetchConfig;
+        }
+        
+        this.hostConnections = new ConcurrentHashMap<>();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(this.fetchConfig.getTimeout())
+                .build();
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.io.IChangelogFetcher#fetch(java.lang.String)
+     */
+    @Override
+    public ChangelogFetchResult fetch(final String url) throws IOException {
+        final URI uri = toUri(url);
+        return execute(uri, url, () -> {
+            String key = createCacheKey(url);
+            ChangelogFetchResult cachedResult = readCacheEntry(key, url);
+            return fetch(uri, url, key, cachedResult);
+        });
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.io.IChangelogFetcher#fetchHead(java.lang.String, int)
+     */
+    @Override
+    public ChangelogFetchResult fetchHead(final String url, int entryCount) throws IOException {
+        if (entryCount <= 0) {
+            throw new IllegalArgumentException("Invalid entry count: " + entryCount + "!");
+        }
+        
+        final URI uri = toUri(url);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        RangeResponse firstResponse = null;
+        long rangeSize = fetchConfig.getRangeSize();
+        while (true) {
+            final long start = content.size();
+            final long end = start + rangeSize - 1;
+            final RangeResponse validator = firstResponse;
+            RangeResponse response = execute(uri, url, () -> fetchRange(uri, url, start, end, validator));
+            if (firstResponse == null || response.full) {
+                // the first range or the whole change-log, e.g. the server ignored the range or it was modified in between
+                firstResponse = response;
+                content.reset();
+            }
+            content.write(response.data);
+            
+            byte[] data = content.toByteArray();
+            int entryEnd = findEntryEnd(data, entryCount);
+            if (entryEnd >= 0 || response.full || response.endOfContent) {
+                boolean truncated = entryEnd >= 0 && entryEnd < data.length;
+                int length = data.length;
+                if (truncated) {
+                    length = entryEnd;
+                }
+                
+                return new ChangelogFetchResult(url, new String(data, 0, length, StandardCharsets.UTF_8), response.statusCode, false,
+                                                firstResponse.entityTag, firstResponse.lastModified, truncated);
+            }
+            
+            rangeSize = Math.min(2 * rangeSize, Integer.MAX_VALUE);
+        }
+    }
+
+    
+    /**
+     * Execute an operation with a connection of the host of the url. A transient failure is retried, the connection is
+     * released during the backoff that other fetches of the host are not blocked.
+     *
+     * @param <T> the type of the result
+     * @param uri the uri
+     * @param url the url
+     * @param operation the operation
+     * @return the result
+     * @throws IOException In case the operation failed
+     */
+    protected <T> T execute(URI uri, String url, FetchOperation<T> operation) throws IOException {
+        Semaphore connections = hostConnections.computeIfAbsent(String.valueOf(uri.getHost()) + ":" + uri.getPort(), host -> new Semaphore(fetchConfig.getMaxConnectionsPerHost()));
+        boolean acquired = false;
+        try {
+            acquire(connections, url);
+            acquired = true;
+            for (int retry = 0;; retry++) {
+                try {
+                    return operation.execute();
+                } catch (TransientFetchException e) {
+                    if (retry >= fetchConfig.getMaxRetries()) {
+                        throw new IOException("Could not fetch " + url + " after " + (retry + 1) + " attempts: " + e.getMessage(), e.getCause());
+                    }
+
+                    connections.release();
+                    acquired = false;
+                    waitBackoff(url, retry, e.getRetryAfterMillis());
+                    acquire(connections, url);
+                    acquired = true;
+                }
+            }
+        } finally {
+            if (acquired) {
+                connections.release();
+            }
+        }
+    }
+
+
+    /**
+     * Acquire a connection of a host
+     *
+     * @param connections the connections of the host
+     * @param url the url
+     * @throws InterruptedIOException In case the thread was interrupted
+     */
+    private static void acquire(Semaphore connections, String url) throws InterruptedIOException {
+        try {
+            connections.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted fetch of " + url + "!");
+        }
+    }
+
+    
+    /**
+     * Fetch a remote change-log once
+     * 
+     * @param uri the uri
+     * @param url the url
+     * @param key the cache key
+     * @param cachedResult the cached response or null
+     * @return the fetch result
+     * @throws TransientFetchException In case of a transient failure which should be retried
+     * @throws IOException In case the change-log could not be fetched
+     */
+    protected ChangelogFetchResult fetch(URI uri, String url, String key, ChangelogFetchResult cachedResult) throws IOException {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(fetchConfig.getTimeout()).header("Accept-Encoding", GZIP).GET();
+        if (cachedResult != null) {
+            if (cachedResult.getEntityTag() != null) {
+                requestBuilder.header("If-None-Match", cachedResult.getEntityTag());
+            }
+            
+            if (cachedResult.getLastModified() != null) {
+                requestBuilder.header("If-Modified-Since", cachedResult.getLastModified());
+            }
+        }
+
+        HttpResponse<InputStream> response = sendTransient(requestBuilder.build());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() == 304 && cachedResult != null) {
+                return new ChangelogFetchResult(url, cachedResult.getContent(), response.statusCode(), true, cachedResult.getEntityTag(), cachedResult.getLastModified());
+            }
+            
+            if (isTransientStatusCode(response.statusCode())) {
+                throw new TransientFetchException("status code " + response.statusCode(), null, parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null)));
+            }
+            
+            if (response.statusCode() != 200) {
+                throw new IOException("Could not fetch " + url + ", status code " + response.statusCode() + "!");
+            }
+            
+            byte[] data = readBodyTransient(response, body);
+            ChangelogFetchResult result = new ChangelogFetchResult(url, new String(data, StandardCharsets.UTF_8), response.statusCode(), false,
+                                                                   response.headers().firstValue("ETag").orElse(null),
+                                                                   response.headers().firstValue("Last-Modified").orElse(null));
+            if (result.getEntityTag() != null || result.getLastModified() != null) {
+                writeCacheEntry(key, result);
+            }
+            
+            return result;
+        }
+    }
+
+    
+    /**
+     * Fetch a range of a remote change-log once. The first range has no validator; the further ranges are only returned
+     * in case the change-log was not modified, otherwise the server responds with the whole change-log.
+     * 
+     * @param uri the uri
+     * @param url the url
+     * @param start the first byte
+     * @param end the last byte
+     * @param validator the response of the first range or null
+     * @return the range response
+     * @throws TransientFetchException In case of a transient failure which should be retried
+     * @throws IOException In case the change-log could not be fetched
+     */
+    protected RangeResponse fetchRange(URI uri, String url, long start, long end, RangeResponse validator) throws IOException {
+        // a range is a range of the encoded content, therefore the content is requested without compression
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).timeout(fetchConfig.getTimeout()).header("Accept-Encoding", IDENTITY).header("Range", "bytes=" + start + "-" + end).GET();
+        if (validator != null) {
+            if (validator.entityTag != null && !validator.entityTag.startsWith(WEAK_ENTITY_TAG_PREFIX)) {
+                requestBuilder.header("If-Range", validator.entityTag);
+            } else if (validator.lastModified != null) {
+                requestBuilder.header("If-Range", validator.lastModified);
+            }
+        }
+        
+        HttpResponse<InputStream> response = sendTransient(requestBuilder.build());
+        try (InputStream body = response.body()) {
+            if (isTransientStatusCode(response.statusCode())) {
+                throw new TransientFetchException("status code " + response.statusCode(), null, parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null)));
+            }
+
+            RangeResponse rangeResponse = new RangeResponse(response.statusCode(), response.headers().firstValue("ETag").orElse(null), response.headers().firstValue("Last-Modified").orElse(null));
+            if (response.statusCode() == 416) {
+                // the start is behind the end of the change-log
+                rangeResponse.endOfContent = true;
+                return rangeResponse;
+            }
+
+            if (response.statusCode() != 200 && response.statusCode() != 206) {
+                throw new IOException("Could not fetch " + url + ", status code " + response.statusCode() + "!");
+            }
+            
+            rangeResponse.data = readBodyTransient(response, body);
+            if (response.statusCode() == 200) {
+                rangeResponse.full = true;
+                rangeResponse.endOfContent = true;
+                return rangeResponse;
+            }
+            
+            // e.g. Content-Range: bytes 0-1023/5000
+            Matcher matcher = CONTENT_RANGE_PATTERN.matcher(response.headers().firstValue("Content-Range").orElse(""));
+            if (!matcher.matches() || Long.parseLong(matcher.group(1)) != start) {
+                throw new IOException("Could not fetch " + url + ", invalid content range!");
+            }
+            
+            long rangeEnd = Long.parseLong(matcher.group(2));
+            if ("*".equals(matcher.group(3))) {
+                rangeResponse.endOfContent = rangeEnd < end;
+            } else {
+                rangeResponse.endOfContent = rangeEnd + 1 >= Long.parseLong(matcher.group(3));
+            }
+            return rangeResponse;
+        }
+    }
+
+    
+    /**
+     * Find the end of the given number of entries: the start of the next entry heading
+     * 
+     * @param data the UTF-8 encoded content
+     * @param entryCount the number of entries
+     * @return the offset of the next entry heading or -1 in case the entries are not complete
+     */
+    protected int findEntryEnd(byte[] data, int entryCount) {
+        int headingCount = 0;
+        for (int i = 0; i + 2 < data.length; i++) {
+            if ((i == 0 || data[i - 1] == '\n') && data[i] == '#' && data[i + 1] == '#' && data[i + 2] == ' ') {
+                if (headingCount == entryCount) {
+                    return i;
+                }
+                headingCount++;
+            }
+        }
+        
+        return -1;
+    }
+
+    
+    /**
+     * Check if a status code is a transient failure
+     * 
+     * @param statusCode the status code
+     * @return true in case of a transient failure
+     */
+    protected boolean isTransientStatusCode(int statusCode) {
+        return statusCode == 408 || statusCode == 429 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    
+    /**
+     * Wait the backoff of a retry: the backoff doubles with each retry and the half of it is a random jitter. A
+     * <code>Retry-After</code> of the server is respected up to the max backoff.
+     * 
+     * @param url the url
+     * @param retry the retry, starting with 0
+     * @param retryAfterMillis the <code>Retry-After</code> of the server in milliseconds or -1
+     * @throws InterruptedIOException In case the thread was interrupted
+     */
+    protected void waitBackoff(String url, int retry, long retryAfterMillis) throws InterruptedIOException {
+        long maxBackoff = fetchConfig.getMaxRetryBackoff().toMillis();
+        long backoff = Math.min(maxBackoff, fetchConfig.getRetryBackoff().toMillis() << Math.min(retry, 30));
+        backoff = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        if (retryAfterMillis > backoff) {
+            backoff = Math.min(maxBackoff, retryAfterMillis);
+        }
+        
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted fetch of " + url + "!");
+        }
+    }
+
+    
+    /**
+     * Convert an url
+     * 
+     * @param url the url
+     * @return the uri
+     * @throws IOException In case of an invalid url
+     */
+    private static URI toUri(String url) throws IOException {
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Invalid url: " + url + "!", e);
+        }
+    }
+
+    
+    /**
+     * Parse the <code>Retry-After</code> header in seconds, a date is not supported
+     * 
+     * @param retryAfter the header or null
+     * @return the milliseconds or -1
+     */
+    private static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null) {
+            return -1;
+        }
+        
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000L;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+
+    /**
+     * Send a request, a refused or reset connection or a timeout is transient
+     *
+     * @param request the request
+     * @return the response
+     * @throws TransientFetchException In case of a transient failure which should be retried
+     * @throws IOException In case of an I/O error
+     */
+    protected HttpResponse<InputStream> sendTransient(HttpRequest request) throws IOException {
+        try {
+            return send(request);
+        } catch (IOException e) {
+            if (isTransientFailure(e)) {
+                throw new TransientFetchException(String.valueOf(e.getMessage()), e, -1);
+            }
+
+            throw e;
+        }
+    }
+
+
+    /**
+     * Read the body of a response, a reset connection or a timeout is transient
+     *
+     * @param response the response
+     * @param body the body
+     * @return the content
+     * @throws TransientFetchException In case of a transient failure which should be retried
+     * @throws IOException In case of an I/O error
+     */
+    protected byte[] readBodyTransient(HttpResponse<?> response, InputStream body) throws IOException {
+        try {
+            return readBody(response, body);
+        } catch (IOException e) {
+            // e.g. a connection which was closed before the whole body was received
+            if (isTransientFailure(e)) {
+                throw new TransientFetchException(String.valueOf(e.getMessage()), e, -1);
+            }
+
+            throw e;
+        }
+    }
+
+
+    /**
+     * Check if a failure is transient: a refused, reset or closed connection or a timeout. An unknown host, a failed TLS
+     * handshake or an interruption is not retried.
+     *
+     * @param exception the exception
+     * @return true if the failure should be retried
+     */
+    protected boolean isTransientFailure(IOException exception) {
+        if (exception instanceof InterruptedIOException && !(exception instanceof SocketTimeoutException)) {
+            return false;
+        }
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnknownHostException || cause instanceof SSLException) {
+                return false;
+            }
+        }
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpTimeoutException || cause instanceof SocketTimeoutException || cause instanceof SocketException || cause instanceof EOFException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    
+    /**
+     * Send a request
+     * 
+     * @param request the request
+     * @return the response
+     * @throws IOException In case of an I/O error
+     */
+    protected HttpResponse<InputStream> send(HttpRequest request) throws IOException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted request of " + request.uri() + "!");
+        }
+    }
+
+    
+    /**
+     * Read the body of a response, a gzip compressed body is decompressed
+     * 
+     * @param response the response
+     * @param body the body
+     * @return the content
+     * @throws IOException In case of an I/O error
+     */
+    protected byte[] readBody(HttpResponse<?> response, InputStream body) throws IOException {
+        if (GZIP.equalsIgnoreCase(response.headers().firstValue("Content-Encoding").orElse(""))) {
+            try (InputStream in = new GZIPInputStream(body)) {
+                return in.readAllBytes();
+            }
+        }
+        
+        return body.readAllBytes();
+    }
+
+    
+    /**
+     * Create the cache key of an url
+     * 
+     * @param url the url
+     * @return the key which can be used as filename
+     */
+    protected String createCacheKey(String url) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    
+    /**
+     * Read a cached response
+     * 
+     * @param key the key
+     * @param url the url
+     * @return the cached response or null
+     */
+    protected ChangelogFetchResult readCacheEntry(String key, String url) {
+        if (cacheDirectory == null) {
+            return null;
+        }
+        
+        Path file = cacheDirectory.resolve(key + FILE_EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        
+        try (InputStream in = Files.newInputStream(file); ObjectInputStream objectInputStream = new ObjectInputStream(in)) {
+            objectInputStream.setObjectInputFilter(INPUT_FILTER);
+            Object result = objectInputStream.readObject();
+            if (result instanceof ChangelogFetchResult && url.equals(((ChangelogFetchResult) result).getUrl())) {
+                return (ChangelogFetchResult) result;
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            // an unreadable response is handled as not cached
+        }
+
+        return null;
+    }
+
+    
+    /**
+     * Cache a response. It is written to a temporary file and moved, that a reader never sees a partial response.
+     * 
+     * @param key the key
+     * @param result the response
+     */
+    protected void writeCacheEntry(String key, ChangelogFetchResult result) {
+        if (cacheDirectory == null) {
+            return;
+        }
+
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheDirectory);
+            tempFile = Files.createTempFile(cacheDirectory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile); ObjectOutputStream objectOutputStream = new ObjectOutputStream(out)) {
+                objectOutputStream.writeObject(result);
+            }
+
+            Files.move(tempFile, cacheDirectory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+        } catch (IOException e) {
+            // the cached responses are only an optimization
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // NOP
+                }
+            }
+        }
+    }
+
+    
+    /**
+     * Signals a transient failure which should be retried. The stack trace is not filled, the exception is only used
+     * inside the retry loop.
+     */
+    protected static class TransientFetchException extends IOException {
+        private static final long serialVersionUID = 4310552907357641127L;
+        private final long retryAfterMillis;
+
+        
+        /**
+         * Constructor for TransientFetchException
+         * 
+         * @param message the message
+         * @param cause the cause or null
+         * @param retryAfterMillis the <code>Retry-After</code> of the server in milliseconds or -1
+         */
+        public TransientFetchException(String message, Throwable cause, long retryAfterMillis) {
+            super(message, cause);
+            this.retryAfterMillis = retryAfterMillis;
+        }
+
+        
+        /**
+         * Get the <code>Retry-After</code> of the server
+         * 
+         * @return the milliseconds or -1
+         */
+        public long getRetryAfterMillis() {
+            return retryAfterMillis;
+        }
+
+        
+        /**
+         * @see java.lang.Throwable#fillInStackTrace()
+         */
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    
+    /**
+     * Defines an operation which is executed with a connection of a host
+     * 
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    protected interface FetchOperation<T> {
+        
+        /**
+         * Execute the operation
+         * 
+         * @return the result
+         * @throws TransientFetchException In case of a transient failure which should be retried
+         * @throws IOException In case the operation failed
+         */
+        T execute() throws IOException;
+    }
+
+    
+    /**
+     * The response of a range request
+     */
+    protected static final class RangeResponse {
+        private final int statusCode;
+        private final String entityTag;
+        private final String lastModified;
+        private byte[] data;
+        private boolean full;
+        private boolean endOfContent;
+
+        
+        /**
+         * Constructor for RangeResponse
+         * 
+         * @param statusCode the status code
+         * @param entityTag the <code>ETag</code> or null
+         * @param lastModified the <code>Last-Modified</code> date or null
+         */
+        RangeResponse(int statusCode, String entityTag, String lastModified) {
+            this.statusCode = statusCode;
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.data = new byte[0];
+            this.full = false;
+            this.endOfContent = false;
+        }
+    }
+}
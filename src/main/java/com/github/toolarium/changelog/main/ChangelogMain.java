@@ -9,23 +9,44 @@ import com.github.toolarium.ansi.AnsiStringBuilder;
 import com.github.toolarium.ansi.color.ForegroundColor;
 import com.github.toolarium.changelog.ChangelogFactory;
 import com.github.toolarium.changelog.Version;
+import com.github.toolarium.changelog.bulk.ChangelogPipelineConfig;
 import com.github.toolarium.changelog.config.ChangelogConfig;
 import com.github.toolarium.changelog.dto.Changelog;
 import com.github.toolarium.changelog.dto.ChangelogErrorList;
+import com.github.toolarium.changelog.formatter.ChangelogFormatDifference;
+import com.github.toolarium.changelog.io.ChangelogFetchConfig;
+import com.github.toolarium.changelog.io.IChangelogFetcher;
 import com.github.toolarium.changelog.parser.ChangelogParseResult;
+import com.github.toolarium.changelog.scanner.ChangelogScanConfig;
+import com.github.toolarium.changelog.scanner.ChangelogScanResult;
+import com.github.toolarium.changelog.server.ChangelogServerConfig;
+import com.github.toolarium.changelog.server.IChangelogServer;
+import com.github.toolarium.changelog.server.IChangelogServerClient;
 import com.github.toolarium.changelog.validator.ValidationException;
+import com.github.toolarium.changelog.validator.ValidationResult;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.net.HttpURLConnection;
-import java.net.MalformedURLException;
-import java.net.URI;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 /**
@@ -38,12 +59,49 @@ public class ChangelogMain {
     private static final String VALIDATE = "--validate";
     private static final String NO_HEADER = "--no-header";
     private static final String VERBOSE = "--verbose";
+    private static final String CHECK_FORMAT = "--check-format";
+    private static final String FILES_FROM = "--files-from";
+    private static final String JOBS = "--jobs";
+    private static final String SCAN = "--scan";
+    private static final String NAME = "--name";
+    private static final String EXCLUDE = "--exclude";
+    private static final String HTTP_CACHE = "--http-cache";
+    private static final String NO_HTTP_CACHE = "--no-http-cache";
+    private static final String HOST_CONNECTIONS = "--host-connections";
+    private static final String RETRIES = "--retries";
+    private static final String HEAD = "--head";
+    private static final String SERVER = "--server";
+    private static final String SOCKET = "--socket";
+    private static final String NO_DAEMON = "--no-daemon";
+    private static final int REMOTE_READ_THREADS = 64;
+    private static final String STDIN = "-";
+    private static final int EXIT_OK = 0;
+    private static final int EXIT_FAILED = 1;
+    private static final String GLOB_CHARACTERS = "*?[{";
+    private static final String ANY_DIRECTORY = "**/";
     private static final Pattern LINK_PATTERN = Pattern.compile(ChangelogConfig.LINK_IN_CONTENT);
 
     private ChangelogConfig changelogConfig;
-    private String file;
+    private List<String> fileList;
+    private List<String> filesFromList;
+    private List<String> scanDirectoryList;
+    private List<String> namePatternList;
+    private List<String> excludePatternList;
+    private int jobs;
     private boolean suppressHeader;
     private boolean verbose;
+    private boolean checkFormat;
+    private boolean versionPrinted;
+    private String httpCacheDirectory;
+    private boolean noHttpCache;
+    private ChangelogFetchConfig fetchConfig;
+    private int headEntryCount;
+    private int serverPort;
+    private String socketFile;
+    private boolean noDaemon;
+    private volatile IChangelogServerClient serverClient;
+    private volatile boolean serverClientFailed;
+    private IChangelogFetcher changelogFetcher;
 
 
     /**
@@ -51,9 +109,26 @@ public class ChangelogMain {
      */
     public ChangelogMain() {
         this.changelogConfig = new ChangelogConfig();
-        file = null;
+        fileList = new ArrayList<>();
+        filesFromList = new ArrayList<>();
+        scanDirectoryList = new ArrayList<>();
+        namePatternList = new ArrayList<>();
+        excludePatternList = new ArrayList<>();
+        jobs = Runtime.getRuntime().availableProcessors();
         suppressHeader = false;
         verbose = false;
+        checkFormat = false;
+        versionPrinted = false;
+        httpCacheDirectory = null;
+        noHttpCache = false;
+        fetchConfig = new ChangelogFetchConfig();
+        headEntryCount = 0;
+        serverPort = -1;
+        socketFile = null;
+        noDaemon = false;
+        serverClient = null;
+        serverClientFailed = false;
+        changelogFetcher = null;
     }
 
 
@@ -65,7 +140,10 @@ public class ChangelogMain {
     public static void main(String[] args) {
         ChangelogMain app = new ChangelogMain();
         app.parseArguments(args);
-        app.execute();
+        int exitCode = app.execute();
+        if (exitCode != EXIT_OK) {
+            System.exit(exitCode);
+        }
     }
 
 
@@ -78,7 +156,79 @@ public class ChangelogMain {
         int idx = 0;
         while (idx < args.length) {
             if (VALIDATE.equals(args[idx]) && idx + 1 < args.length) {
-                file = args[idx + 1];
+                fileList.add(args[idx + 1]);
+                idx += 2;
+            } else if (FILES_FROM.equals(args[idx]) && idx + 1 < args.length) {
+                filesFromList.add(args[idx + 1]);
+                idx += 2;
+            } else if (SCAN.equals(args[idx]) && idx + 1 < args.length) {
+                scanDirectoryList.add(args[idx + 1]);
+                idx += 2;
+            } else if (NAME.equals(args[idx]) && idx + 1 < args.length) {
+                namePatternList.add(args[idx + 1]);
+                idx += 2;
+            } else if (EXCLUDE.equals(args[idx]) && idx + 1 < args.length) {
+                excludePatternList.add(args[idx + 1]);
+                idx += 2;
+            } else if (HTTP_CACHE.equals(args[idx]) && idx + 1 < args.length) {
+                httpCacheDirectory = args[idx + 1];
+                idx += 2;
+            } else if (NO_HTTP_CACHE.equals(args[idx])) {
+                noHttpCache = true;
+                idx++;
+            } else if (HOST_CONNECTIONS.equals(args[idx]) && idx + 1 < args.length) {
+                try {
+                    fetchConfig.setMaxConnectionsPerHost(Integer.parseInt(args[idx + 1].trim()));
+                } catch (IllegalArgumentException e) {
+                    logToConsole(new AnsiStringBuilder()
+                            .color(ForegroundColor.YELLOW, "Invalid number of connections per host " + args[idx + 1] + ", use " + fetchConfig.getMaxConnectionsPerHost() + ".")
+                            .toString());
+                }
+                idx += 2;
+            } else if (HEAD.equals(args[idx]) && idx + 1 < args.length) {
+                try {
+                    headEntryCount = Math.max(0, Integer.parseInt(args[idx + 1].trim()));
+                } catch (NumberFormatException e) {
+                    logToConsole(new AnsiStringBuilder()
+                            .color(ForegroundColor.YELLOW, "Invalid number of entries " + args[idx + 1] + ", fetch all.")
+                            .toString());
+                }
+                idx += 2;
+            } else if (SERVER.equals(args[idx]) && idx + 1 < args.length) {
+                try {
+                    ChangelogServerConfig serverConfig = new ChangelogServerConfig();
+                    serverConfig.setPort(Integer.parseInt(args[idx + 1].trim()));
+                    serverPort = serverConfig.getPort();
+                } catch (IllegalArgumentException e) {
+                    serverPort = ChangelogServerConfig.DEFAULT_PORT;
+                    logToConsole(new AnsiStringBuilder()
+                            .color(ForegroundColor.YELLOW, "Invalid port " + args[idx + 1] + ", use " + serverPort + ".")
+                            .toString());
+                }
+                idx += 2;
+            } else if (SOCKET.equals(args[idx]) && idx + 1 < args.length) {
+                socketFile = args[idx + 1];
+                idx += 2;
+            } else if (NO_DAEMON.equals(args[idx])) {
+                noDaemon = true;
+                idx++;
+            } else if (RETRIES.equals(args[idx]) && idx + 1 < args.length) {
+                try {
+                    fetchConfig.setMaxRetries(Integer.parseInt(args[idx + 1].trim()));
+                } catch (IllegalArgumentException e) {
+                    logToConsole(new AnsiStringBuilder()
+                            .color(ForegroundColor.YELLOW, "Invalid number of retries " + args[idx + 1] + ", use " + fetchConfig.getMaxRetries() + ".")
+                            .toString());
+                }
+                idx += 2;
+            } else if (JOBS.equals(args[idx]) && idx + 1 < args.length) {
+                try {
+                    jobs = Math.max(1, Integer.parseInt(args[idx + 1].trim()));
+                } catch (NumberFormatException e) {
+                    logToConsole(new AnsiStringBuilder()
+                            .color(ForegroundColor.YELLOW, "Invalid number of jobs " + args[idx + 1] + ", use " + jobs + ".")
+                            .toString());
+                }
                 idx += 2;
             } else if (NO_HEADER.equals(args[idx])) {
                 suppressHeader = true;
@@ -86,9 +236,12 @@ public class ChangelogMain {
             } else if (VERBOSE.equals(args[idx])) {
                 verbose = true;
                 idx++;
+            } else if (CHECK_FORMAT.equals(args[idx])) {
+                checkFormat = true;
+                idx++;
             } else {
-                if (!args[idx].startsWith("-")) {
-                    file = args[idx];
+                if (STDIN.equals(args[idx]) || !args[idx].startsWith("-")) {
+                    fileList.add(args[idx]);
                 }
                 idx++;
             }
@@ -97,138 +250,699 @@ public class ChangelogMain {
 
 
     /**
-     * Execute the changelog validation.
+     * Execute the changelog validation. In case of more than one file the files are validated on a worker pool and the
+     * results are printed in the order of the files, followed by a summary.
+     *
+     * @return the exit code, 0 in case all changelogs are valid otherwise 1
      */
-    protected void execute() {
-        if (file == null || file.isBlank()) {
+    protected int execute() {
+        if (serverPort >= 0) {
+            return executeServer();
+        }
+
+        List<String> files;
+        try {
+            files = resolveFiles();
+        } catch (IOException e) {
+            logToConsole(new AnsiStringBuilder()
+                    .color(ForegroundColor.RED, "Could not read the file list: " + e.getMessage())
+                    .toString());
+            return EXIT_FAILED;
+        } catch (IllegalArgumentException e) {
+            logToConsole(new AnsiStringBuilder()
+                    .color(ForegroundColor.RED, e.getMessage())
+                    .toString());
+            return EXIT_FAILED;
+        }
+
+        if (files.isEmpty() && scanDirectoryList.isEmpty()) {
             logToConsole(new AnsiStringBuilder()
                     .color(ForegroundColor.YELLOW, "Could not find the changelog file.")
                     .toString());
             printHelp();
-            return;
+            return EXIT_FAILED;
         }
 
-        try {
-            // check if we have remote file
-            if (LINK_PATTERN.matcher(file).matches()) {
-                executeRemoteValidation();
-            } else {
-                executeLocalValidation();
+        List<FileResult> resultList = new ArrayList<>(files.size());
+        int poolSize = Math.min(jobs, files.size());
+        if (poolSize > 1 && !checkFormat && getServerClient() == null) {
+            executePipeline(files, resultList);
+        } else if (poolSize <= 1) {
+            for (String file : files) {
+                FileResult result = validateFile(file);
+                printResult(result, files.size() > 1);
+                resultList.add(result);
+            }
+        } else {
+            ExecutorService executorService = Executors.newFixedThreadPool(poolSize);
+            try {
+                List<Future<FileResult>> futureList = new ArrayList<>(files.size());
+                for (final String file : files) {
+                    futureList.add(executorService.submit(() -> validateFile(file)));
+                }
+
+                // the results are printed in the order of the files
+                for (int i = 0; i < futureList.size(); i++) {
+                    FileResult result;
+                    try {
+                        result = futureList.get(i).get();
+                    } catch (ExecutionException e) {
+                        result = new FileResult(files.get(i));
+                        result.readError = String.valueOf(e.getCause());
+                    }
+
+                    printResult(result, true);
+                    resultList.add(result);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+
+        for (String scanDirectory : scanDirectoryList) {
+            executeScan(scanDirectory, resultList);
+        }
+
+        if (resultList.size() > 1 || !scanDirectoryList.isEmpty()) {
+            printSummary(resultList);
+        }
+
+        for (FileResult result : resultList) {
+            if (result.readError != null || result.validationErrorList != null || result.formatDifference != null) {
+                return EXIT_FAILED;
             }
+        }
+
+        return EXIT_OK;
+    }
+
+
+    /**
+     * Run the validation server until the process is terminated. The server keeps the validator and its cache warm, that
+     * e.g. a pre-receive hook don't start a JVM for each validation.
+     *
+     * @return the exit code, 1 in case the server could not be started
+     */
+    protected int executeServer() {
+        ChangelogServerConfig serverConfig = new ChangelogServerConfig();
+        serverConfig.setPort(serverPort);
+        serverConfig.setUnixSocketFile(getSocketFile());
+        final IChangelogServer server = ChangelogFactory.getInstance().createChangelogServer(changelogConfig, serverConfig);
+        try {
+            server.start();
         } catch (IOException e) {
             logToConsole(new AnsiStringBuilder()
-                    .color(ForegroundColor.RED, "Could not read file ")
-                    .bold(file)
-                    .color(ForegroundColor.RED, ": " + e.getMessage())
+                    .color(ForegroundColor.RED, "Could not start the server: " + e.getMessage())
                     .toString());
-        } catch (ValidationException e) {
-            if (!suppressHeader) {
-                printVersion();
-                logToConsole(new AnsiStringBuilder()
-                        .bold().color(ForegroundColor.RED, "Validation errors found in file ")
-                        .resetBold().color(ForegroundColor.RED, file + ":")
-                        .toString());
+            return EXIT_FAILED;
+        }
+
+        final CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            stopped.countDown();
+        }));
+
+        if (!suppressHeader) {
+            printVersion();
+        }
+
+        logToConsole(new AnsiStringBuilder()
+                .append("Validation server listens on http://" + serverConfig.getHost() + ":" + server.getAddress().getPort() + ".")
+                .toString());
+        if (server.getUnixSocketFile() != null) {
+            logToConsole(new AnsiStringBuilder()
+                    .append("Validation server listens on socket " + server.getUnixSocketFile() + ".")
+                    .toString());
+        }
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.stop(0);
+        }
+
+        return EXIT_OK;
+    }
+
+
+    /**
+     * Validate the files in a pipeline: the files are read by the read stage while the process stage parses and validates
+     * the already read files, e.g. to overlap the download of remote files with the validation. The results are printed in
+     * the order of the files.
+     *
+     * @param files the files
+     * @param resultList the results
+     */
+    protected void executePipeline(List<String> files, final List<FileResult> resultList) {
+        ChangelogPipelineConfig pipelineConfig = new ChangelogPipelineConfig();
+        pipelineConfig.setReadThreads(jobs);
+        for (String file : files) {
+            if (LINK_PATTERN.matcher(file).matches()) {
+                // the remote files are fetched concurrently, the fetcher limits the connections per host
+                pipelineConfig.setReadThreads(Math.max(jobs, Math.min(REMOTE_READ_THREADS, files.size())));
+                break;
             }
+        }
+        pipelineConfig.setProcessThreads(Math.min(jobs, Runtime.getRuntime().availableProcessors()));
+        pipelineConfig.setOrdered(true);
 
-            if (e.getValidationErrorList() != null) {
-                logToConsole(new AnsiStringBuilder()
-                        .color(ForegroundColor.YELLOW, e.getValidationErrorList().prepareString())
-                        .toString());
+        try {
+            ChangelogFactory.getInstance().createChangelogPipeline(changelogConfig, pipelineConfig, this::readFile).run(files, sourceResult -> {
+                String readError = null;
+                if (sourceResult.getError() instanceof IOException) {
+                    readError = sourceResult.getError().getMessage();
+                } else if (sourceResult.getError() != null) {
+                    readError = String.valueOf(sourceResult.getError());
+                }
+
+                FileResult result = createFileResult(sourceResult.getSource(), sourceResult.getValidationResult(), readError);
+                printResult(result, true);
+                resultList.add(result);
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Scan a directory tree for changelog files and validate them. The found files are validated while the directory
+     * tree is walked, the results are printed in the order of the files.
+     *
+     * @param scanDirectory the root directory
+     * @param resultList the results
+     */
+    protected void executeScan(String scanDirectory, List<FileResult> resultList) {
+        ChangelogScanConfig scanConfig = new ChangelogScanConfig();
+        scanConfig.setParallelism(jobs);
+        if (!namePatternList.isEmpty()) {
+            scanConfig.setNamePatterns(namePatternList);
+        }
+        scanConfig.setExcludePatterns(excludePatternList);
+
+        List<ChangelogScanResult> scanResultList;
+        try {
+            scanResultList = ChangelogFactory.getInstance().scan(changelogConfig, scanConfig, Paths.get(scanDirectory));
+        } catch (IOException e) {
+            FileResult result = new FileResult(scanDirectory);
+            result.readError = e.getMessage();
+            printResult(result, true);
+            resultList.add(result);
+            return;
+        }
+
+        for (ChangelogScanResult scanResult : scanResultList) {
+            FileResult result = createFileResult(scanResult.getFile(), scanResult.getValidationResult(), scanResult.getReadError());
+            printResult(result, true);
+            resultList.add(result);
+        }
+    }
+
+
+    /**
+     * Create the result of a file from a validation result
+     *
+     * @param file the file
+     * @param validationResult the validation result or null in case the file could not be read
+     * @param readError the read error or null
+     * @return the result
+     */
+    protected FileResult createFileResult(String file, ValidationResult validationResult, String readError) {
+        FileResult result = new FileResult(file);
+        result.readError = readError;
+        if (validationResult != null) {
+            if (validationResult.isValid()) {
+                result.changelog = validationResult.getChangelog();
+            } else {
+                result.validationErrorList = validationResult.getChangelogErrorList();
             }
         }
+
+        return result;
     }
 
 
     /**
-     * Execute validation for a remote changelog file.
+     * Resolve the files to validate: the globs are expanded and the file lists are read. Each file is only once in the
+     * list, the order of the arguments is kept. The standard input can be read only once: either as file list or as
+     * changelog.
      *
-     * @throws IOException In case of I/O errors
-     * @throws ValidationException In case of validation errors
+     * @return the files
+     * @throws IOException In case a file list could not be read
+     * @throws IllegalArgumentException In case the standard input is used more than once
+     */
+    protected List<String> resolveFiles() throws IOException {
+        Set<String> files = new LinkedHashSet<>();
+        for (String file : fileList) {
+            addFile(files, file);
+        }
+
+        boolean standardInputFileList = false;
+        for (String filesFrom : filesFromList) {
+            List<String> lines;
+            if (STDIN.equals(filesFrom)) {
+                if (standardInputFileList || files.contains(STDIN)) {
+                    throw new IllegalArgumentException("The standard input can't be read as file list and as changelog!");
+                }
+
+                standardInputFileList = true;
+                lines = new BufferedReader(new InputStreamReader(getStandardInput(), StandardCharsets.UTF_8)).lines().collect(Collectors.toList());
+            } else {
+                lines = Files.readAllLines(Paths.get(filesFrom));
+            }
+
+            for (String line : lines) {
+                String file = line.trim();
+                if (!file.isEmpty() && !file.startsWith("#")) {
+                    addFile(files, file);
+                }
+            }
+        }
+
+        if (standardInputFileList && files.contains(STDIN)) {
+            throw new IllegalArgumentException("The standard input can't be read as file list and as changelog!");
+        }
+
+        return new ArrayList<>(files);
+    }
+
+
+    /**
+     * Add a file, a glob is expanded. In case a glob don't match any file it is added as it is.
+     *
+     * @param files the files
+     * @param file the file or glob
      */
-    protected void executeRemoteValidation() throws IOException, ValidationException {
-        Changelog changelog = null;
-        ChangelogErrorList parseChangelogErrorList = null;
+    protected void addFile(Set<String> files, String file) {
+        if (STDIN.equals(file) || LINK_PATTERN.matcher(file).matches() || !isGlob(file)) {
+            files.add(file);
+            return;
+        }
+
+        List<String> matches;
         try {
-            String content = readContent(file);
-            ChangelogParseResult result = ChangelogFactory.getInstance().parse(content);
-            parseChangelogErrorList = result.getChangelogErrorList();
+            matches = expandGlob(file);
+        } catch (IOException e) {
+            matches = new ArrayList<>();
+        }
 
-            ChangelogFactory.getInstance().validate(changelogConfig, result.getChangelog());
-            changelog = result.getChangelog();
-        } catch (ValidationException e) {
-            if (e.getValidationErrorList() != null && !e.getValidationErrorList().isEmpty()) {
-                parseChangelogErrorList.add(e.getValidationErrorList());
+        if (matches.isEmpty()) {
+            files.add(file);
+        } else {
+            files.addAll(matches);
+        }
+    }
+
+
+    /**
+     * Expand a glob, e.g. <code>repos/&#42;&#42;/CHANGELOG.md</code>. The matched files are sorted.
+     *
+     * @param glob the glob
+     * @return the matched files
+     * @throws IOException In case of an I/O error
+     */
+    protected List<String> expandGlob(String glob) throws IOException {
+        String pattern = glob.replace('\\', '/');
+        int globStart = 0;
+        while (globStart < pattern.length() && GLOB_CHARACTERS.indexOf(pattern.charAt(globStart)) < 0) {
+            globStart++;
+        }
+
+        int separator = pattern.lastIndexOf('/', globStart);
+        final Path baseDirectory;
+        if (separator < 0) {
+            baseDirectory = Paths.get("");
+        } else {
+            baseDirectory = Paths.get(pattern.substring(0, separator + 1));
+        }
+
+        final String relativePattern = pattern.substring(separator + 1);
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + relativePattern);
+        PathMatcher anyDirectoryMatcher = null;
+        int maxDepth = relativePattern.split("/").length;
+        if (relativePattern.contains("**")) {
+            maxDepth = Integer.MAX_VALUE;
+            if (relativePattern.startsWith(ANY_DIRECTORY)) {
+                // the pattern also matches in the base directory
+                anyDirectoryMatcher = FileSystems.getDefault().getPathMatcher("glob:" + relativePattern.substring(ANY_DIRECTORY.length()));
+            }
+        }
+
+        Path start = baseDirectory;
+        if (start.toString().isEmpty()) {
+            start = Paths.get(".");
+        }
+
+        if (!Files.isDirectory(start)) {
+            return new ArrayList<>();
+        }
+
+        final Path walkStart = start;
+        final PathMatcher baseDirectoryMatcher = anyDirectoryMatcher;
+        List<String> result = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(walkStart, maxDepth)) {
+            stream.filter(Files::isRegularFile).forEach(path -> {
+                Path relativePath = walkStart.relativize(path);
+                if (matcher.matches(relativePath) || (baseDirectoryMatcher != null && relativePath.getNameCount() == 1 && baseDirectoryMatcher.matches(relativePath))) {
+                    result.add(baseDirectory.resolve(relativePath).toString());
+                }
+            });
+        }
+
+        result.sort(null);
+        return result;
+    }
+
+
+    /**
+     * Check if a file is a glob
+     *
+     * @param file the file
+     * @return true if it contains a glob character
+     */
+    protected boolean isGlob(String file) {
+        for (int i = 0; i < file.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(file.charAt(i)) >= 0) {
+                return true;
             }
+        }
+
+        return false;
+    }
+
 
-            throw new ValidationException(e.getMessage(), parseChangelogErrorList);
+    /**
+     * Validate a file. The result is printed by the caller, that the output order is independent of the validation order.
+     *
+     * @param file the file
+     * @return the result
+     */
+    protected FileResult validateFile(String file) {
+        FileResult result = new FileResult(file);
+        try {
+            if (checkFormat) {
+                String content = readFile(file);
+                Changelog changelog = ChangelogFactory.getInstance().parse(content).getChangelog();
+                result.formatDifference = ChangelogFactory.getInstance().checkFormat(changelogConfig, changelog, content);
+            } else if (getServerClient() != null) {
+                result.changelog = executeServerValidation(file);
+            } else if (STDIN.equals(file) || LINK_PATTERN.matcher(file).matches()) {
+                result.changelog = executeRemoteValidation(file);
+            } else {
+                result.changelog = executeLocalValidation(file);
+            }
+        } catch (IOException e) {
+            result.readError = e.getMessage();
+        } catch (ValidationException e) {
+            result.validationErrorList = e.getValidationErrorList();
+            if (result.validationErrorList == null) {
+                result.validationErrorList = new ChangelogErrorList();
+            }
         }
 
-        if (parseChangelogErrorList != null && !parseChangelogErrorList.isEmpty()) {
-            throw new ValidationException("Changelog parse errors.", parseChangelogErrorList);
+        return result;
+    }
+
+
+    /**
+     * Execute validation for a remote changelog file or the changelog of the standard input.
+     *
+     * @param file the url or <code>-</code> for the standard input
+     * @return the validated changelog
+     * @throws IOException In case of I/O errors
+     * @throws ValidationException In case of validation errors
+     */
+    protected Changelog executeRemoteValidation(String file) throws IOException, ValidationException {
+        return validateContent(readFile(file)).getValidatedChangelog();
+    }
+
+
+    /**
+     * Execute validation on a running validation server. The content is read as in case of an in-process validation and
+     * sent to the server, that the output is the same. In case the server is not available the content is validated
+     * in-process and further files are not sent to the server.
+     *
+     * @param file the file, url or <code>-</code> for the standard input
+     * @return the validated changelog
+     * @throws IOException In case of I/O errors
+     * @throws ValidationException In case of validation errors
+     */
+    protected Changelog executeServerValidation(String file) throws IOException, ValidationException {
+        String content = readFile(file);
+        IChangelogServerClient client = getServerClient();
+        if (client != null) {
+            try {
+                return client.validate(content.getBytes(StandardCharsets.UTF_8), null, null, null).getValidatedChangelog();
+            } catch (IOException e) {
+                serverClientFailed = true;
+            }
         }
 
-        printVerboseOutput(changelog);
+        return validateContent(content).getValidatedChangelog();
+    }
+
+
+    /**
+     * Validate the content of a changelog in-process.
+     *
+     * @param content the content
+     * @return the validation result
+     */
+    protected ValidationResult validateContent(String content) {
+        ChangelogParseResult result = ChangelogFactory.getInstance().createChangelogParser().parseContent(content.strip());
+        return ChangelogFactory.getInstance().validateToResult(changelogConfig, result, null, null, null);
     }
 
 
     /**
      * Execute validation for a local changelog file.
      *
+     * @param file the file
+     * @return the validated changelog
      * @throws IOException In case of I/O errors
      * @throws ValidationException In case of validation errors
      */
-    protected void executeLocalValidation() throws IOException, ValidationException {
-        Changelog changelog = ChangelogFactory.getInstance().validate(changelogConfig, Paths.get(file));
-        printVerboseOutput(changelog);
+    protected Changelog executeLocalValidation(String file) throws IOException, ValidationException {
+        return ChangelogFactory.getInstance().validate(changelogConfig, Paths.get(file));
+    }
+
+
+    /**
+     * Read the content of a local or remote file or of the standard input.
+     *
+     * @param file the file, url or <code>-</code> for the standard input
+     * @return the content
+     * @throws IOException In case of I/O errors
+     */
+    protected String readFile(String file) throws IOException {
+        if (STDIN.equals(file)) {
+            return new String(getStandardInput().readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        if (LINK_PATTERN.matcher(file).matches()) {
+            return readContent(file);
+        }
+
+        return Files.readString(Paths.get(file));
+    }
+
+
+    /**
+     * Print the result of a file.
+     *
+     * @param result the result
+     * @param batch true if more than one file is validated
+     */
+    protected void printResult(FileResult result, boolean batch) {
+        if (result.readError != null) {
+            logToConsole(new AnsiStringBuilder()
+                    .color(ForegroundColor.RED, "Could not read file ")
+                    .bold(result.file)
+                    .color(ForegroundColor.RED, ": " + result.readError)
+                    .toString());
+        } else if (result.validationErrorList != null) {
+            if (!suppressHeader && !versionPrinted) {
+                printVersion();
+                versionPrinted = batch;
+            }
+
+            if (!suppressHeader || batch) {
+                logToConsole(new AnsiStringBuilder()
+                        .bold().color(ForegroundColor.RED, "Validation errors found in file ")
+                        .resetBold().color(ForegroundColor.RED, result.file + ":")
+                        .toString());
+            }
+
+            logToConsole(new AnsiStringBuilder()
+                    .color(ForegroundColor.YELLOW, result.validationErrorList.prepareString())
+                    .toString());
+        } else if (result.formatDifference != null) {
+            logToConsole(new AnsiStringBuilder()
+                    .color(ForegroundColor.RED, "The changelog file ")
+                    .bold(result.file)
+                    .color(ForegroundColor.RED, " is not formatted: " + result.formatDifference.getMessage())
+                    .toString());
+        } else if (checkFormat) {
+            if (verbose) {
+                logToConsole(new AnsiStringBuilder()
+                        .color(ForegroundColor.GREEN, "The changelog file ")
+                        .bold(result.file)
+                        .color(ForegroundColor.GREEN, " is formatted.")
+                        .toString());
+            }
+        } else {
+            printVerboseOutput(result.file, result.changelog);
+        }
+    }
+
+
+    /**
+     * Print the summary of a batch validation.
+     *
+     * @param resultList the results
+     */
+    protected void printSummary(List<FileResult> resultList) {
+        int valid = 0;
+        int invalid = 0;
+        int unreadable = 0;
+        for (FileResult result : resultList) {
+            if (result.readError != null) {
+                unreadable++;
+            } else if (result.validationErrorList != null || result.formatDifference != null) {
+                invalid++;
+            } else {
+                valid++;
+            }
+        }
+
+        ForegroundColor color = ForegroundColor.GREEN;
+        if (invalid > 0 || unreadable > 0) {
+            color = ForegroundColor.RED;
+        }
+
+        logToConsole(new AnsiStringBuilder()
+                .color(color, "Checked " + resultList.size() + " files: " + valid + " valid, " + invalid + " invalid, " + unreadable + " not readable.")
+                .toString());
     }
 
 
     /**
      * Print verbose changelog output if enabled.
      *
+     * @param file the file
      * @param changelog the validated changelog
-     * @throws IOException In case of formatting errors
      */
-    protected void printVerboseOutput(Changelog changelog) throws IOException {
+    protected void printVerboseOutput(String file, Changelog changelog) {
         if (verbose && changelog != null) {
             logToConsole(new AnsiStringBuilder()
                     .color(ForegroundColor.GREEN, "Validated change-log of file ")
                     .bold(file)
                     .color(ForegroundColor.GREEN, ":")
                     .toString());
-            logToConsole(ChangelogFactory.getInstance().format(changelogConfig, changelog));
+            logToConsole(ChangelogFactory.getInstance().createChangelogFormatter(changelogConfig).format(changelog));
         }
     }
 
 
     /**
-     * Read the content
+     * Read the content. The responses are cached and revalidated, an unmodified remote changelog is not downloaded again.
+     * In case only the top entries are requested, just the top of the changelog is fetched with range requests.
      *
      * @param url the url
      * @return the content
-     * @throws MalformedURLException In case of invalid url exception
      * @throws IOException In case of I/O errors
      */
-    protected String readContent(String url) throws MalformedURLException, IOException {
-        URL myUrl = URI.create(url).toURL();
-        HttpURLConnection conn = (HttpURLConnection) myUrl.openConnection();
-        conn.setConnectTimeout(30000);
-        conn.setReadTimeout(30000);
-
-        try (InputStream is = conn.getInputStream();
-             InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
-             BufferedReader br = new BufferedReader(isr)) {
-
-            StringBuilder content = new StringBuilder();
-            String inputLine;
-            while ((inputLine = br.readLine()) != null) {
-                content.append(inputLine).append("\n");
+    protected String readContent(String url) throws IOException {
+        if (headEntryCount > 0) {
+            return getChangelogFetcher().fetchHead(url, headEntryCount).getContent();
+        }
+
+        return getChangelogFetcher().fetch(url).getContent();
+    }
+
+
+    /**
+     * Get the fetcher of the remote changelog files, it is shared by all files that the connections are reused.
+     *
+     * @return the fetcher
+     */
+    protected synchronized IChangelogFetcher getChangelogFetcher() {
+        if (changelogFetcher == null) {
+            Path cacheDirectory = null;
+            if (!noHttpCache) {
+                if (httpCacheDirectory != null) {
+                    cacheDirectory = Paths.get(httpCacheDirectory);
+                } else {
+                    cacheDirectory = Paths.get(System.getProperty("user.home"), ".cache", "toolarium-changelog");
+                }
             }
 
-            return content.toString();
-        } finally {
-            conn.disconnect();
+            changelogFetcher = ChangelogFactory.getInstance().createChangelogFetcher(cacheDirectory, fetchConfig);
         }
+
+        return changelogFetcher;
+    }
+
+
+    /**
+     * Get the client of a running validation server. The server is probed only once per run, in case it is not
+     * available or a validation on it failed the files are validated in-process.
+     *
+     * @return the client or null in case no validation server is available
+     */
+    protected IChangelogServerClient getServerClient() {
+        if (noDaemon || serverClientFailed || serverPort >= 0) {
+            return null;
+        }
+
+        IChangelogServerClient client = serverClient;
+        if (client == null) {
+            synchronized (this) {
+                if (serverClient == null && !serverClientFailed) {
+                    IChangelogServerClient probedClient = ChangelogFactory.getInstance().createChangelogServerClient(getSocketFile(), changelogConfig);
+                    if (probedClient.isAvailable()) {
+                        serverClient = probedClient;
+                    } else {
+                        serverClientFailed = true;
+                    }
+                }
+
+                client = serverClient;
+            }
+        }
+
+        if (serverClientFailed) {
+            return null;
+        }
+
+        return client;
+    }
+
+
+    /**
+     * Get the socket file of the validation server.
+     *
+     * @return the socket file
+     */
+    protected Path getSocketFile() {
+        if (socketFile != null) {
+            return Paths.get(socketFile);
+        }
+
+        return Paths.get(System.getProperty("user.home"), ".cache", "toolarium-changelog", "validation.sock");
+    }
+
+
+    /**
+     * Get the standard input
+     *
+     * @return the standard input
+     */
+    protected InputStream getStandardInput() {
+        return System.in;
     }
 
 
@@ -249,17 +963,59 @@ public class ChangelogMain {
     protected void printHelp() {
         printVersion();
         logToConsole(new AnsiStringBuilder()
-                .append("Usage: changelog-parser [options]")
+                .append("Usage: changelog-parser [options] [<file>|<glob>|-]...")
                 .toString());
         logToConsole(new AnsiStringBuilder()
                 .append("  ").bold(VALIDATE).append(" <file>  Sets the changelog to validate.")
                 .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(FILES_FROM).append(" <list> Read the changelog files from a list, - for the standard input.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(SCAN).append(" <dir>       Scan a directory tree for changelog files and validate them.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(NAME).append(" <pattern>   Name pattern of the changelog files to scan, default ").append(ChangelogScanConfig.DEFAULT_NAME_PATTERN).append(".")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(EXCLUDE).append(" <pattern> Exclude pattern of the scan in .gitignore syntax.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(JOBS).append(" <n>         Number of files which are validated in parallel.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(HTTP_CACHE).append(" <dir> Directory of the cached remote changelogs, default ~/.cache/toolarium-changelog.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(NO_HTTP_CACHE).append("     Don't cache the remote changelogs.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(HOST_CONNECTIONS).append(" <n> Max concurrent connections per host, default " + ChangelogFetchConfig.DEFAULT_MAX_CONNECTIONS_PER_HOST + ".")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(HEAD).append(" <n>         Fetch and validate only the top n entries of the remote changelogs.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(RETRIES).append(" <n>      Max retries of a transient fetch failure, default " + ChangelogFetchConfig.DEFAULT_MAX_RETRIES + ".")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(SERVER).append(" <port>    Run as validation server on the local port, e.g. " + ChangelogServerConfig.DEFAULT_PORT + ".")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(SOCKET).append(" <file>    Socket file of the validation server, default ~/.cache/toolarium-changelog/validation.sock.")
+                .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(NO_DAEMON).append("        Don't forward the validation to a running validation server.")
+                .toString());
         logToConsole(new AnsiStringBuilder()
                 .append("  ").bold(NO_HEADER).append("         Suppress the additional header information.")
                 .toString());
         logToConsole(new AnsiStringBuilder()
                 .append("  ").bold(VERBOSE).append("          Enable verbose mode.")
                 .toString());
+        logToConsole(new AnsiStringBuilder()
+                .append("  ").bold(CHECK_FORMAT).append("     Check if the changelog is in the canonical format.")
+                .toString());
     }
 
 
@@ -271,4 +1027,30 @@ public class ChangelogMain {
     protected void logToConsole(String message) {
         OUT.println(message);
     }
+
+
+    /**
+     * The result of a file.
+     */
+    protected static final class FileResult {
+        private final String file;
+        private Changelog changelog;
+        private ChangelogErrorList validationErrorList;
+        private ChangelogFormatDifference formatDifference;
+        private String readError;
+
+
+        /**
+         * Constructor for FileResult
+         *
+         * @param file the file
+         */
+        FileResult(String file) {
+            this.file = file;
+            this.changelog = null;
+            this.validationErrorList = null;
+            this.formatDifference = null;
+            this.readError = null;
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * ChangelogSourceSpan.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.parser;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+
+/**
+ * Defines a span in the original change-log source.
+ * 
+ * @author patrick
+ */
+public class ChangelogSourceSpan implements Serializable {
+    private static final long serialVersionUID = -3420967151370716218L;
+    private final int start;
+    private final int end;
+
+    
+    /**
+     * Constructor for ChangelogSourceSpan
+     * 
+     * @param start the start offset (inclusive)
+     * @param end the end offset (exclusive)
+     * @throws IllegalArgumentException In case of an invalid span
+     */
+    public ChangelogSourceSpan(int start, int end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid span [" + start + ", " + end + "]!");
+        }
+        
+        this.start = start;
+        this.end = end;
+    }
+
+    
+    /**
+     * Get the start offset
+     * 
+     * @return the start offset (inclusive)
+     */
+    public int getStart() {
+        return start;
+    }
+
+    
+    /**
+     * Get the end offset
+     * 
+     * @return the end offset (exclusive)
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    
+    /**
+     * Get the length
+     * 
+     * @return the length
+     */
+    public int getLength() {
+        return end - start;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ChangelogSourceSpan other = (ChangelogSourceSpan) obj;
+        return start == other.start && end == other.end;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ")";
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * ChangelogSyntaxTree.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.parser;
+
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogSection;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * The lossless syntax tree of a change-log: the parsed change-log together with the original source and the source
+ * span of the header, of each entry and of each section. The spans are recorded by the parser. A deep copy of the parsed
+ * values is kept, that a writer can detect the modified nodes and copy the original text of all other nodes.
+ *
+ * <p>The spans are only available if the parser recorded a span for the header and for each parsed entry, otherwise
+ * {@link #hasSourceSpans()} returns false and the change-log has to be formatted completely.</p>
+ *
+ * @author patrick
+ */
+public class ChangelogSyntaxTree implements Serializable {
+    private static final long serialVersionUID = 6409170870851237466L;
+    private static final String CRLF = "\r\n";
+    private final String source;
+    private final ChangelogParseResult parseResult;
+    private final String lineSeparator;
+    private final ChangelogSourceSpan headerSpan;
+    private final String projectName;
+    private final String description;
+    private final Map<ChangelogEntry, EntryNode> entryNodeMap;
+    private final List<EntryNode> entryNodeList;
+
+    
+    /**
+     * Constructor for ChangelogSyntaxTree
+     * 
+     * @param source the original source
+     * @param parseResult the parse result of the source
+     * @param sourceSpanMap the spans in the source recorded by the parser, the key is the parsed change-log, entry or section; null if no spans are available
+     */
+    public ChangelogSyntaxTree(String source, ChangelogParseResult parseResult, Map<Object, ChangelogSourceSpan> sourceSpanMap) {
+        this.source = source;
+        this.parseResult = parseResult;
+        this.entryNodeMap = new IdentityHashMap<>();
+        this.entryNodeList = new ArrayList<>();
+        
+        if (source != null && source.contains(CRLF)) {
+            lineSeparator = CRLF;
+        } else {
+            lineSeparator = "\n";
+        }
+
+        Changelog changelog = null;
+        if (parseResult != null) {
+            changelog = parseResult.getChangelog();
+        }
+        
+        if (changelog == null || source == null || sourceSpanMap == null || sourceSpanMap.get(changelog) == null) {
+            projectName = null;
+            description = null;
+            headerSpan = null;
+            return;
+        }
+
+        projectName = changelog.getProjectName();
+        description = changelog.getDescription();
+
+        List<ChangelogEntry> entries = changelog.getEntries();
+        if (entries == null) {
+            entries = Collections.emptyList();
+        }
+
+        for (ChangelogEntry entry : entries) {
+            ChangelogSourceSpan span = sourceSpanMap.get(entry);
+            if (span == null) {
+                // e.g. the parser stopped at an error
+                entryNodeMap.clear();
+                entryNodeList.clear();
+                break;
+            }
+
+            EntryNode node = new EntryNode(entry, span, sourceSpanMap);
+            entryNodeMap.put(entry, node);
+            entryNodeList.add(node);
+        }
+
+        if (entryNodeList.size() == entries.size()) {
+            headerSpan = sourceSpanMap.get(changelog);
+        } else {
+            headerSpan = null;
+        }
+    }
+
+    
+    /**
+     * Get the original source
+     * 
+     * @return the original source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    
+    /**
+     * Get the parse result
+     * 
+     * @return the parse result
+     */
+    public ChangelogParseResult getParseResult() {
+        return parseResult;
+    }
+
+    
+    /**
+     * Get the change-log, it can be modified.
+     * 
+     * @return the change-log or null
+     */
+    public Changelog getChangelog() {
+        if (parseResult == null) {
+            return null;
+        }
+        
+        return parseResult.getChangelog();
+    }
+
+    
+    /**
+     * Get the line separator of the source
+     * 
+     * @return the line separator
+     */
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    
+    /**
+     * Check if the source spans are available
+     * 
+     * @return true if the source spans are available
+     */
+    public boolean hasSourceSpans() {
+        return headerSpan != null;
+    }
+
+    
+    /**
+     * Get the source span of the header
+     * 
+     * @return the source span of the header or null
+     */
+    public ChangelogSourceSpan getHeaderSpan() {
+        return headerSpan;
+    }
+
+    
+    /**
+     * Check if the project name or the description was modified
+     * 
+     * @return true if the header was modified
+     */
+    public boolean isHeaderModified() {
+        Changelog changelog = getChangelog();
+        if (headerSpan == null || changelog == null) {
+            return true;
+        }
+        
+        return !Objects.equals(projectName, changelog.getProjectName()) || !Objects.equals(description, changelog.getDescription());
+    }
+
+    
+    /**
+     * Get the parsed entry nodes in the order of the source
+     * 
+     * @return the parsed entry nodes
+     */
+    public List<EntryNode> getEntryNodes() {
+        return Collections.unmodifiableList(entryNodeList);
+    }
+
+    
+    /**
+     * Get the entry node of a parsed entry
+     * 
+     * @param entry the entry
+     * @return the entry node or null if the entry is new
+     */
+    public EntryNode getEntryNode(ChangelogEntry entry) {
+        return entryNodeMap.get(entry);
+    }
+
+    
+    /**
+     * Get the original text of a span
+     * 
+     * @param span the span
+     * @return the original text
+     */
+    public String getText(ChangelogSourceSpan span) {
+        return source.substring(span.getStart(), span.getEnd());
+    }
+
+
+    /**
+     * The node of a parsed entry
+     * 
+     * @author patrick
+     */
+    public static final class EntryNode implements Serializable {
+        private static final long serialVersionUID = 2163364306468712937L;
+        private final ChangelogEntry entry;
+        private final ChangelogSourceSpan span;
+        private final Map<ChangelogSection, ChangelogSourceSpan> sectionSpanMap;
+        private final ChangelogEntry snapshot;
+        private volatile boolean modified;
+
+        
+        /**
+         * Constructor for EntryNode
+         * 
+         * @param entry the entry
+         * @param span the source span
+         * @param sourceSpanMap the spans in the source recorded by the parser
+         */
+        EntryNode(ChangelogEntry entry, ChangelogSourceSpan span, Map<Object, ChangelogSourceSpan> sourceSpanMap) {
+            this.entry = entry;
+            this.span = span;
+            this.sectionSpanMap = new IdentityHashMap<>();
+            if (entry.getSectionList() != null) {
+                for (ChangelogSection section : entry.getSectionList()) {
+                    ChangelogSourceSpan sectionSpan = sourceSpanMap.get(section);
+                    if (sectionSpan != null) {
+                        sectionSpanMap.put(section, sectionSpan);
+                    }
+                }
+            }
+            
+            this.snapshot = new ChangelogEntry(entry);
+            this.modified = false;
+        }
+
+        
+        /**
+         * Get the entry
+         * 
+         * @return the entry
+         */
+        public ChangelogEntry getEntry() {
+            return entry;
+        }
+
+        
+        /**
+         * Get the source span including the following empty lines
+         * 
+         * @return the source span
+         */
+        public ChangelogSourceSpan getSpan() {
+            return span;
+        }
+
+        
+        /**
+         * Get the source span of a parsed section including the following empty lines
+         * 
+         * @param section the section
+         * @return the source span or null if the section is new
+         */
+        public ChangelogSourceSpan getSectionSpan(ChangelogSection section) {
+            return sectionSpanMap.get(section);
+        }
+
+        
+        /**
+         * Mark the entry as modified, it will be formatted again.
+         */
+        public void markModified() {
+            modified = true;
+        }
+
+        
+        /**
+         * Check if the entry was modified after parsing. A modification is detected by comparing the entry with a deep
+         * copy taken after parsing or it has to be marked by {@link #markModified()}.
+         * 
+         * @return true if the entry was modified
+         */
+        public boolean isModified() {
+            return modified || !entry.equals(snapshot);
+        }
+    }
+}
@@ -8,6 +8,8 @@ package com.github.toolarium.changelog.parser;
 import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -26,6 +28,16 @@ public interface IChangelogParser {
     ChangelogParseResult parse(Path filename) throws IOException;
 
     
+    /**
+     * Parse a change-log without blocking the caller. The file is read asynchronous, no thread is held during the I/O.
+     * 
+     * @param filename the filename
+     * @param executor the executor which parses the content or null to parse it in the thread which completes the read
+     * @return the future of the change-log parse result; it completes exceptionally with an {@link IOException} in case of an i/o error
+     */
+    CompletableFuture<ChangelogParseResult> parseAsync(Path filename, Executor executor);
+
+    
     /**
      * Parse a change-log content
      * 
@@ -44,6 +56,15 @@ public interface IChangelogParser {
     ChangelogParseResult parseContent(String inputContent);
     
 
+    /**
+     * Parse a change-log content into a lossless syntax tree which keeps the original source.
+     * 
+     * @param inputContent the change-log content to parse
+     * @return the syntax tree
+     */
+    ChangelogSyntaxTree parseSyntaxTree(String inputContent);
+    
+
     /**
      * Parse a version
      *
@@ -28,6 +28,7 @@ public class ChangelogContentParser {
     private char sectionCharacter;
     private String data;
     private int pos;
+    private int separatorPosition;
 
 
     /**
@@ -52,6 +53,7 @@ public class ChangelogContentParser {
     public void init(String input) {
         this.data = input.replace("\r", "");
         this.pos = 0;
+        this.separatorPosition = 0;
         defaultStopChars.add(sectionCharacter);
     }
 
@@ -66,6 +68,27 @@ public class ChangelogContentParser {
     }
 
 
+    /**
+     * Get the current position in the parsed content.
+     *
+     * @return the current position
+     */
+    public int getPosition() {
+        return pos;
+    }
+
+
+    /**
+     * Get the position of the last read changelog separator, e.g. the start of an entry heading. In case no separator was
+     * found it is the position after the skipped newlines.
+     *
+     * @return the position of the last read changelog separator
+     */
+    public int getSeparatorPosition() {
+        return separatorPosition;
+    }
+
+
     /**
      * Read the version
      *
@@ -195,6 +218,7 @@ public class ChangelogContentParser {
             pos++;
         }
 
+        separatorPosition = pos;
         StringBuilder sep = new StringBuilder();
         while (!isEOL() && currentChar() == sectionCharacter) {
             sep.append(readSeparatorChar());
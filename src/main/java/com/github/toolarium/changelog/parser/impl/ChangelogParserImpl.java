@@ -8,11 +8,15 @@ package com.github.toolarium.changelog.parser.impl;
 import com.github.toolarium.changelog.dto.Changelog;
 import com.github.toolarium.changelog.dto.ChangelogChangeType;
 import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogErrorCode;
 import com.github.toolarium.changelog.dto.ChangelogErrorList;
 import com.github.toolarium.changelog.dto.ChangelogErrorList.ErrorType;
 import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
 import com.github.toolarium.changelog.dto.ChangelogSection;
+import com.github.toolarium.changelog.io.AsyncFiles;
 import com.github.toolarium.changelog.parser.ChangelogParseResult;
+import com.github.toolarium.changelog.parser.ChangelogSourceSpan;
+import com.github.toolarium.changelog.parser.ChangelogSyntaxTree;
 import com.github.toolarium.changelog.parser.IChangelogParser;
 import com.github.toolarium.common.util.EnumUtil;
 import com.github.toolarium.common.util.StringUtil;
@@ -23,6 +27,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -58,6 +66,20 @@ public class ChangelogParserImpl implements IChangelogParser {
     }
 
 
+    /**
+     * @see com.github.toolarium.changelog.parser.IChangelogParser#parseAsync(java.nio.file.Path, java.util.concurrent.Executor)
+     */
+    @Override
+    public CompletableFuture<ChangelogParseResult> parseAsync(Path filename, Executor executor) {
+        CompletableFuture<String> content = AsyncFiles.readString(filename);
+        if (executor == null) {
+            return content.thenApply(c -> parseContent(c.strip()));
+        }
+        
+        return content.thenApplyAsync(c -> parseContent(c.strip()), executor);
+    }
+
+
     /**
      * @see com.github.toolarium.changelog.parser.IChangelogParser#parse(java.lang.String)
      */
@@ -76,6 +98,18 @@ public class ChangelogParserImpl implements IChangelogParser {
      */
     @Override
     public ChangelogParseResult parseContent(String inputContent) {
+        return parseContent(inputContent, null);
+    }
+
+
+    /**
+     * Parse the content and record the spans of the header, the entries and the sections in the parsed content.
+     *
+     * @param inputContent the content to parse
+     * @param sourceSpanMap the map to record the spans, the key is the parsed change-log, entry or section; null to not record them
+     * @return the parse result
+     */
+    protected ChangelogParseResult parseContent(String inputContent, Map<Object, ChangelogSourceSpan> sourceSpanMap) {
         if (inputContent == null || inputContent.length() == 0) {
             return new ChangelogParseResult();
         }
@@ -92,7 +126,7 @@ public class ChangelogParserImpl implements IChangelogParser {
 
             try {
                 // all change-log entries
-                readChangelogEntryList(parser, changelogErrorList, result.getChangelog());
+                readChangelogEntryList(parser, changelogErrorList, result.getChangelog(), sourceSpanMap);
             } catch (RuntimeException e) {
                 result.getChangelogErrorList().addGeneralError(ErrorType.ENTRIES, e.getMessage());
             }
@@ -108,6 +142,57 @@ public class ChangelogParserImpl implements IChangelogParser {
     }
     
     
+    /**
+     * @see com.github.toolarium.changelog.parser.IChangelogParser#parseSyntaxTree(java.lang.String)
+     */
+    @Override
+    public ChangelogSyntaxTree parseSyntaxTree(String inputContent) {
+        if (inputContent == null) {
+            return new ChangelogSyntaxTree("", new ChangelogParseResult(), null);
+        }
+        
+        String content = inputContent.strip();
+        Map<Object, ChangelogSourceSpan> sourceSpanMap = new IdentityHashMap<>();
+        ChangelogParseResult parseResult = parseContent(content, sourceSpanMap);
+        return new ChangelogSyntaxTree(inputContent, parseResult, convertSourceSpans(inputContent, content, sourceSpanMap));
+    }
+
+
+    /**
+     * Convert the spans in the parsed content to spans in the original source. The parsed content is the stripped source
+     * without carriage returns. The header starts with the source and the spans which end with the parsed content end
+     * with the source, that the leading and trailing whitespaces of the source are kept.
+     *
+     * @param source the original source
+     * @param content the stripped source which was parsed
+     * @param sourceSpanMap the spans in the parsed content
+     * @return the spans in the original source
+     */
+    protected Map<Object, ChangelogSourceSpan> convertSourceSpans(String source, String content, Map<Object, ChangelogSourceSpan> sourceSpanMap) {
+        int leading = source.length() - source.stripLeading().length();
+        int[] offsetMap = new int[content.length() + 1];
+        int parsedOffset = 0;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) != '\r') {
+                offsetMap[parsedOffset++] = leading + i;
+            }
+        }
+        offsetMap[parsedOffset] = source.length();
+
+        Map<Object, ChangelogSourceSpan> result = new IdentityHashMap<>();
+        for (Map.Entry<Object, ChangelogSourceSpan> e : sourceSpanMap.entrySet()) {
+            int start = offsetMap[e.getValue().getStart()];
+            if (e.getKey() instanceof Changelog) {
+                start = 0;
+            }
+
+            result.put(e.getKey(), new ChangelogSourceSpan(start, offsetMap[e.getValue().getEnd()]));
+        }
+
+        return result;
+    }
+    
+    
     /**
      * @see com.github.toolarium.changelog.parser.IChangelogParser#parseVersion(java.lang.String)
      */
@@ -133,6 +218,7 @@ public class ChangelogParserImpl implements IChangelogParser {
             return;
         }
 
+        int offset = parser.getPosition();
         String sep = parser.readChangelogSeparator();
         String name = "";
         if (!sep.isEmpty()) {
@@ -140,7 +226,7 @@ public class ChangelogParserImpl implements IChangelogParser {
         }
 
         if (name == null || name.isBlank()) {
-            changelogParseResult.getChangelogErrorList().addGeneralError(ChangelogErrorList.ErrorType.CHANGELOG, "Invalid empty changelog name!");
+            changelogParseResult.getChangelogErrorList().addGeneralError(ErrorType.CHANGELOG, offset, ChangelogErrorCode.INVALID_EMPTY_CHANGELOG_NAME);
         }
 
         String description = parser.readDescription();
@@ -156,12 +242,32 @@ public class ChangelogParserImpl implements IChangelogParser {
      * @param changelog the change-log
      */
     protected void readChangelogEntryList(ChangelogContentParser parser, ChangelogErrorList changelogErrorList, Changelog changelog) {
+        readChangelogEntryList(parser, changelogErrorList, changelog, null);
+    }
+
+
+    /**
+     * Read the change-log entry list and record the spans of the header, the entries and the sections.
+     *
+     * @param parser the parser
+     * @param changelogErrorList the change-log error list
+     * @param changelog the change-log
+     * @param sourceSpanMap the map to record the spans or null
+     */
+    protected void readChangelogEntryList(ChangelogContentParser parser, ChangelogErrorList changelogErrorList, Changelog changelog, Map<Object, ChangelogSourceSpan> sourceSpanMap) {
         if (parser == null || changelog == null) {
             return;
         }
 
         parser.readChangelogSeparator();
+        if (sourceSpanMap != null) {
+            // the header ends with the first entry heading
+            sourceSpanMap.put(changelog, new ChangelogSourceSpan(0, parser.getSeparatorPosition()));
+        }
+
         while (!parser.isEOL()) {
+            int entryStart = parser.getSeparatorPosition();
+            int offset = parser.getPosition();
             ChangelogEntry changelogEntry = new ChangelogEntry();
             ChangelogReleaseVersion releaseVersion = readVersion(parser, changelogErrorList, changelogEntry);
 
@@ -169,6 +275,7 @@ public class ChangelogParserImpl implements IChangelogParser {
             Character separator = parser.readHeaderSeparator();
 
             // read date
+            int dateOffset = parser.getPosition();
             String releaseDate = parser.readDate();
             try {
                 String preapredReleaseDate = StringUtil.getInstance().trimRight(StringUtil.getInstance().trimLeft(releaseDate, '('), ')');
@@ -179,17 +286,17 @@ public class ChangelogParserImpl implements IChangelogParser {
                 
                 if (!preapredReleaseDate.equals(releaseDate) && !dateWarning) {
                     dateWarning = true;
-                    changelogErrorList.addGeneralError(ErrorType.ENTRIES, "Invalid relase date format, e.g. [" + releaseDate + "]!");
+                    changelogErrorList.addGeneralError(ErrorType.ENTRIES, dateOffset, ChangelogErrorCode.INVALID_RELEASE_DATE_FORMAT, releaseDate);
                 }
                 
             } catch (DateTimeParseException ev) {
-                changelogErrorList.addReleaseError(releaseVersion, "Invalid relase date [" + releaseDate + "]!");
+                changelogErrorList.addReleaseError(releaseVersion, dateOffset, ChangelogErrorCode.INVALID_RELEASE_DATE, releaseDate);
             }
 
             // read header separator
             Character dateSeparator = parser.readHeaderSeparator();
             if (separator != null && dateSeparator != null && !separator.equals(dateSeparator)) {
-                changelogErrorList.addReleaseError(releaseVersion, "Found mixed separator character in version section " + separator + " and " + dateSeparator + ".");
+                changelogErrorList.addReleaseError(releaseVersion, offset, ChangelogErrorCode.MIXED_HEADER_SEPARATOR, separator, dateSeparator);
             }
 
             // read header trailer
@@ -215,7 +322,11 @@ public class ChangelogParserImpl implements IChangelogParser {
             changelogEntry.setDescription(releaseDescription);
 
             changelog.addEntry(changelogEntry);
-            readChangelogSectionList(parser, changelogErrorList, changelogEntry);
+            readChangelogSectionList(parser, changelogErrorList, changelogEntry, sourceSpanMap);
+            if (sourceSpanMap != null) {
+                // the entry ends with the next entry heading or with the content
+                sourceSpanMap.put(changelogEntry, new ChangelogSourceSpan(entryStart, parser.getSeparatorPosition()));
+            }
         }
     }
 
@@ -233,9 +344,11 @@ public class ChangelogParserImpl implements IChangelogParser {
             return null;
         }
         
+        String releaseLink = null;
         String releaseLinkError = null;
 
         // read version number
+        int offset = parser.getPosition();
         String releaseVersion = parser.readVersion().stripLeading();
         boolean hasBracketsAroundVersion = false;
         if (!releaseVersion.isEmpty() && releaseVersion.startsWith("[")) {
@@ -243,12 +356,12 @@ public class ChangelogParserImpl implements IChangelogParser {
             if (idx > 0) {
                 hasBracketsAroundVersion = true;
                 
-                String releaseLink = StringUtil.getInstance().trimRight(StringUtil.getInstance().trimLeft(releaseVersion.substring(idx + 1), '('), ')');
+                releaseLink = StringUtil.getInstance().trimRight(StringUtil.getInstance().trimLeft(releaseVersion.substring(idx + 1), '('), ')');
                 if (releaseLink != null && !releaseLink.isBlank()) {
                     try {
                         changelogEntry.setReleaseLink(URI.create(releaseLink).toURL());
                     } catch (IllegalArgumentException | java.net.MalformedURLException e) {
-                        releaseLinkError = "Invalid relase link [" + releaseLink + "]: " + e.getMessage() + "!";
+                        releaseLinkError = e.getMessage();
                     }                
                 }
                 
@@ -274,11 +387,11 @@ public class ChangelogParserImpl implements IChangelogParser {
             changelogEntry.setReleaseVersion(changelogReleaseVersion);
             changelogEntry.setHasBracketsAroundVersion(hasBracketsAroundVersion);
         } catch (IllegalArgumentException ev) {
-            changelogErrorList.addReleaseError(changelogReleaseVersion, "Invalid relase version [" + releaseVersion + "]!");
+            changelogErrorList.addReleaseError(changelogReleaseVersion, offset, ChangelogErrorCode.INVALID_RELEASE_VERSION, releaseVersion);
         }
 
         if (releaseLinkError != null) {
-            changelogErrorList.addReleaseError(changelogReleaseVersion, releaseLinkError);
+            changelogErrorList.addReleaseError(changelogReleaseVersion, offset, ChangelogErrorCode.INVALID_RELEASE_LINK, releaseLink, releaseLinkError);
         }
         
         return changelogReleaseVersion;
@@ -293,19 +406,34 @@ public class ChangelogParserImpl implements IChangelogParser {
      * @param changelogEntry the change-log entry
      */
     protected void readChangelogSectionList(ChangelogContentParser parser, ChangelogErrorList changelogErrorList, ChangelogEntry changelogEntry) {
+        readChangelogSectionList(parser, changelogErrorList, changelogEntry, null);
+    }
+
+
+    /**
+     * Read the change-log section list and record the spans of the sections.
+     *
+     * @param parser the parser
+     * @param changelogErrorList the change-log error list
+     * @param changelogEntry the change-log entry
+     * @param sourceSpanMap the map to record the spans or null
+     */
+    protected void readChangelogSectionList(ChangelogContentParser parser, ChangelogErrorList changelogErrorList, ChangelogEntry changelogEntry, Map<Object, ChangelogSourceSpan> sourceSpanMap) {
         if (parser == null || changelogEntry == null) {
             return;
         }
-        
+
         String sep = parser.readChangelogSeparator();
         while (!parser.isEOL() && sep.length() == 3) {
+            int sectionStart = parser.getSeparatorPosition();
+            int offset = parser.getPosition();
             String changelogType = parser.readEOL();
 
             ChangelogChangeType changelogChangeType = EnumUtil.getInstance().valueOf(ChangelogChangeType.class, changelogType);
             if (changelogChangeType == null) {
-                changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), "Invalid changelog change type: [" + changelogType + "]!");
+                changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), offset, ChangelogErrorCode.INVALID_CHANGE_TYPE, changelogType);
             } else if (!changelogChangeType.getTypeName().equals(changelogType)) {
-                changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), "Don't match exactly: [" + changelogType + "]!");
+                changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), offset, ChangelogErrorCode.CHANGE_TYPE_MISMATCH, changelogType);
             }
 
             ChangelogSection section = new ChangelogSection(changelogChangeType);
@@ -318,6 +446,9 @@ public class ChangelogParserImpl implements IChangelogParser {
             }
 
             sep = parser.readChangelogSeparator();
+            if (sourceSpanMap != null) {
+                sourceSpanMap.put(section, new ChangelogSourceSpan(sectionStart, parser.getSeparatorPosition()));
+            }
         }
     }
 
@@ -335,6 +466,7 @@ public class ChangelogParserImpl implements IChangelogParser {
             return;
         }
         
+        int offset = parser.getPosition();
         String itemContent = parser.readChangelogText();
         if (itemContent != null && !itemContent.isEmpty()) {
             String[] itemSplit = itemContent.split("" + ChangelogContentParser.NEWLINE);
@@ -342,17 +474,19 @@ public class ChangelogParserImpl implements IChangelogParser {
                 StringBuilder currentItem = new StringBuilder();
                 for (int i = 0; i < itemSplit.length; i++) {
                     String item = itemSplit[i];
+                    int itemOffset = offset;
+                    offset += item.length() + 1;
 
                     String strippedLeadingWhitespaces = item.stripLeading();
                     if (!item.equals(strippedLeadingWhitespaces) && (strippedLeadingWhitespaces.startsWith(DASH_SIGN) || strippedLeadingWhitespaces.startsWith(STAR_SIGN))) {
                         item = strippedLeadingWhitespaces;
-                        changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), "Space before comment list in section type " + section.getChangeType().getTypeName() + "!");
+                        changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), itemOffset, ChangelogErrorCode.SPACE_BEFORE_COMMENT_LIST, section.getChangeType().getTypeName());
                     }
 
                     if (item.startsWith(DASH_SIGN) || item.startsWith(STAR_SIGN)) {
                         String comment = item.substring(1).stripLeading();
                         if (comment.trim().isEmpty()) {
-                            changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), "Empty comment list in section type " + section.getChangeType().getTypeName() + "!");
+                            changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), itemOffset, ChangelogErrorCode.EMPTY_COMMENT_LIST, section.getChangeType().getTypeName());
                         } else {
                             if (currentItem.toString().trim().length() > 0) {
                                 section.add(currentItem.toString());
@@ -362,7 +496,7 @@ public class ChangelogParserImpl implements IChangelogParser {
                         }
                     } else {
                         if (item.isBlank()) {
-                            changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), "Empty comment list in section type " + section.getChangeType().getTypeName() + "!");
+                            changelogErrorList.addReleaseError(changelogEntry.getReleaseVersion(), itemOffset, ChangelogErrorCode.EMPTY_COMMENT_LIST, section.getChangeType().getTypeName());
                         } else {
                             currentItem.append(ChangelogContentParser.NEWLINE).append(item);
                         }
@@ -0,0 +1,173 @@
+/*
+ * ChangelogScanConfig.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.scanner;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Defines the configuration of a change-log scan: the name patterns of the change-log files, the excludes and the number
+ * of files which are validated concurrently. The excludes have the syntax of a <code>.gitignore</code> file and are
+ * relative to the root directory of the scan.
+ * 
+ * @author patrick
+ */
+public class ChangelogScanConfig implements Serializable {
+    /** The default name pattern */
+    public static final String DEFAULT_NAME_PATTERN = "CHANGELOG.md";
+    private static final long serialVersionUID = 3017395728130127645L;
+    private List<String> namePatterns;
+    private List<String> excludePatterns;
+    private boolean respectGitignore;
+    private int parallelism;
+
+    
+    /**
+     * Constructor for ChangelogScanConfig
+     */
+    public ChangelogScanConfig() {
+        namePatterns = new ArrayList<>(Arrays.asList(DEFAULT_NAME_PATTERN));
+        excludePatterns = new ArrayList<>();
+        respectGitignore = true;
+        parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    
+    /**
+     * Get the name patterns of the change-log files
+     * 
+     * @return the glob patterns of the file names, e.g. <code>CHANGELOG*.md</code>
+     */
+    public List<String> getNamePatterns() {
+        return namePatterns;
+    }
+
+    
+    /**
+     * Set the name patterns of the change-log files
+     * 
+     * @param namePatterns the glob patterns of the file names
+     * @throws IllegalArgumentException In case of no name pattern
+     */
+    public void setNamePatterns(List<String> namePatterns) {
+        if (namePatterns == null || namePatterns.isEmpty()) {
+            throw new IllegalArgumentException("Invalid empty name patterns!");
+        }
+        
+        this.namePatterns = new ArrayList<>(namePatterns);
+    }
+
+    
+    /**
+     * Get the exclude patterns
+     * 
+     * @return the exclude patterns in <code>.gitignore</code> syntax
+     */
+    public List<String> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    
+    /**
+     * Set the exclude patterns
+     * 
+     * @param excludePatterns the exclude patterns in <code>.gitignore</code> syntax, relative to the root directory
+     */
+    public void setExcludePatterns(List<String> excludePatterns) {
+        if (excludePatterns == null) {
+            this.excludePatterns = new ArrayList<>();
+        } else {
+            this.excludePatterns = new ArrayList<>(excludePatterns);
+        }
+    }
+
+    
+    /**
+     * Check if the <code>.gitignore</code> files in the directory tree are respected
+     * 
+     * @return true if the <code>.gitignore</code> files are respected
+     */
+    public boolean isRespectGitignore() {
+        return respectGitignore;
+    }
+
+    
+    /**
+     * Set if the <code>.gitignore</code> files in the directory tree are respected
+     * 
+     * @param respectGitignore true to respect the <code>.gitignore</code> files
+     */
+    public void setRespectGitignore(boolean respectGitignore) {
+        this.respectGitignore = respectGitignore;
+    }
+
+    
+    /**
+     * Get the max number of files which are validated concurrently
+     * 
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    
+    /**
+     * Set the max number of files which are validated concurrently
+     * 
+     * @param parallelism the parallelism
+     * @throws IllegalArgumentException In case of an invalid parallelism
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism + "!");
+        }
+        
+        this.parallelism = parallelism;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(namePatterns, excludePatterns, respectGitignore, parallelism);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ChangelogScanConfig other = (ChangelogScanConfig) obj;
+        return Objects.equals(namePatterns, other.namePatterns) && Objects.equals(excludePatterns, other.excludePatterns)
+               && respectGitignore == other.respectGitignore && parallelism == other.parallelism;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogScanConfig [namePatterns=" + namePatterns + ", excludePatterns=" + excludePatterns + ", respectGitignore=" + respectGitignore + ", parallelism=" + parallelism + "]";
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * ChangelogScanResult.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.scanner;
+
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.Serializable;
+
+
+/**
+ * Defines the result of a scanned change-log file: the validation result or the error in case the file could not be read.
+ * 
+ * @author patrick
+ */
+public class ChangelogScanResult implements Serializable, Comparable<ChangelogScanResult> {
+    private static final long serialVersionUID = -2870245938046159711L;
+    private final String file;
+    private final ValidationResult validationResult;
+    private final String readError;
+
+    
+    /**
+     * Constructor for ChangelogScanResult
+     * 
+     * @param file the file
+     * @param validationResult the validation result or null in case the file could not be read
+     * @param readError the read error or null
+     */
+    public ChangelogScanResult(String file, ValidationResult validationResult, String readError) {
+        this.file = file;
+        this.validationResult = validationResult;
+        this.readError = readError;
+    }
+
+    
+    /**
+     * Get the file
+     * 
+     * @return the file
+     */
+    public String getFile() {
+        return file;
+    }
+
+    
+    /**
+     * Get the validation result
+     * 
+     * @return the validation result or null in case the file could not be read
+     */
+    public ValidationResult getValidationResult() {
+        return validationResult;
+    }
+
+    
+    /**
+     * Get the read error
+     * 
+     * @return the read error or null
+     */
+    public String getReadError() {
+        return readError;
+    }
+
+    
+    /**
+     * Check if the file is a valid change-log
+     * 
+     * @return true if the file could be read and is valid
+     */
+    public boolean isValid() {
+        return readError == null && validationResult != null && validationResult.isValid();
+    }
+
+
+    /**
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(ChangelogScanResult other) {
+        return file.compareTo(other.file);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogScanResult [file=" + file + ", valid=" + isValid() + ", readError=" + readError + "]";
+    }
+}
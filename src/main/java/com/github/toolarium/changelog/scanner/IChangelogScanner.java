@@ -0,0 +1,41 @@
+/*
+ * IChangelogScanner.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.scanner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+/**
+ * Defines the change-log scanner: it walks a directory tree, finds the change-log files and validates them. The
+ * validation of the found files runs concurrently to the directory walk.
+ * 
+ * @author patrick
+ */
+public interface IChangelogScanner {
+    
+    /**
+     * Scan a directory tree and validate the found change-log files.
+     * 
+     * @param rootDirectory the root directory
+     * @return the results sorted by the file
+     * @throws IOException In case the directory tree could not be walked
+     */
+    List<ChangelogScanResult> scan(Path rootDirectory) throws IOException;
+
+    
+    /**
+     * Scan a directory tree and validate the found change-log files. The consumer is called for each file as soon as it
+     * is validated, the calls are serialized but the order is undefined.
+     * 
+     * @param rootDirectory the root directory
+     * @param consumer the consumer of the results
+     * @throws IOException In case the directory tree could not be walked
+     */
+    void scan(Path rootDirectory, Consumer<ChangelogScanResult> consumer) throws IOException;
+}
@@ -0,0 +1,273 @@
+/*
+ * ChangelogScannerImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.scanner.impl;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.scanner.ChangelogScanConfig;
+import com.github.toolarium.changelog.scanner.ChangelogScanResult;
+import com.github.toolarium.changelog.scanner.IChangelogScanner;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+
+/**
+ * Implements the change-log scanner. The directory tree is walked by the calling thread, each found change-log file is
+ * validated on a worker pool while the walk continues. The number of submitted but not yet validated files is bounded,
+ * that a fast walk can't queue up the whole tree.
+ * 
+ * @author patrick
+ */
+public class ChangelogScannerImpl implements IChangelogScanner {
+    private static final String GITIGNORE = ".gitignore";
+    private static final String GIT_DIRECTORY = ".git";
+    private static final int QUEUED_FILES_PER_WORKER = 4;
+    private final ChangelogConfig changelogConfig;
+    private final ChangelogScanConfig scanConfig;
+    private final List<PathMatcher> nameMatcherList;
+
+    
+    /**
+     * Constructor for ChangelogScannerImpl
+     * 
+     * @param changelogConfig the change-log configuration for the validation or null for the default
+     * @param scanConfig the scan configuration or null for the default
+     */
+    public ChangelogScannerImpl(ChangelogConfig changelogConfig, ChangelogScanConfig scanConfig) {
+        if (changelogConfig == null) {
+            this.changelogConfig = new ChangelogConfig();
+        } else {
+            this.changelogConfig = new ChangelogConfig(changelogConfig);
+        }
+        
+        if (scanConfig == null) {
+            this.scanConfig = new ChangelogScanConfig();
+        } else {
+            this.scanConfig = scanConfig;
+        }
+        
+        this.nameMatcherList = new ArrayList<>();
+        for (String namePattern : this.scanConfig.getNamePatterns()) {
+            nameMatcherList.add(FileSystems.getDefault().getPathMatcher("glob:" + namePattern));
+        }
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.scanner.IChangelogScanner#scan(java.nio.file.Path)
+     */
+    @Override
+    public List<ChangelogScanResult> scan(Path rootDirectory) throws IOException {
+        final List<ChangelogScanResult> resultList = new ArrayList<>();
+        scan(rootDirectory, resultList::add);
+        Collections.sort(resultList);
+        return resultList;
+    }
+
+    
+    /**
+     * @see com.github.toolarium.changelog.scanner.IChangelogScanner#scan(java.nio.file.Path, java.util.function.Consumer)
+     */
+    @Override
+    public void scan(final Path rootDirectory, final Consumer<ChangelogScanResult> consumer) throws IOException {
+        if (rootDirectory == null || !Files.isDirectory(rootDirectory)) {
+            throw new IOException("Invalid root directory: " + rootDirectory + "!");
+        }
+        
+        final int parallelism = scanConfig.getParallelism();
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "changelog-scanner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Semaphore queuedFiles = new Semaphore(parallelism * QUEUED_FILES_PER_WORKER);
+        final AtomicReference<RuntimeException> consumerException = new AtomicReference<>();
+        final Deque<IgnoreRules> ignoreRulesStack = new ArrayDeque<>();
+        ignoreRulesStack.push(new IgnoreRules(rootDirectory, scanConfig.getExcludePatterns()));
+
+        boolean completed = false;
+        try {
+            Files.walkFileTree(rootDirectory, new SimpleFileVisitor<Path>() {
+                /**
+                 * @see java.nio.file.SimpleFileVisitor#preVisitDirectory(java.lang.Object, java.nio.file.attribute.BasicFileAttributes)
+                 */
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                    if (!directory.equals(rootDirectory) && (GIT_DIRECTORY.equals(String.valueOf(directory.getFileName())) || isIgnored(ignoreRulesStack, directory, true))) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    
+                    ignoreRulesStack.push(readIgnoreRules(directory));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                
+                /**
+                 * @see java.nio.file.SimpleFileVisitor#postVisitDirectory(java.lang.Object, java.io.IOException)
+                 */
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException exception) {
+                    ignoreRulesStack.pop();
+                    return FileVisitResult.CONTINUE;
+                }
+
+                
+                /**
+                 * @see java.nio.file.SimpleFileVisitor#visitFile(java.lang.Object, java.nio.file.attribute.BasicFileAttributes)
+                 */
+                @Override
+                public FileVisitResult visitFile(final Path file, BasicFileAttributes attributes) throws IOException {
+                    if (!attributes.isRegularFile() || !isChangelogFile(file) || isIgnored(ignoreRulesStack, file, false)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    
+                    try {
+                        queuedFiles.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted scan!");
+                    }
+                    
+                    executorService.execute(() -> {
+                        try {
+                            ChangelogScanResult result = validate(file);
+                            synchronized (consumer) {
+                                consumer.accept(result);
+                            }
+                        } catch (RuntimeException e) {
+                            consumerException.compareAndSet(null, e);
+                        } finally {
+                            queuedFiles.release();
+                        }
+                    });
+                    return FileVisitResult.CONTINUE;
+                }
+
+                
+                /**
+                 * @see java.nio.file.SimpleFileVisitor#visitFileFailed(java.lang.Object, java.io.IOException)
+                 */
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                    // a not accessible directory or file is skipped
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            
+            executorService.shutdown();
+            while (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
+                // wait until all found files are validated
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted scan!");
+        } finally {
+            if (!completed) {
+                executorService.shutdownNow();
+            }
+        }
+        
+        if (consumerException.get() != null) {
+            throw consumerException.get();
+        }
+    }
+
+    
+    /**
+     * Validate a change-log file
+     * 
+     * @param file the file
+     * @return the result
+     */
+    protected ChangelogScanResult validate(Path file) {
+        try {
+            return new ChangelogScanResult(file.toString(), ChangelogFactory.getInstance().validateToResult(changelogConfig, file, null, null, null), null);
+        } catch (IOException e) {
+            return new ChangelogScanResult(file.toString(), null, String.valueOf(e.getMessage()));
+        }
+    }
+
+    
+    /**
+     * Check if a file is a change-log file by its name
+     * 
+     * @param file the file
+     * @return true if the name matches a name pattern
+     */
+    protected boolean isChangelogFile(Path file) {
+        Path name = file.getFileName();
+        for (PathMatcher nameMatcher : nameMatcherList) {
+            if (nameMatcher.matches(name)) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+
+    
+    /**
+     * Read the ignore rules of a directory
+     * 
+     * @param directory the directory
+     * @return the ignore rules
+     */
+    private IgnoreRules readIgnoreRules(Path directory) {
+        Path gitignore = directory.resolve(GITIGNORE);
+        if (scanConfig.isRespectGitignore() && Files.isRegularFile(gitignore)) {
+            try {
+                return new IgnoreRules(directory, Files.readAllLines(gitignore));
+            } catch (IOException e) {
+                // an unreadable ignore file is ignored
+            }
+        }
+        
+        return new IgnoreRules(directory, null);
+    }
+
+    
+    /**
+     * Check if a path is ignored. The rules of the deepest directory are checked last, they override the rules of the
+     * parent directories.
+     * 
+     * @param ignoreRulesStack the ignore rules of the current directory and its parent directories
+     * @param path the path
+     * @param directory true if the path is a directory
+     * @return true if it is ignored
+     */
+    private boolean isIgnored(Deque<IgnoreRules> ignoreRulesStack, Path path, boolean directory) {
+        boolean ignored = false;
+        Iterator<IgnoreRules> it = ignoreRulesStack.descendingIterator();
+        while (it.hasNext()) {
+            Boolean match = it.next().match(path, directory);
+            if (match != null) {
+                ignored = match;
+            }
+        }
+        
+        return ignored;
+    }
+}
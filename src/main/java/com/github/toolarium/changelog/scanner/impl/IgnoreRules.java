@@ -0,0 +1,213 @@
+/*
+ * IgnoreRules.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.scanner.impl;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The ignore rules of a directory in <code>.gitignore</code> syntax: comments, negation with <code>!</code>, directory
+ * rules with a trailing <code>/</code>, anchored rules which contain a <code>/</code> and the wildcards <code>*</code>,
+ * <code>?</code>, <code>[...]</code> and <code>**</code>. As in git a leading <code>&#42;&#42;/</code> and a <code>/&#42;&#42;/</code> match
+ * also zero directories, e.g. <code>a/&#42;&#42;/b</code> matches <code>a/b</code>. The last matching rule wins.
+ * 
+ * @author patrick
+ */
+final class IgnoreRules {
+    private static final String ANY_DIRECTORY = "**/";
+    private static final String ANY_INNER_DIRECTORY = "/**/";
+    private final Path baseDirectory;
+    private final List<Rule> ruleList;
+
+    
+    /**
+     * Constructor for IgnoreRules
+     * 
+     * @param baseDirectory the directory of the rules
+     * @param lines the lines in <code>.gitignore</code> syntax
+     */
+    IgnoreRules(Path baseDirectory, List<String> lines) {
+        this.baseDirectory = baseDirectory;
+        this.ruleList = new ArrayList<>();
+        if (lines != null) {
+            for (String line : lines) {
+                Rule rule = parseRule(line);
+                if (rule != null) {
+                    ruleList.add(rule);
+                }
+            }
+        }
+    }
+
+    
+    /**
+     * Match a path against the rules
+     * 
+     * @param path the path, it has to be below the base directory
+     * @param directory true if the path is a directory
+     * @return {@link Boolean#TRUE} if the path is ignored, {@link Boolean#FALSE} if it is included again by a negated rule
+     *         or null if no rule matches
+     */
+    Boolean match(Path path, boolean directory) {
+        if (ruleList.isEmpty() || !path.startsWith(baseDirectory)) {
+            return null;
+        }
+        
+        Path relativePath = baseDirectory.relativize(path);
+        if (relativePath.getNameCount() == 0 || relativePath.toString().isEmpty()) {
+            return null;
+        }
+        
+        Path name = relativePath.getFileName();
+        Boolean result = null;
+        for (Rule rule : ruleList) {
+            if (rule.directoryOnly && !directory) {
+                continue;
+            }
+            
+            boolean matches;
+            if (rule.anchored) {
+                matches = rule.matcher.matches(relativePath);
+            } else {
+                matches = rule.matcher.matches(name);
+            }
+            
+            if (matches) {
+                result = !rule.negate;
+            }
+        }
+        
+        return result;
+    }
+
+    
+    /**
+     * Parse a rule
+     * 
+     * @param line the line
+     * @return the rule or null
+     */
+    private Rule parseRule(String line) {
+        String pattern = stripTrailingSpaces(line);
+        if (pattern.isEmpty() || pattern.startsWith("#")) {
+            return null;
+        }
+        
+        boolean negate = false;
+        if (pattern.startsWith("!")) {
+            negate = true;
+            pattern = pattern.substring(1);
+        } else if (pattern.startsWith("\\!") || pattern.startsWith("\\#")) {
+            pattern = pattern.substring(1);
+        }
+
+        boolean directoryOnly = false;
+        if (pattern.endsWith("/")) {
+            directoryOnly = true;
+            pattern = pattern.substring(0, pattern.length() - 1);
+        }
+        
+        boolean anchored = pattern.indexOf('/') >= 0;
+        if (pattern.startsWith("/")) {
+            pattern = pattern.substring(1);
+        } else if (pattern.startsWith(ANY_DIRECTORY) && pattern.indexOf('/', ANY_DIRECTORY.length()) < 0) {
+            // a leading **/ matches in all directories as a rule without a slash
+            pattern = pattern.substring(ANY_DIRECTORY.length());
+            anchored = false;
+        }
+        
+        if (pattern.isEmpty()) {
+            return null;
+        }
+        
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + toGlob(pattern));
+        return new Rule(matcher, negate, directoryOnly, anchored);
+    }
+
+    
+    /**
+     * Remove the trailing spaces which are not escaped
+     * 
+     * @param line the line
+     * @return the line without trailing spaces
+     */
+    private String stripTrailingSpaces(String line) {
+        int end = line.length();
+        while (end > 0 && line.charAt(end - 1) == ' ' && (end < 2 || line.charAt(end - 2) != '\\')) {
+            end--;
+        }
+        return line.substring(0, end);
+    }
+
+    
+    /**
+     * Convert a <code>.gitignore</code> pattern into a glob: the glob characters which have no special meaning in a
+     * <code>.gitignore</code> pattern are escaped. A leading <code>&#42;&#42;/</code> and a <code>/&#42;&#42;/</code> need at least one
+     * directory in a glob, therefore they are converted into a group which matches also zero directories.
+     * 
+     * @param pattern the pattern
+     * @return the glob
+     */
+    private String toGlob(String pattern) {
+        String gitPattern = pattern;
+        while (gitPattern.contains(ANY_INNER_DIRECTORY + ANY_DIRECTORY)) {
+            gitPattern = gitPattern.replace(ANY_INNER_DIRECTORY + ANY_DIRECTORY, ANY_INNER_DIRECTORY);
+        }
+
+        StringBuilder glob = new StringBuilder(gitPattern.length() + 16);
+        int i = 0;
+        if (gitPattern.startsWith(ANY_DIRECTORY)) {
+            glob.append('{').append(ANY_DIRECTORY).append(",}");
+            i = ANY_DIRECTORY.length();
+        }
+
+        while (i < gitPattern.length()) {
+            if (gitPattern.startsWith(ANY_INNER_DIRECTORY, i)) {
+                glob.append('{').append(ANY_INNER_DIRECTORY).append(",/}");
+                i += ANY_INNER_DIRECTORY.length();
+                continue;
+            }
+
+            char c = gitPattern.charAt(i++);
+            if (c == '{' || c == '}') {
+                glob.append('\\');
+            }
+            glob.append(c);
+        }
+        return glob.toString();
+    }
+
+    
+    /**
+     * A rule
+     */
+    private static final class Rule {
+        private final PathMatcher matcher;
+        private final boolean negate;
+        private final boolean directoryOnly;
+        private final boolean anchored;
+
+        
+        /**
+         * Constructor for Rule
+         * 
+         * @param matcher the matcher
+         * @param negate true if the rule includes a path again
+         * @param directoryOnly true if the rule matches only directories
+         * @param anchored true if the rule matches the path relative to the base directory, otherwise the name
+         */
+        Rule(PathMatcher matcher, boolean negate, boolean directoryOnly, boolean anchored) {
+            this.matcher = matcher;
+            this.negate = negate;
+            this.directoryOnly = directoryOnly;
+            this.anchored = anchored;
+        }
+    }
+}
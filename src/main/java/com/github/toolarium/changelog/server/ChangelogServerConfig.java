@@ -0,0 +1,216 @@
+/*
+ * ChangelogServerConfig.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+
+/**
+ * Defines the configuration of the validation server: the address to listen on, the max length of a posted change-log
+ * and the size of the validation cache. The server listens on the loopback address by default and should not be exposed
+ * to other hosts. In addition the server can listen on a Unix domain socket, a local client connects to it without the
+ * HTTP overhead.
+ *
+ * @author patrick
+ */
+public class ChangelogServerConfig implements Serializable {
+    /** The default host */
+    public static final String DEFAULT_HOST = "127.0.0.1";
+    /** The default port */
+    public static final int DEFAULT_PORT = 8085;
+    /** The default max length of a posted change-log in bytes */
+    public static final int DEFAULT_MAX_CONTENT_LENGTH = 4 * 1024 * 1024;
+    /** The default max number of validation results in the cache */
+    public static final int DEFAULT_VALIDATION_CACHE_ENTRIES = 1024;
+    private static final long serialVersionUID = -2650147322519861482L;
+    private String host;
+    private int port;
+    private int maxContentLength;
+    private int validationCacheEntries;
+    private String unixSocketFile;
+
+
+    /**
+     * Constructor for ChangelogServerConfig
+     */
+    public ChangelogServerConfig() {
+        host = DEFAULT_HOST;
+        port = DEFAULT_PORT;
+        maxContentLength = DEFAULT_MAX_CONTENT_LENGTH;
+        validationCacheEntries = DEFAULT_VALIDATION_CACHE_ENTRIES;
+        unixSocketFile = null;
+    }
+
+
+    /**
+     * Get the host to listen on
+     *
+     * @return the host
+     */
+    public String getHost() {
+        return host;
+    }
+
+
+    /**
+     * Set the host to listen on
+     *
+     * @param host the host
+     * @throws IllegalArgumentException In case of an invalid host
+     */
+    public void setHost(String host) {
+        if (host == null || host.isBlank()) {
+            throw new IllegalArgumentException("Invalid host: " + host + "!");
+        }
+
+        this.host = host.trim();
+    }
+
+
+    /**
+     * Get the port to listen on
+     *
+     * @return the port, 0 for an ephemeral port
+     */
+    public int getPort() {
+        return port;
+    }
+
+
+    /**
+     * Set the port to listen on
+     *
+     * @param port the port, 0 for an ephemeral port
+     * @throws IllegalArgumentException In case of an invalid port
+     */
+    public void setPort(int port) {
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Invalid port: " + port + "!");
+        }
+
+        this.port = port;
+    }
+
+
+    /**
+     * Get the max length of a posted change-log, a longer change-log is rejected
+     *
+     * @return the max length in bytes
+     */
+    public int getMaxContentLength() {
+        return maxContentLength;
+    }
+
+
+    /**
+     * Set the max length of a posted change-log
+     *
+     * @param maxContentLength the max length in bytes
+     * @throws IllegalArgumentException In case of an invalid length
+     */
+    public void setMaxContentLength(int maxContentLength) {
+        if (maxContentLength <= 0) {
+            throw new IllegalArgumentException("Invalid max content length: " + maxContentLength + "!");
+        }
+
+        this.maxContentLength = maxContentLength;
+    }
+
+
+    /**
+     * Get the max number of validation results in the cache, an unchanged change-log is not validated again
+     *
+     * @return the max number of validation results
+     */
+    public int getValidationCacheEntries() {
+        return validationCacheEntries;
+    }
+
+
+    /**
+     * Set the max number of validation results in the cache
+     *
+     * @param validationCacheEntries the max number of validation results, 0 to not cache
+     * @throws IllegalArgumentException In case of an invalid number
+     */
+    public void setValidationCacheEntries(int validationCacheEntries) {
+        if (validationCacheEntries < 0) {
+            throw new IllegalArgumentException("Invalid validation cache entries: " + validationCacheEntries + "!");
+        }
+
+        this.validationCacheEntries = validationCacheEntries;
+    }
+
+
+    /**
+     * Get the socket file of the Unix domain socket
+     *
+     * @return the socket file or null if the server don't listen on a Unix domain socket
+     */
+    public Path getUnixSocketFile() {
+        if (unixSocketFile == null) {
+            return null;
+        }
+
+        return Paths.get(unixSocketFile);
+    }
+
+
+    /**
+     * Set the socket file of the Unix domain socket. It is ignored in case the runtime don't support Unix domain sockets
+     * (Java 16 or newer).
+     *
+     * @param unixSocketFile the socket file or null to not listen on a Unix domain socket
+     */
+    public void setUnixSocketFile(Path unixSocketFile) {
+        if (unixSocketFile == null) {
+            this.unixSocketFile = null;
+        } else {
+            this.unixSocketFile = unixSocketFile.toString();
+        }
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(host, port, maxContentLength, validationCacheEntries, unixSocketFile);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ChangelogServerConfig other = (ChangelogServerConfig) obj;
+        return Objects.equals(host, other.host) && port == other.port && maxContentLength == other.maxContentLength && validationCacheEntries == other.validationCacheEntries
+               && Objects.equals(unixSocketFile, other.unixSocketFile);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogServerConfig [host=" + host + ", port=" + port + ", maxContentLength=" + maxContentLength + ", validationCacheEntries=" + validationCacheEntries + ", unixSocketFile=" + unixSocketFile + "]";
+    }
+}
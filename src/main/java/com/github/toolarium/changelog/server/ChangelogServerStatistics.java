@@ -0,0 +1,169 @@
+/*
+ * ChangelogServerStatistics.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server;
+
+import java.io.Serializable;
+
+
+/**
+ * Defines a snapshot of the counters of a validation server. The latency is measured from the start of the request
+ * handling until the response is written; the throughput is the number of handled validation requests per second of uptime.
+ *
+ * @author patrick
+ */
+public class ChangelogServerStatistics implements Serializable {
+    private static final long serialVersionUID = 3316482470958201264L;
+    private final long requestCount;
+    private final long validCount;
+    private final long invalidCount;
+    private final long failedCount;
+    private final int activeRequests;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+    private final long uptimeNanos;
+
+
+    /**
+     * Constructor for ChangelogServerStatistics
+     *
+     * @param requestCount the number of handled validation requests
+     * @param validCount the number of valid change-logs
+     * @param invalidCount the number of invalid change-logs
+     * @param failedCount the number of failed requests, e.g. a bad request or a not readable file
+     * @param activeRequests the number of validation requests in progress
+     * @param totalLatencyNanos the summed latency of the handled validation requests in nanoseconds
+     * @param maxLatencyNanos the max latency of a handled validation request in nanoseconds
+     * @param uptimeNanos the uptime of the server in nanoseconds
+     */
+    public ChangelogServerStatistics(long requestCount, long validCount, long invalidCount, long failedCount, int activeRequests, long totalLatencyNanos, long maxLatencyNanos, long uptimeNanos) {
+        this.requestCount = requestCount;
+        this.validCount = validCount;
+        this.invalidCount = invalidCount;
+        this.failedCount = failedCount;
+        this.activeRequests = activeRequests;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+        this.uptimeNanos = uptimeNanos;
+    }
+
+
+    /**
+     * Get the number of handled validation requests
+     *
+     * @return the number of handled validation requests
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+
+    /**
+     * Get the number of valid change-logs
+     *
+     * @return the number of valid change-logs
+     */
+    public long getValidCount() {
+        return validCount;
+    }
+
+
+    /**
+     * Get the number of invalid change-logs
+     *
+     * @return the number of invalid change-logs
+     */
+    public long getInvalidCount() {
+        return invalidCount;
+    }
+
+
+    /**
+     * Get the number of failed requests, e.g. a bad request or a not readable file
+     *
+     * @return the number of failed requests
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+
+    /**
+     * Get the number of validation requests in progress
+     *
+     * @return the number of validation requests in progress
+     */
+    public int getActiveRequests() {
+        return activeRequests;
+    }
+
+
+    /**
+     * Get the summed latency of the handled validation requests
+     *
+     * @return the summed latency in nanoseconds
+     */
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos;
+    }
+
+
+    /**
+     * Get the average latency of a handled validation request
+     *
+     * @return the average latency in nanoseconds
+     */
+    public long getAverageLatencyNanos() {
+        if (requestCount == 0) {
+            return 0;
+        }
+
+        return totalLatencyNanos / requestCount;
+    }
+
+
+    /**
+     * Get the max latency of a handled validation request
+     *
+     * @return the max latency in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+
+    /**
+     * Get the uptime of the server
+     *
+     * @return the uptime in nanoseconds
+     */
+    public long getUptimeNanos() {
+        return uptimeNanos;
+    }
+
+
+    /**
+     * Get the throughput
+     *
+     * @return the handled validation requests per second of uptime
+     */
+    public double getRequestsPerSecond() {
+        if (uptimeNanos <= 0) {
+            return 0;
+        }
+
+        return requestCount * 1_000_000_000d / uptimeNanos;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ChangelogServerStatistics [requestCount=" + requestCount + ", validCount=" + validCount + ", invalidCount=" + invalidCount + ", failedCount=" + failedCount
+               + ", activeRequests=" + activeRequests + ", totalLatencyNanos=" + totalLatencyNanos + ", maxLatencyNanos=" + maxLatencyNanos + ", uptimeNanos=" + uptimeNanos + "]";
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * IChangelogServer.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+
+
+/**
+ * Defines the long-running validation server. It keeps the parser, the validator and the validation cache warm, that a
+ * client e.g. a pre-receive hook don't pay the start of a JVM for each validation. The server doesn't read files of its
+ * file system, the client posts the content. The server handles the requests:
+ * <ul>
+ * <li><code>POST /validate</code> validates the posted UTF-8 encoded change-log content.</li>
+ * <li><code>GET /statistics</code> returns the latency and throughput counters.</li>
+ * </ul>
+ * The optional query parameters <code>project</code>, <code>description</code> and <code>version</code> are the reference
+ * values of the validation. The validation result is returned as JSON object:
+ * <pre>
+ * {"valid":false,"message":"Changelog validation errors.","errors":[{"code":"INVALID_SORT_ORDER","severity":"ERROR",
+ *  "errorType":null,"releaseVersion":"1.1.0","offset":-1,"message":"Invalid sort order!"}]}
+ * </pre>
+ * Local clients can send the content to validate also over a Unix domain socket, see {@link IChangelogServerClient}.
+ *
+ * @author patrick
+ */
+public interface IChangelogServer {
+
+    /**
+     * Start the server, the requests are handled on virtual threads if the runtime supports them
+     *
+     * @throws IOException In case the server could not be bound
+     * @throws IllegalStateException In case the server was already started
+     */
+    void start() throws IOException;
+
+
+    /**
+     * Stop the server. The requests in progress get the given time to complete.
+     *
+     * @param delaySeconds the max time in seconds to wait for the requests in progress
+     */
+    void stop(int delaySeconds);
+
+
+    /**
+     * Check if the server is running
+     *
+     * @return true if the server is running
+     */
+    boolean isRunning();
+
+
+    /**
+     * Get the address the server listens on
+     *
+     * @return the address or null if the server is not running
+     */
+    InetSocketAddress getAddress();
+
+
+    /**
+     * Get the socket file of the Unix domain socket the server listens on
+     *
+     * @return the socket file or null if the server don't listen on a Unix domain socket
+     */
+    Path getUnixSocketFile();
+
+
+    /**
+     * Get a snapshot of the counters
+     *
+     * @return the statistics
+     */
+    ChangelogServerStatistics getStatistics();
+}
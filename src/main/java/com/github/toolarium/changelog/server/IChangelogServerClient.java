@@ -0,0 +1,40 @@
+/*
+ * IChangelogServerClient.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server;
+
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.IOException;
+
+
+/**
+ * Defines the client of a running validation server. It forwards a validation to the server, that the caller don't need
+ * to load and warm up the parser and the validator. In case the server is not running or it has another change-log
+ * configuration the validation fails with an {@link IOException} and the caller should validate by itself.
+ *
+ * @author patrick
+ */
+public interface IChangelogServerClient {
+
+    /**
+     * Check if a validation server may be running, e.g. its socket file exists
+     *
+     * @return true if a validation server may be running
+     */
+    boolean isAvailable();
+
+
+    /**
+     * Validate the content of a change-log on the validation server.
+     *
+     * @param content the UTF-8 encoded content
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @return the validation result
+     * @throws IOException In case the server is not running or refused the validation
+     */
+    ValidationResult validate(byte[] content, String projectName, String description, String version) throws IOException;
+}
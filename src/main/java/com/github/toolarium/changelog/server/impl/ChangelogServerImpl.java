@@ -0,0 +1,675 @@
+/*
+ * ChangelogServerImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server.impl;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.bulk.impl.VirtualThreads;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.dto.ChangelogError;
+import com.github.toolarium.changelog.formatter.impl.JsonChangelogExporter;
+import com.github.toolarium.changelog.server.ChangelogServerConfig;
+import com.github.toolarium.changelog.server.ChangelogServerStatistics;
+import com.github.toolarium.changelog.server.IChangelogServer;
+import com.github.toolarium.changelog.validator.IChangelogValidator;
+import com.github.toolarium.changelog.validator.IValidationCache;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Implements the validation server with the HTTP server of the JDK. The validator is created once and keeps its compiled
+ * configuration and the validation cache for the lifetime of the server. Each request is handled on its own virtual thread
+ * in case the runtime supports them, otherwise on a cached pool of platform threads. In case a socket file is configured
+ * the server accepts also the validation requests of local clients on a Unix domain socket.
+ *
+ * @author patrick
+ */
+public class ChangelogServerImpl implements IChangelogServer {
+    /** The validation path */
+    public static final String VALIDATE_PATH = "/validate";
+    /** The statistics path */
+    public static final String STATISTICS_PATH = "/statistics";
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String CONNECTION = "Connection";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int MAX_DISCARD_LENGTH = 128 * 1024;
+    private final ChangelogServerConfig serverConfig;
+    private final IChangelogValidator validator;
+    private final String configFingerprint;
+    private final LongAdder requestCount;
+    private final LongAdder validCount;
+    private final LongAdder invalidCount;
+    private final LongAdder failedCount;
+    private final LongAdder totalLatencyNanos;
+    private final AtomicLong maxLatencyNanos;
+    private final AtomicInteger activeRequests;
+    private volatile HttpServer server;
+    private volatile ExecutorService executorService;
+    private volatile ServerSocketChannel unixServerChannel;
+    private volatile long startNanos;
+
+
+    /**
+     * Constructor for ChangelogServerImpl
+     *
+     * @param changelogConfig the change-log configuration for the validation or null for the default
+     * @param serverConfig the server configuration or null for the default
+     */
+    public ChangelogServerImpl(ChangelogConfig changelogConfig, ChangelogServerConfig serverConfig) {
+        if (serverConfig == null) {
+            this.serverConfig = new ChangelogServerConfig();
+        } else {
+            this.serverConfig = serverConfig;
+        }
+
+        IValidationCache validationCache = null;
+        if (this.serverConfig.getValidationCacheEntries() > 0) {
+            validationCache = ChangelogFactory.getInstance().createValidationCache(this.serverConfig.getValidationCacheEntries(), null);
+        }
+
+        validator = ChangelogFactory.getInstance().createChangelogValidator(changelogConfig, validationCache);
+        if (changelogConfig == null) {
+            configFingerprint = new ChangelogConfig().getFingerprint();
+        } else {
+            configFingerprint = changelogConfig.getFingerprint();
+        }
+
+        requestCount = new LongAdder();
+        validCount = new LongAdder();
+        invalidCount = new LongAdder();
+        failedCount = new LongAdder();
+        totalLatencyNanos = new LongAdder();
+        maxLatencyNanos = new AtomicLong();
+        activeRequests = new AtomicInteger();
+        server = null;
+        executorService = null;
+        unixServerChannel = null;
+        startNanos = 0;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServer#start()
+     */
+    @Override
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("The server is already started!");
+        }
+
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(serverConfig.getHost(), serverConfig.getPort()), 0);
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("changelog-server");
+        httpServer.setExecutor(executor);
+        httpServer.createContext(VALIDATE_PATH, this::handleValidate);
+        httpServer.createContext(STATISTICS_PATH, this::handleStatistics);
+        httpServer.createContext("/", exchange -> sendError(exchange, STATUS_NOT_FOUND, "Not found: " + exchange.getRequestURI().getPath()));
+        startNanos = System.nanoTime();
+        httpServer.start();
+        executorService = executor;
+        server = httpServer;
+
+        if (serverConfig.getUnixSocketFile() != null && UnixDomainSockets.isSupported()) {
+            try {
+                final ServerSocketChannel channel = bindUnixSocket(serverConfig.getUnixSocketFile());
+                unixServerChannel = channel;
+                executor.execute(() -> acceptUnixConnections(channel, executor));
+            } catch (IOException | RuntimeException e) {
+                stop(0);
+                throw e;
+            }
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServer#stop(int)
+     */
+    @Override
+    public synchronized void stop(int delaySeconds) {
+        if (server == null) {
+            return;
+        }
+
+        if (unixServerChannel != null) {
+            try {
+                unixServerChannel.close();
+                Files.deleteIfExists(serverConfig.getUnixSocketFile());
+            } catch (IOException e) {
+                // NOP
+            }
+
+            unixServerChannel = null;
+        }
+
+        server.stop(Math.max(0, delaySeconds));
+        executorService.shutdown();
+        try {
+            executorService.awaitTermination(Math.max(0, delaySeconds), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        executorService.shutdownNow();
+        server = null;
+        executorService = null;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServer#isRunning()
+     */
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServer#getAddress()
+     */
+    @Override
+    public InetSocketAddress getAddress() {
+        HttpServer httpServer = server;
+        if (httpServer == null) {
+            return null;
+        }
+
+        return httpServer.getAddress();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServer#getUnixSocketFile()
+     */
+    @Override
+    public Path getUnixSocketFile() {
+        if (unixServerChannel == null) {
+            return null;
+        }
+
+        return serverConfig.getUnixSocketFile();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServer#getStatistics()
+     */
+    @Override
+    public ChangelogServerStatistics getStatistics() {
+        long uptimeNanos = 0;
+        if (startNanos != 0) {
+            uptimeNanos = System.nanoTime() - startNanos;
+        }
+
+        return new ChangelogServerStatistics(requestCount.sum(), validCount.sum(), invalidCount.sum(), failedCount.sum(), activeRequests.get(),
+                                             totalLatencyNanos.sum(), maxLatencyNanos.get(), uptimeNanos);
+    }
+
+
+    /**
+     * Handle a validation request and update the counters
+     *
+     * @param exchange the exchange
+     * @throws IOException In case of an I/O error
+     */
+    protected void handleValidate(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        activeRequests.incrementAndGet();
+        try {
+            ValidationResult result = validate(exchange);
+            if (result != null) {
+                if (result.isValid()) {
+                    validCount.increment();
+                } else {
+                    invalidCount.increment();
+                }
+
+                sendJson(exchange, STATUS_OK, toJson(result));
+            } else {
+                failedCount.increment();
+            }
+        } catch (IOException | RuntimeException e) {
+            failedCount.increment();
+            sendError(exchange, STATUS_INTERNAL_ERROR, String.valueOf(e.getMessage()));
+        } finally {
+            completeRequest(start);
+        }
+    }
+
+
+    /**
+     * Bind the Unix domain socket. A stale socket file of a terminated server is replaced, the socket file of a running
+     * server not.
+     *
+     * @param socketFile the socket file
+     * @return the bound server channel
+     * @throws IOException In case the socket could not be bound
+     */
+    protected ServerSocketChannel bindUnixSocket(Path socketFile) throws IOException {
+        if (Files.exists(socketFile)) {
+            try {
+                UnixDomainSockets.connect(socketFile).close();
+            } catch (ConnectException e) {
+                Files.deleteIfExists(socketFile);
+            }
+
+            if (Files.exists(socketFile)) {
+                throw new IOException("A server is already listening on " + socketFile + "!");
+            }
+        } else if (socketFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(socketFile.toAbsolutePath().getParent());
+        }
+
+        ServerSocketChannel channel = UnixDomainSockets.bind(socketFile);
+        try {
+            // only the owner may connect
+            Files.setPosixFilePermissions(socketFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // NOP
+        }
+
+        return channel;
+    }
+
+
+    /**
+     * Accept the connections of the Unix domain socket until the channel is closed
+     *
+     * @param channel the server channel
+     * @param executor the executor which handles the connections
+     */
+    protected void acceptUnixConnections(ServerSocketChannel channel, ExecutorService executor) {
+        while (channel.isOpen()) {
+            final SocketChannel connection;
+            try {
+                connection = channel.accept();
+            } catch (IOException e) {
+                return;
+            }
+
+            try {
+                executor.execute(() -> handleUnixConnection(connection));
+            } catch (RejectedExecutionException e) {
+                try {
+                    connection.close();
+                } catch (IOException ex) {
+                    // NOP
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Handle a Unix domain socket connection and update the counters. A connection which is closed without a request is
+     * not counted.
+     *
+     * @param connection the connection
+     */
+    protected void handleUnixConnection(SocketChannel connection) {
+        try (SocketChannel channel = connection) {
+            BufferedInputStream in = new BufferedInputStream(Channels.newInputStream(channel));
+            in.mark(1);
+            if (in.read() < 0) {
+                // closed without a request, e.g. to check if the server is running
+                return;
+            }
+
+            in.reset();
+            long start = System.nanoTime();
+            activeRequests.incrementAndGet();
+            try {
+                handleUnixRequest(in, new BufferedOutputStream(Channels.newOutputStream(channel)));
+            } finally {
+                completeRequest(start);
+            }
+        } catch (IOException e) {
+            // the client closed the connection
+        }
+    }
+
+
+    /**
+     * Handle a validation request of a Unix domain socket connection. A request with another change-log configuration is
+     * refused, that the client validates it by itself with its configuration.
+     *
+     * @param in the input stream of the connection
+     * @param out the output stream of the connection
+     * @throws IOException In case of an I/O error
+     */
+    protected void handleUnixRequest(InputStream in, OutputStream out) throws IOException {
+        UnixSocketProtocol.Request request;
+        try {
+            request = UnixSocketProtocol.readRequest(in, serverConfig.getMaxContentLength());
+        } catch (IOException e) {
+            failedCount.increment();
+            UnixSocketProtocol.writeError(out, e.getMessage());
+            return;
+        }
+
+        if (!configFingerprint.equals(request.getConfigFingerprint())) {
+            failedCount.increment();
+            UnixSocketProtocol.writeError(out, "The server has another changelog configuration!");
+            return;
+        }
+
+        ValidationResult result;
+        try {
+            result = validator.validateToResult(request.getContent(), request.getProjectName(), request.getDescription(), request.getVersion());
+        } catch (IOException | RuntimeException e) {
+            failedCount.increment();
+            UnixSocketProtocol.writeError(out, "Could not validate: " + e.getMessage());
+            return;
+        }
+
+        if (result.isValid()) {
+            validCount.increment();
+        } else {
+            invalidCount.increment();
+        }
+
+        UnixSocketProtocol.writeResult(out, result);
+    }
+
+
+    /**
+     * Complete a validation request: update the request counters and the latency
+     *
+     * @param start the start of the request in nanoseconds
+     */
+    protected void completeRequest(long start) {
+        activeRequests.decrementAndGet();
+        long latency = System.nanoTime() - start;
+        requestCount.increment();
+        totalLatencyNanos.add(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+
+    /**
+     * Validate the posted content. The server doesn't read files of its file system, a client posts the content.
+     *
+     * @param exchange the exchange
+     * @return the validation result or null in case an error response was sent
+     * @throws IOException In case of an I/O error
+     */
+    protected ValidationResult validate(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+        String projectName = parameters.get("project");
+        String description = parameters.get("description");
+        String version = parameters.get("version");
+
+        if (!POST.equalsIgnoreCase(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", POST);
+            sendError(exchange, STATUS_METHOD_NOT_ALLOWED, "Unsupported method: " + exchange.getRequestMethod());
+            return null;
+        }
+
+        byte[] content = readContent(exchange);
+        if (content == null) {
+            return null;
+        }
+
+        try {
+            return validator.validateToResult(content, projectName, description, version);
+        } catch (CharacterCodingException e) {
+            sendError(exchange, STATUS_BAD_REQUEST, "The content is not UTF-8 encoded!");
+            return null;
+        }
+    }
+
+
+    /**
+     * Handle a statistics request
+     *
+     * @param exchange the exchange
+     * @throws IOException In case of an I/O error
+     */
+    protected void handleStatistics(HttpExchange exchange) throws IOException {
+        if (!GET.equalsIgnoreCase(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Allow", GET);
+            sendError(exchange, STATUS_METHOD_NOT_ALLOWED, "Unsupported method: " + exchange.getRequestMethod());
+            return;
+        }
+
+        ChangelogServerStatistics statistics = getStatistics();
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"requestCount\":").append(statistics.getRequestCount())
+            .append(",\"validCount\":").append(statistics.getValidCount())
+            .append(",\"invalidCount\":").append(statistics.getInvalidCount())
+            .append(",\"failedCount\":").append(statistics.getFailedCount())
+            .append(",\"activeRequests\":").append(statistics.getActiveRequests())
+            .append(",\"averageLatencyNanos\":").append(statistics.getAverageLatencyNanos())
+            .append(",\"maxLatencyNanos\":").append(statistics.getMaxLatencyNanos())
+            .append(",\"uptimeNanos\":").append(statistics.getUptimeNanos())
+            .append(",\"requestsPerSecond\":").append(String.format(Locale.ROOT, "%.3f", statistics.getRequestsPerSecond()))
+            .append('}');
+        sendJson(exchange, STATUS_OK, json.toString());
+    }
+
+
+    /**
+     * Read the posted content, a content which is longer than the max content length is rejected.
+     *
+     * @param exchange the exchange
+     * @return the content or null in case an error response was sent
+     * @throws IOException In case of an I/O error
+     */
+    protected byte[] readContent(HttpExchange exchange) throws IOException {
+        int maxContentLength = serverConfig.getMaxContentLength();
+        String contentLength = exchange.getRequestHeaders().getFirst(CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength.trim()) > maxContentLength) {
+                    sendPayloadTooLarge(exchange, maxContentLength);
+                    return null;
+                }
+            } catch (NumberFormatException e) {
+                sendError(exchange, STATUS_BAD_REQUEST, "Invalid content length: " + contentLength);
+                return null;
+            }
+        }
+
+        byte[] content = exchange.getRequestBody().readNBytes(maxContentLength + 1);
+        if (content.length > maxContentLength) {
+            sendPayloadTooLarge(exchange, maxContentLength);
+            return null;
+        }
+
+        return content;
+    }
+
+
+    /**
+     * Reject a too long content. The connection is closed after the response, that the rest of the content is not read.
+     *
+     * @param exchange the exchange
+     * @param maxContentLength the max content length
+     * @throws IOException In case of an I/O error
+     */
+    protected void sendPayloadTooLarge(HttpExchange exchange, int maxContentLength) throws IOException {
+        discardContent(exchange);
+        exchange.getResponseHeaders().set(CONNECTION, "close");
+        try {
+            sendError(exchange, STATUS_PAYLOAD_TOO_LARGE, "The content is longer than " + maxContentLength + " bytes!");
+        } finally {
+            exchange.close();
+        }
+    }
+
+
+    /**
+     * Discard a small rest of the posted content, that a client which is still sending can read the response before the
+     * connection is closed. A larger content is not read.
+     *
+     * @param exchange the exchange
+     * @throws IOException In case of an I/O error
+     */
+    protected void discardContent(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        byte[] buffer = new byte[8192];
+        int remaining = MAX_DISCARD_LENGTH;
+        int readBytes;
+        while (remaining > 0 && (readBytes = in.read(buffer, 0, Math.min(buffer.length, remaining))) >= 0) {
+            remaining -= readBytes;
+        }
+    }
+
+
+    /**
+     * Convert a validation result to JSON
+     *
+     * @param result the validation result
+     * @return the JSON object
+     * @throws IOException In case of an I/O error
+     */
+    protected String toJson(ValidationResult result) throws IOException {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"valid\":").append(result.isValid()).append(",\"message\":");
+        JsonChangelogExporter.appendString(json, result.getMessage());
+        json.append(",\"errors\":[");
+        if (result.getChangelogErrorList() != null) {
+            boolean first = true;
+            for (ChangelogError error : result.getChangelogErrorList().getErrors()) {
+                if (!first) {
+                    json.append(',');
+                }
+
+                first = false;
+                json.append("{\"code\":\"").append(error.getErrorCode().name())
+                    .append("\",\"severity\":\"").append(error.getSeverity().name())
+                    .append("\",\"errorType\":");
+                if (error.getErrorType() != null) {
+                    json.append('"').append(error.getErrorType().name()).append('"');
+                } else {
+                    json.append("null");
+                }
+
+                json.append(",\"releaseVersion\":");
+                if (error.getReleaseVersion() != null) {
+                    JsonChangelogExporter.appendString(json, error.getReleaseVersion().toString());
+                } else {
+                    json.append("null");
+                }
+
+                json.append(",\"offset\":").append(error.getOffset()).append(",\"message\":");
+                JsonChangelogExporter.appendString(json, error.getMessage());
+                json.append('}');
+            }
+        }
+
+        json.append("]}");
+        return json.toString();
+    }
+
+
+    /**
+     * Parse the query parameters, the first value of a parameter wins
+     *
+     * @param rawQuery the raw query or null
+     * @return the decoded parameters
+     */
+    protected Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.isEmpty()) {
+                continue;
+            }
+
+            int idx = parameter.indexOf('=');
+            String name;
+            String value = "";
+            if (idx < 0) {
+                name = parameter;
+            } else {
+                name = parameter.substring(0, idx);
+                value = parameter.substring(idx + 1);
+            }
+
+            try {
+                parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                // ignore an invalid encoded parameter
+            }
+        }
+
+        return parameters;
+    }
+
+
+    /**
+     * Send an error response
+     *
+     * @param exchange the exchange
+     * @param statusCode the status code
+     * @param message the error message
+     * @throws IOException In case of an I/O error
+     */
+    protected void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        StringBuilder json = new StringBuilder(64);
+        json.append("{\"error\":");
+        JsonChangelogExporter.appendString(json, message);
+        json.append('}');
+        sendJson(exchange, statusCode, json.toString());
+    }
+
+
+    /**
+     * Send a JSON response
+     *
+     * @param exchange the exchange
+     * @param statusCode the status code
+     * @param json the JSON content
+     * @throws IOException In case of an I/O error
+     */
+    protected void sendJson(HttpExchange exchange, int statusCode, String json) throws IOException {
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set(CONTENT_TYPE, JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(statusCode, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * DeadlineSocketChannel.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A non-blocking channel of a Unix domain socket with a deadline: the connect, the reads and the writes wait with a
+ * {@link Selector} at most until the deadline, afterwards they fail with a {@link SocketTimeoutException}. A blocking
+ * socket channel has no read timeout, a server which doesn't answer would block the client forever.
+ *
+ * @author patrick
+ */
+final class DeadlineSocketChannel implements Closeable {
+    private final SocketChannel channel;
+    private final Selector selector;
+    private final SelectionKey key;
+    private final long deadlineNanos;
+
+
+    /**
+     * Constructor for DeadlineSocketChannel
+     *
+     * @param channel the channel
+     * @param timeout the timeout of the whole exchange
+     * @throws IOException In case the selector could not be opened
+     */
+    private DeadlineSocketChannel(SocketChannel channel, Duration timeout) throws IOException {
+        this.channel = channel;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        channel.configureBlocking(false);
+        this.selector = Selector.open();
+        try {
+            this.key = channel.register(selector, 0);
+        } catch (IOException | RuntimeException e) {
+            selector.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Connect to a socket file
+     *
+     * @param socketFile the socket file
+     * @param timeout the timeout of the connect and of all reads and writes of the connection
+     * @return the connected channel
+     * @throws IOException In case the channel could not be connected in time or Unix domain sockets are not supported
+     */
+    static DeadlineSocketChannel connect(Path socketFile, Duration timeout) throws IOException {
+        SocketChannel socketChannel = UnixDomainSockets.open();
+        DeadlineSocketChannel result;
+        try {
+            result = new DeadlineSocketChannel(socketChannel, timeout);
+        } catch (IOException | RuntimeException e) {
+            socketChannel.close();
+            throw e;
+        }
+
+        try {
+            if (!socketChannel.connect(UnixDomainSockets.newAddress(socketFile))) {
+                while (!socketChannel.finishConnect()) {
+                    result.await(SelectionKey.OP_CONNECT);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            result.close();
+            throw e;
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the input stream, a read waits at most until the deadline
+     *
+     * @return the input stream
+     */
+    InputStream getInputStream() {
+        return new InputStream() {
+            /**
+             * @see java.io.InputStream#read()
+             */
+            @Override
+            public int read() throws IOException {
+                byte[] data = new byte[1];
+                if (read(data, 0, 1) < 0) {
+                    return -1;
+                }
+
+                return data[0] & 0xff;
+            }
+
+            /**
+             * @see java.io.InputStream#read(byte[], int, int)
+             */
+            @Override
+            public int read(byte[] data, int offset, int length) throws IOException {
+                if (length == 0) {
+                    return 0;
+                }
+
+                ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+                int readBytes;
+                while ((readBytes = channel.read(buffer)) == 0) {
+                    await(SelectionKey.OP_READ);
+                }
+
+                return readBytes;
+            }
+        };
+    }
+
+
+    /**
+     * Get the output stream, a write waits at most until the deadline
+     *
+     * @return the output stream
+     */
+    OutputStream getOutputStream() {
+        return new OutputStream() {
+            /**
+             * @see java.io.OutputStream#write(int)
+             */
+            @Override
+            public void write(int value) throws IOException {
+                write(new byte[] {(byte) value}, 0, 1);
+            }
+
+            /**
+             * @see java.io.OutputStream#write(byte[], int, int)
+             */
+            @Override
+            public void write(byte[] data, int offset, int length) throws IOException {
+                ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
+                while (buffer.hasRemaining()) {
+                    if (channel.write(buffer) == 0) {
+                        await(SelectionKey.OP_WRITE);
+                    }
+                }
+            }
+        };
+    }
+
+
+    /**
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            selector.close();
+        } finally {
+            channel.close();
+        }
+    }
+
+
+    /**
+     * Wait until the channel is ready for an operation
+     *
+     * @param operation the operation
+     * @throws SocketTimeoutException In case the deadline expired
+     * @throws IOException In case of an I/O error
+     */
+    private void await(int operation) throws IOException {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            throw new SocketTimeoutException("The validation server didn't answer in time!");
+        }
+
+        key.interestOps(operation);
+        selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+        selector.selectedKeys().clear();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * UnixDomainSockets.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server.impl;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+
+/**
+ * Opens the channels of Unix domain sockets. They are supported by a runtime with Java 16 or newer, the API is resolved by
+ * reflection, that the library still runs on Java 11.
+ *
+ * @author patrick
+ */
+public final class UnixDomainSockets {
+    private static final ProtocolFamily UNIX = resolveProtocolFamily();
+    private static final Method NEW_ADDRESS = resolveMethod("java.net.UnixDomainSocketAddress", "of", Path.class);
+    private static final Method OPEN_SERVER_CHANNEL = resolveMethod(ServerSocketChannel.class.getName(), "open", ProtocolFamily.class);
+    private static final Method OPEN_CHANNEL = resolveMethod(SocketChannel.class.getName(), "open", ProtocolFamily.class);
+
+
+    /**
+     * Constructor for UnixDomainSockets
+     */
+    private UnixDomainSockets() {
+        // NOP
+    }
+
+
+    /**
+     * Check if Unix domain sockets are supported by the runtime
+     *
+     * @return true if Unix domain sockets are supported
+     */
+    public static boolean isSupported() {
+        return UNIX != null && NEW_ADDRESS != null && OPEN_SERVER_CHANNEL != null && OPEN_CHANNEL != null;
+    }
+
+
+    /**
+     * Open a server channel which is bound to the socket file
+     *
+     * @param socketFile the socket file, it must not exist
+     * @return the bound server channel
+     * @throws IOException In case the channel could not be bound or Unix domain sockets are not supported
+     */
+    public static ServerSocketChannel bind(Path socketFile) throws IOException {
+        ServerSocketChannel channel = (ServerSocketChannel) invoke(OPEN_SERVER_CHANNEL, UNIX);
+        try {
+            channel.bind(newAddress(socketFile));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        return channel;
+    }
+
+
+    /**
+     * Open a channel which is connected to the socket file
+     *
+     * @param socketFile the socket file
+     * @return the connected channel
+     * @throws IOException In case the channel could not be connected or Unix domain sockets are not supported
+     */
+    public static SocketChannel connect(Path socketFile) throws IOException {
+        SocketChannel channel = open();
+        try {
+            channel.connect(newAddress(socketFile));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        return channel;
+    }
+
+
+    /**
+     * Open a channel which is not connected
+     *
+     * @return the channel
+     * @throws IOException In case the channel could not be opened or Unix domain sockets are not supported
+     */
+    public static SocketChannel open() throws IOException {
+        return (SocketChannel) invoke(OPEN_CHANNEL, UNIX);
+    }
+
+
+    /**
+     * Create the address of a socket file
+     *
+     * @param socketFile the socket file
+     * @return the address
+     * @throws IOException In case Unix domain sockets are not supported
+     */
+    public static SocketAddress newAddress(Path socketFile) throws IOException {
+        return (SocketAddress) invoke(NEW_ADDRESS, socketFile);
+    }
+
+
+    /**
+     * Invoke a static method of the Unix domain socket API
+     *
+     * @param method the method or null if it is not supported
+     * @param argument the argument
+     * @return the result
+     * @throws IOException In case the method failed or Unix domain sockets are not supported
+     */
+    private static Object invoke(Method method, Object argument) throws IOException {
+        if (!isSupported()) {
+            throw new IOException("Unix domain sockets are not supported by the runtime!");
+        }
+
+        try {
+            return method.invoke(null, argument);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new IOException(String.valueOf(e.getCause()), e.getCause());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * Resolve the Unix protocol family
+     *
+     * @return the protocol family or null in case it is not supported
+     */
+    private static ProtocolFamily resolveProtocolFamily() {
+        try {
+            return StandardProtocolFamily.valueOf("UNIX");
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * Resolve a static method
+     *
+     * @param className the class name
+     * @param methodName the method name
+     * @param parameterType the parameter type
+     * @return the method or null in case it is not supported
+     */
+    private static Method resolveMethod(String className, String methodName, Class<?> parameterType) {
+        try {
+            return Class.forName(className).getMethod(methodName, parameterType);
+        } catch (ClassNotFoundException | NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * UnixSocketChangelogServerClientImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server.impl;
+
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.server.IChangelogServerClient;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+
+/**
+ * Implements the client of a validation server which listens on a Unix domain socket. Each validation opens its own
+ * connection, a local connection costs less than the class loading of the validation. The connect and the exchange are
+ * bounded by a timeout: a server which hangs fails the validation with an {@link java.io.IOException}, the caller falls
+ * back to the validation in the own process.
+ *
+ * @author patrick
+ */
+public class UnixSocketChangelogServerClientImpl implements IChangelogServerClient {
+    /** The default timeout of a validation */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private final Path socketFile;
+    private final String configFingerprint;
+    private final Duration timeout;
+
+
+    /**
+     * Constructor for UnixSocketChangelogServerClientImpl
+     *
+     * @param socketFile the socket file of the server
+     * @param changelogConfig the change-log configuration of the validation or null for the default
+     */
+    public UnixSocketChangelogServerClientImpl(Path socketFile, ChangelogConfig changelogConfig) {
+        this(socketFile, changelogConfig, DEFAULT_TIMEOUT);
+    }
+
+
+    /**
+     * Constructor for UnixSocketChangelogServerClientImpl
+     *
+     * @param socketFile the socket file of the server
+     * @param changelogConfig the change-log configuration of the validation or null for the default
+     * @param timeout the timeout of the connect and of the whole exchange of a validation
+     */
+    public UnixSocketChangelogServerClientImpl(Path socketFile, ChangelogConfig changelogConfig, Duration timeout) {
+        if (socketFile == null) {
+            throw new IllegalArgumentException("Invalid socket file!");
+        }
+
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Invalid timeout!");
+        }
+
+        this.socketFile = socketFile;
+        this.timeout = timeout;
+        if (changelogConfig == null) {
+            configFingerprint = new ChangelogConfig().getFingerprint();
+        } else {
+            configFingerprint = changelogConfig.getFingerprint();
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServerClient#isAvailable()
+     */
+    @Override
+    public boolean isAvailable() {
+        if (!UnixDomainSockets.isSupported() || !Files.exists(socketFile)) {
+            return false;
+        }
+
+        // a stale socket file of a crashed server exists but refuses the connect
+        try {
+            DeadlineSocketChannel.connect(socketFile, timeout).close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.server.IChangelogServerClient#validate(byte[], java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public ValidationResult validate(byte[] content, String projectName, String description, String version) throws IOException {
+        if (content == null) {
+            throw new IOException("Invalid content input!");
+        }
+
+        try (DeadlineSocketChannel channel = DeadlineSocketChannel.connect(socketFile, timeout)) {
+            BufferedOutputStream out = new BufferedOutputStream(channel.getOutputStream());
+            UnixSocketProtocol.writeRequest(out, new UnixSocketProtocol.Request(configFingerprint, projectName, description, version, content));
+            return UnixSocketProtocol.readResponse(new BufferedInputStream(channel.getInputStream()));
+        }
+    }
+}
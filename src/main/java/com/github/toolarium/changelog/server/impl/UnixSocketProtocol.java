@@ -0,0 +1,264 @@
+/*
+ * UnixSocketProtocol.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server.impl;
+
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+
+/**
+ * Implements the protocol of the validation server on a Unix domain socket. A connection handles one request:
+ * <ul>
+ * <li>The request is the magic number, the protocol version, the configuration fingerprint of the client, the optional
+ * reference values project name, description and version and the length prefixed UTF-8 encoded change-log content.</li>
+ * <li>The response is a status byte, followed by the serialized validation result or by an error message.</li>
+ * </ul>
+ * The server refuses a request with another configuration fingerprint, the client validates it in this case by itself.
+ *
+ * @author patrick
+ */
+final class UnixSocketProtocol {
+    private static final int MAGIC = 0x43484c47;
+    private static final byte VERSION = 1;
+    private static final byte STATUS_OK = 0;
+    private static final byte STATUS_ERROR = 1;
+
+
+    /**
+     * Constructor for UnixSocketProtocol
+     */
+    private UnixSocketProtocol() {
+        // NOP
+    }
+
+
+    /**
+     * Write a request
+     *
+     * @param out the output stream
+     * @param request the request
+     * @throws IOException In case of an I/O error
+     */
+    static void writeRequest(OutputStream out, Request request) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeByte(VERSION);
+        dataOut.writeUTF(request.configFingerprint);
+        writeOptionalString(dataOut, request.projectName);
+        writeOptionalString(dataOut, request.description);
+        writeOptionalString(dataOut, request.version);
+        dataOut.writeInt(request.content.length);
+        dataOut.write(request.content);
+        dataOut.flush();
+    }
+
+
+    /**
+     * Read a request
+     *
+     * @param in the input stream
+     * @param maxContentLength the max length of the content
+     * @return the request
+     * @throws IOException In case of an I/O error or an invalid request
+     */
+    static Request readRequest(InputStream in, int maxContentLength) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC || dataIn.readByte() != VERSION) {
+            throw new IOException("Unsupported protocol!");
+        }
+
+        String configFingerprint = dataIn.readUTF();
+        String projectName = readOptionalString(dataIn);
+        String description = readOptionalString(dataIn);
+        String version = readOptionalString(dataIn);
+        int length = dataIn.readInt();
+        if (length < 0 || length > maxContentLength) {
+            throw new IOException("The content is longer than " + maxContentLength + " bytes!");
+        }
+
+        byte[] content = new byte[length];
+        dataIn.readFully(content);
+        return new Request(configFingerprint, projectName, description, version, content);
+    }
+
+
+    /**
+     * Write the validation result
+     *
+     * @param out the output stream
+     * @param result the validation result
+     * @throws IOException In case of an I/O error
+     */
+    static void writeResult(OutputStream out, ValidationResult result) throws IOException {
+        out.write(STATUS_OK);
+        ObjectOutputStream objectOut = new ObjectOutputStream(out);
+        objectOut.writeObject(result);
+        objectOut.flush();
+    }
+
+
+    /**
+     * Write an error
+     *
+     * @param out the output stream
+     * @param message the error message
+     * @throws IOException In case of an I/O error
+     */
+    static void writeError(OutputStream out, String message) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeByte(STATUS_ERROR);
+        dataOut.writeUTF(String.valueOf(message));
+        dataOut.flush();
+    }
+
+
+    /**
+     * Read the response
+     *
+     * @param in the input stream
+     * @return the validation result
+     * @throws IOException In case of an I/O error or an error response
+     */
+    static ValidationResult readResponse(InputStream in) throws IOException {
+        DataInputStream dataIn = new DataInputStream(in);
+        byte status = dataIn.readByte();
+        if (status != STATUS_OK) {
+            throw new IOException(dataIn.readUTF());
+        }
+
+        ObjectInputStream objectIn = new ObjectInputStream(dataIn);
+        objectIn.setObjectInputFilter(ValidationResult.INPUT_FILTER);
+        try {
+            Object result = objectIn.readObject();
+            if (result instanceof ValidationResult) {
+                return (ValidationResult) result;
+            }
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        throw new IOException("Invalid response!");
+    }
+
+
+    /**
+     * Write an optional string
+     *
+     * @param dataOut the output stream
+     * @param value the value or null
+     * @throws IOException In case of an I/O error
+     */
+    private static void writeOptionalString(DataOutputStream dataOut, String value) throws IOException {
+        dataOut.writeBoolean(value != null);
+        if (value != null) {
+            dataOut.writeUTF(value);
+        }
+    }
+
+
+    /**
+     * Read an optional string
+     *
+     * @param dataIn the input stream
+     * @return the value or null
+     * @throws IOException In case of an I/O error
+     */
+    private static String readOptionalString(DataInputStream dataIn) throws IOException {
+        if (!dataIn.readBoolean()) {
+            return null;
+        }
+
+        return dataIn.readUTF();
+    }
+
+
+    /**
+     * Defines a validation request
+     *
+     * @author patrick
+     */
+    static final class Request {
+        private final String configFingerprint;
+        private final String projectName;
+        private final String description;
+        private final String version;
+        private final byte[] content;
+
+
+        /**
+         * Constructor for Request
+         *
+         * @param configFingerprint the fingerprint of the change-log configuration
+         * @param projectName the reference project name or null
+         * @param description the reference description or null
+         * @param version the reference version or null
+         * @param content the UTF-8 encoded content
+         */
+        Request(String configFingerprint, String projectName, String description, String version, byte[] content) {
+            this.configFingerprint = configFingerprint;
+            this.projectName = projectName;
+            this.description = description;
+            this.version = version;
+            this.content = content;
+        }
+
+
+        /**
+         * Get the fingerprint of the change-log configuration
+         *
+         * @return the fingerprint
+         */
+        String getConfigFingerprint() {
+            return configFingerprint;
+        }
+
+
+        /**
+         * Get the reference project name
+         *
+         * @return the project name or null
+         */
+        String getProjectName() {
+            return projectName;
+        }
+
+
+        /**
+         * Get the reference description
+         *
+         * @return the description or null
+         */
+        String getDescription() {
+            return description;
+        }
+
+
+        /**
+         * Get the reference version
+         *
+         * @return the version or null
+         */
+        String getVersion() {
+            return version;
+        }
+
+
+        /**
+         * Get the UTF-8 encoded content
+         *
+         * @return the content
+         */
+        byte[] getContent() {
+            return content;
+        }
+    }
+}
@@ -6,8 +6,11 @@
 package com.github.toolarium.changelog.validator;
 
 import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.parser.ChangelogParseResult;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -63,4 +66,82 @@ public interface IChangelogValidator {
      * @throws ValidationException the validation exception
      */
     Changelog validate(Changelog changelog, String projectName, String description, String inputVersion) throws ValidationException;
+    
+    
+    /**
+     * Validate without throwing a {@link ValidationException}. The result contains the change-log and the merged parse and validation errors.
+     * 
+     * @param filename the filename
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @return the validation result
+     * @throws IOException In case of an I/O error
+     */
+    ValidationResult validateToResult(Path filename, String projectName, String description, String version) throws IOException;
+
+    
+    /**
+     * Validate the content of a change-log without throwing a {@link ValidationException}, e.g. a received change-log.
+     * The result is cached in case the validator has a validation cache.
+     * 
+     * @param content the UTF-8 encoded content
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @return the validation result
+     * @throws IOException In case the content is not UTF-8 encoded
+     */
+    ValidationResult validateToResult(byte[] content, String projectName, String description, String version) throws IOException;
+
+    
+    /**
+     * Validate without blocking the caller. The file is read asynchronous, no thread is held during the I/O.
+     * 
+     * @param filename the filename
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @param executor the executor which parses and validates the content or null to do it in the thread which completes the read
+     * @return the future of the validated change-log; it completes exceptionally with a {@link ValidationException} or an {@link IOException}
+     */
+    CompletableFuture<Changelog> validateAsync(Path filename, String projectName, String description, String version, Executor executor);
+
+    
+    /**
+     * Validate without blocking the caller and without a {@link ValidationException}. The file is read asynchronous, no thread
+     * is held during the I/O.
+     * 
+     * @param filename the filename
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @param executor the executor which parses and validates the content or null to do it in the thread which completes the read
+     * @return the future of the validation result; it completes exceptionally with an {@link IOException} in case of an I/O error
+     */
+    CompletableFuture<ValidationResult> validateToResultAsync(Path filename, String projectName, String description, String version, Executor executor);
+
+    
+    /**
+     * Validate a parsed change-log without throwing a {@link ValidationException}. The result contains the change-log and the merged parse and validation errors.
+     * 
+     * @param parseResult the parse result
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @return the validation result
+     */
+    ValidationResult validateToResult(ChangelogParseResult parseResult, String projectName, String description, String version);
+
+    
+    /**
+     * Validate without throwing a {@link ValidationException}.
+     * 
+     * @param changelog the change-log to validate
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param inputVersion the reference version which should be the newest one or null
+     * @return the validation result
+     */
+    ValidationResult validateToResult(Changelog changelog, String projectName, String description, String inputVersion);
 }
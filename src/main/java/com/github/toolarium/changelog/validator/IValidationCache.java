@@ -0,0 +1,48 @@
+/*
+ * IValidationCache.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.validator;
+
+
+/**
+ * Defines the validation result cache. The key is a digest of the change-log content, the configuration fingerprint
+ * and the reference values, therefore a cached result is valid as long as the key is the same.
+ * The cache keeps a snapshot of a result: a result which is modified after the put or the get doesn't change the cache.
+ * 
+ * @author patrick
+ */
+public interface IValidationCache {
+    
+    /**
+     * Get a cached validation result
+     * 
+     * @param key the key
+     * @return a copy of the validation result or null if it is not cached
+     */
+    ValidationResult get(String key);
+
+    
+    /**
+     * Put a validation result into the cache
+     * 
+     * @param key the key
+     * @param validationResult the validation result
+     */
+    void put(String key, ValidationResult validationResult);
+    
+    
+    /**
+     * Get the number of results in memory
+     * 
+     * @return the number of results in memory
+     */
+    int size();
+    
+    
+    /**
+     * Clear the cache including the persisted results
+     */
+    void clear();
+}
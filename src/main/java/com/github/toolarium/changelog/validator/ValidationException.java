@@ -8,7 +8,8 @@ package com.github.toolarium.changelog.validator;
 import com.github.toolarium.changelog.dto.ChangelogErrorList;
 
 /**
- * Defines the validation exception
+ * Defines the validation exception. The exception is stackless: the validation errors describe the problem, therefore
+ * the stack trace is not captured.
  * 
  * @author patrick
  */
@@ -24,7 +25,7 @@ public class ValidationException extends Exception {
      * @param validationErrorList the validation error list
      */
     public ValidationException(String message, ChangelogErrorList validationErrorList) {
-        super(message);
+        super(message, null, false, false);
         this.validationErrorList = validationErrorList;
     }
     
@@ -0,0 +1,179 @@
+/*
+ * ValidationResult.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.validator;
+
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.dto.ChangelogErrorList;
+import java.io.ObjectInputFilter;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The change-log validation result. It contains the change-log and the merged parse and validation errors.
+ * 
+ * @author patrick
+ */
+public class ValidationResult implements Serializable {
+    /** The message in case of validation errors */
+    public static final String VALIDATION_ERROR_MESSAGE = "Changelog validation errors.";
+
+    /** The message in case of parse errors only */
+    public static final String PARSE_ERROR_MESSAGE = "Changelog parse errors.";
+
+    /** The filter of the classes which a serialized validation result may contain, the deserialization refuses any other class */
+    public static final ObjectInputFilter INPUT_FILTER = ObjectInputFilter.Config.createFilter("com.github.toolarium.changelog.**;java.lang.*;java.util.*;java.time.*;java.net.URL;!*");
+
+    private static final long serialVersionUID = -4619062542739460841L;
+    private Changelog changelog;
+    private ChangelogErrorList changelogErrorList;
+    private String message;
+
+    
+    /**
+     * Constructor for ValidationResult
+     */
+    public ValidationResult() {
+        changelog = null;
+        changelogErrorList = new ChangelogErrorList();
+        message = null;
+    }
+
+    
+    /**
+     * Constructor for ValidationResult
+     * 
+     * @param changelog the change-log
+     * @param changelogErrorList the error list
+     * @param message the message or null
+     */
+    public ValidationResult(Changelog changelog, ChangelogErrorList changelogErrorList, String message) {
+        this.changelog = changelog;
+        this.changelogErrorList = changelogErrorList;
+        this.message = message;
+    }
+
+    
+    /**
+     * Get the change-log
+     * 
+     * @return the change-log
+     */
+    public Changelog getChangelog() {
+        return changelog;
+    }
+
+
+    /**
+     * Set the change-log
+     * 
+     * @param changelog the change-log
+     */
+    public void setChangelog(Changelog changelog) {
+        this.changelog = changelog;
+    }
+
+
+    /**
+     * Get the error list
+     * 
+     * @return the error list
+     */
+    public ChangelogErrorList getChangelogErrorList() {
+        return changelogErrorList;
+    }
+
+    
+    /**
+     * Set the error list
+     * 
+     * @param changelogErrorList the error list
+     */
+    public void setChangelogErrorList(ChangelogErrorList changelogErrorList) {
+        this.changelogErrorList = changelogErrorList;
+    }
+
+    
+    /**
+     * Get the message
+     * 
+     * @return the message or null if there are no errors
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    
+    /**
+     * Set the message
+     * 
+     * @param message the message
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    
+    /**
+     * Check if the change-log is valid
+     * 
+     * @return true if there are no errors
+     */
+    public boolean isValid() {
+        return changelogErrorList == null || changelogErrorList.isEmpty();
+    }
+
+    
+    /**
+     * Get the change-log or throw a {@link ValidationException} in case of errors.
+     * 
+     * @return the validated change-log
+     * @throws ValidationException In case of errors
+     */
+    public Changelog getValidatedChangelog() throws ValidationException {
+        if (!isValid()) {
+            throw new ValidationException(message, changelogErrorList);
+        }
+        
+        return changelog;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(changelog, changelogErrorList, message);
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        ValidationResult other = (ValidationResult) obj;
+        return Objects.equals(changelog, other.changelog) && Objects.equals(changelogErrorList, other.changelogErrorList) && Objects.equals(message, other.message);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "ValidationResult [changelog=" + changelog + ", changelogErrorList=" + changelogErrorList + ", message=" + message + "]";
+    }
+}
@@ -10,31 +10,57 @@ import com.github.toolarium.changelog.config.ChangelogConfig;
 import com.github.toolarium.changelog.dto.Changelog;
 import com.github.toolarium.changelog.dto.ChangelogChangeType;
 import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogErrorCode;
 import com.github.toolarium.changelog.dto.ChangelogErrorList;
 import com.github.toolarium.changelog.dto.ChangelogErrorList.ErrorType;
 import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
 import com.github.toolarium.changelog.dto.ChangelogSection;
+import com.github.toolarium.changelog.io.AsyncFiles;
 import com.github.toolarium.changelog.parser.ChangelogParseResult;
 import com.github.toolarium.changelog.validator.IChangelogValidator;
+import com.github.toolarium.changelog.validator.IValidationCache;
 import com.github.toolarium.changelog.validator.ValidationException;
+import com.github.toolarium.changelog.validator.ValidationResult;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 
 /**
- * Change-log validator 
+ * Change-log validator. The validator is compiled from a copy of the configuration: the settings are resolved once in
+ * the constructor, the switched off rules are skipped by a final flag. Therefore the validator is immutable and can be
+ * shared between threads.
  * 
  * @author patrick
  */
 public class ChangelogValidatorImpl implements IChangelogValidator {
     private static final String EXCLAMATION_MARK = "!";
-    private static final String END_MESSAGE = "]" + EXCLAMATION_MARK;
-    private ChangelogConfig changelogConfig;
+    private final ChangelogConfig changelogConfig;
+    private final IValidationCache validationCache;
+    private final String configFingerprint;
+    private final boolean rejectUnreleased;
+    private final boolean rejectReleaseLink;
+    private final boolean rejectReleaseInfo;
+    private final boolean rejectEmptySection;
+    private final boolean checkLinkInDescription;
+    private final boolean checkLinkInComment;
+    private final boolean checkIdInComment;
+    private final boolean parseIdListOnEndOfTheComment;
 
     
     /**
@@ -51,11 +77,33 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
      * @param changelogConfig the change-log configuration for formatting
      */
     public ChangelogValidatorImpl(ChangelogConfig changelogConfig) {
-        this.changelogConfig = changelogConfig;
-        
+        this(changelogConfig, null);
+    }
+
+    
+    /**
+     * Constructor for ChangelogValidator
+     * 
+     * @param changelogConfig the change-log configuration for formatting
+     * @param validationCache the validation cache or null
+     */
+    public ChangelogValidatorImpl(ChangelogConfig changelogConfig, IValidationCache validationCache) {
         if (changelogConfig == null) {
             this.changelogConfig = new ChangelogConfig();
-        }
+        } else {
+            this.changelogConfig = new ChangelogConfig(changelogConfig);
+        }
+
+        this.validationCache = validationCache;
+        this.configFingerprint = this.changelogConfig.getFingerprint();
+        this.rejectUnreleased = !this.changelogConfig.isSupportUnreleased();
+        this.rejectReleaseLink = !this.changelogConfig.isSupportReleaseLink();
+        this.rejectReleaseInfo = !this.changelogConfig.isSupportReleaseInfo();
+        this.rejectEmptySection = !this.changelogConfig.isSupportEmptySection();
+        this.checkLinkInComment = this.changelogConfig.isLinkInCommentEnabled();
+        this.checkLinkInDescription = checkLinkInComment && !this.changelogConfig.isSupportLinkInDescription();
+        this.checkIdInComment = this.changelogConfig.isIdInCommentEnabled();
+        this.parseIdListOnEndOfTheComment = this.changelogConfig.isSupportIdListOnEndOfTheComment();
     }
 
 
@@ -73,28 +121,7 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
      */
     @Override
     public Changelog validate(Path filename, String projectName, String description, String version) throws ValidationException, IOException {
-        Changelog changelog = null;
-        ChangelogErrorList parseChangelogErrorList = null;
-        try {
-            ChangelogParseResult result = ChangelogFactory.getInstance().parse(filename);
-            parseChangelogErrorList = result.getChangelogErrorList();
-            
-            validate(result.getChangelog(), projectName, description, version);
-            changelog = result.getChangelog();
-        } catch (ValidationException e) {
-            
-            if (e.getValidationErrorList() != null && !e.getValidationErrorList().isEmpty()) {
-                parseChangelogErrorList.add(e.getValidationErrorList());
-            }
-            
-            throw new ValidationException(e.getMessage(), parseChangelogErrorList);
-        }
-
-        if (parseChangelogErrorList != null && !parseChangelogErrorList.isEmpty()) {
-            throw new ValidationException("Changelog parse errors.", parseChangelogErrorList);
-        }
-        
-        return changelog;
+        return validateToResult(filename, projectName, description, version).getValidatedChangelog();
     }
 
 
@@ -112,12 +139,142 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
      */
     @Override
     public Changelog validate(Changelog changelog, String projectName, String description, String inputVersion) throws ValidationException {
+        return validateToResult(changelog, projectName, description, inputVersion).getValidatedChangelog();
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IChangelogValidator#validateToResult(java.nio.file.Path, java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public ValidationResult validateToResult(Path filename, String projectName, String description, String version) throws IOException {
+        if (validationCache == null) {
+            return validateToResult(ChangelogFactory.getInstance().parse(filename), projectName, description, version);
+        }
         
+        if (filename == null) {
+            throw new IOException("Invalid filename input!");
+        }
+
+        return validateContent(Files.readAllBytes(filename), projectName, description, version);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IChangelogValidator#validateToResult(byte[], java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public ValidationResult validateToResult(byte[] content, String projectName, String description, String version) throws IOException {
+        if (content == null) {
+            throw new IOException("Invalid content input!");
+        }
+
+        return validateContent(content, projectName, description, version);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IChangelogValidator#validateAsync(java.nio.file.Path, java.lang.String, java.lang.String, java.lang.String, java.util.concurrent.Executor)
+     */
+    @Override
+    public CompletableFuture<Changelog> validateAsync(Path filename, String projectName, String description, String version, Executor executor) {
+        return validateToResultAsync(filename, projectName, description, version, executor).thenApply(result -> {
+            try {
+                return result.getValidatedChangelog();
+            } catch (ValidationException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IChangelogValidator#validateToResultAsync(java.nio.file.Path, java.lang.String, java.lang.String, java.lang.String, java.util.concurrent.Executor)
+     */
+    @Override
+    public CompletableFuture<ValidationResult> validateToResultAsync(Path filename, String projectName, String description, String version, Executor executor) {
+        Function<byte[], ValidationResult> validation = content -> {
+            try {
+                return validateContent(content, projectName, description, version);
+            } catch (CharacterCodingException e) {
+                throw new CompletionException(e);
+            }
+        };
+        
+        CompletableFuture<byte[]> content = AsyncFiles.readAllBytes(filename);
+        if (executor == null) {
+            return content.thenApply(validation);
+        }
+        
+        return content.thenApplyAsync(validation, executor);
+    }
+
+
+    /**
+     * Validate the content of a change-log file, the result is cached in case there is a validation cache.
+     *
+     * @param content the UTF-8 encoded content
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version which should be the newest one or null
+     * @return the validation result
+     * @throws CharacterCodingException In case the content is not UTF-8 encoded
+     */
+    protected ValidationResult validateContent(byte[] content, String projectName, String description, String version) throws CharacterCodingException {
+        String key = null;
+        if (validationCache != null) {
+            key = createCacheKey(content, projectName, description, version);
+            ValidationResult result = validationCache.get(key);
+            if (result != null) {
+                return result;
+            }
+        }
+
+        // same decoding as Files.readString
+        String text = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString();
+        ValidationResult result = validateToResult(ChangelogFactory.getInstance().createChangelogParser().parseContent(text.strip()), projectName, description, version);
+        if (key != null) {
+            validationCache.put(key, result);
+        }
+        
+        return result;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IChangelogValidator#validateToResult(com.github.toolarium.changelog.parser.ChangelogParseResult, java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public ValidationResult validateToResult(ChangelogParseResult parseResult, String projectName, String description, String version) {
+        ValidationResult result = validateToResult(parseResult.getChangelog(), projectName, description, version);
+        
+        // merge into a new list, the parse result may be validated again or is still used by the caller
+        ChangelogErrorList parseChangelogErrorList = new ChangelogErrorList();
+        if (parseResult.getChangelogErrorList() != null) {
+            parseChangelogErrorList.add(parseResult.getChangelogErrorList());
+        }
+
+        if (!result.isValid()) {
+            parseChangelogErrorList.add(result.getChangelogErrorList());
+        } else if (!parseChangelogErrorList.isEmpty()) {
+            result.setMessage(ValidationResult.PARSE_ERROR_MESSAGE);
+        }
+
+        result.setChangelogErrorList(parseChangelogErrorList);
+        return result;
+    }
+    
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IChangelogValidator#validateToResult(com.github.toolarium.changelog.dto.Changelog, java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override
+    public ValidationResult validateToResult(Changelog changelog, String projectName, String description, String inputVersion) {
         ChangelogErrorList changelogErrorList = new ChangelogErrorList();
         ChangelogReleaseVersion version = convertVersion(changelogErrorList, inputVersion);
 
         if (changelog == null) {
-            changelogErrorList.addGeneralError(ErrorType.CHANGELOG, "Invalid changelog!");
+            changelogErrorList.addGeneralError(ErrorType.CHANGELOG, ChangelogErrorCode.INVALID_CHANGELOG);
         } else {
             validateHeader(changelogErrorList, changelog, projectName, description);
             validateEntries(changelogErrorList, changelog.getEntries(), version);
@@ -125,10 +282,52 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
         }
 
         if (changelogErrorList.isEmpty()) {
-            return changelog;
+            return new ValidationResult(changelog, changelogErrorList, null);
         }
         
-        throw new ValidationException("Changelog validation errors.", changelogErrorList);
+        return new ValidationResult(changelog, changelogErrorList, ValidationResult.VALIDATION_ERROR_MESSAGE);
+    }
+
+
+    /**
+     * Create the cache key of a validation: a digest of the content, the configuration fingerprint and the reference values.
+     * 
+     * @param content the change-log content
+     * @param projectName the reference project name or null
+     * @param description the reference description or null
+     * @param version the reference version or null
+     * @return the cache key
+     */
+    protected String createCacheKey(byte[] content, String projectName, String description, String version) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(content);
+            updateCacheKey(messageDigest, configFingerprint);
+            updateCacheKey(messageDigest, projectName);
+            updateCacheKey(messageDigest, description);
+            updateCacheKey(messageDigest, version);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform has to support SHA-256
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * Add a value to the cache key digest. The value is prefixed by its length, that the key is unambiguous.
+     * 
+     * @param messageDigest the message digest
+     * @param value the value or null
+     */
+    private void updateCacheKey(MessageDigest messageDigest, String value) {
+        if (value == null) {
+            messageDigest.update("|-1".getBytes(StandardCharsets.UTF_8));
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            messageDigest.update(("|" + bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+            messageDigest.update(bytes);
+        }
     }
 
 
@@ -146,7 +345,7 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
                 version = ChangelogFactory.getInstance().createChangelogParser().parseVersion(inputVersion); 
                 
                 if (version == null) {
-                    changelogErrorList.addGeneralError(ErrorType.REFERENCE, "Invalid reference version [" + inputVersion + END_MESSAGE);
+                    changelogErrorList.addGeneralError(ErrorType.REFERENCE, ChangelogErrorCode.INVALID_REFERENCE_VERSION, inputVersion);
                 }
             }
         }
@@ -169,13 +368,13 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
 
         if (projectName != null && !projectName.isBlank()) {
             if (!changelog.getProjectName().equals(projectName)) {
-                changelogErrorList.addGeneralError(ErrorType.HEADER, "The name don't correspond to [" + projectName + "], current [" + changelog.getProjectName() + END_MESSAGE);
+                changelogErrorList.addGeneralError(ErrorType.HEADER, ChangelogErrorCode.PROJECT_NAME_MISMATCH, projectName, changelog.getProjectName());
             }
         }
 
         if (description != null && !description.isBlank()) {
             if (!changelog.getDescription().equals(description)) {
-                changelogErrorList.addGeneralError(ErrorType.HEADER, "The don't correspond to [" + description + END_MESSAGE);
+                changelogErrorList.addGeneralError(ErrorType.HEADER, ChangelogErrorCode.DESCRIPTION_MISMATCH, description);
             }
         } else {
             validateHeaderDescription(changelogErrorList, changelog.getDescription());
@@ -194,22 +393,22 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
             return;
         }
 
-        if (!changelogConfig.isSupportLinkInDescription()) {
+        if (checkLinkInDescription) {
             String link = changelogConfig.hasLinkInComment(description);
             if (link != null) {
-                changelogErrorList.addGeneralError(ErrorType.HEADER, "Description has a link comment which is not allowed: [" + link + END_MESSAGE);
+                changelogErrorList.addGeneralError(ErrorType.HEADER, ChangelogErrorCode.LINK_IN_DESCRIPTION, link);
             }
         }
         
-        if (changelogConfig.isIdInCommentEnabled()) {
+        if (checkIdInComment) {
             String id = changelogConfig.hasIdInComment(description);
             if (id != null) {
-                changelogErrorList.addGeneralError(ErrorType.HEADER, "Description has an id in comment which is not allowed: [" + id + END_MESSAGE);
+                changelogErrorList.addGeneralError(ErrorType.HEADER, ChangelogErrorCode.ID_IN_DESCRIPTION, id);
             }
         }
     
         if (!(description.trim().endsWith(".") || description.trim().endsWith(EXCLAMATION_MARK))) {
-            changelogErrorList.addGeneralError(ErrorType.HEADER, "Description text don't end with a punction mark!");
+            changelogErrorList.addGeneralError(ErrorType.HEADER, ChangelogErrorCode.DESCRIPTION_PUNCTUATION);
         }
     }
 
@@ -224,7 +423,7 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
     protected void validateEntries(ChangelogErrorList changelogErrorList, List<ChangelogEntry> entries, ChangelogReleaseVersion version) {
         
         if (entries == null || entries.isEmpty()) {
-            changelogErrorList.addGeneralError(ErrorType.ENTRIES, "Missing changelog entries!");
+            changelogErrorList.addGeneralError(ErrorType.ENTRIES, ChangelogErrorCode.MISSING_ENTRIES);
             return;
         }
 
@@ -249,9 +448,9 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
      */
     protected void validateUnreleasdEntry(ChangelogErrorList changelogErrorList, Changelog changelog) {
         
-        if (!changelogConfig.isSupportUnreleased()) {
+        if (rejectUnreleased) {
             if (changelog.getEntry(null) != null) {
-                changelogErrorList.addGeneralError(ErrorType.UNRELEASED, "The unreleased section is not supported!");
+                changelogErrorList.addGeneralError(ErrorType.UNRELEASED, ChangelogErrorCode.UNRELEASED_NOT_SUPPORTED);
             }
         }
     }
@@ -275,7 +474,7 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
         if (version != null && sortedEntries != null && !sortedEntries.isEmpty()) {
             for (ChangelogEntry entry : sortedEntries) {
                 if (entry.getReleaseVersion() != null && entry.getReleaseVersion().compareTo(version) > 0) {
-                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), "Newer version in than [" + version + "] in changelog found!");
+                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.NEWER_VERSION_FOUND, version);
                 }
             }
         }
@@ -292,12 +491,12 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
 
             if (version != null && i == firstIndex) {
                 if (entry.getReleaseVersion().compareTo(version) != 0) {
-                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), "The version [" + version + "] should be referenced as first entry.");
+                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.VERSION_NOT_FIRST, version);
                 }
             }
 
             if (!printedSortError && !entry.equals(sortedEntries.get(i))) {
-                changelogErrorList.addReleaseError(entry.getReleaseVersion(), "Invalid sort order!");
+                changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.INVALID_SORT_ORDER);
                 printedSortError = true;
             }
         }
@@ -327,9 +526,9 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
         }
 
         if (found == 0) {
-            changelogErrorList.addReleaseError(searchVersion, "Could not find version " + searchVersion + EXCLAMATION_MARK);
+            changelogErrorList.addReleaseError(searchVersion, ChangelogErrorCode.VERSION_NOT_FOUND, searchVersion);
         } else if (found > 1) {
-            changelogErrorList.addReleaseError(searchVersion, "Found " + found + " times the same version " + searchVersion + EXCLAMATION_MARK);
+            changelogErrorList.addReleaseError(searchVersion, ChangelogErrorCode.DUPLICATE_VERSION, found, searchVersion);
         }
     }
 
@@ -343,16 +542,16 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
     protected void validateEntry(ChangelogErrorList changelogErrorList, ChangelogEntry entry) {
         
         if (entry == null) {
-            changelogErrorList.addGeneralError(ErrorType.ENTRIES, "Invalid empty entry!");
+            changelogErrorList.addGeneralError(ErrorType.ENTRIES, ChangelogErrorCode.INVALID_EMPTY_ENTRY);
             return;
         }
 
-        if (!changelogConfig.isSupportReleaseLink() && entry.getReleaseLink() != null) {
-            changelogErrorList.addReleaseError(entry.getReleaseVersion(), "Release link is not supported [" + entry.getReleaseLink() + END_MESSAGE);
+        if (rejectReleaseLink && entry.getReleaseLink() != null) {
+            changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.RELEASE_LINK_NOT_SUPPORTED, entry.getReleaseLink());
         }
 
-        if (!changelogConfig.isSupportReleaseInfo() && entry.getInfo() != null && !entry.getInfo().isBlank()) {
-            changelogErrorList.addReleaseError(entry.getReleaseVersion(), "Additional release information is not supported [" + entry.getInfo() + END_MESSAGE);
+        if (rejectReleaseInfo && entry.getInfo() != null && !entry.getInfo().isBlank()) {
+            changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.RELEASE_INFO_NOT_SUPPORTED, entry.getInfo());
         }
 
         validateEntryDescription(changelogErrorList, entry);
@@ -374,33 +573,33 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
         }
 
         boolean unreleased = entry.getReleaseVersion() == null || !entry.isReleased();
-        if (!changelogConfig.isSupportLinkInDescription()) {
+        if (checkLinkInDescription) {
             String link = changelogConfig.hasLinkInComment(entry.getDescription());
             if (link != null) {
                 if (unreleased) {
-                    changelogErrorList.addGeneralError(ErrorType.UNRELEASED, "Description has a link comment which is not allowed: [" + link + END_MESSAGE);
+                    changelogErrorList.addGeneralError(ErrorType.UNRELEASED, ChangelogErrorCode.LINK_IN_DESCRIPTION, link);
                 } else {
-                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), "Description has a link comment which is not allowed: [" + link + END_MESSAGE);
+                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.LINK_IN_DESCRIPTION, link);
                 }
             }
         }
 
-        if (changelogConfig.isIdInCommentEnabled()) {
+        if (checkIdInComment) {
             String id = changelogConfig.hasIdInComment(entry.getDescription());
             if (id != null) {
                 if (unreleased) {
-                    changelogErrorList.addGeneralError(ErrorType.UNRELEASED, "Description has an id in comment which is not allowed: [" + id + END_MESSAGE);
+                    changelogErrorList.addGeneralError(ErrorType.UNRELEASED, ChangelogErrorCode.ID_IN_DESCRIPTION, id);
                 } else {
-                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), "Description has an id in comment which is not allowed: [" + id + END_MESSAGE);
+                    changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.ID_IN_DESCRIPTION, id);
                 }
             }
         }
         
         if (!(entry.getDescription().trim().endsWith(".") || entry.getDescription().trim().endsWith(EXCLAMATION_MARK))) {
             if (unreleased) {
-                changelogErrorList.addGeneralError(ErrorType.UNRELEASED, "Description text don't end with a punction mark!");
+                changelogErrorList.addGeneralError(ErrorType.UNRELEASED, ChangelogErrorCode.DESCRIPTION_PUNCTUATION);
             } else {
-                changelogErrorList.addReleaseError(entry.getReleaseVersion(), "Description text don't end with a punction mark!");
+                changelogErrorList.addReleaseError(entry.getReleaseVersion(), ChangelogErrorCode.DESCRIPTION_PUNCTUATION);
             }
         }
     }
@@ -415,8 +614,8 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
      */
     protected void validateChangelogSections(ChangelogErrorList changelogErrorList, ChangelogReleaseVersion releaseVersion, List<ChangelogSection> sectionList) {
         if (sectionList == null || sectionList.isEmpty()) {
-            if (releaseVersion != null && !changelogConfig.isSupportEmptySection()) {
-                changelogErrorList.addReleaseError(releaseVersion, "Invalid empty section!");
+            if (releaseVersion != null && rejectEmptySection) {
+                changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.EMPTY_SECTION);
             }
             
             return;
@@ -428,9 +627,9 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
                 
                 // addError( errorMessageList, releaseVersion, "Duplicate type " + changeType + "!" );
             } else if (!changeLogChangeTypeSet.remove(section.getChangeType())) {
-                changelogErrorList.addReleaseError(releaseVersion, "Duplicate section type " + section.getChangeType().getTypeName() + EXCLAMATION_MARK);
+                changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.DUPLICATE_SECTION, section.getChangeType().getTypeName());
             } else if (section.getChangeCommentList() == null || section.getChangeCommentList().isEmpty()) {
-                changelogErrorList.addReleaseError(releaseVersion, "Empty comment list in section type " + section.getChangeType().getTypeName() + EXCLAMATION_MARK);
+                changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.EMPTY_COMMENT_LIST, section.getChangeType().getTypeName());
             }
                 
             for (String comment : section.getChangeCommentList()) {
@@ -458,23 +657,23 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
             return;
         }
 
-        if (changelogConfig.isLinkInCommentEnabled()) {
+        if (checkLinkInComment) {
             String link = changelogConfig.hasLinkInComment(changeComment);
             if (link != null) {
-                changelogErrorList.addReleaseError(releaseVersion, changelogChangeType + " has a link comment which is not allowed: [" + link + END_MESSAGE);
+                changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.LINK_IN_COMMENT, changelogChangeType, link);
             }
         }
 
         String trimmedComment = changeComment.trim();
         if (!(trimmedComment.trim().endsWith(".") || trimmedComment.trim().endsWith(EXCLAMATION_MARK))) {
-            changelogErrorList.addReleaseError(releaseVersion, changelogChangeType + " text don't end with a punction mark!");
+            changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.COMMENT_PUNCTUATION, changelogChangeType);
         }
 
         ChangeComment comment = validateChangeIdInComment(changelogErrorList, releaseVersion, changelogChangeType, trimmedComment);
         if (comment != null && comment.getComment() != null && !comment.getComment().isBlank()) {
             validateSentence(changelogErrorList, releaseVersion, changelogChangeType, comment.getComment());
         } else {
-            changelogErrorList.addReleaseError(releaseVersion, "Empty comment in section type " + changelogChangeType + EXCLAMATION_MARK);
+            changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.EMPTY_COMMENT, changelogChangeType);
         }
     }
 
@@ -499,7 +698,7 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
         }
 
         List<String> idList = null;
-        if (changelogConfig.isSupportIdListOnEndOfTheComment()) {
+        if (parseIdListOnEndOfTheComment) {
             idList = new ArrayList<>();
             int idx = comment.lastIndexOf('(');
             if ((idx > 0) && (idx < comment.length())) {
@@ -523,10 +722,10 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
             } 
         } 
         
-        if (changelogConfig.isIdInCommentEnabled()) {
+        if (checkIdInComment) {
             String id = changelogConfig.hasIdInComment(comment);
             if (id != null) {
-                changelogErrorList.addReleaseError(releaseVersion, changelogChangeType + " has an id in comment which is not allowed: [" + id + END_MESSAGE);
+                changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.ID_IN_COMMENT, changelogChangeType, id);
             }
         }
         
@@ -549,7 +748,7 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
      
         String[] splitComment = sentence.split(" ");
         if (splitComment.length < 2) {
-            changelogErrorList.addReleaseError(releaseVersion, "Invalid sentence in section type " + changelogChangeType + ": [" + sentence + "]" + EXCLAMATION_MARK);
+            changelogErrorList.addReleaseError(releaseVersion, ChangelogErrorCode.INVALID_SENTENCE, changelogChangeType, sentence);
         }
     }
 
@@ -568,7 +767,7 @@ public class ChangelogValidatorImpl implements IChangelogValidator {
  
     
     /**
-     * Get the change-log configuration 
+     * Get the change-log configuration. It is a copy of the configuration of the constructor and should not be modified.
      *
      * @return the change-log configuration
      */
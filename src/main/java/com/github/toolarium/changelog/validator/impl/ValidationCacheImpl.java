@@ -0,0 +1,258 @@
+/*
+ * ValidationCacheImpl.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.validator.impl;
+
+import com.github.toolarium.changelog.validator.IValidationCache;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Implements the validation cache as a least recently used in-memory cache. Optional the results are persisted in a
+ * directory, one file per key, that they survive the process. A result is kept as serialized snapshot and each get
+ * returns a new copy: a caller which edits its result, e.g. adds a release to the change-log, doesn't change the cache.
+ *  
+ * @author patrick
+ */
+public class ValidationCacheImpl implements IValidationCache {
+    /** The default number of results in memory */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+    private static final String FILE_EXTENSION = ".result";
+    private final Map<String, byte[]> cache;
+    private final Path cacheDirectory;
+
+    
+    /**
+     * Constructor for ValidationCacheImpl
+     */
+    public ValidationCacheImpl() {
+        this(DEFAULT_MAX_ENTRIES, null);
+    }
+
+    
+    /**
+     * Constructor for ValidationCacheImpl
+     * 
+     * @param maxEntries the max number of results in memory
+     * @param cacheDirectory the directory to persist the results or null to cache in memory only
+     * @throws IllegalArgumentException In case of an invalid max entries
+     */
+    public ValidationCacheImpl(final int maxEntries, Path cacheDirectory) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Invalid max entries: " + maxEntries + "!");
+        }
+        
+        this.cache = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            /**
+             * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.cacheDirectory = cacheDirectory;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IValidationCache#get(java.lang.String)
+     */
+    @Override
+    public ValidationResult get(String key) {
+        if (key == null) {
+            return null;
+        }
+        
+        byte[] data;
+        synchronized (cache) {
+            data = cache.get(key);
+        }
+
+        if (data != null) {
+            return deserialize(data);
+        }
+
+        data = read(key);
+        if (data == null) {
+            return null;
+        }
+
+        ValidationResult result = deserialize(data);
+        if (result != null) {
+            synchronized (cache) {
+                cache.put(key, data);
+            }
+        }
+        
+        return result;
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IValidationCache#put(java.lang.String, com.github.toolarium.changelog.validator.ValidationResult)
+     */
+    @Override
+    public void put(String key, ValidationResult validationResult) {
+        if (key == null || validationResult == null) {
+            return;
+        }
+        
+        byte[] data = serialize(validationResult);
+        if (data == null) {
+            return;
+        }
+
+        synchronized (cache) {
+            cache.put(key, data);
+        }
+        
+        write(key, data);
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IValidationCache#size()
+     */
+    @Override
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+
+    /**
+     * @see com.github.toolarium.changelog.validator.IValidationCache#clear()
+     */
+    @Override
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        
+        if (cacheDirectory == null || !Files.isDirectory(cacheDirectory)) {
+            return;
+        }
+        
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDirectory, "*" + FILE_EXTENSION)) {
+            for (Path file : stream) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // the persisted results are only an optimization
+        }
+    }
+
+
+    /**
+     * Read a persisted result
+     * 
+     * @param key the key
+     * @return the serialized result or null
+     */
+    protected byte[] read(String key) {
+        if (cacheDirectory == null) {
+            return null;
+        }
+        
+        Path file = cacheDirectory.resolve(key + FILE_EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            // an unreadable result is handled as not cached
+            return null;
+        }
+    }
+
+    
+    /**
+     * Persist a result. It is written to a temporary file and moved, that a reader never sees a partial result.
+     * 
+     * @param key the key
+     * @param data the serialized result
+     */
+    protected void write(String key, byte[] data) {
+        if (cacheDirectory == null) {
+            return;
+        }
+
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheDirectory);
+            tempFile = Files.createTempFile(cacheDirectory, key, ".tmp");
+            Files.write(tempFile, data);
+
+            Files.move(tempFile, cacheDirectory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+        } catch (IOException e) {
+            // the persisted results are only an optimization
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // NOP
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Serialize a result
+     * 
+     * @param validationResult the result
+     * @return the serialized result or null if it could not be serialized
+     */
+    private static byte[] serialize(ValidationResult validationResult) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(out)) {
+            objectOutputStream.writeObject(validationResult);
+        } catch (IOException e) {
+            return null;
+        }
+
+        return out.toByteArray();
+    }
+
+    
+    /**
+     * Deserialize a result
+     * 
+     * @param data the serialized result
+     * @return the result or null if it could not be deserialized
+     */
+    private static ValidationResult deserialize(byte[] data) {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            objectInputStream.setObjectInputFilter(ValidationResult.INPUT_FILTER);
+            Object result = objectInputStream.readObject();
+            if (result instanceof ValidationResult) {
+                return (ValidationResult) result;
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            // an unreadable result, e.g. from an other version, is handled as not cached
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * ChangelogBulkProcessorTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.bulk.impl.ChangelogPipelineImpl;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.parser.ChangelogParseResult;
+import com.github.toolarium.changelog.parser.IChangelogParser;
+import com.github.toolarium.changelog.validator.IChangelogValidator;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the bulk processor and the pipeline
+ * 
+ * @author patrick
+ */
+public class ChangelogBulkProcessorTest {
+    /**
+     * Validate many files concurrently
+     *
+     * @throws InterruptedException in case of an interruption
+     */
+    @Test
+    public void testValidateAll() throws InterruptedException {
+        Path valid = Paths.get("src", "test", "resources", "CHANGELOG-valid.md");
+        Path invalid = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+        Path missing = Paths.get("src", "test", "resources", "CHANGELOG-missing.md");
+        List<Path> files = Arrays.asList(valid, invalid, missing);
+
+        Map<Path, ChangelogFileResult<ValidationResult>> resultMap;
+        try (Stream<ChangelogFileResult<ValidationResult>> stream = ChangelogFactory.getInstance().validateAll(new ChangelogConfig(), files)) {
+            resultMap = stream.collect(Collectors.toMap(ChangelogFileResult::getFile, r -> r));
+        }
+        assertEquals(3, resultMap.size());
+        assertTrue(resultMap.get(valid).getResult().isValid());
+        assertFalse(resultMap.get(invalid).getResult().isValid());
+        assertFalse(resultMap.get(missing).isSuccessful());
+        assertTrue(resultMap.get(missing).getError() instanceof IOException);
+
+        try (Stream<ChangelogFileResult<ChangelogParseResult>> stream = ChangelogFactory.getInstance().parseAll(files)) {
+            assertEquals(2, stream.filter(ChangelogFileResult::isSuccessful).count());
+        }
+
+        // callback with a concurrency limit and cancellation
+        IChangelogBulkProcessor processor = ChangelogFactory.getInstance().createChangelogBulkProcessor(null, 1);
+        List<ChangelogFileResult<ValidationResult>> resultList = new CopyOnWriteArrayList<>();
+        IChangelogBulkTask task = processor.validateAll(Arrays.asList(valid, valid, valid, valid), resultList::add);
+        task.await();
+        assertTrue(task.isDone());
+        assertFalse(task.isCancelled());
+        assertEquals(4, resultList.size());
+
+        resultList.clear();
+        final IChangelogBulkTask[] cancelledTask = new IChangelogBulkTask[1];
+        synchronized (cancelledTask) {
+            cancelledTask[0] = processor.validateAll(Arrays.asList(valid, valid, valid, valid), r -> {
+                synchronized (cancelledTask) {
+                    resultList.add(r);
+                    cancelledTask[0].cancel();
+                }
+            });
+        }
+        cancelledTask[0].await();
+        assertTrue(cancelledTask[0].isCancelled());
+        assertEquals(1, resultList.size());
+        assertThrows(IllegalArgumentException.class, () -> ChangelogFactory.getInstance().createChangelogBulkProcessor(null, 0));
+    }
+
+
+    /**
+     * Validate many sources in a pipeline
+     *
+     * @throws InterruptedException in case of an interruption
+     */
+    @Test
+    public void testPipeline() throws InterruptedException {
+        String valid = Paths.get("src", "test", "resources", "CHANGELOG-valid.md").toString();
+        String invalid = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md").toString();
+        String missing = Paths.get("src", "test", "resources", "CHANGELOG-missing.md").toString();
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            sources.add(valid);
+            sources.add(missing);
+            sources.add(invalid);
+        }
+
+        ChangelogPipelineConfig pipelineConfig = new ChangelogPipelineConfig();
+        pipelineConfig.setReadThreads(4);
+        pipelineConfig.setProcessThreads(2);
+        pipelineConfig.setQueueCapacity(2);
+        pipelineConfig.setOrdered(true);
+        
+        // a slow first source must not change the order
+        final List<ChangelogSourceResult> resultList = new ArrayList<>();
+        ChangelogPipelineStatistics statistics = ChangelogFactory.getInstance().createChangelogPipeline(null, pipelineConfig, source -> {
+            if (resultList.isEmpty() && source.equals(valid)) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Files.readString(Paths.get(source));
+        }).run(sources, resultList::add);
+        
+        assertEquals(sources.size(), statistics.getSourceCount());
+        assertEquals(sources.size(), resultList.size());
+        for (int i = 0; i < resultList.size(); i++) {
+            ChangelogSourceResult result = resultList.get(i);
+            assertEquals(i, result.getIndex());
+            assertEquals(sources.get(i), result.getSource());
+            if (i % 3 == 0) {
+                assertTrue(result.isValid());
+            } else if (i % 3 == 1) {
+                assertTrue(result.getError() instanceof IOException);
+            } else {
+                assertFalse(result.isValid());
+                assertNull(result.getError());
+            }
+        }
+        
+        // an exception of the consumer cancels the pipeline
+        assertThrows(IllegalStateException.class, () -> ChangelogFactory.getInstance().createChangelogPipeline(null, pipelineConfig, null).run(sources, r -> {
+            throw new IllegalStateException("Stop");
+        }));
+
+        // an error of a stage thread aborts the pipeline instead of blocking the report stage
+        assertThrows(StackOverflowError.class, () -> ChangelogFactory.getInstance().createChangelogPipeline(null, pipelineConfig, source -> {
+            if (source.equals(invalid)) {
+                throw new StackOverflowError();
+            }
+            return Files.readString(Paths.get(source));
+        }).run(sources, r -> { }));
+        assertThrows(StackOverflowError.class, () -> new ChangelogPipelineImpl(null, pipelineConfig, null) {
+            @Override
+            protected ValidationResult process(IChangelogParser parser, IChangelogValidator validator, String content) {
+                throw new StackOverflowError();
+            }
+        }.run(sources, r -> { }));
+        assertThrows(IllegalArgumentException.class, () -> pipelineConfig.setQueueCapacity(0));
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * ChangelogConfigTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.config.matcher.IPatternMatcher;
+import com.github.toolarium.changelog.validator.ValidationException;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Change-log configuration test
+ *
+ * @author patrick
+ */
+public class ChangelogConfigTest {
+    private static final String[] EXPRESSIONS = {ChangelogConfig.LINK_IN_CONTENT, ChangelogConfig.IDENTIFIER_IN_CONTENT, "a*?b", "(a|ab)(c|bcd)", "x{2,4}", "x{2,4}?", "^ab|cd$", "[^a-c]+", "\\d+\\.\\d*", "(?:ab)+", "a++b", "[\\w-]{2}+"};
+    private static final String[] QUANTIFIERS = {"", "", "*", "+", "?", "{0,2}", "{1,2}", "{2}", "{2,}"};
+    private static final String[] GROUPS = {"(?:", "("};
+    private static final String[] QUANTIFIER_MODES = {"", "", "?", "+"};
+    private static final String[] TEXTS = {"", "see http://url.com/dd for details", "Fixed AB-234 and XY:12345.", "AB_123", "aaab", "abcd", "xxxxx", "ab", "xcd", "abcdef", "1.25 and 3.", "ababab", "aaa", "--ab"};
+
+
+    /**
+     * Test that the linear-time matcher finds the same matches as the regular expression
+     */
+    @Test
+    public void testLinearTimeMatcherCompatibility() {
+        for (String expression : EXPRESSIONS) {
+            IPatternMatcher regexMatcher = ChangelogFactory.getInstance().createPatternMatcher(expression, false);
+            IPatternMatcher linearMatcher = ChangelogFactory.getInstance().createPatternMatcher(expression, true);
+            assertEquals(expression, linearMatcher.getExpression());
+
+            for (String text : TEXTS) {
+                assertEquals(regexMatcher.find(text), linearMatcher.find(text), "Expression [" + expression + "] on text [" + text + "]");
+            }
+        }
+    }
+
+
+    /**
+     * Test the linear-time matcher against the regular expression with random expressions and texts
+     */
+    @Test
+    public void testLinearTimeMatcherDifferential() {
+        Random random = new Random(4711);
+        int testedExpressions = 0;
+        for (int i = 0; i < 20000; i++) {
+            String expression = randomAlternation(random, 0);
+            Pattern pattern;
+            IPatternMatcher linearMatcher;
+            try {
+                pattern = Pattern.compile(expression);
+                linearMatcher = ChangelogFactory.getInstance().createPatternMatcher(expression, true);
+            } catch (PatternSyntaxException e) {
+                continue;
+            }
+
+            testedExpressions++;
+            for (int j = 0; j < 10; j++) {
+                StringBuilder text = new StringBuilder();
+                for (int k = random.nextInt(6); k > 0; k--) {
+                    text.append("ab\n".charAt(random.nextInt(3)));
+                }
+
+                Matcher matcher = pattern.matcher(text);
+                String expected = null;
+                if (matcher.find()) {
+                    expected = matcher.group();
+                }
+                assertEquals(expected, linearMatcher.find(text.toString()), "Expression [" + expression + "] on text [" + text + "]");
+            }
+        }
+
+        assertTrue(testedExpressions > 5000);
+    }
+
+
+    /**
+     * Test the linear-time matcher on an expression which backtracks exponentially
+     */
+    @Test
+    public void testLinearTimeMatcherOnBadExpression() {
+        IPatternMatcher linearMatcher = ChangelogFactory.getInstance().createPatternMatcher("(a+)+b", true);
+        assertNull(linearMatcher.find("a".repeat(20000)));
+        assertEquals("aaab", linearMatcher.find("xaaab"));
+    }
+
+
+    /**
+     * Test that not supported expressions are rejected when they are set
+     */
+    @Test
+    public void testLinearTimeMatcherRejectsExpression() {
+        ChangelogConfig changelogConfig = new ChangelogConfig();
+        changelogConfig.setLinearTimePatternMatching(true);
+        assertTrue(changelogConfig.isLinearTimePatternMatching());
+
+        assertThrows(PatternSyntaxException.class, () -> changelogConfig.setIdCommentCheckExpression("(a)\\1"));
+        assertThrows(PatternSyntaxException.class, () -> changelogConfig.setIdCommentCheckExpression("a(?=b)"));
+        assertThrows(PatternSyntaxException.class, () -> changelogConfig.setIdCommentCheckExpression("(ab)++"));
+        assertThrows(PatternSyntaxException.class, () -> changelogConfig.setLinkCommentCheckExpression("(?i)http"));
+
+        // a quantified sub-expression which can match the empty string, java.util.regex ends the loop after an empty iteration
+        assertThrows(PatternSyntaxException.class, () -> changelogConfig.setIdCommentCheckExpression("(a$)*?(?:[ab]{0,2}?|[^a]a{0,2}?)*"));
+        assertThrows(PatternSyntaxException.class, () -> changelogConfig.setIdCommentCheckExpression("(?:$){0,2}"));
+        assertThrows(PatternSyntaxException.class, () -> changelogConfig.setIdCommentCheckExpression("(a?){2}"));
+        changelogConfig.setIdCommentCheckExpression("(a?b?)?$?");
+        changelogConfig.setIdCommentCheckExpression(ChangelogConfig.IDENTIFIER_IN_CONTENT);
+        assertEquals(ChangelogConfig.IDENTIFIER_IN_CONTENT, changelogConfig.getIdCommentCheckExpression());
+        assertEquals(ChangelogConfig.LINK_IN_CONTENT, changelogConfig.getLinkCommentCheckExpression());
+
+        ChangelogConfig regexChangelogConfig = new ChangelogConfig();
+        regexChangelogConfig.setIdCommentCheckExpression("(a)\\1");
+        assertThrows(PatternSyntaxException.class, () -> regexChangelogConfig.setLinearTimePatternMatching(true));
+        assertFalse(regexChangelogConfig.isLinearTimePatternMatching());
+    }
+
+
+    /**
+     * Create a random alternation
+     *
+     * @param random the random
+     * @param depth the depth of the groups
+     * @return the expression
+     */
+    private String randomAlternation(Random random, int depth) {
+        StringBuilder expression = new StringBuilder(randomConcatenation(random, depth));
+        while (random.nextInt(4) == 0) {
+            expression.append('|').append(randomConcatenation(random, depth));
+        }
+        return expression.toString();
+    }
+
+
+    /**
+     * Create a random concatenation of quantified atoms
+     *
+     * @param random the random
+     * @param depth the depth of the groups
+     * @return the expression
+     */
+    private String randomConcatenation(Random random, int depth) {
+        final String[] atoms = {"a", "b", "[ab]", "[^a]", ".", "^", "$"};
+        StringBuilder expression = new StringBuilder();
+        for (int i = random.nextInt(3); i >= 0; i--) {
+            // the groups are nested up to a depth of 3
+            int choices = atoms.length;
+            if (depth <= 2) {
+                choices += GROUPS.length;
+            }
+
+            int atom = random.nextInt(choices);
+            if (atom < atoms.length) {
+                expression.append(atoms[atom]);
+            } else {
+                expression.append(GROUPS[atom - atoms.length]).append(randomAlternation(random, depth + 1)).append(')');
+            }
+
+            String quantifier = QUANTIFIERS[random.nextInt(QUANTIFIERS.length)];
+            if (!quantifier.isEmpty()) {
+                expression.append(quantifier).append(QUANTIFIER_MODES[random.nextInt(QUANTIFIER_MODES.length)]);
+            }
+        }
+        return expression.toString();
+    }
+
+
+    /**
+     * Test the validation with the linear-time matcher
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testValidateWithLinearTimeMatcher() throws IOException {
+        ChangelogConfig changelogConfig = new ChangelogConfig();
+        changelogConfig.setLinearTimePatternMatching(true);
+        try {
+            ChangelogFactory.getInstance().validate(changelogConfig, Paths.get("src", "test", "resources", "CHANGELOG-invalid.md"), "<project-name>", "Comment", "1.1.1");
+        } catch (ValidationException e) {
+            assertEquals(18, e.getValidationErrorList().size());
+        }
+    }
+
+
+    /**
+     * Test the configuration fingerprint
+     */
+    @Test
+    public void testFingerprint() {
+        ChangelogConfig changelogConfig = new ChangelogConfig();
+        ChangelogConfig otherChangelogConfig = new ChangelogConfig();
+        assertEquals(changelogConfig, otherChangelogConfig);
+        assertEquals(changelogConfig.hashCode(), otherChangelogConfig.hashCode());
+        assertEquals(changelogConfig.getFingerprint(), otherChangelogConfig.getFingerprint());
+        
+        otherChangelogConfig.setIdCommentCheckExpression("[0-9]{4}");
+        assertNotEquals(changelogConfig, otherChangelogConfig);
+        assertNotEquals(changelogConfig.getFingerprint(), otherChangelogConfig.getFingerprint());
+
+        otherChangelogConfig.setIdCommentCheckExpression(ChangelogConfig.IDENTIFIER_IN_CONTENT);
+        assertEquals(changelogConfig.getFingerprint(), otherChangelogConfig.getFingerprint());
+        otherChangelogConfig.setSupportReleaseLink(false);
+        assertNotEquals(changelogConfig.getFingerprint(), otherChangelogConfig.getFingerprint());
+    }
+}
@@ -6,15 +6,23 @@
 package com.github.toolarium.changelog.dto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.toolarium.changelog.ChangelogFactory;
 import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.formatter.ChangelogFormatOptions;
+import com.github.toolarium.changelog.formatter.ChangelogPage;
+import com.github.toolarium.changelog.formatter.IChangelogFormatter;
+import com.github.toolarium.changelog.formatter.IFragmentCache;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 
@@ -310,4 +318,267 @@ public class ChangelogTest {
         assertTrue(formatted.contains("### Performance"));
         assertTrue(formatted.contains("- Optimized queries."));
     }
+
+
+    /**
+     * Test to format only a part of the change-log
+     *
+     * @throws IOException In case of an IO error
+     */
+    @Test
+    public void formatPartialChangelog() throws IOException {
+        Changelog changelog = new Changelog(MY_PROJECT, "description.");
+        String[] versions = {"1.0.3", "1.0.0", "2.1.0", "1.0.2", "2.0.0", "1.0.1"};
+        for (String version : versions) {
+            changelog.addEntry(version, "2024-01-15").addSection(ChangelogChangeType.ADDED).add("Version " + version + ".");
+        }
+        changelog.addEntry("", null).addSection(ChangelogChangeType.CHANGED).add("Next version.");
+
+        ChangelogFormatOptions options = new ChangelogFormatOptions();
+        assertEquals(ChangelogFactory.getInstance().format(null, changelog), ChangelogFactory.getInstance().format(null, changelog, options));
+        
+        // the top entries have to be the same as the beginning of the whole change-log
+        String all = ChangelogFactory.getInstance().format(null, changelog);
+        options.setMaxEntries(3);
+        String top = ChangelogFactory.getInstance().format(null, changelog, options);
+        assertTrue(all.startsWith(top));
+        assertTrue(top.contains("## [ Unreleased ]"));
+        assertTrue(top.contains("2.1.0"));
+        assertTrue(top.contains("2.0.0"));
+        assertFalse(top.contains("1.0.3"));
+        
+        options = new ChangelogFormatOptions();
+        options.setIncludeHeader(false);
+        options.setMaxEntries(1);
+        options.setVersionRange(null, new ChangelogReleaseVersion(1, 0, 2, null));
+        assertEquals("## [ 1.0.2 ] - 2024-01-15\n" + ADDED + "- Version 1.0.2.\n", ChangelogFactory.getInstance().format(null, changelog, options));
+
+        options.setMaxEntries(ChangelogFormatOptions.ALL_ENTRIES);
+        options.setVersionRange(new ChangelogReleaseVersion(1, 0, 1, null), new ChangelogReleaseVersion(1, 0, 2, null));
+        assertEquals("## [ 1.0.2 ] - 2024-01-15\n" + ADDED + "- Version 1.0.2.\n\n## [ 1.0.1 ] - 2024-01-15\n" + ADDED + "- Version 1.0.1.\n", 
+                     ChangelogFactory.getInstance().format(null, changelog, options));
+
+        options.setUnreleasedOnly(true);
+        String unreleased = ChangelogFactory.getInstance().format(null, changelog, options);
+        assertTrue(unreleased.startsWith("## [ Unreleased ]"));
+        assertTrue(unreleased.endsWith("\n### Changed\n- Next version.\n"));
+        
+        options.setMaxEntries(0);
+        assertEquals("", ChangelogFactory.getInstance().format(null, changelog, options));
+        assertThrows(IllegalArgumentException.class, () -> new ChangelogFormatOptions().setMaxEntries(-2));
+    }
+
+
+    /**
+     * Test the parallel rendering
+     * 
+     * @throws IOException In case of an IO error 
+     */
+    @Test
+    public void formatParallelChangelog() throws IOException {
+        Changelog changelog = new Changelog(MY_PROJECT, "description.");
+        for (int i = 0; i < 5000; i++) {
+            ChangelogEntry entry = changelog.addEntry("1." + (i % 100) + "." + (i / 100), "2024-01-15");
+            entry.addSection(ChangelogChangeType.ADDED).add("Version " + i + ".");
+            if (i % 3 == 0) {
+                entry.addSection(ChangelogChangeType.FIXED).add("Fix " + i + ".");
+            }
+        }
+        changelog.addEntry("", null).addSection(ChangelogChangeType.CHANGED).add("Next version.");
+
+        ChangelogFormatOptions options = new ChangelogFormatOptions();
+        options.setParallel(true);
+        assertEquals(ChangelogFactory.getInstance().format(null, changelog), ChangelogFactory.getInstance().format(null, changelog, options));
+
+        ChangelogFormatOptions sequentialOptions = new ChangelogFormatOptions();
+        sequentialOptions.setIncludeHeader(false);
+        sequentialOptions.setMaxEntries(4500);
+        options.setIncludeHeader(false);
+        options.setMaxEntries(4500);
+        assertEquals(ChangelogFactory.getInstance().format(null, changelog, sequentialOptions), ChangelogFactory.getInstance().format(null, changelog, options));
+    }
+
+
+    /**
+     * Test the fragment cache
+     */
+    @Test
+    public void formatWithFragmentCache() {
+        Changelog changelog = new Changelog(MY_PROJECT, "description.");
+        for (int i = 0; i < 10; i++) {
+            changelog.addEntry("1.0." + i, "2024-01-15").addSection(ChangelogChangeType.ADDED).add("Version " + i + ".");
+        }
+
+        IFragmentCache fragmentCache = ChangelogFactory.getInstance().createFragmentCache(100, 100000);
+        IChangelogFormatter formatter = ChangelogFactory.getInstance().createChangelogFormatter(null, fragmentCache);
+        String expected = ChangelogFactory.getInstance().format(null, changelog, (ChangelogFormatOptions) null);
+        assertEquals(expected, formatter.format(changelog));
+        assertEquals(10, fragmentCache.size());
+        assertEquals(0, fragmentCache.getHitCount());
+        assertEquals(10, fragmentCache.getMissCount());
+        
+        // only the changed entry is rendered again
+        changelog.getEntry("1.0.5").addSection(ChangelogChangeType.FIXED).add("A fix.");
+        assertEquals(ChangelogFactory.getInstance().format(null, changelog, (ChangelogFormatOptions) null), formatter.format(changelog));
+        assertEquals(9, fragmentCache.getHitCount());
+        assertEquals(11, fragmentCache.getMissCount());
+        
+        // an other configuration don't use the same fragments
+        ChangelogConfig changelogConfig = new ChangelogConfig();
+        changelogConfig.setSupportBracketsAroundVersion(false);
+        ChangelogFactory.getInstance().createChangelogFormatter(changelogConfig, fragmentCache).format(changelog);
+        assertEquals(9, fragmentCache.getHitCount());
+        assertEquals(21, fragmentCache.getMissCount());
+        
+        // bounded size
+        IFragmentCache smallFragmentCache = ChangelogFactory.getInstance().createFragmentCache(3, 100000);
+        ChangelogFactory.getInstance().createChangelogFormatter(null, smallFragmentCache).format(changelog);
+        assertEquals(3, smallFragmentCache.size());
+        smallFragmentCache = ChangelogFactory.getInstance().createFragmentCache(100, 50);
+        ChangelogFactory.getInstance().createChangelogFormatter(null, smallFragmentCache).format(changelog);
+        assertEquals(1, smallFragmentCache.size());
+        smallFragmentCache.clear();
+        assertEquals(0, smallFragmentCache.size());
+        assertEquals(0, smallFragmentCache.getMissCount());
+    }
+
+
+    /**
+     * Test the exporters
+     * 
+     * @throws IOException In case of an IO error 
+     */
+    @Test
+    public void exportChangelog() throws IOException {
+        Changelog changelog = new Changelog(MY_PROJECT, "A \"quoted\" <description>.");
+        changelog.addEntry("1.0.0", "2024-01-15").addSection(ChangelogChangeType.ADDED).add("New feature x.");
+        ChangelogEntry entry = changelog.addEntry("1.1.0", "2024-02-01");
+        entry.addSection(ChangelogChangeType.FIXED).add("Fix a & b.");
+        entry.getSection(ChangelogChangeType.FIXED).add("Fix\tc.");
+
+        StringBuilder json = new StringBuilder();
+        ChangelogFactory.getInstance().export("json", changelog, json);
+        assertEquals("{\"projectName\":\"my-project\",\"description\":\"A \\\"quoted\\\" <description>.\",\"entries\":["
+                + "{\"releaseVersion\":\"1.1.0\",\"released\":true,\"releaseDate\":\"2024-02-01\",\"releaseLink\":null,\"yanked\":false,\"info\":null,\"description\":null,"
+                + "\"sections\":[{\"changeType\":\"Fixed\",\"comments\":[\"Fix a & b.\",\"Fix\\tc.\"]}]},"
+                + "{\"releaseVersion\":\"1.0.0\",\"released\":true,\"releaseDate\":\"2024-01-15\",\"releaseLink\":null,\"yanked\":false,\"info\":null,\"description\":null,"
+                + "\"sections\":[{\"changeType\":\"Added\",\"comments\":[\"New feature x.\"]}]}]}", json.toString());
+
+        StringBuilder html = new StringBuilder();
+        ChangelogFactory.getInstance().export("HTML", changelog, html);
+        assertEquals("<h1>my-project</h1>\n<p>A &quot;quoted&quot; &lt;description&gt;.</p>\n"
+                + "<h2>1.1.0 - 2024-02-01</h2>\n<h3>Fixed</h3>\n<ul>\n<li>Fix a &amp; b.</li>\n<li>Fix\tc.</li>\n</ul>\n"
+                + "<h2>1.0.0 - 2024-01-15</h2>\n<h3>Added</h3>\n<ul>\n<li>New feature x.</li>\n</ul>\n", html.toString());
+
+        StringBuilder asciiDoc = new StringBuilder();
+        ChangelogFactory.getInstance().export("asciidoc", changelog, asciiDoc);
+        assertEquals("= my-project\n\nA \"quoted\" <description>.\n"
+                + "\n== 1.1.0 - 2024-02-01\n\n=== Fixed\n\n* Fix a & b.\n* Fix\tc.\n"
+                + "\n== 1.0.0 - 2024-01-15\n\n=== Added\n\n* New feature x.\n", asciiDoc.toString());
+        
+        assertThrows(IllegalArgumentException.class, () -> ChangelogFactory.getInstance().createChangelogExporter("pdf"));
+    }
+
+
+    /**
+     * Test the paged rendering
+     * 
+     * @throws IOException In case of an IO error 
+     */
+    @Test
+    public void formatPagedChangelog() throws IOException {
+        Changelog changelog = new Changelog(MY_PROJECT, "description.");
+        String[] versions = {"1.0.3", "1.0.0", "2.1.0", "1.0.2", "2.0.0", "1.0.1", "3.0.0"};
+        for (String version : versions) {
+            changelog.addEntry(version, "2024-01-15").addSection(ChangelogChangeType.ADDED).add("Version " + version + ".");
+        }
+        
+        ChangelogFormatOptions options = new ChangelogFormatOptions();
+        options.setIncludeHeader(false);
+        String all = ChangelogFactory.getInstance().format(null, changelog, options);
+        
+        StringBuilder pages = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            StringBuilder page = new StringBuilder();
+            ChangelogPage changelogPage = ChangelogFactory.getInstance().format(null, changelog, i, 3, page);
+            assertEquals(changelogPage, ChangelogFactory.getInstance().getPage(changelog, i, 3));
+            assertEquals(7, changelogPage.getTotalEntries());
+            assertEquals(3, changelogPage.getTotalPages());
+            assertEquals(i < 2, changelogPage.hasNextPage());
+            assertEquals(i > 0, changelogPage.hasPreviousPage());
+            if (i > 0) {
+                pages.append('\n');
+            }
+            pages.append(page);
+        }
+        assertEquals(all, pages.toString());
+
+        ChangelogPage changelogPage = ChangelogFactory.getInstance().getPage(changelog, 1, 3);
+        assertEquals(3, changelogPage.getPageEntries());
+        assertEquals("1.0.3", changelogPage.getNewestVersion().toString());
+        assertEquals("1.0.1", changelogPage.getOldestVersion().toString());
+        assertEquals(1, ChangelogFactory.getInstance().getPage(changelog, 2, 3).getPageEntries());
+        assertEquals(0, ChangelogFactory.getInstance().getPage(changelog, 3, 3).getPageEntries());
+        assertNull(ChangelogFactory.getInstance().getPage(changelog, 3, 3).getNewestVersion());
+        
+        // a sorted change-log
+        Changelog sortedChangelog = ChangelogFactory.getInstance().parse(ChangelogFactory.getInstance().format(null, changelog)).getChangelog();
+        assertFalse(changelog.isSorted());
+        assertTrue(sortedChangelog.isSorted());
+        assertSame(changelog.getSortedEntries(), changelog.getSortedEntries());
+        for (int i = 0; i < versions.length; i++) {
+            assertEquals(sortedChangelog.getEntries().get(i).getReleaseVersion(), changelog.getSortedEntries().get(i).getReleaseVersion());
+        }
+        StringBuilder page = new StringBuilder();
+        ChangelogFactory.getInstance().format(null, sortedChangelog, 0, 2, page);
+        assertTrue(all.startsWith(page.toString()));
+        assertEquals("3.0.0", ChangelogFactory.getInstance().getPage(sortedChangelog, 0, 2).getNewestVersion().toString());
+        assertEquals("2.1.0", ChangelogFactory.getInstance().getPage(sortedChangelog, 0, 2).getOldestVersion().toString());
+
+        // the order is tracked by adding and removing entries
+        sortedChangelog.addEntry(new ChangelogEntry(ChangelogFactory.getInstance().createChangelogParser().parseVersion("0.9.0"), null));
+        assertTrue(sortedChangelog.isSorted());
+        sortedChangelog.addEntry("4.0.0", "2024-02-01");
+        assertTrue(sortedChangelog.isSorted());
+        assertNotNull(sortedChangelog.removeEntry("2.0.0"));
+        assertTrue(sortedChangelog.isSorted());
+        assertEquals("4.0.0", ChangelogFactory.getInstance().getPage(sortedChangelog, 0, 2).getNewestVersion().toString());
+        sortedChangelog.addEntry(new ChangelogEntry(ChangelogFactory.getInstance().createChangelogParser().parseVersion("5.0.0"), null));
+        assertFalse(sortedChangelog.isSorted());
+        assertEquals("5.0.0", ChangelogFactory.getInstance().getPage(sortedChangelog, 0, 2).getNewestVersion().toString());
+
+        // a changed version after parsing: the page agrees with the formatted change-log
+        Changelog parsedChangelog = ChangelogFactory.getInstance().parse("# my-project\n\n## [2.0.0] - 2024-02-01\n### Added\n- Two.\n\n## [1.0.0] - 2024-01-01\n### Added\n- One.\n").getChangelog();
+        assertTrue(parsedChangelog.isSorted());
+        assertEquals("2.0.0", ChangelogFactory.getInstance().getPage(parsedChangelog, 0, 1).getNewestVersion().toString());
+        parsedChangelog.getEntries().get(1).setReleaseVersion(ChangelogFactory.getInstance().createChangelogParser().parseVersion("3.0.0"));
+        assertFalse(parsedChangelog.isSorted());
+        assertEquals("3.0.0", ChangelogFactory.getInstance().getPage(parsedChangelog, 0, 1).getNewestVersion().toString());
+        StringBuilder firstPage = new StringBuilder();
+        ChangelogFactory.getInstance().format(null, parsedChangelog, 0, 1, firstPage);
+        String formatted = ChangelogFactory.getInstance().format(null, parsedChangelog, options);
+        assertTrue(formatted.startsWith(firstPage.toString()));
+        assertTrue(formatted.indexOf("3.0.0") < formatted.indexOf("2.0.0"));
+        
+        // the sorted entries are sorted again after a version change of an unsorted change-log
+        List<ChangelogEntry> sortedEntries = changelog.getSortedEntries();
+        assertEquals("3.0.0", sortedEntries.get(0).getReleaseVersion().toString());
+        changelog.getEntry("1.0.0").setReleaseVersion(ChangelogFactory.getInstance().createChangelogParser().parseVersion("4.0.0"));
+        assertEquals("4.0.0", changelog.getSortedEntries().get(0).getReleaseVersion().toString());
+        assertEquals("4.0.0", ChangelogFactory.getInstance().getPage(changelog, 0, 1).getNewestVersion().toString());
+
+        // a change of the list which is passed to the change-log
+        List<ChangelogEntry> entries = new ArrayList<>();
+        entries.add(new ChangelogEntry(ChangelogFactory.getInstance().createChangelogParser().parseVersion("1.0.0"), null));
+        entries.add(new ChangelogEntry(ChangelogFactory.getInstance().createChangelogParser().parseVersion("2.0.0"), null));
+        Changelog listChangelog = new Changelog(MY_PROJECT, null, entries);
+        assertEquals("2.0.0", ChangelogFactory.getInstance().getPage(listChangelog, 0, 1).getNewestVersion().toString());
+        entries.add(new ChangelogEntry(ChangelogFactory.getInstance().createChangelogParser().parseVersion("3.0.0"), null));
+        assertEquals("3.0.0", ChangelogFactory.getInstance().getPage(listChangelog, 0, 1).getNewestVersion().toString());
+        entries.set(0, new ChangelogEntry(ChangelogFactory.getInstance().createChangelogParser().parseVersion("5.0.0"), null));
+        assertEquals("5.0.0", ChangelogFactory.getInstance().getPage(listChangelog, 0, 1).getNewestVersion().toString());
+
+        assertThrows(IllegalArgumentException.class, () -> ChangelogFactory.getInstance().getPage(changelog, -1, 3));
+        assertThrows(IllegalArgumentException.class, () -> ChangelogFactory.getInstance().getPage(changelog, 0, 0));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * AsyncFilesTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.dto.Changelog;
+import com.github.toolarium.changelog.parser.ChangelogParseResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the asynchronous parse, validation and format
+ * 
+ * @author patrick
+ */
+public class AsyncFilesTest {
+    /**
+     * Test the asynchronous parse, validation and format
+     * 
+     * @throws Exception In case of an exception
+     */
+    @Test
+    public void testAsync() throws Exception {
+        Path file = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+        ChangelogParseResult parseResult = ChangelogFactory.getInstance().parse(file);
+        assertEquals(parseResult.getChangelog(), ChangelogFactory.getInstance().parseAsync(file, null).get().getChangelog());
+        
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(parseResult.getChangelog(), ChangelogFactory.getInstance().parseAsync(file, executorService).get().getChangelog());
+            assertEquals(18, ChangelogFactory.getInstance().validateToResultAsync(null, file, "<project-name>", "Comment", "1.1.1", executorService).get().getChangelogErrorList().size());
+        } finally {
+            executorService.shutdown();
+        }
+        
+        ExecutionException e = assertThrows(ExecutionException.class, () -> ChangelogFactory.getInstance().parseAsync(Paths.get("src", "test", "resources", "CHANGELOG-missing.md"), null).get());
+        assertTrue(e.getCause() instanceof IOException);
+        
+        Path target = Files.createTempFile("changelog", ".md");
+        try {
+            ChangelogConfig changelogConfig = new ChangelogConfig();
+            Path valid = Paths.get("src", "test", "resources", "CHANGELOG-valid.md");
+            Changelog changelog = ChangelogFactory.getInstance().parse(valid).getChangelog();
+            ChangelogFactory.getInstance().formatAsync(changelogConfig, changelog, target, null).get();
+            assertEquals(ChangelogFactory.getInstance().format(changelogConfig, changelog), Files.readString(target));
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+}
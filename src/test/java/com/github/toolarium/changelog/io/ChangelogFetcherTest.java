@@ -0,0 +1,334 @@
+/*
+ * ChangelogFetcherTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.bulk.ChangelogPipelineConfig;
+import com.github.toolarium.changelog.bulk.ChangelogSourceResult;
+import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
+import com.github.toolarium.changelog.io.impl.HttpChangelogFetcherImpl;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import javax.net.ssl.SSLHandshakeException;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the change-log fetcher
+ * 
+ * @author patrick
+ */
+public class ChangelogFetcherTest {
+    /**
+     * Test to fetch a remote change-log with a revalidated response cache
+     * 
+     * @throws IOException In case of an I/O exception
+     */
+    @Test
+    public void testFetch() throws IOException {
+        final byte[] content = Files.readAllBytes(Paths.get("src", "test", "resources", "CHANGELOG-valid.md"));
+        final AtomicInteger bodyCounter = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/CHANGELOG.md", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(content);
+            }
+            
+            bodyCounter.incrementAndGet();
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(compressed.toByteArray());
+            }
+        });
+        server.start();
+        
+        Path cacheDirectory = Files.createTempDirectory("changelog-http-cache");
+        try {
+            String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/CHANGELOG.md";
+            ChangelogFetchResult result = ChangelogFactory.getInstance().createChangelogFetcher(cacheDirectory).fetch(url);
+            assertEquals(200, result.getStatusCode());
+            assertFalse(result.isFromCache());
+            assertEquals("\"v1\"", result.getEntityTag());
+            assertEquals(new String(content, "UTF-8"), result.getContent());
+
+            // a new fetcher revalidates the cached response of the disk
+            IChangelogFetcher fetcher = ChangelogFactory.getInstance().createChangelogFetcher(cacheDirectory);
+            ChangelogFetchResult cachedResult = fetcher.fetch(url);
+            assertEquals(304, cachedResult.getStatusCode());
+            assertTrue(cachedResult.isFromCache());
+            assertEquals(result.getContent(), cachedResult.getContent());
+            assertEquals(1, bodyCounter.get());
+            
+            assertThrows(IOException.class, () -> fetcher.fetch("http://127.0.0.1:" + server.getAddress().getPort() + "/missing.md"));
+        } finally {
+            server.stop(0);
+            try (Stream<Path> stream = Files.walk(cacheDirectory)) {
+                stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+
+
+    /**
+     * Test to fetch many remote change-logs concurrently with a limit per host and retries
+     * 
+     * @throws Exception In case of an exception
+     */
+    @Test
+    public void testFetchConcurrently() throws Exception {
+        final byte[] content = Files.readAllBytes(Paths.get("src", "test", "resources", "CHANGELOG-valid.md"));
+        final AtomicInteger activeRequests = new AtomicInteger();
+        final AtomicInteger maxActiveRequests = new AtomicInteger();
+        final AtomicInteger flakyRequests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            int active = activeRequests.incrementAndGet();
+            maxActiveRequests.accumulateAndGet(active, Math::max);
+            try {
+                Thread.sleep(20);
+                if (exchange.getRequestURI().getPath().startsWith("/flaky") && flakyRequests.incrementAndGet() <= 2) {
+                    exchange.sendResponseHeaders(503, -1);
+                    exchange.close();
+                    return;
+                }
+                
+                exchange.sendResponseHeaders(200, content.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(content);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                activeRequests.decrementAndGet();
+            }
+        });
+        server.start();
+        
+        try {
+            ChangelogFetchConfig fetchConfig = new ChangelogFetchConfig();
+            fetchConfig.setMaxConnectionsPerHost(2);
+            fetchConfig.setRetryBackoff(Duration.ofMillis(1));
+            final IChangelogFetcher fetcher = ChangelogFactory.getInstance().createChangelogFetcher(null, fetchConfig);
+            
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            List<String> urls = new ArrayList<>();
+            urls.add(baseUrl + "/flaky/CHANGELOG.md");
+            for (int i = 0; i < 7; i++) {
+                urls.add(baseUrl + "/" + i + "/CHANGELOG.md");
+            }
+            
+            ChangelogPipelineConfig pipelineConfig = new ChangelogPipelineConfig();
+            pipelineConfig.setReadThreads(8);
+            final List<ChangelogSourceResult> resultList = new ArrayList<>();
+            ChangelogFactory.getInstance().createChangelogPipeline(null, pipelineConfig, url -> fetcher.fetch(url).getContent()).run(urls, resultList::add);
+            assertEquals(urls.size(), resultList.size());
+            for (ChangelogSourceResult result : resultList) {
+                assertTrue(result.isValid(), result.toString());
+            }
+            
+            assertEquals(3, flakyRequests.get());
+            assertTrue(maxActiveRequests.get() <= 2);
+
+            // no retry
+            fetchConfig.setMaxRetries(0);
+            flakyRequests.set(0);
+            assertThrows(IOException.class, () -> ChangelogFactory.getInstance().createChangelogFetcher(null, fetchConfig).fetch(baseUrl + "/flaky/CHANGELOG.md"));
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Test that only a refused or reset connection or a timeout is retried and that the connection of the host is
+     * released during the backoff
+     *
+     * @throws Exception In case of an exception
+     */
+    @Test
+    public void testFetchRetry() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger freeConnections = new AtomicInteger();
+        final AtomicReference<IOException> failure = new AtomicReference<>();
+        ChangelogFetchConfig fetchConfig = new ChangelogFetchConfig();
+        fetchConfig.setMaxConnectionsPerHost(1);
+        fetchConfig.setMaxRetries(2);
+        final HttpChangelogFetcherImpl fetcher = new HttpChangelogFetcherImpl(null, fetchConfig) {
+            @Override
+            protected HttpResponse<InputStream> send(HttpRequest request) throws IOException {
+                attempts.incrementAndGet();
+                throw failure.get();
+            }
+
+            @Override
+            protected void waitBackoff(String url, int retry, long retryAfterMillis) {
+                // another fetch of the host gets the connection
+                try {
+                    CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return execute(URI.create(url), url, () -> "free");
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }).get(10, TimeUnit.SECONDS);
+                    freeConnections.incrementAndGet();
+                } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                    // NOP
+                }
+            }
+        };
+
+        String url = "http://127.0.0.1:1/CHANGELOG.md";
+        failure.set(new ConnectException("Connection refused"));
+        IOException e = assertThrows(IOException.class, () -> fetcher.fetch(url));
+        assertTrue(e.getCause() instanceof ConnectException);
+        assertEquals(3, attempts.get());
+        assertEquals(2, freeConnections.get());
+
+        attempts.set(0);
+        failure.set(new HttpTimeoutException("request timed out"));
+        assertThrows(IOException.class, () -> fetcher.fetch(url));
+        assertEquals(3, attempts.get());
+
+        attempts.set(0);
+        failure.set(new IOException("connection closed", new EOFException("EOF reached while reading")));
+        assertThrows(IOException.class, () -> fetcher.fetch(url));
+        assertEquals(3, attempts.get());
+
+        // no retry
+        attempts.set(0);
+        failure.set(new UnknownHostException("unknown.host"));
+        assertThrows(UnknownHostException.class, () -> fetcher.fetch(url));
+        assertEquals(1, attempts.get());
+
+        attempts.set(0);
+        failure.set(new SSLHandshakeException("PKIX path building failed"));
+        assertThrows(SSLHandshakeException.class, () -> fetcher.fetch(url));
+        assertEquals(1, attempts.get());
+
+        attempts.set(0);
+        failure.set(new IOException("Invalid response", new SSLHandshakeException("PKIX path building failed")));
+        assertThrows(IOException.class, () -> fetcher.fetch(url));
+        assertEquals(1, attempts.get());
+    }
+
+
+    /**
+     * Test to fetch only the top of a remote changelog with range requests
+     *
+     * @throws Exception in case of an error
+     */
+    @Test
+    public void testFetchHead() throws Exception {
+        final byte[] content = Files.readAllBytes(Paths.get("src", "test", "resources", "CHANGELOG-valid.md"));
+        final AtomicInteger sentBytes = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String range = exchange.getRequestHeaders().getFirst("Range");
+            int start = 0;
+            int end = content.length - 1;
+            if (range != null && exchange.getRequestURI().getPath().startsWith("/range")) {
+                String[] boundaries = range.substring("bytes=".length()).split("-");
+                start = Integer.parseInt(boundaries[0]);
+                end = Math.min(end, Integer.parseInt(boundaries[1]));
+                if (start >= content.length) {
+                    exchange.getResponseHeaders().add("Content-Range", "bytes */" + content.length);
+                    exchange.sendResponseHeaders(416, -1);
+                    exchange.close();
+                    return;
+                }
+
+                exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+                exchange.sendResponseHeaders(206, end - start + 1);
+            } else {
+                exchange.sendResponseHeaders(200, content.length);
+            }
+            
+            sentBytes.addAndGet(end - start + 1);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content, start, end - start + 1);
+            }
+        });
+        server.start();
+        
+        try {
+            ChangelogFetchConfig fetchConfig = new ChangelogFetchConfig();
+            fetchConfig.setRangeSize(64);
+            IChangelogFetcher fetcher = ChangelogFactory.getInstance().createChangelogFetcher(null, fetchConfig);
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            
+            // the server supports ranges: only the top is transferred
+            ChangelogFetchResult result = fetcher.fetchHead(baseUrl + "/range/CHANGELOG.md", 2);
+            assertTrue(result.isTruncated());
+            assertTrue(sentBytes.get() < content.length);
+            assertTrue(new String(content, "UTF-8").startsWith(result.getContent()));
+            assertTrue(result.getContent().endsWith("- New wi # zar - d.\n\n"));
+            assertEquals(new ChangelogReleaseVersion(1, 1, 1, null), ChangelogFactory.getInstance().parse(result.getContent()).getChangelog().getEntries().get(1).getReleaseVersion());
+            
+            // all entries are needed: read until the end of the content
+            result = fetcher.fetchHead(baseUrl + "/range/CHANGELOG.md", 10);
+            assertFalse(result.isTruncated());
+            assertEquals(new String(content, "UTF-8"), result.getContent());
+            
+            // the server ignores ranges: fall back to the full content
+            sentBytes.set(0);
+            result = fetcher.fetchHead(baseUrl + "/full/CHANGELOG.md", 2);
+            assertTrue(result.isTruncated());
+            assertEquals(content.length, sentBytes.get());
+            assertTrue(result.getContent().endsWith("- New wi # zar - d.\n\n"));
+            
+            assertThrows(IllegalArgumentException.class, () -> fetcher.fetchHead(baseUrl + "/range/CHANGELOG.md", 0));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
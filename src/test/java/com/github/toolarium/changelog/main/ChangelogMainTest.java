@@ -0,0 +1,274 @@
+/*
+ * ChangelogMainTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.main;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Change-log main test
+ *
+ * @author patrick
+ */
+public class ChangelogMainTest {
+    private static final Path VALID = Paths.get("src", "test", "resources", "CHANGELOG-valid.md");
+    private static final Path INVALID = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+
+
+    /**
+     * Test the glob expansion
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testExpandGlob() throws IOException {
+        Path rootDirectory = createRootDirectory();
+        try {
+            String root = rootDirectory.toString() + "/";
+            TestChangelogMain main = new TestChangelogMain(null);
+            assertEquals(Arrays.asList(rootDirectory.resolve("CHANGELOG.md").toString(),
+                                       rootDirectory.resolve("a").resolve("CHANGELOG.md").toString(),
+                                       rootDirectory.resolve("b").resolve("c").resolve("CHANGELOG.md").toString()),
+                         main.expandGlob(root + "**/CHANGELOG.md"));
+            assertEquals(Arrays.asList(rootDirectory.resolve("a").resolve("CHANGELOG.md").toString()), main.expandGlob(root + "*/CHANGELOG.md"));
+            assertTrue(main.expandGlob(root + "*/*.txt").isEmpty());
+
+            // a glob without a match is kept as it is
+            main.parseArguments(new String[] {"--validate", root + "**/CHANGELOG.md", root + "a/CHANGELOG.md", root + "*.txt"});
+            assertEquals(Arrays.asList(rootDirectory.resolve("CHANGELOG.md").toString(),
+                                       rootDirectory.resolve("a").resolve("CHANGELOG.md").toString(),
+                                       rootDirectory.resolve("b").resolve("c").resolve("CHANGELOG.md").toString(),
+                                       root + "*.txt"),
+                         main.resolveFiles());
+        } finally {
+            delete(rootDirectory);
+        }
+    }
+
+
+    /**
+     * Test the file list of a file and of the standard input
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testFilesFrom() throws IOException {
+        Path rootDirectory = createRootDirectory();
+        try {
+            String valid = rootDirectory.resolve("CHANGELOG.md").toString();
+            String validInDirectory = rootDirectory.resolve("a").resolve("CHANGELOG.md").toString();
+            String invalid = rootDirectory.resolve("b").resolve("c").resolve("CHANGELOG.md").toString();
+            Path fileList = rootDirectory.resolve("files.txt");
+            Files.write(fileList, Arrays.asList("# the changelogs", "", "  " + invalid + "  ", valid, invalid));
+
+            // the duplicates are removed, the order of the arguments is kept
+            TestChangelogMain main = new TestChangelogMain(null);
+            main.parseArguments(new String[] {valid, "--files-from", fileList.toString()});
+            assertEquals(Arrays.asList(valid, invalid), main.resolveFiles());
+
+            main = new TestChangelogMain(String.join("\n", validInDirectory, "# comment", valid, validInDirectory));
+            main.parseArguments(new String[] {"--no-daemon", "--files-from", "-"});
+            assertEquals(Arrays.asList(validInDirectory, valid), main.resolveFiles());
+        } finally {
+            delete(rootDirectory);
+        }
+    }
+
+
+    /**
+     * Test the validation of the standard input
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testStandardInput() throws IOException {
+        TestChangelogMain main = new TestChangelogMain(Files.readString(VALID));
+        main.parseArguments(new String[] {"--no-daemon", "-"});
+        assertEquals(0, main.execute());
+        assertTrue(main.isStandardInputRead());
+
+        main = new TestChangelogMain(Files.readString(INVALID));
+        main.parseArguments(new String[] {"--no-daemon", "--no-header", "-"});
+        assertEquals(1, main.execute());
+        assertTrue(main.isStandardInputRead());
+        assertTrue(main.getOutput().get(0).startsWith("- "));
+
+        // the standard input can be read only once
+        main = new TestChangelogMain(VALID.toString());
+        main.parseArguments(new String[] {"--no-daemon", "-", "--files-from", "-"});
+        assertEquals(1, main.execute());
+        assertEquals(false, main.isStandardInputRead());
+        assertEquals(Arrays.asList("The standard input can't be read as file list and as changelog!"), main.getOutput());
+
+        main = new TestChangelogMain(VALID.toString());
+        main.parseArguments(new String[] {"--no-daemon", "--files-from", "-", "--files-from", "-"});
+        assertEquals(1, main.execute());
+
+        main = new TestChangelogMain(String.join("\n", VALID.toString(), "-"));
+        main.parseArguments(new String[] {"--no-daemon", "--files-from", "-"});
+        assertEquals(1, main.execute());
+        assertEquals(Arrays.asList("The standard input can't be read as file list and as changelog!"), main.getOutput());
+    }
+
+
+    /**
+     * Test the result order, the summary and the exit code of a batch validation
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testBatchValidation() throws IOException {
+        Path rootDirectory = createRootDirectory();
+        try {
+            String valid = rootDirectory.resolve("CHANGELOG.md").toString();
+            String validInDirectory = rootDirectory.resolve("a").resolve("CHANGELOG.md").toString();
+            String invalid = rootDirectory.resolve("b").resolve("c").resolve("CHANGELOG.md").toString();
+            String missing = rootDirectory.resolve("missing").resolve("CHANGELOG.md").toString();
+
+            for (String jobs : new String[] {"1", "4"}) {
+                TestChangelogMain main = new TestChangelogMain(null);
+                main.parseArguments(new String[] {"--no-daemon", "--no-header", "--verbose", "--jobs", jobs, invalid, valid, missing, valid, validInDirectory});
+                assertEquals(1, main.execute());
+
+                List<String> resultLines = new ArrayList<>();
+                for (String line : main.getOutput()) {
+                    if (line.startsWith("Validated change-log of file ") || line.startsWith("Validation errors found in file ") || line.startsWith("Could not read file ")) {
+                        resultLines.add(line);
+                    }
+                }
+
+                assertEquals(Arrays.asList("Validation errors found in file " + invalid + ":",
+                                           "Validated change-log of file " + valid + ":",
+                                           "Could not read file " + missing + ": " + missing,
+                                           "Validated change-log of file " + validInDirectory + ":"),
+                             resultLines);
+                assertEquals("Checked 4 files: 2 valid, 1 invalid, 1 not readable.", main.getOutput().get(main.getOutput().size() - 1));
+            }
+
+            TestChangelogMain main = new TestChangelogMain(null);
+            main.parseArguments(new String[] {"--no-daemon", "--jobs", "2", valid, validInDirectory});
+            assertEquals(0, main.execute());
+            assertEquals(Arrays.asList("Checked 2 files: 2 valid, 0 invalid, 0 not readable."), main.getOutput());
+
+            main = new TestChangelogMain(null);
+            main.parseArguments(new String[] {"--no-daemon"});
+            assertEquals(1, main.execute());
+        } finally {
+            delete(rootDirectory);
+        }
+    }
+
+
+    /**
+     * Create a directory with a valid change-log in the root and in the directory a and an invalid change-log in b/c
+     *
+     * @return the root directory
+     * @throws IOException in case of an I/O exception
+     */
+    private Path createRootDirectory() throws IOException {
+        Path rootDirectory = Files.createTempDirectory("changelog-main");
+        Files.createDirectories(rootDirectory.resolve("a"));
+        Files.createDirectories(rootDirectory.resolve("b").resolve("c"));
+        Files.copy(VALID, rootDirectory.resolve("CHANGELOG.md"), StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(VALID, rootDirectory.resolve("a").resolve("CHANGELOG.md"));
+        Files.copy(INVALID, rootDirectory.resolve("b").resolve("c").resolve("CHANGELOG.md"));
+        return rootDirectory;
+    }
+
+
+    /**
+     * Delete a directory
+     *
+     * @param directory the directory
+     * @throws IOException in case of an I/O exception
+     */
+    private void delete(Path directory) throws IOException {
+        try (Stream<Path> stream = Files.walk(directory)) {
+            stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+
+    /**
+     * The main with a given standard input, the output is recorded without colors.
+     */
+    private static class TestChangelogMain extends ChangelogMain {
+        private final String standardInput;
+        private final List<String> output;
+        private volatile boolean standardInputRead;
+
+
+        /**
+         * Constructor for TestChangelogMain
+         *
+         * @param standardInput the standard input or null
+         */
+        TestChangelogMain(String standardInput) {
+            this.standardInput = standardInput;
+            this.output = new ArrayList<>();
+            this.standardInputRead = false;
+        }
+
+
+        /**
+         * Get the recorded output
+         *
+         * @return the output
+         */
+        List<String> getOutput() {
+            return output;
+        }
+
+
+        /**
+         * Check if the standard input was read
+         *
+         * @return true if it was read
+         */
+        boolean isStandardInputRead() {
+            return standardInputRead;
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.main.ChangelogMain#getStandardInput()
+         */
+        @Override
+        protected InputStream getStandardInput() {
+            if (standardInputRead) {
+                throw new IllegalStateException("The standard input is read twice!");
+            }
+
+            standardInputRead = true;
+            return new ByteArrayInputStream(String.valueOf(standardInput).getBytes(StandardCharsets.UTF_8));
+        }
+
+
+        /**
+         * @see com.github.toolarium.changelog.main.ChangelogMain#logToConsole(java.lang.String)
+         */
+        @Override
+        protected synchronized void logToConsole(String message) {
+            output.add(message.replaceAll("\u001B\\[[;\\d]*m", ""));
+        }
+    }
+}
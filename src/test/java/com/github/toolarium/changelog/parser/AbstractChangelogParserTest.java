@@ -12,7 +12,11 @@ import com.github.toolarium.changelog.ChangelogFactory;
 import com.github.toolarium.changelog.config.ChangelogConfig;
 import com.github.toolarium.changelog.dto.Changelog;
 import com.github.toolarium.changelog.dto.ChangelogErrorList;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -97,7 +101,17 @@ public abstract class AbstractChangelogParserTest {
      * @throws IOException In case of an I/O error
      */
     protected String format(ChangelogConfig changelogConfig, Changelog changelog) throws IOException {
-        return ChangelogFactory.getInstance().format(changelogConfig, changelog);
+        String result = ChangelogFactory.getInstance().format(changelogConfig, changelog);
+        
+        // the streaming formatter has to write the same content
+        StringWriter writer = new StringWriter();
+        ChangelogFactory.getInstance().format(changelogConfig, changelog, writer);
+        assertEquals(result, writer.toString());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ChangelogFactory.getInstance().format(changelogConfig, changelog, Channels.newChannel(outputStream));
+        assertEquals(result, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+        return result;
     }
 
     
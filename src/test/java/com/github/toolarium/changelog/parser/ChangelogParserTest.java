@@ -20,9 +20,16 @@ import com.github.toolarium.changelog.dto.ChangelogEntry;
 import com.github.toolarium.changelog.dto.ChangelogErrorList;
 import com.github.toolarium.changelog.dto.ChangelogErrorList.ErrorType;
 import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
+import com.github.toolarium.changelog.formatter.ChangelogFormatDifference;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
 
 
@@ -318,4 +325,183 @@ public class ChangelogParserTest extends AbstractChangelogParserTest {
         assertEquals(readContent(filename), format(new ChangelogConfig('-', '-', true, false, false, false, true, false, true, true), changelog));
         
     }
+
+
+    /**
+     * Test the lossless syntax tree
+     * 
+     * @throws IOException In case of an I/O exception
+     */
+    @Test public void testSyntaxTree() throws IOException {
+        String[] files = {"CHANGELOG-valid.md", "CHANGELOG-invalid.md", "CHANGELOG-invalid2.md", "CHANGELOG-different-format-valid.md", "CHANGELOG-valid-with-brackets.md"};
+        for (String file : files) {
+            ChangelogSyntaxTree syntaxTree = ChangelogFactory.getInstance().parseSyntaxTree(Paths.get(TEST_RESOURCE_PATH, file));
+            assertTrue(syntaxTree.hasSourceSpans(), file);
+            assertEquals(syntaxTree.getSource(), ChangelogFactory.getInstance().format(null, syntaxTree), file);
+        }
+        
+        // add a new entry: the original text is kept, the new entry is inserted after the unreleased entry
+        ChangelogSyntaxTree syntaxTree = ChangelogFactory.getInstance().parseSyntaxTree(Paths.get(TEST_RESOURCE_PATH, "CHANGELOG-valid.md"));
+        String source = syntaxTree.getSource();
+        String header = syntaxTree.getText(syntaxTree.getHeaderSpan());
+        String unreleased = syntaxTree.getText(syntaxTree.getEntryNodes().get(0).getSpan());
+        syntaxTree.getChangelog().addEntry("2.0.0", "2021-06-01").addSection(ChangelogChangeType.ADDED).add("New feature.");
+        assertEquals(header + unreleased + "## [ 2.0.0 ] - 2021-06-01\n### Added\n- New feature.\n\n" + source.substring(header.length() + unreleased.length()), ChangelogFactory.getInstance().format(null, syntaxTree));
+
+        // an appended entry is written at its sorted position like the formatted change-log
+        syntaxTree = ChangelogFactory.getInstance().parseSyntaxTree(Paths.get(TEST_RESOURCE_PATH, "CHANGELOG-valid.md"));
+        ChangelogEntry newestEntry = new ChangelogEntry(new ChangelogReleaseVersion(3, 0, 0, null), LocalDate.of(2021, 7, 1));
+        newestEntry.addSection(ChangelogChangeType.ADDED).add("Newest feature.");
+        syntaxTree.getChangelog().addEntry(newestEntry);
+        ChangelogEntry patchEntry = new ChangelogEntry(new ChangelogReleaseVersion(1, 0, 5, null), LocalDate.of(2021, 4, 20));
+        patchEntry.addSection(ChangelogChangeType.FIXED).add("A fix.");
+        syntaxTree.getChangelog().addEntry(patchEntry);
+        String result = ChangelogFactory.getInstance().format(null, syntaxTree);
+        assertEquals(getEntryVersions(ChangelogFactory.getInstance().format(null, syntaxTree.getChangelog())), getEntryVersions(result));
+        assertTrue(result.indexOf("## Unreleased") < result.indexOf("3.0.0"));
+        assertTrue(result.indexOf("3.0.0") < result.indexOf("1.1.1"));
+        assertTrue(result.indexOf("## 1.1.0") < result.indexOf("1.0.5"));
+        assertTrue(result.indexOf("1.0.5") < result.indexOf("## 1.0.2"));
+        assertTrue(result.contains(syntaxTree.getText(syntaxTree.getEntryNodes().get(1).getSpan())));
+
+        // modify an entry: only this entry is formatted again
+        syntaxTree = ChangelogFactory.getInstance().parseSyntaxTree(Paths.get(TEST_RESOURCE_PATH, "CHANGELOG-valid.md"));
+        ChangelogSyntaxTree.EntryNode node = syntaxTree.getEntryNodes().get(0);
+        assertFalse(node.isModified());
+        node.getEntry().addSection(ChangelogChangeType.FIXED).add("A fix.");
+        assertTrue(node.isModified());
+        result = ChangelogFactory.getInstance().format(null, syntaxTree);
+        assertTrue(result.contains("- A fix.\n"));
+        assertTrue(result.endsWith(source.substring(syntaxTree.getEntryNodes().get(1).getSpan().getStart())));
+        
+        // CRLF line separator
+        String crlfSource = source.replace("\n", "\r\n");
+        syntaxTree = ChangelogFactory.getInstance().createChangelogParser().parseSyntaxTree(crlfSource);
+        assertEquals("\r\n", syntaxTree.getLineSeparator());
+        assertEquals(crlfSource, ChangelogFactory.getInstance().format(null, syntaxTree));
+        syntaxTree.getChangelog().addEntry("2.0.0", "2021-06-01").addSection(ChangelogChangeType.ADDED).add("New feature.");
+        assertEquals(-1, ChangelogFactory.getInstance().format(null, syntaxTree).replace("\r\n", "").indexOf('\n'));
+
+        // the spans are recorded by the parser, also of the sections and with leading and trailing whitespaces
+        String whitespaceSource = "\n\n# my-project\n\n## [1.0.0] - 2021-01-01\nAa\n\n### Added\n- New.\n\n### Fixed\n- Fix.\n\n## [0.1.0] - 2020-01-01\n### Added\n- First.\n\n\n";
+        syntaxTree = ChangelogFactory.getInstance().createChangelogParser().parseSyntaxTree(whitespaceSource);
+        assertTrue(syntaxTree.hasSourceSpans());
+        assertEquals("\n\n# my-project\n\n", syntaxTree.getText(syntaxTree.getHeaderSpan()));
+        node = syntaxTree.getEntryNodes().get(0);
+        assertEquals("## [1.0.0] - 2021-01-01\nAa\n\n### Added\n- New.\n\n### Fixed\n- Fix.\n\n", syntaxTree.getText(node.getSpan()));
+        assertEquals("### Added\n- New.\n\n", syntaxTree.getText(node.getSectionSpan(node.getEntry().getSectionList().get(0))));
+        assertEquals("### Fixed\n- Fix.\n\n", syntaxTree.getText(node.getSectionSpan(node.getEntry().getSectionList().get(1))));
+        assertEquals("## [0.1.0] - 2020-01-01\n### Added\n- First.\n\n\n", syntaxTree.getText(syntaxTree.getEntryNodes().get(1).getSpan()));
+        assertEquals(whitespaceSource, ChangelogFactory.getInstance().format(null, syntaxTree));
+
+        // a modification with the same hash code is detected
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        node.getEntry().setDescription("BB");
+        assertTrue(node.isModified());
+        assertTrue(ChangelogFactory.getInstance().format(null, syntaxTree).contains("BB"));
+    }
+
+
+    /**
+     * Get the versions of the entries of a formatted change-log in the order of the content
+     * 
+     * @param content the formatted change-log
+     * @return the versions of the entries
+     */
+    private List<String> getEntryVersions(String content) {
+        List<String> versions = new ArrayList<>();
+        Matcher matcher = Pattern.compile("^## \\W*(Unreleased|\\d+\\.\\d+\\.\\d+)", Pattern.MULTILINE).matcher(content);
+        while (matcher.find()) {
+            versions.add(matcher.group(1));
+        }
+        return versions;
+    }
+
+
+    /**
+     * Test to insert a new entry into a change-log file
+     * 
+     * @throws IOException In case of an I/O exception
+     */
+    @Test public void testPrepend() throws IOException {
+        final String unreleasedEntry = "## Unreleased\n- This is a test.\n\n";
+        final String newEntry = "## [ 2.0.0 ] - 2021-06-01\n### Added\n- New feature.\n";
+        Changelog changelog = new Changelog("my-project", null);
+        changelog.addEntry("2.0.0", "2021-06-01").addSection(ChangelogChangeType.ADDED).add("New feature.");
+        ChangelogEntry entry = changelog.getEntries().get(0);
+
+        Path directory = Files.createTempDirectory("changelog");
+        Path file = directory.resolve("CHANGELOG.md");
+        try {
+            // a released entry is inserted after the unreleased entry
+            String source = Files.readString(Paths.get(TEST_RESOURCE_PATH, "CHANGELOG-valid.md"));
+            Files.writeString(file, source);
+            ChangelogFactory.getInstance().prepend(null, file, entry);
+            int position = source.indexOf(unreleasedEntry) + unreleasedEntry.length();
+            assertEquals(source.substring(0, position) + newEntry + "\n" + source.substring(position), Files.readString(file));
+            assertEquals(ChangelogFactory.getInstance().parse(source).getChangelog().getEntries().size() + 1, ChangelogFactory.getInstance().parse(file).getChangelog().getEntries().size());
+            
+            // CRLF line separator
+            Files.writeString(file, source.replace("\n", "\r\n"));
+            ChangelogFactory.getInstance().prepend(null, file, entry);
+            assertEquals((source.substring(0, position) + newEntry + "\n" + source.substring(position)).replace("\n", "\r\n"), Files.readString(file));
+
+            // a change-log without entries
+            Files.writeString(file, "# my-project\nA description.");
+            ChangelogFactory.getInstance().prepend(null, file, entry);
+            assertEquals("# my-project\nA description.\n\n" + newEntry, Files.readString(file));
+            ChangelogFactory.getInstance().prepend(null, file, changelog.addEntry(null, null));
+            String content = Files.readString(file);
+            assertTrue(content.startsWith("# my-project\nA description.\n\n## [ Unreleased ]"));
+            assertTrue(content.endsWith("\n\n" + newEntry));
+            assertEquals(2, ChangelogFactory.getInstance().parse(content).getChangelog().getEntries().size());
+            assertEquals(1, directory.toFile().list().length);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+
+    /**
+     * Test the format check
+     * 
+     * @throws IOException In case of an I/O exception
+     */
+    @Test public void testCheckFormat() throws IOException {
+        Changelog changelog = ChangelogFactory.getInstance().parse(Paths.get(TEST_RESOURCE_PATH, "CHANGELOG-valid.md")).getChangelog();
+        String formatted = ChangelogFactory.getInstance().format(null, changelog);
+        assertNull(ChangelogFactory.getInstance().checkFormat(null, changelog, formatted));
+        
+        // a different character
+        int offset = formatted.indexOf("This is a test.");
+        int line = formatted.substring(0, offset).split("\n", -1).length;
+        ChangelogFormatDifference difference = ChangelogFactory.getInstance().checkFormat(null, changelog, formatted.substring(0, offset) + "this" + formatted.substring(offset + 4));
+        assertEquals(offset, difference.getOffset());
+        assertEquals(line, difference.getLine());
+        assertEquals(3, difference.getColumn());
+        assertEquals('T', difference.getExpected());
+        assertEquals('t', difference.getFound());
+        assertEquals("Line " + line + ", column 3: expected [T] but found [t].", difference.getMessage());
+
+        // a shorter and a longer source
+        difference = ChangelogFactory.getInstance().checkFormat(null, changelog, formatted.substring(0, 10));
+        assertEquals(10, difference.getOffset());
+        assertEquals(ChangelogFormatDifference.END_OF_TEXT, difference.getFound());
+        difference = ChangelogFactory.getInstance().checkFormat(null, changelog, formatted + "\n");
+        assertEquals(formatted.length(), difference.getOffset());
+        assertEquals(ChangelogFormatDifference.END_OF_TEXT, difference.getExpected());
+        assertEquals('\n', difference.getFound());
+        
+        // a file
+        Path file = Files.createTempFile("CHANGELOG", ".md");
+        try {
+            Files.writeString(file, formatted);
+            assertNull(ChangelogFactory.getInstance().checkFormat(null, file));
+            Files.writeString(file, formatted.replace("\n", "\r\n"));
+            assertEquals('\r', ChangelogFactory.getInstance().checkFormat(null, file).getFound());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
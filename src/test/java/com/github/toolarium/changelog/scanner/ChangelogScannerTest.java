@@ -0,0 +1,84 @@
+/*
+ * ChangelogScannerTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the change-log scanner
+ * 
+ * @author patrick
+ */
+public class ChangelogScannerTest {
+    /**
+     * Scan a directory tree for change-log files
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testScan() throws IOException {
+        Path rootDirectory = Files.createTempDirectory("changelog-scan");
+        try {
+            Path valid = Paths.get("src", "test", "resources", "CHANGELOG-valid.md");
+            Path invalid = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+            Files.write(rootDirectory.resolve(".gitignore"), Arrays.asList("# build output", "build/", "*.tmp"));
+            Files.createDirectories(rootDirectory.resolve("a"));
+            Files.createDirectories(rootDirectory.resolve("b").resolve("c"));
+            Files.createDirectories(rootDirectory.resolve("build"));
+            Files.createDirectories(rootDirectory.resolve("vendor"));
+            Files.createDirectories(rootDirectory.resolve("docs").resolve("old"));
+            Files.createDirectories(rootDirectory.resolve("docs").resolve("v1").resolve("old"));
+            Files.copy(valid, rootDirectory.resolve("CHANGELOG.md"), StandardCopyOption.REPLACE_EXISTING);
+            Files.copy(valid, rootDirectory.resolve("a").resolve("CHANGELOG.md"));
+            Files.copy(invalid, rootDirectory.resolve("b").resolve("c").resolve("CHANGELOG.md"));
+            Files.copy(invalid, rootDirectory.resolve("build").resolve("CHANGELOG.md"));
+            Files.copy(invalid, rootDirectory.resolve("vendor").resolve("CHANGELOG.md"));
+            Files.copy(invalid, rootDirectory.resolve("docs").resolve("old").resolve("CHANGELOG.md"));
+            Files.copy(invalid, rootDirectory.resolve("docs").resolve("v1").resolve("old").resolve("CHANGELOG.md"));
+            Files.write(rootDirectory.resolve("b").resolve(".gitignore"), Arrays.asList("/c/", "!c/"));
+
+            ChangelogScanConfig scanConfig = new ChangelogScanConfig();
+            // a /**/ matches also zero directories
+            scanConfig.setExcludePatterns(Arrays.asList("vendor/", "docs/**/old/"));
+            scanConfig.setParallelism(2);
+            List<ChangelogScanResult> resultList = ChangelogFactory.getInstance().scan(new ChangelogConfig(), scanConfig, rootDirectory);
+            assertEquals(3, resultList.size());
+            assertEquals(rootDirectory.resolve("CHANGELOG.md").toString(), resultList.get(0).getFile());
+            assertTrue(resultList.get(0).isValid());
+            assertEquals(rootDirectory.resolve("a").resolve("CHANGELOG.md").toString(), resultList.get(1).getFile());
+            assertTrue(resultList.get(1).isValid());
+            assertEquals(rootDirectory.resolve("b").resolve("c").resolve("CHANGELOG.md").toString(), resultList.get(2).getFile());
+            assertFalse(resultList.get(2).isValid());
+            assertNull(resultList.get(2).getReadError());
+            assertFalse(resultList.get(2).getValidationResult().getChangelogErrorList().isEmpty());
+
+            // without the .gitignore files
+            scanConfig.setRespectGitignore(false);
+            assertEquals(4, ChangelogFactory.getInstance().scan(new ChangelogConfig(), scanConfig, rootDirectory).size());
+        } finally {
+            try (Stream<Path> stream = Files.walk(rootDirectory)) {
+                stream.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+            }
+        }
+    }
+}
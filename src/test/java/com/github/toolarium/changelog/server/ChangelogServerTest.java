@@ -0,0 +1,188 @@
+/*
+ * ChangelogServerTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.changelog.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.github.toolarium.changelog.ChangelogFactory;
+import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.server.impl.UnixDomainSockets;
+import com.github.toolarium.changelog.validator.ValidationResult;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the validation server and its client
+ * 
+ * @author patrick
+ */
+public class ChangelogServerTest {
+    /**
+     * Test the validation server
+     *
+     * @throws Exception in case of an error
+     */
+    @Test
+    public void testServer() throws Exception {
+        ChangelogServerConfig serverConfig = new ChangelogServerConfig();
+        serverConfig.setPort(0);
+        serverConfig.setMaxContentLength(64 * 1024);
+        IChangelogServer server = ChangelogFactory.getInstance().createChangelogServer(null, serverConfig);
+        assertFalse(server.isRunning());
+        server.start();
+        try {
+            assertTrue(server.isRunning());
+            assertThrows(IllegalStateException.class, () -> server.start());
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            HttpClient client = HttpClient.newHttpClient();
+            Path valid = Paths.get("src", "test", "resources", "CHANGELOG-valid.md");
+            Path invalid = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+            
+            // post the content, the second request is served from the validation cache
+            for (int i = 0; i < 2; i++) {
+                HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/validate?version=1.1.1"))
+                                                                       .POST(BodyPublishers.ofFile(valid)).build(), BodyHandlers.ofString());
+                assertEquals(200, response.statusCode());
+                assertEquals("{\"valid\":true,\"message\":null,\"errors\":[]}", response.body());
+            }
+            
+            // validate with a reference value
+            String query = "project=" + URLEncoder.encode("<project-name>", StandardCharsets.UTF_8);
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/validate?" + query))
+                                                               .POST(BodyPublishers.ofFile(invalid)).build(), BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().startsWith("{\"valid\":false,\"message\":\"" + ValidationResult.VALIDATION_ERROR_MESSAGE + "\",\"errors\":[{\"code\":"), response.body());
+            
+            // failed requests, a file of the server can't be validated
+            response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/validate?path=" + URLEncoder.encode(valid.toString(), StandardCharsets.UTF_8))).build(), BodyHandlers.ofString());
+            assertEquals(405, response.statusCode());
+            assertEquals("POST", response.headers().firstValue("Allow").orElse(null));
+            try {
+                // the rest of a large content is not read, the connection may be reset before the response is read
+                response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/validate")).POST(BodyPublishers.ofByteArray(new byte[16 * 1024 * 1024])).build(), BodyHandlers.ofString());
+                assertEquals(413, response.statusCode());
+                assertEquals("close", response.headers().firstValue("Connection").orElse(null));
+            } catch (IOException e) {
+                // NOP
+            }
+            response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/validate")).POST(BodyPublishers.ofByteArray(new byte[65 * 1024])).build(), BodyHandlers.ofString());
+            assertEquals(413, response.statusCode());
+            assertEquals("close", response.headers().firstValue("Connection").orElse(null));
+            response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/validate")).POST(BodyPublishers.ofByteArray(new byte[] {(byte) 0xC3, (byte) 0x28})).build(), BodyHandlers.ofString());
+            assertEquals(400, response.statusCode());
+            response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/other")).build(), BodyHandlers.ofString());
+            assertEquals(404, response.statusCode());
+            
+            ChangelogServerStatistics statistics = server.getStatistics();
+            assertEquals(7, statistics.getRequestCount());
+            assertEquals(2, statistics.getValidCount());
+            assertEquals(1, statistics.getInvalidCount());
+            assertEquals(4, statistics.getFailedCount());
+            assertEquals(0, statistics.getActiveRequests());
+            assertTrue(statistics.getMaxLatencyNanos() >= statistics.getAverageLatencyNanos());
+            assertTrue(statistics.getRequestsPerSecond() > 0);
+            
+            response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/statistics")).build(), BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.body().startsWith("{\"requestCount\":7,\"validCount\":2,\"invalidCount\":1,\"failedCount\":4,"), response.body());
+        } finally {
+            server.stop(0);
+        }
+        
+        assertFalse(server.isRunning());
+        assertNull(server.getAddress());
+    }
+
+
+    /**
+     * Test the validation server client on a Unix domain socket
+     *
+     * @throws Exception in case of an error
+     */
+    @Test
+    public void testServerClient() throws Exception {
+        Path socketFile = Files.createTempDirectory("changelog-server").resolve("validation.sock");
+        ChangelogServerConfig serverConfig = new ChangelogServerConfig();
+        serverConfig.setPort(0);
+        serverConfig.setUnixSocketFile(socketFile);
+        IChangelogServer server = ChangelogFactory.getInstance().createChangelogServer(null, serverConfig);
+        IChangelogServerClient client = ChangelogFactory.getInstance().createChangelogServerClient(socketFile, null);
+        assertFalse(client.isAvailable());
+        server.start();
+        try {
+            assumeTrue(server.getUnixSocketFile() != null, "The runtime doesn't support Unix domain sockets");
+            
+            assertTrue(client.isAvailable());
+            Path valid = Paths.get("src", "test", "resources", "CHANGELOG-valid.md");
+            Path invalid = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+            assertTrue(client.validate(Files.readAllBytes(valid), null, null, null).isValid());
+            
+            // the same result as the in-process validation
+            ValidationResult result = client.validate(Files.readAllBytes(invalid), "<project-name>", null, "1.1.1");
+            assertFalse(result.isValid());
+            assertEquals(ChangelogFactory.getInstance().validateToResult(new ChangelogConfig(), invalid, "<project-name>", null, "1.1.1"), result);
+            
+            // another configuration is refused
+            ChangelogConfig changelogConfig = new ChangelogConfig();
+            changelogConfig.setSupportReleaseLink(false);
+            assertThrows(IOException.class, () -> ChangelogFactory.getInstance().createChangelogServerClient(socketFile, changelogConfig).validate(Files.readAllBytes(valid), null, null, null));
+            
+            // only one server per socket file
+            assertThrows(IOException.class, () -> ChangelogFactory.getInstance().createChangelogServer(null, serverConfig).start());
+            
+            ChangelogServerStatistics statistics = server.getStatistics();
+            assertEquals(3, statistics.getRequestCount());
+            assertEquals(1, statistics.getValidCount());
+            assertEquals(1, statistics.getInvalidCount());
+            assertEquals(1, statistics.getFailedCount());
+            
+            // a server which doesn't answer runs into the timeout, a stale socket file is not available
+            Path hangingSocketFile = socketFile.resolveSibling("hanging.sock");
+            IChangelogServerClient hangingClient = ChangelogFactory.getInstance().createChangelogServerClient(hangingSocketFile, null, Duration.ofMillis(200));
+            ServerSocketChannel hangingServer = UnixDomainSockets.bind(hangingSocketFile);
+            try {
+                assertTrue(hangingClient.isAvailable());
+                long start = System.nanoTime();
+                assertThrows(SocketTimeoutException.class, () -> hangingClient.validate(Files.readAllBytes(valid), null, null, null));
+                assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+            } finally {
+                hangingServer.close();
+            }
+            
+            assertTrue(Files.exists(hangingSocketFile));
+            assertFalse(hangingClient.isAvailable());
+            assertThrows(IOException.class, () -> hangingClient.validate(Files.readAllBytes(valid), null, null, null));
+            Files.delete(hangingSocketFile);
+            assertThrows(IllegalArgumentException.class, () -> ChangelogFactory.getInstance().createChangelogServerClient(socketFile, null, Duration.ZERO));
+        } finally {
+            server.stop(0);
+        }
+        
+        assertFalse(Files.exists(socketFile));
+        assertFalse(client.isAvailable());
+        assertThrows(IOException.class, () -> client.validate(Files.readAllBytes(Paths.get("src", "test", "resources", "CHANGELOG-valid.md")), null, null, null));
+    }
+}
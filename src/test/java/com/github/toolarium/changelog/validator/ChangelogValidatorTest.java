@@ -7,14 +7,28 @@ package com.github.toolarium.changelog.validator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.toolarium.changelog.ChangelogFactory;
 import com.github.toolarium.changelog.config.ChangelogConfig;
+import com.github.toolarium.changelog.dto.ChangelogEntry;
+import com.github.toolarium.changelog.dto.ChangelogError;
+import com.github.toolarium.changelog.dto.ChangelogErrorCode;
 import com.github.toolarium.changelog.dto.ChangelogErrorList.ErrorType;
 import com.github.toolarium.changelog.dto.ChangelogReleaseVersion;
+import com.github.toolarium.changelog.parser.ChangelogParseResult;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 
@@ -184,4 +198,175 @@ public class ChangelogValidatorTest {
             assertEquals("Empty comment list in section type Changed!", e.getValidationErrorList().getReleaseErrors().get(releaseVersion).get(counter++));
         }
     }
+
+
+    /**
+     * Validate the invalid change-log and verify the structured errors
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testInvalidChangelogErrorCodes() throws IOException {
+        try {
+            ChangelogFactory.getInstance().validate(new ChangelogConfig(), Paths.get("src", "test", "resources", "CHANGELOG-invalid.md"), "<project-name>", "Comment", "1.1.1");
+        } catch (ValidationException e) {
+            assertEquals(e.getValidationErrorList().size(), e.getValidationErrorList().getErrors().size());
+            assertEquals(2, e.getValidationErrorList().countErrors(ChangelogErrorCode.INVALID_CHANGE_TYPE));
+            assertEquals(2, e.getValidationErrorList().countErrors(ChangelogErrorCode.DESCRIPTION_PUNCTUATION));
+
+            ChangelogError error = e.getValidationErrorList().getGeneralChangelogErrors().get(ErrorType.UNRELEASED).get(0);
+            assertEquals(ChangelogErrorCode.DESCRIPTION_PUNCTUATION, error.getErrorCode());
+            assertEquals(ChangelogErrorCode.Severity.ERROR, error.getSeverity());
+            assertEquals("Description text don't end with a punction mark!", error.getMessage());
+
+            for (ChangelogError changelogError : e.getValidationErrorList().getErrors()) {
+                assertNotNull(changelogError.getErrorCode());
+                if (changelogError.getErrorCode() == ChangelogErrorCode.INVALID_CHANGE_TYPE) {
+                    assertTrue(changelogError.getOffset() > 0);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Validate without exception
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testValidateToResult() throws IOException {
+        ChangelogConfig changelogConfig = new ChangelogConfig();
+        changelogConfig.setSupportReleaseLink(true);
+        ValidationResult result = ChangelogFactory.getInstance().validateToResult(changelogConfig, Paths.get("src", "test", "resources", "CHANGELOG-valid.md"), "<project-name>", "", "1.1.1");
+        assertTrue(result.isValid());
+        assertNull(result.getMessage());
+        assertNotNull(result.getChangelog());
+
+        result = ChangelogFactory.getInstance().validateToResult(new ChangelogConfig(), Paths.get("src", "test", "resources", "CHANGELOG-invalid.md"), "<project-name>", "Comment", "1.1.1");
+        assertFalse(result.isValid());
+        assertNotNull(result.getChangelog());
+        assertEquals(ValidationResult.VALIDATION_ERROR_MESSAGE, result.getMessage());
+        assertEquals(18, result.getChangelogErrorList().size());
+
+        ValidationException e = assertThrows(ValidationException.class, result::getValidatedChangelog);
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(result.getChangelogErrorList(), e.getValidationErrorList());
+
+        // the parse result is not changed by the validation
+        ChangelogParseResult parseResult = ChangelogFactory.getInstance().createChangelogParser().parse(Paths.get("src", "test", "resources", "CHANGELOG-invalid.md"));
+        long parseErrors = parseResult.getChangelogErrorList().size();
+        IChangelogValidator validator = ChangelogFactory.getInstance().createChangelogValidator(new ChangelogConfig());
+        ValidationResult firstResult = validator.validateToResult(parseResult, "<project-name>", "Comment", "1.1.1");
+        ValidationResult secondResult = validator.validateToResult(parseResult, "<project-name>", "Comment", "1.1.1");
+        assertEquals(parseErrors, parseResult.getChangelogErrorList().size());
+        assertEquals(firstResult.getChangelogErrorList(), secondResult.getChangelogErrorList());
+        assertNotSame(parseResult.getChangelogErrorList(), firstResult.getChangelogErrorList());
+        assertNotSame(firstResult.getChangelogErrorList(), secondResult.getChangelogErrorList());
+    }
+
+
+    /**
+     * Validate with a validation cache
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testValidationCache() throws IOException {
+        Path cacheDirectory = Files.createTempDirectory("changelog-cache");
+        Path file = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+        try {
+            IValidationCache validationCache = ChangelogFactory.getInstance().createValidationCache(10, cacheDirectory);
+            IChangelogValidator validator = ChangelogFactory.getInstance().createChangelogValidator(new ChangelogConfig(), validationCache);
+            ValidationResult result = validator.validateToResult(file, "<project-name>", "Comment", "1.1.1");
+            assertEquals(18, result.getChangelogErrorList().size());
+            assertEquals(1, validationCache.size());
+            ValidationResult cachedResult = validator.validateToResult(file, "<project-name>", "Comment", "1.1.1");
+            assertEquals(result, cachedResult);
+            assertNotSame(result, cachedResult);
+            
+            // a modified result doesn't change the cache
+            cachedResult.getChangelog().addEntry(new ChangelogEntry(new ChangelogReleaseVersion(9, 0, 0, null), LocalDate.now()));
+            cachedResult.setMessage("modified");
+            ValidationResult modifiedResult = validator.validateToResult(file, "<project-name>", "Comment", "1.1.1");
+            modifiedResult.getChangelog().getEntries().get(0).setReleaseVersion(new ChangelogReleaseVersion(8, 0, 0, null));
+            ValidationResult unmodifiedResult = validator.validateToResult(file, "<project-name>", "Comment", "1.1.1");
+            assertEquals(result, unmodifiedResult);
+            assertNotEquals(cachedResult, unmodifiedResult);
+            assertNotEquals(modifiedResult, unmodifiedResult);
+            assertNull(unmodifiedResult.getChangelog().getEntry("9.0.0"));
+            assertNull(unmodifiedResult.getChangelog().getEntry("8.0.0"));
+            assertEquals(18, unmodifiedResult.getChangelogErrorList().size());
+            assertEquals(1, validationCache.size());
+            
+            // other reference values and other configuration
+            assertNotSame(result, validator.validateToResult(file, "<project-name>", "Comment", "1.2.0"));
+            ChangelogConfig changelogConfig = new ChangelogConfig();
+            changelogConfig.setSupportUnreleased(false);
+            ValidationResult otherResult = ChangelogFactory.getInstance().createChangelogValidator(changelogConfig, validationCache).validateToResult(file, "<project-name>", "Comment", "1.1.1");
+            assertEquals(19, otherResult.getChangelogErrorList().size());
+            assertEquals(3, validationCache.size());
+            
+            // persisted results
+            IValidationCache persistedValidationCache = ChangelogFactory.getInstance().createValidationCache(10, cacheDirectory);
+            assertEquals(0, persistedValidationCache.size());
+            ValidationResult persistedResult = ChangelogFactory.getInstance().createChangelogValidator(new ChangelogConfig(), persistedValidationCache).validateToResult(file, "<project-name>", "Comment", "1.1.1");
+            assertEquals(1, persistedValidationCache.size());
+            assertEquals(result.getChangelogErrorList(), persistedResult.getChangelogErrorList());
+            assertEquals(result.getChangelog(), persistedResult.getChangelog());
+
+            // persisted result with a release link
+            ChangelogConfig releaseLinkConfig = new ChangelogConfig();
+            releaseLinkConfig.setSupportReleaseLink(true);
+            ValidationResult releaseLinkResult = ChangelogFactory.getInstance().createChangelogValidator(releaseLinkConfig).validateToResult(Paths.get("src", "test", "resources", "CHANGELOG-valid.md"), "<project-name>", "", "1.1.1");
+            assertNotNull(releaseLinkResult.getChangelog().getEntries().get(1).getReleaseLink());
+            persistedValidationCache.put("release-link", releaseLinkResult);
+            ValidationResult persistedReleaseLinkResult = ChangelogFactory.getInstance().createValidationCache(10, cacheDirectory).get("release-link");
+            assertNotNull(persistedReleaseLinkResult);
+            assertEquals(releaseLinkResult.getChangelog(), persistedReleaseLinkResult.getChangelog());
+            assertEquals(releaseLinkResult.getChangelog().getEntries().get(1).getReleaseLink(), persistedReleaseLinkResult.getChangelog().getEntries().get(1).getReleaseLink());
+
+            persistedValidationCache.clear();
+            assertEquals(0, persistedValidationCache.size());
+        } finally {
+            try (Stream<Path> stream = Files.list(cacheDirectory)) {
+                stream.forEach(p -> p.toFile().delete());
+            }
+            Files.deleteIfExists(cacheDirectory);
+        }
+    }
+
+
+    /**
+     * Test the compiled validator per configuration
+     *
+     * @throws IOException in case of an I/O exception
+     */
+    @Test
+    public void testCompiledValidator() throws IOException {
+        ChangelogConfig changelogConfig = new ChangelogConfig();
+        IChangelogValidator validator = ChangelogFactory.getInstance().createChangelogValidator(changelogConfig);
+        assertSame(validator, ChangelogFactory.getInstance().createChangelogValidator(new ChangelogConfig()));
+        assertSame(ChangelogFactory.getInstance().createChangelogValidator(null), ChangelogFactory.getInstance().createChangelogValidator(null));
+        
+        // a later change of the configuration don't change the compiled validator
+        changelogConfig.setSupportUnreleased(false);
+        IChangelogValidator otherValidator = ChangelogFactory.getInstance().createChangelogValidator(changelogConfig);
+        assertNotSame(validator, otherValidator);
+        
+        Path file = Paths.get("src", "test", "resources", "CHANGELOG-invalid.md");
+        assertEquals(18, validator.validateToResult(file, "<project-name>", "Comment", "1.1.1").getChangelogErrorList().size());
+        assertEquals(19, otherValidator.validateToResult(file, "<project-name>", "Comment", "1.1.1").getChangelogErrorList().size());
+        
+        // the validator of a configuration in use is kept, also with more configurations than the cache size
+        ChangelogConfig usedChangelogConfig = new ChangelogConfig();
+        usedChangelogConfig.setIdCommentCheckExpression("[A-Z]+-[0-9]+");
+        IChangelogValidator usedValidator = ChangelogFactory.getInstance().createChangelogValidator(usedChangelogConfig);
+        for (int i = 1; i <= 200; i++) {
+            ChangelogConfig otherChangelogConfig = new ChangelogConfig();
+            otherChangelogConfig.setIdCommentCheckExpression("[0-9]{" + i + "}");
+            ChangelogFactory.getInstance().createChangelogValidator(otherChangelogConfig);
+            assertSame(usedValidator, ChangelogFactory.getInstance().createChangelogValidator(usedChangelogConfig));
+        }
+    }
 }